@@ -49,7 +49,7 @@ import java.util.concurrent.*;
 // TODO: add rows histogram resultSetSizeHisto
 
 
-public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture, OpGenerator, OpResultSize {
+public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, AsyncCycleOp<List<Row>>, VariableCapture, OpGenerator, OpResultSize {
     private final static Logger logger = LogManager.getLogger(Cqld4CqlOp.class);
 
     private final CqlSession session;
@@ -101,6 +101,35 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
 
     public final List<Row> apply(long cycle) {
 
+        CompletionStage<List<Row>> rowsStage = applyAsync(cycle);
+
+        try {
+            return rowsStage.toCompletableFuture().get(300, TimeUnit.SECONDS);
+        } catch (ExecutionException exe) {
+            Throwable ee = exe.getCause();
+            if (ee instanceof RuntimeException re) {
+                throw re;
+            } else throw new NBExecutionException(exe);
+        } catch (InterruptedException ie) {
+            throw new NBInterruptedException(ie);
+        } catch (TimeoutException e) {
+            throw new NBTimeoutException(e);
+        }
+
+//            logger.trace(() -> "\n\n--- Rows collected for cycle: " + cycle + " count: "
+//                + rs.size() + " dt: " + System.nanoTime());
+//
+//            results.set(completeRowSet);
+//            processors.flush();
+    }
+
+    /**
+     * Start the statement without blocking. The result processors are flushed and the
+     * page, row, and byte metrics are recorded when all pages have been fetched.
+     */
+    @Override
+    public final CompletionStage<List<Row>> applyAsync(long cycle) {
+
         Statement<?> statement = getStmt();
         logger.trace(() -> "apply() invoked, statement obtained, executing async with page size: " + statement.getPageSize() + " thread local rows: ");
         CompletionStage<AsyncResultSet> statementStage = session.executeAsync(statement);
@@ -117,29 +146,12 @@ public abstract class Cqld4CqlOp implements CycleOp<List<Row>>, VariableCapture,
             throw new RuntimeException(throwable);
         });
 
-        try {
-            return rowsStage.toCompletableFuture().get(300, TimeUnit.SECONDS);
-        } catch (ExecutionException exe) {
-            Throwable ee = exe.getCause();
-            if (ee instanceof RuntimeException re) {
-                throw re;
-            } else throw new NBExecutionException(exe);
-        } catch (InterruptedException ie) {
-            throw new NBInterruptedException(ie);
-        } catch (TimeoutException e) {
-            throw new NBTimeoutException(e);
-        } finally {
+        return rowsStage.whenComplete((rows, throwable) -> {
             processors.flush();
             metrics.recordFetchedPages(fetchedPages);
             metrics.recordFetchedRows(fetchedRows);
             metrics.recordFetchedBytes(fetchedBytes);
-        }
-
-//            logger.trace(() -> "\n\n--- Rows collected for cycle: " + cycle + " count: "
-//                + rs.size() + " dt: " + System.nanoTime());
-//
-//            results.set(completeRowSet);
-//            processors.flush();
+        });
     }
 
     //    private BiFunction<AsyncResultSet,Throwable> handler
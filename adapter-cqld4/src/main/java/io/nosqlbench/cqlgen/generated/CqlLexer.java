@@ -0,0 +1,1239 @@
+// Generated from CqlLexer.g4 by ANTLR 4.13.0
+package io.nosqlbench.cqlgen.generated;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast", "CheckReturnValue"})
+public class CqlLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.13.0", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		LR_BRACKET=1, RR_BRACKET=2, LC_BRACKET=3, RC_BRACKET=4, LS_BRACKET=5, 
+		RS_BRACKET=6, COMMA=7, SEMI=8, COLON=9, DOT=10, STAR=11, DIVIDE=12, MODULE=13, 
+		PLUS=14, MINUSMINUS=15, MINUS=16, DQUOTE=17, SQUOTE=18, OPERATOR_EQ=19, 
+		OPERATOR_LT=20, OPERATOR_GT=21, OPERATOR_LTE=22, OPERATOR_GTE=23, K_ADD=24, 
+		K_AGGREGATE=25, K_ALL=26, K_ALLOW=27, K_ALTER=28, K_AND=29, K_ANY=30, 
+		K_APPLY=31, K_AS=32, K_ASC=33, K_AUTHORIZE=34, K_BATCH=35, K_BEGIN=36, 
+		K_BY=37, K_CALLED=38, K_CLUSTERING=39, K_COLUMNFAMILY=40, K_COMPACT=41, 
+		K_CONSISTENCY=42, K_CONTAINS=43, K_CREATE=44, K_CUSTOM=45, K_DELETE=46, 
+		K_DESC=47, K_DESCRIBE=48, K_DISTINCT=49, K_DROP=50, K_DURABLE_WRITES=51, 
+		K_EACH_QUORUM=52, K_ENTRIES=53, K_EXECUTE=54, K_EXISTS=55, K_FALSE=56, 
+		K_FILTERING=57, K_FINALFUNC=58, K_FROM=59, K_FULL=60, K_FUNCTION=61, K_FUNCTIONS=62, 
+		K_GRANT=63, K_IF=64, K_IN=65, K_INDEX=66, K_INFINITY=67, K_INITCOND=68, 
+		K_INPUT=69, K_INSERT=70, K_INTO=71, K_IS=72, K_JSON=73, K_KEY=74, K_KEYS=75, 
+		K_KEYSPACE=76, K_KEYSPACES=77, K_LANGUAGE=78, K_LIMIT=79, K_LOCAL_ONE=80, 
+		K_LOCAL_QUORUM=81, K_LOGGED=82, K_LOGIN=83, K_MATERIALIZED=84, K_MODIFY=85, 
+		K_NAN=86, K_NORECURSIVE=87, K_NOSUPERUSER=88, K_NOT=89, K_NULL=90, K_OF=91, 
+		K_ON=92, K_ONE=93, K_OPTIONS=94, K_OR=95, K_ORDER=96, K_PARTITION=97, 
+		K_PASSWORD=98, K_PER=99, K_PERMISSION=100, K_PERMISSIONS=101, K_PRIMARY=102, 
+		K_QUORUM=103, K_RENAME=104, K_REPLACE=105, K_REPLICATION=106, K_RETURNS=107, 
+		K_REVOKE=108, K_ROLE=109, K_ROLES=110, K_SCHEMA=111, K_SELECT=112, K_SET=113, 
+		K_SFUNC=114, K_STATIC=115, K_STORAGE=116, K_STYPE=117, K_SUPERUSER=118, 
+		K_TABLE=119, K_THREE=120, K_TIMESTAMP=121, K_TO=122, K_TOKEN=123, K_TRIGGER=124, 
+		K_TRUE=125, K_TRUNCATE=126, K_TTL=127, K_TWO=128, K_TYPE=129, K_UNLOGGED=130, 
+		K_UPDATE=131, K_USE=132, K_USER=133, K_USING=134, K_UUID=135, K_VALUES=136, 
+		K_VIEW=137, K_WHERE=138, K_WITH=139, K_WRITETIME=140, K_ASCII=141, K_BIGINT=142, 
+		K_BLOB=143, K_BOOLEAN=144, K_COUNTER=145, K_DATE=146, K_DECIMAL=147, K_DOUBLE=148, 
+		K_FLOAT=149, K_FROZEN=150, K_INET=151, K_INT=152, K_LIST=153, K_MAP=154, 
+		K_SMALLINT=155, K_TEXT=156, K_TIMEUUID=157, K_TIME=158, K_TINYINT=159, 
+		K_TUPLE=160, K_VARCHAR=161, K_VARINT=162, CODE_BLOCK=163, STRING_LITERAL=164, 
+		DECIMAL_LITERAL=165, FLOAT_LITERAL=166, HEXADECIMAL_LITERAL=167, REAL_LITERAL=168, 
+		OBJECT_NAME=169, UUID=170, SPACE=171, SPEC_MYSQL_COMMENT=172, COMMENT_INPUT=173, 
+		LINE_COMMENT=174;
+	public static String[] channelNames = {
+		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
+	};
+
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	private static String[] makeRuleNames() {
+		return new String[] {
+			"LR_BRACKET", "RR_BRACKET", "LC_BRACKET", "RC_BRACKET", "LS_BRACKET", 
+			"RS_BRACKET", "COMMA", "SEMI", "COLON", "DOT", "STAR", "DIVIDE", "MODULE", 
+			"PLUS", "MINUSMINUS", "MINUS", "DQUOTE", "SQUOTE", "OPERATOR_EQ", "OPERATOR_LT", 
+			"OPERATOR_GT", "OPERATOR_LTE", "OPERATOR_GTE", "K_ADD", "K_AGGREGATE", 
+			"K_ALL", "K_ALLOW", "K_ALTER", "K_AND", "K_ANY", "K_APPLY", "K_AS", "K_ASC", 
+			"K_AUTHORIZE", "K_BATCH", "K_BEGIN", "K_BY", "K_CALLED", "K_CLUSTERING", 
+			"K_COLUMNFAMILY", "K_COMPACT", "K_CONSISTENCY", "K_CONTAINS", "K_CREATE", 
+			"K_CUSTOM", "K_DELETE", "K_DESC", "K_DESCRIBE", "K_DISTINCT", "K_DROP", 
+			"K_DURABLE_WRITES", "K_EACH_QUORUM", "K_ENTRIES", "K_EXECUTE", "K_EXISTS", 
+			"K_FALSE", "K_FILTERING", "K_FINALFUNC", "K_FROM", "K_FULL", "K_FUNCTION", 
+			"K_FUNCTIONS", "K_GRANT", "K_IF", "K_IN", "K_INDEX", "K_INFINITY", "K_INITCOND", 
+			"K_INPUT", "K_INSERT", "K_INTO", "K_IS", "K_JSON", "K_KEY", "K_KEYS", 
+			"K_KEYSPACE", "K_KEYSPACES", "K_LANGUAGE", "K_LIMIT", "K_LOCAL_ONE", 
+			"K_LOCAL_QUORUM", "K_LOGGED", "K_LOGIN", "K_MATERIALIZED", "K_MODIFY", 
+			"K_NAN", "K_NORECURSIVE", "K_NOSUPERUSER", "K_NOT", "K_NULL", "K_OF", 
+			"K_ON", "K_ONE", "K_OPTIONS", "K_OR", "K_ORDER", "K_PARTITION", "K_PASSWORD", 
+			"K_PER", "K_PERMISSION", "K_PERMISSIONS", "K_PRIMARY", "K_QUORUM", "K_RENAME", 
+			"K_REPLACE", "K_REPLICATION", "K_RETURNS", "K_REVOKE", "K_ROLE", "K_ROLES", 
+			"K_SCHEMA", "K_SELECT", "K_SET", "K_SFUNC", "K_STATIC", "K_STORAGE", 
+			"K_STYPE", "K_SUPERUSER", "K_TABLE", "K_THREE", "K_TIMESTAMP", "K_TO", 
+			"K_TOKEN", "K_TRIGGER", "K_TRUE", "K_TRUNCATE", "K_TTL", "K_TWO", "K_TYPE", 
+			"K_UNLOGGED", "K_UPDATE", "K_USE", "K_USER", "K_USING", "K_UUID", "K_VALUES", 
+			"K_VIEW", "K_WHERE", "K_WITH", "K_WRITETIME", "K_ASCII", "K_BIGINT", 
+			"K_BLOB", "K_BOOLEAN", "K_COUNTER", "K_DATE", "K_DECIMAL", "K_DOUBLE", 
+			"K_FLOAT", "K_FROZEN", "K_INET", "K_INT", "K_LIST", "K_MAP", "K_SMALLINT", 
+			"K_TEXT", "K_TIMEUUID", "K_TIME", "K_TINYINT", "K_TUPLE", "K_VARCHAR", 
+			"K_VARINT", "CODE_BLOCK", "STRING_LITERAL", "DECIMAL_LITERAL", "FLOAT_LITERAL", 
+			"HEXADECIMAL_LITERAL", "REAL_LITERAL", "OBJECT_NAME", "UUID", "SPACE", 
+			"SPEC_MYSQL_COMMENT", "COMMENT_INPUT", "LINE_COMMENT", "HEX_4DIGIT", 
+			"HEX_DIGIT", "DEC_DIGIT", "EXPONENT_NUM_PART"
+		};
+	}
+	public static final String[] ruleNames = makeRuleNames();
+
+	private static String[] makeLiteralNames() {
+		return new String[] {
+			null, "'('", "')'", "'{'", "'}'", "'['", "']'", "','", "';'", "':'", 
+			"'.'", "'*'", "'/'", "'%'", "'+'", "'--'", "'-'", "'\"'", "'''", "'='", 
+			"'<'", "'>'", "'<='", "'>='", "'ADD'", "'AGGREGATE'", "'ALL'", "'ALLOW'", 
+			"'ALTER'", "'AND'", "'ANY'", "'APPLY'", "'AS'", "'ASC'", "'AUTHORIZE'", 
+			"'BATCH'", "'BEGIN'", "'BY'", "'CALLED'", "'CLUSTERING'", "'COLUMNFAMILY'", 
+			"'COMPACT'", "'CONSISTENCY'", "'CONTAINS'", "'CREATE'", "'CUSTOM'", "'DELETE'", 
+			"'DESC'", "'DESCRIBE'", "'DISTINCT'", "'DROP'", "'DURABLE_WRITES'", "'EACH_QUORUM'", 
+			"'ENTRIES'", "'EXECUTE'", "'EXISTS'", "'FALSE'", "'FILTERING'", "'FINALFUNC'", 
+			"'FROM'", "'FULL'", "'FUNCTION'", "'FUNCTIONS'", "'GRANT'", "'IF'", "'IN'", 
+			"'INDEX'", "'INFINITY'", "'INITCOND'", "'INPUT'", "'INSERT'", "'INTO'", 
+			"'IS'", "'JSON'", "'KEY'", "'KEYS'", "'KEYSPACE'", "'KEYSPACES'", "'LANGUAGE'", 
+			"'LIMIT'", "'LOCAL_ONE'", "'LOCAL_QUORUM'", "'LOGGED'", "'LOGIN'", "'MATERIALIZED'", 
+			"'MODIFY'", "'NAN'", "'NORECURSIVE'", "'NOSUPERUSER'", "'NOT'", "'NULL'", 
+			"'OF'", "'ON'", "'ONE'", "'OPTIONS'", "'OR'", "'ORDER'", "'PARTITION'", 
+			"'PASSWORD'", "'PER'", "'PERMISSION'", "'PERMISSIONS'", "'PRIMARY'", 
+			"'QUORUM'", "'RENAME'", "'REPLACE'", "'REPLICATION'", "'RETURNS'", "'REVOKE'", 
+			"'ROLE'", "'ROLES'", "'SCHEMA'", "'SELECT'", "'SET'", "'SFUNC'", "'STATIC'", 
+			"'STORAGE'", "'STYPE'", "'SUPERUSER'", "'TABLE'", "'THREE'", "'TIMESTAMP'", 
+			"'TO'", "'TOKEN'", "'TRIGGER'", "'TRUE'", "'TRUNCATE'", "'TTL'", "'TWO'", 
+			"'TYPE'", "'UNLOGGED'", "'UPDATE'", "'USE'", "'USER'", "'USING'", "'UUID'", 
+			"'VALUES'", "'VIEW'", "'WHERE'", "'WITH'", "'WRITETIME'", "'ASCII'", 
+			"'BIGINT'", "'BLOB'", "'BOOLEAN'", "'COUNTER'", "'DATE'", "'DECIMAL'", 
+			"'DOUBLE'", "'FLOAT'", "'FROZEN'", "'INET'", "'INT'", "'LIST'", "'MAP'", 
+			"'SMALLINT'", "'TEXT'", "'TIMEUUID'", "'TIME'", "'TINYINT'", "'TUPLE'", 
+			"'VARCHAR'", "'VARINT'"
+		};
+	}
+	private static final String[] _LITERAL_NAMES = makeLiteralNames();
+	private static String[] makeSymbolicNames() {
+		return new String[] {
+			null, "LR_BRACKET", "RR_BRACKET", "LC_BRACKET", "RC_BRACKET", "LS_BRACKET", 
+			"RS_BRACKET", "COMMA", "SEMI", "COLON", "DOT", "STAR", "DIVIDE", "MODULE", 
+			"PLUS", "MINUSMINUS", "MINUS", "DQUOTE", "SQUOTE", "OPERATOR_EQ", "OPERATOR_LT", 
+			"OPERATOR_GT", "OPERATOR_LTE", "OPERATOR_GTE", "K_ADD", "K_AGGREGATE", 
+			"K_ALL", "K_ALLOW", "K_ALTER", "K_AND", "K_ANY", "K_APPLY", "K_AS", "K_ASC", 
+			"K_AUTHORIZE", "K_BATCH", "K_BEGIN", "K_BY", "K_CALLED", "K_CLUSTERING", 
+			"K_COLUMNFAMILY", "K_COMPACT", "K_CONSISTENCY", "K_CONTAINS", "K_CREATE", 
+			"K_CUSTOM", "K_DELETE", "K_DESC", "K_DESCRIBE", "K_DISTINCT", "K_DROP", 
+			"K_DURABLE_WRITES", "K_EACH_QUORUM", "K_ENTRIES", "K_EXECUTE", "K_EXISTS", 
+			"K_FALSE", "K_FILTERING", "K_FINALFUNC", "K_FROM", "K_FULL", "K_FUNCTION", 
+			"K_FUNCTIONS", "K_GRANT", "K_IF", "K_IN", "K_INDEX", "K_INFINITY", "K_INITCOND", 
+			"K_INPUT", "K_INSERT", "K_INTO", "K_IS", "K_JSON", "K_KEY", "K_KEYS", 
+			"K_KEYSPACE", "K_KEYSPACES", "K_LANGUAGE", "K_LIMIT", "K_LOCAL_ONE", 
+			"K_LOCAL_QUORUM", "K_LOGGED", "K_LOGIN", "K_MATERIALIZED", "K_MODIFY", 
+			"K_NAN", "K_NORECURSIVE", "K_NOSUPERUSER", "K_NOT", "K_NULL", "K_OF", 
+			"K_ON", "K_ONE", "K_OPTIONS", "K_OR", "K_ORDER", "K_PARTITION", "K_PASSWORD", 
+			"K_PER", "K_PERMISSION", "K_PERMISSIONS", "K_PRIMARY", "K_QUORUM", "K_RENAME", 
+			"K_REPLACE", "K_REPLICATION", "K_RETURNS", "K_REVOKE", "K_ROLE", "K_ROLES", 
+			"K_SCHEMA", "K_SELECT", "K_SET", "K_SFUNC", "K_STATIC", "K_STORAGE", 
+			"K_STYPE", "K_SUPERUSER", "K_TABLE", "K_THREE", "K_TIMESTAMP", "K_TO", 
+			"K_TOKEN", "K_TRIGGER", "K_TRUE", "K_TRUNCATE", "K_TTL", "K_TWO", "K_TYPE", 
+			"K_UNLOGGED", "K_UPDATE", "K_USE", "K_USER", "K_USING", "K_UUID", "K_VALUES", 
+			"K_VIEW", "K_WHERE", "K_WITH", "K_WRITETIME", "K_ASCII", "K_BIGINT", 
+			"K_BLOB", "K_BOOLEAN", "K_COUNTER", "K_DATE", "K_DECIMAL", "K_DOUBLE", 
+			"K_FLOAT", "K_FROZEN", "K_INET", "K_INT", "K_LIST", "K_MAP", "K_SMALLINT", 
+			"K_TEXT", "K_TIMEUUID", "K_TIME", "K_TINYINT", "K_TUPLE", "K_VARCHAR", 
+			"K_VARINT", "CODE_BLOCK", "STRING_LITERAL", "DECIMAL_LITERAL", "FLOAT_LITERAL", 
+			"HEXADECIMAL_LITERAL", "REAL_LITERAL", "OBJECT_NAME", "UUID", "SPACE", 
+			"SPEC_MYSQL_COMMENT", "COMMENT_INPUT", "LINE_COMMENT"
+		};
+	}
+	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public CqlLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "CqlLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getChannelNames() { return channelNames; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\u0004\u0000\u00ae\u062c\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002"+
+		"\u0001\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002"+
+		"\u0004\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002"+
+		"\u0007\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002"+
+		"\u000b\u0007\u000b\u0002\f\u0007\f\u0002\r\u0007\r\u0002\u000e\u0007\u000e"+
+		"\u0002\u000f\u0007\u000f\u0002\u0010\u0007\u0010\u0002\u0011\u0007\u0011"+
+		"\u0002\u0012\u0007\u0012\u0002\u0013\u0007\u0013\u0002\u0014\u0007\u0014"+
+		"\u0002\u0015\u0007\u0015\u0002\u0016\u0007\u0016\u0002\u0017\u0007\u0017"+
+		"\u0002\u0018\u0007\u0018\u0002\u0019\u0007\u0019\u0002\u001a\u0007\u001a"+
+		"\u0002\u001b\u0007\u001b\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d"+
+		"\u0002\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!"+
+		"\u0007!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002"+
+		"&\u0007&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002"+
+		"+\u0007+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u0002"+
+		"0\u00070\u00021\u00071\u00022\u00072\u00023\u00073\u00024\u00074\u0002"+
+		"5\u00075\u00026\u00076\u00027\u00077\u00028\u00078\u00029\u00079\u0002"+
+		":\u0007:\u0002;\u0007;\u0002<\u0007<\u0002=\u0007=\u0002>\u0007>\u0002"+
+		"?\u0007?\u0002@\u0007@\u0002A\u0007A\u0002B\u0007B\u0002C\u0007C\u0002"+
+		"D\u0007D\u0002E\u0007E\u0002F\u0007F\u0002G\u0007G\u0002H\u0007H\u0002"+
+		"I\u0007I\u0002J\u0007J\u0002K\u0007K\u0002L\u0007L\u0002M\u0007M\u0002"+
+		"N\u0007N\u0002O\u0007O\u0002P\u0007P\u0002Q\u0007Q\u0002R\u0007R\u0002"+
+		"S\u0007S\u0002T\u0007T\u0002U\u0007U\u0002V\u0007V\u0002W\u0007W\u0002"+
+		"X\u0007X\u0002Y\u0007Y\u0002Z\u0007Z\u0002[\u0007[\u0002\\\u0007\\\u0002"+
+		"]\u0007]\u0002^\u0007^\u0002_\u0007_\u0002`\u0007`\u0002a\u0007a\u0002"+
+		"b\u0007b\u0002c\u0007c\u0002d\u0007d\u0002e\u0007e\u0002f\u0007f\u0002"+
+		"g\u0007g\u0002h\u0007h\u0002i\u0007i\u0002j\u0007j\u0002k\u0007k\u0002"+
+		"l\u0007l\u0002m\u0007m\u0002n\u0007n\u0002o\u0007o\u0002p\u0007p\u0002"+
+		"q\u0007q\u0002r\u0007r\u0002s\u0007s\u0002t\u0007t\u0002u\u0007u\u0002"+
+		"v\u0007v\u0002w\u0007w\u0002x\u0007x\u0002y\u0007y\u0002z\u0007z\u0002"+
+		"{\u0007{\u0002|\u0007|\u0002}\u0007}\u0002~\u0007~\u0002\u007f\u0007\u007f"+
+		"\u0002\u0080\u0007\u0080\u0002\u0081\u0007\u0081\u0002\u0082\u0007\u0082"+
+		"\u0002\u0083\u0007\u0083\u0002\u0084\u0007\u0084\u0002\u0085\u0007\u0085"+
+		"\u0002\u0086\u0007\u0086\u0002\u0087\u0007\u0087\u0002\u0088\u0007\u0088"+
+		"\u0002\u0089\u0007\u0089\u0002\u008a\u0007\u008a\u0002\u008b\u0007\u008b"+
+		"\u0002\u008c\u0007\u008c\u0002\u008d\u0007\u008d\u0002\u008e\u0007\u008e"+
+		"\u0002\u008f\u0007\u008f\u0002\u0090\u0007\u0090\u0002\u0091\u0007\u0091"+
+		"\u0002\u0092\u0007\u0092\u0002\u0093\u0007\u0093\u0002\u0094\u0007\u0094"+
+		"\u0002\u0095\u0007\u0095\u0002\u0096\u0007\u0096\u0002\u0097\u0007\u0097"+
+		"\u0002\u0098\u0007\u0098\u0002\u0099\u0007\u0099\u0002\u009a\u0007\u009a"+
+		"\u0002\u009b\u0007\u009b\u0002\u009c\u0007\u009c\u0002\u009d\u0007\u009d"+
+		"\u0002\u009e\u0007\u009e\u0002\u009f\u0007\u009f\u0002\u00a0\u0007\u00a0"+
+		"\u0002\u00a1\u0007\u00a1\u0002\u00a2\u0007\u00a2\u0002\u00a3\u0007\u00a3"+
+		"\u0002\u00a4\u0007\u00a4\u0002\u00a5\u0007\u00a5\u0002\u00a6\u0007\u00a6"+
+		"\u0002\u00a7\u0007\u00a7\u0002\u00a8\u0007\u00a8\u0002\u00a9\u0007\u00a9"+
+		"\u0002\u00aa\u0007\u00aa\u0002\u00ab\u0007\u00ab\u0002\u00ac\u0007\u00ac"+
+		"\u0002\u00ad\u0007\u00ad\u0002\u00ae\u0007\u00ae\u0002\u00af\u0007\u00af"+
+		"\u0002\u00b0\u0007\u00b0\u0002\u00b1\u0007\u00b1\u0001\u0000\u0001\u0000"+
+		"\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003"+
+		"\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006\u0001\u0006"+
+		"\u0001\u0007\u0001\u0007\u0001\b\u0001\b\u0001\t\u0001\t\u0001\n\u0001"+
+		"\n\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\r\u0001\r\u0001\u000e"+
+		"\u0001\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010"+
+		"\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013"+
+		"\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0016"+
+		"\u0001\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0001\u0019"+
+		"\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001b\u0001\u001b"+
+		"\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
+		"\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001e\u0001\u001e"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f"+
+		"\u0001\u001f\u0001 \u0001 \u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001"+
+		"!\u0001!\u0001!\u0001!\u0001!\u0001!\u0001\"\u0001\"\u0001\"\u0001\"\u0001"+
+		"\"\u0001\"\u0001#\u0001#\u0001#\u0001#\u0001#\u0001#\u0001$\u0001$\u0001"+
+		"$\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001%\u0001&\u0001&\u0001"+
+		"&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001\'\u0001"+
+		"\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'\u0001"+
+		"\'\u0001\'\u0001\'\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001(\u0001"+
+		"(\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001)\u0001"+
+		")\u0001)\u0001)\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001"+
+		"*\u0001*\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001+\u0001,\u0001"+
+		",\u0001,\u0001,\u0001,\u0001,\u0001,\u0001-\u0001-\u0001-\u0001-\u0001"+
+		"-\u0001-\u0001-\u0001.\u0001.\u0001.\u0001.\u0001.\u0001/\u0001/\u0001"+
+		"/\u0001/\u0001/\u0001/\u0001/\u0001/\u0001/\u00010\u00010\u00010\u0001"+
+		"0\u00010\u00010\u00010\u00010\u00010\u00011\u00011\u00011\u00011\u0001"+
+		"1\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u00012\u0001"+
+		"2\u00012\u00012\u00012\u00012\u00012\u00013\u00013\u00013\u00013\u0001"+
+		"3\u00013\u00013\u00013\u00013\u00013\u00013\u00013\u00014\u00014\u0001"+
+		"4\u00014\u00014\u00014\u00014\u00014\u00015\u00015\u00015\u00015\u0001"+
+		"5\u00015\u00015\u00015\u00016\u00016\u00016\u00016\u00016\u00016\u0001"+
+		"6\u00017\u00017\u00017\u00017\u00017\u00017\u00018\u00018\u00018\u0001"+
+		"8\u00018\u00018\u00018\u00018\u00018\u00018\u00019\u00019\u00019\u0001"+
+		"9\u00019\u00019\u00019\u00019\u00019\u00019\u0001:\u0001:\u0001:\u0001"+
+		":\u0001:\u0001;\u0001;\u0001;\u0001;\u0001;\u0001<\u0001<\u0001<\u0001"+
+		"<\u0001<\u0001<\u0001<\u0001<\u0001<\u0001=\u0001=\u0001=\u0001=\u0001"+
+		"=\u0001=\u0001=\u0001=\u0001=\u0001=\u0001>\u0001>\u0001>\u0001>\u0001"+
+		">\u0001>\u0001?\u0001?\u0001?\u0001@\u0001@\u0001@\u0001A\u0001A\u0001"+
+		"A\u0001A\u0001A\u0001A\u0001B\u0001B\u0001B\u0001B\u0001B\u0001B\u0001"+
+		"B\u0001B\u0001B\u0001C\u0001C\u0001C\u0001C\u0001C\u0001C\u0001C\u0001"+
+		"C\u0001C\u0001D\u0001D\u0001D\u0001D\u0001D\u0001D\u0001E\u0001E\u0001"+
+		"E\u0001E\u0001E\u0001E\u0001E\u0001F\u0001F\u0001F\u0001F\u0001F\u0001"+
+		"G\u0001G\u0001G\u0001H\u0001H\u0001H\u0001H\u0001H\u0001I\u0001I\u0001"+
+		"I\u0001I\u0001J\u0001J\u0001J\u0001J\u0001J\u0001K\u0001K\u0001K\u0001"+
+		"K\u0001K\u0001K\u0001K\u0001K\u0001K\u0001L\u0001L\u0001L\u0001L\u0001"+
+		"L\u0001L\u0001L\u0001L\u0001L\u0001L\u0001M\u0001M\u0001M\u0001M\u0001"+
+		"M\u0001M\u0001M\u0001M\u0001M\u0001N\u0001N\u0001N\u0001N\u0001N\u0001"+
+		"N\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001O\u0001"+
+		"O\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001P\u0001"+
+		"P\u0001P\u0001P\u0001P\u0001Q\u0001Q\u0001Q\u0001Q\u0001Q\u0001Q\u0001"+
+		"Q\u0001R\u0001R\u0001R\u0001R\u0001R\u0001R\u0001S\u0001S\u0001S\u0001"+
+		"S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001S\u0001"+
+		"T\u0001T\u0001T\u0001T\u0001T\u0001T\u0001T\u0001U\u0001U\u0001U\u0001"+
+		"U\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001V\u0001"+
+		"V\u0001V\u0001V\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001W\u0001"+
+		"W\u0001W\u0001W\u0001W\u0001W\u0001X\u0001X\u0001X\u0001X\u0001Y\u0001"+
+		"Y\u0001Y\u0001Y\u0001Y\u0001Z\u0001Z\u0001Z\u0001[\u0001[\u0001[\u0001"+
+		"\\\u0001\\\u0001\\\u0001\\\u0001]\u0001]\u0001]\u0001]\u0001]\u0001]\u0001"+
+		"]\u0001]\u0001^\u0001^\u0001^\u0001_\u0001_\u0001_\u0001_\u0001_\u0001"+
+		"_\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001`\u0001"+
+		"`\u0001a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001a\u0001"+
+		"b\u0001b\u0001b\u0001b\u0001c\u0001c\u0001c\u0001c\u0001c\u0001c\u0001"+
+		"c\u0001c\u0001c\u0001c\u0001c\u0001d\u0001d\u0001d\u0001d\u0001d\u0001"+
+		"d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001d\u0001e\u0001e\u0001e\u0001"+
+		"e\u0001e\u0001e\u0001e\u0001e\u0001f\u0001f\u0001f\u0001f\u0001f\u0001"+
+		"f\u0001f\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001g\u0001h\u0001"+
+		"h\u0001h\u0001h\u0001h\u0001h\u0001h\u0001h\u0001i\u0001i\u0001i\u0001"+
+		"i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001i\u0001j\u0001"+
+		"j\u0001j\u0001j\u0001j\u0001j\u0001j\u0001j\u0001k\u0001k\u0001k\u0001"+
+		"k\u0001k\u0001k\u0001k\u0001l\u0001l\u0001l\u0001l\u0001l\u0001m\u0001"+
+		"m\u0001m\u0001m\u0001m\u0001m\u0001n\u0001n\u0001n\u0001n\u0001n\u0001"+
+		"n\u0001n\u0001o\u0001o\u0001o\u0001o\u0001o\u0001o\u0001o\u0001p\u0001"+
+		"p\u0001p\u0001p\u0001q\u0001q\u0001q\u0001q\u0001q\u0001q\u0001r\u0001"+
+		"r\u0001r\u0001r\u0001r\u0001r\u0001r\u0001s\u0001s\u0001s\u0001s\u0001"+
+		"s\u0001s\u0001s\u0001s\u0001t\u0001t\u0001t\u0001t\u0001t\u0001t\u0001"+
+		"u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001u\u0001"+
+		"v\u0001v\u0001v\u0001v\u0001v\u0001v\u0001w\u0001w\u0001w\u0001w\u0001"+
+		"w\u0001w\u0001x\u0001x\u0001x\u0001x\u0001x\u0001x\u0001x\u0001x\u0001"+
+		"x\u0001x\u0001y\u0001y\u0001y\u0001z\u0001z\u0001z\u0001z\u0001z\u0001"+
+		"z\u0001{\u0001{\u0001{\u0001{\u0001{\u0001{\u0001{\u0001{\u0001|\u0001"+
+		"|\u0001|\u0001|\u0001|\u0001}\u0001}\u0001}\u0001}\u0001}\u0001}\u0001"+
+		"}\u0001}\u0001}\u0001~\u0001~\u0001~\u0001~\u0001\u007f\u0001\u007f\u0001"+
+		"\u007f\u0001\u007f\u0001\u0080\u0001\u0080\u0001\u0080\u0001\u0080\u0001"+
+		"\u0080\u0001\u0081\u0001\u0081\u0001\u0081\u0001\u0081\u0001\u0081\u0001"+
+		"\u0081\u0001\u0081\u0001\u0081\u0001\u0081\u0001\u0082\u0001\u0082\u0001"+
+		"\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0082\u0001\u0083\u0001"+
+		"\u0083\u0001\u0083\u0001\u0083\u0001\u0084\u0001\u0084\u0001\u0084\u0001"+
+		"\u0084\u0001\u0084\u0001\u0085\u0001\u0085\u0001\u0085\u0001\u0085\u0001"+
+		"\u0085\u0001\u0085\u0001\u0086\u0001\u0086\u0001\u0086\u0001\u0086\u0001"+
+		"\u0086\u0001\u0087\u0001\u0087\u0001\u0087\u0001\u0087\u0001\u0087\u0001"+
+		"\u0087\u0001\u0087\u0001\u0088\u0001\u0088\u0001\u0088\u0001\u0088\u0001"+
+		"\u0088\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001\u0089\u0001"+
+		"\u0089\u0001\u008a\u0001\u008a\u0001\u008a\u0001\u008a\u0001\u008a\u0001"+
+		"\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001"+
+		"\u008b\u0001\u008b\u0001\u008b\u0001\u008b\u0001\u008c\u0001\u008c\u0001"+
+		"\u008c\u0001\u008c\u0001\u008c\u0001\u008c\u0001\u008d\u0001\u008d\u0001"+
+		"\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008d\u0001\u008e\u0001"+
+		"\u008e\u0001\u008e\u0001\u008e\u0001\u008e\u0001\u008f\u0001\u008f\u0001"+
+		"\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001\u008f\u0001"+
+		"\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001\u0090\u0001"+
+		"\u0090\u0001\u0090\u0001\u0091\u0001\u0091\u0001\u0091\u0001\u0091\u0001"+
+		"\u0091\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0092\u0001\u0092\u0001"+
+		"\u0092\u0001\u0092\u0001\u0092\u0001\u0093\u0001\u0093\u0001\u0093\u0001"+
+		"\u0093\u0001\u0093\u0001\u0093\u0001\u0093\u0001\u0094\u0001\u0094\u0001"+
+		"\u0094\u0001\u0094\u0001\u0094\u0001\u0094\u0001\u0095\u0001\u0095\u0001"+
+		"\u0095\u0001\u0095\u0001\u0095\u0001\u0095\u0001\u0095\u0001\u0096\u0001"+
+		"\u0096\u0001\u0096\u0001\u0096\u0001\u0096\u0001\u0097\u0001\u0097\u0001"+
+		"\u0097\u0001\u0097\u0001\u0098\u0001\u0098\u0001\u0098\u0001\u0098\u0001"+
+		"\u0098\u0001\u0099\u0001\u0099\u0001\u0099\u0001\u0099\u0001\u009a\u0001"+
+		"\u009a\u0001\u009a\u0001\u009a\u0001\u009a\u0001\u009a\u0001\u009a\u0001"+
+		"\u009a\u0001\u009a\u0001\u009b\u0001\u009b\u0001\u009b\u0001\u009b\u0001"+
+		"\u009b\u0001\u009c\u0001\u009c\u0001\u009c\u0001\u009c\u0001\u009c\u0001"+
+		"\u009c\u0001\u009c\u0001\u009c\u0001\u009c\u0001\u009d\u0001\u009d\u0001"+
+		"\u009d\u0001\u009d\u0001\u009d\u0001\u009e\u0001\u009e\u0001\u009e\u0001"+
+		"\u009e\u0001\u009e\u0001\u009e\u0001\u009e\u0001\u009e\u0001\u009f\u0001"+
+		"\u009f\u0001\u009f\u0001\u009f\u0001\u009f\u0001\u009f\u0001\u00a0\u0001"+
+		"\u00a0\u0001\u00a0\u0001\u00a0\u0001\u00a0\u0001\u00a0\u0001\u00a0\u0001"+
+		"\u00a0\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001\u00a1\u0001"+
+		"\u00a1\u0001\u00a1\u0001\u00a2\u0001\u00a2\u0001\u00a2\u0001\u00a2\u0001"+
+		"\u00a2\u0001\u00a2\u0005\u00a2\u055e\b\u00a2\n\u00a2\f\u00a2\u0561\t\u00a2"+
+		"\u0001\u00a2\u0001\u00a2\u0001\u00a2\u0001\u00a3\u0001\u00a3\u0001\u00a3"+
+		"\u0001\u00a3\u0001\u00a3\u0001\u00a3\u0005\u00a3\u056c\b\u00a3\n\u00a3"+
+		"\f\u00a3\u056f\t\u00a3\u0001\u00a3\u0001\u00a3\u0001\u00a4\u0004\u00a4"+
+		"\u0574\b\u00a4\u000b\u00a4\f\u00a4\u0575\u0001\u00a5\u0003\u00a5\u0579"+
+		"\b\u00a5\u0001\u00a5\u0004\u00a5\u057c\b\u00a5\u000b\u00a5\f\u00a5\u057d"+
+		"\u0001\u00a5\u0001\u00a5\u0004\u00a5\u0582\b\u00a5\u000b\u00a5\f\u00a5"+
+		"\u0583\u0003\u00a5\u0586\b\u00a5\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001"+
+		"\u00a6\u0001\u00a6\u0004\u00a6\u058d\b\u00a6\u000b\u00a6\f\u00a6\u058e"+
+		"\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001\u00a6\u0001\u00a6"+
+		"\u0004\u00a6\u0597\b\u00a6\u000b\u00a6\f\u00a6\u0598\u0003\u00a6\u059b"+
+		"\b\u00a6\u0001\u00a7\u0004\u00a7\u059e\b\u00a7\u000b\u00a7\f\u00a7\u059f"+
+		"\u0001\u00a7\u0003\u00a7\u05a3\b\u00a7\u0001\u00a7\u0001\u00a7\u0001\u00a7"+
+		"\u0005\u00a7\u05a8\b\u00a7\n\u00a7\f\u00a7\u05ab\t\u00a7\u0001\u00a7\u0001"+
+		"\u00a7\u0004\u00a7\u05af\b\u00a7\u000b\u00a7\f\u00a7\u05b0\u0001\u00a7"+
+		"\u0003\u00a7\u05b4\b\u00a7\u0003\u00a7\u05b6\b\u00a7\u0001\u00a8\u0001"+
+		"\u00a8\u0005\u00a8\u05ba\b\u00a8\n\u00a8\f\u00a8\u05bd\t\u00a8\u0001\u00a8"+
+		"\u0001\u00a8\u0004\u00a8\u05c1\b\u00a8\u000b\u00a8\f\u00a8\u05c2\u0001"+
+		"\u00a8\u0003\u00a8\u05c6\b\u00a8\u0001\u00a9\u0001\u00a9\u0001\u00a9\u0001"+
+		"\u00a9\u0001\u00a9\u0001\u00a9\u0001\u00a9\u0001\u00a9\u0001\u00a9\u0001"+
+		"\u00a9\u0001\u00a9\u0001\u00a9\u0001\u00a9\u0001\u00aa\u0004\u00aa\u05d6"+
+		"\b\u00aa\u000b\u00aa\f\u00aa\u05d7\u0001\u00aa\u0001\u00aa\u0001\u00ab"+
+		"\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0004\u00ab\u05e1\b\u00ab"+
+		"\u000b\u00ab\f\u00ab\u05e2\u0001\u00ab\u0001\u00ab\u0001\u00ab\u0001\u00ab"+
+		"\u0001\u00ab\u0001\u00ac\u0001\u00ac\u0001\u00ac\u0001\u00ac\u0005\u00ac"+
+		"\u05ee\b\u00ac\n\u00ac\f\u00ac\u05f1\t\u00ac\u0001\u00ac\u0001\u00ac\u0001"+
+		"\u00ac\u0001\u00ac\u0001\u00ac\u0001\u00ad\u0001\u00ad\u0001\u00ad\u0001"+
+		"\u00ad\u0001\u00ad\u0001\u00ad\u0003\u00ad\u05fe\b\u00ad\u0001\u00ad\u0005"+
+		"\u00ad\u0601\b\u00ad\n\u00ad\f\u00ad\u0604\t\u00ad\u0001\u00ad\u0003\u00ad"+
+		"\u0607\b\u00ad\u0001\u00ad\u0001\u00ad\u0003\u00ad\u060b\b\u00ad\u0001"+
+		"\u00ad\u0001\u00ad\u0001\u00ad\u0001\u00ad\u0003\u00ad\u0611\b\u00ad\u0001"+
+		"\u00ad\u0001\u00ad\u0003\u00ad\u0615\b\u00ad\u0003\u00ad\u0617\b\u00ad"+
+		"\u0001\u00ad\u0001\u00ad\u0001\u00ae\u0001\u00ae\u0001\u00ae\u0001\u00ae"+
+		"\u0001\u00ae\u0001\u00af\u0001\u00af\u0001\u00b0\u0001\u00b0\u0001\u00b1"+
+		"\u0001\u00b1\u0003\u00b1\u0626\b\u00b1\u0001\u00b1\u0004\u00b1\u0629\b"+
+		"\u00b1\u000b\u00b1\f\u00b1\u062a\u0002\u05e2\u05ef\u0000\u00b2\u0001\u0001"+
+		"\u0003\u0002\u0005\u0003\u0007\u0004\t\u0005\u000b\u0006\r\u0007\u000f"+
+		"\b\u0011\t\u0013\n\u0015\u000b\u0017\f\u0019\r\u001b\u000e\u001d\u000f"+
+		"\u001f\u0010!\u0011#\u0012%\u0013\'\u0014)\u0015+\u0016-\u0017/\u0018"+
+		"1\u00193\u001a5\u001b7\u001c9\u001d;\u001e=\u001f? A!C\"E#G$I%K&M\'O("+
+		"Q)S*U+W,Y-[.]/_0a1c2e3g4i5k6m7o8q9s:u;w<y={>}?\u007f@\u0081A\u0083B\u0085"+
+		"C\u0087D\u0089E\u008bF\u008dG\u008fH\u0091I\u0093J\u0095K\u0097L\u0099"+
+		"M\u009bN\u009dO\u009fP\u00a1Q\u00a3R\u00a5S\u00a7T\u00a9U\u00abV\u00ad"+
+		"W\u00afX\u00b1Y\u00b3Z\u00b5[\u00b7\\\u00b9]\u00bb^\u00bd_\u00bf`\u00c1"+
+		"a\u00c3b\u00c5c\u00c7d\u00c9e\u00cbf\u00cdg\u00cfh\u00d1i\u00d3j\u00d5"+
+		"k\u00d7l\u00d9m\u00dbn\u00ddo\u00dfp\u00e1q\u00e3r\u00e5s\u00e7t\u00e9"+
+		"u\u00ebv\u00edw\u00efx\u00f1y\u00f3z\u00f5{\u00f7|\u00f9}\u00fb~\u00fd"+
+		"\u007f\u00ff\u0080\u0101\u0081\u0103\u0082\u0105\u0083\u0107\u0084\u0109"+
+		"\u0085\u010b\u0086\u010d\u0087\u010f\u0088\u0111\u0089\u0113\u008a\u0115"+
+		"\u008b\u0117\u008c\u0119\u008d\u011b\u008e\u011d\u008f\u011f\u0090\u0121"+
+		"\u0091\u0123\u0092\u0125\u0093\u0127\u0094\u0129\u0095\u012b\u0096\u012d"+
+		"\u0097\u012f\u0098\u0131\u0099\u0133\u009a\u0135\u009b\u0137\u009c\u0139"+
+		"\u009d\u013b\u009e\u013d\u009f\u013f\u00a0\u0141\u00a1\u0143\u00a2\u0145"+
+		"\u00a3\u0147\u00a4\u0149\u00a5\u014b\u00a6\u014d\u00a7\u014f\u00a8\u0151"+
+		"\u00a9\u0153\u00aa\u0155\u00ab\u0157\u00ac\u0159\u00ad\u015b\u00ae\u015d"+
+		"\u0000\u015f\u0000\u0161\u0000\u0163\u0000\u0001\u0000$\u0002\u0000AA"+
+		"aa\u0002\u0000DDdd\u0002\u0000GGgg\u0002\u0000RRrr\u0002\u0000EEee\u0002"+
+		"\u0000TTtt\u0002\u0000LLll\u0002\u0000OOoo\u0002\u0000WWww\u0002\u0000"+
+		"NNnn\u0002\u0000YYyy\u0002\u0000PPpp\u0002\u0000SSss\u0002\u0000CCcc\u0002"+
+		"\u0000UUuu\u0002\u0000HHhh\u0002\u0000IIii\u0002\u0000ZZzz\u0002\u0000"+
+		"BBbb\u0002\u0000MMmm\u0002\u0000FFff\u0002\u0000QQqq\u0002\u0000XXxx\u0002"+
+		"\u0000JJjj\u0002\u0000KKkk\u0002\u0000VVvv\u0001\u0000$$\u0002\u0000\'"+
+		"\'\\\\\u0001\u000009\u0002\u0000AZaz\u0005\u0000$$09AZ__az\u0001\u0000"+
+		"\"\"\u0003\u0000\t\n\r\r  \u0002\u0000\n\n\r\r\u0003\u000009AFaf\u0002"+
+		"\u0000++--\u064a\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001"+
+		"\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001"+
+		"\u0000\u0000\u0000\u0000\t\u0001\u0000\u0000\u0000\u0000\u000b\u0001\u0000"+
+		"\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u000f\u0001\u0000\u0000"+
+		"\u0000\u0000\u0011\u0001\u0000\u0000\u0000\u0000\u0013\u0001\u0000\u0000"+
+		"\u0000\u0000\u0015\u0001\u0000\u0000\u0000\u0000\u0017\u0001\u0000\u0000"+
+		"\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001b\u0001\u0000\u0000"+
+		"\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000"+
+		"\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000"+
+		"%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001"+
+		"\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000"+
+		"\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u0000"+
+		"3\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001"+
+		"\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000"+
+		"\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000"+
+		"A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001"+
+		"\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000"+
+		"\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000"+
+		"O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001"+
+		"\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000"+
+		"\u0000\u0000Y\u0001\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000"+
+		"]\u0001\u0000\u0000\u0000\u0000_\u0001\u0000\u0000\u0000\u0000a\u0001"+
+		"\u0000\u0000\u0000\u0000c\u0001\u0000\u0000\u0000\u0000e\u0001\u0000\u0000"+
+		"\u0000\u0000g\u0001\u0000\u0000\u0000\u0000i\u0001\u0000\u0000\u0000\u0000"+
+		"k\u0001\u0000\u0000\u0000\u0000m\u0001\u0000\u0000\u0000\u0000o\u0001"+
+		"\u0000\u0000\u0000\u0000q\u0001\u0000\u0000\u0000\u0000s\u0001\u0000\u0000"+
+		"\u0000\u0000u\u0001\u0000\u0000\u0000\u0000w\u0001\u0000\u0000\u0000\u0000"+
+		"y\u0001\u0000\u0000\u0000\u0000{\u0001\u0000\u0000\u0000\u0000}\u0001"+
+		"\u0000\u0000\u0000\u0000\u007f\u0001\u0000\u0000\u0000\u0000\u0081\u0001"+
+		"\u0000\u0000\u0000\u0000\u0083\u0001\u0000\u0000\u0000\u0000\u0085\u0001"+
+		"\u0000\u0000\u0000\u0000\u0087\u0001\u0000\u0000\u0000\u0000\u0089\u0001"+
+		"\u0000\u0000\u0000\u0000\u008b\u0001\u0000\u0000\u0000\u0000\u008d\u0001"+
+		"\u0000\u0000\u0000\u0000\u008f\u0001\u0000\u0000\u0000\u0000\u0091\u0001"+
+		"\u0000\u0000\u0000\u0000\u0093\u0001\u0000\u0000\u0000\u0000\u0095\u0001"+
+		"\u0000\u0000\u0000\u0000\u0097\u0001\u0000\u0000\u0000\u0000\u0099\u0001"+
+		"\u0000\u0000\u0000\u0000\u009b\u0001\u0000\u0000\u0000\u0000\u009d\u0001"+
+		"\u0000\u0000\u0000\u0000\u009f\u0001\u0000\u0000\u0000\u0000\u00a1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00a3\u0001\u0000\u0000\u0000\u0000\u00a5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00a7\u0001\u0000\u0000\u0000\u0000\u00a9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00ab\u0001\u0000\u0000\u0000\u0000\u00ad\u0001"+
+		"\u0000\u0000\u0000\u0000\u00af\u0001\u0000\u0000\u0000\u0000\u00b1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00b3\u0001\u0000\u0000\u0000\u0000\u00b5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00b7\u0001\u0000\u0000\u0000\u0000\u00b9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00bb\u0001\u0000\u0000\u0000\u0000\u00bd\u0001"+
+		"\u0000\u0000\u0000\u0000\u00bf\u0001\u0000\u0000\u0000\u0000\u00c1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00c3\u0001\u0000\u0000\u0000\u0000\u00c5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00c7\u0001\u0000\u0000\u0000\u0000\u00c9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00cb\u0001\u0000\u0000\u0000\u0000\u00cd\u0001"+
+		"\u0000\u0000\u0000\u0000\u00cf\u0001\u0000\u0000\u0000\u0000\u00d1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00d3\u0001\u0000\u0000\u0000\u0000\u00d5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00d7\u0001\u0000\u0000\u0000\u0000\u00d9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00db\u0001\u0000\u0000\u0000\u0000\u00dd\u0001"+
+		"\u0000\u0000\u0000\u0000\u00df\u0001\u0000\u0000\u0000\u0000\u00e1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00e3\u0001\u0000\u0000\u0000\u0000\u00e5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00e7\u0001\u0000\u0000\u0000\u0000\u00e9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00eb\u0001\u0000\u0000\u0000\u0000\u00ed\u0001"+
+		"\u0000\u0000\u0000\u0000\u00ef\u0001\u0000\u0000\u0000\u0000\u00f1\u0001"+
+		"\u0000\u0000\u0000\u0000\u00f3\u0001\u0000\u0000\u0000\u0000\u00f5\u0001"+
+		"\u0000\u0000\u0000\u0000\u00f7\u0001\u0000\u0000\u0000\u0000\u00f9\u0001"+
+		"\u0000\u0000\u0000\u0000\u00fb\u0001\u0000\u0000\u0000\u0000\u00fd\u0001"+
+		"\u0000\u0000\u0000\u0000\u00ff\u0001\u0000\u0000\u0000\u0000\u0101\u0001"+
+		"\u0000\u0000\u0000\u0000\u0103\u0001\u0000\u0000\u0000\u0000\u0105\u0001"+
+		"\u0000\u0000\u0000\u0000\u0107\u0001\u0000\u0000\u0000\u0000\u0109\u0001"+
+		"\u0000\u0000\u0000\u0000\u010b\u0001\u0000\u0000\u0000\u0000\u010d\u0001"+
+		"\u0000\u0000\u0000\u0000\u010f\u0001\u0000\u0000\u0000\u0000\u0111\u0001"+
+		"\u0000\u0000\u0000\u0000\u0113\u0001\u0000\u0000\u0000\u0000\u0115\u0001"+
+		"\u0000\u0000\u0000\u0000\u0117\u0001\u0000\u0000\u0000\u0000\u0119\u0001"+
+		"\u0000\u0000\u0000\u0000\u011b\u0001\u0000\u0000\u0000\u0000\u011d\u0001"+
+		"\u0000\u0000\u0000\u0000\u011f\u0001\u0000\u0000\u0000\u0000\u0121\u0001"+
+		"\u0000\u0000\u0000\u0000\u0123\u0001\u0000\u0000\u0000\u0000\u0125\u0001"+
+		"\u0000\u0000\u0000\u0000\u0127\u0001\u0000\u0000\u0000\u0000\u0129\u0001"+
+		"\u0000\u0000\u0000\u0000\u012b\u0001\u0000\u0000\u0000\u0000\u012d\u0001"+
+		"\u0000\u0000\u0000\u0000\u012f\u0001\u0000\u0000\u0000\u0000\u0131\u0001"+
+		"\u0000\u0000\u0000\u0000\u0133\u0001\u0000\u0000\u0000\u0000\u0135\u0001"+
+		"\u0000\u0000\u0000\u0000\u0137\u0001\u0000\u0000\u0000\u0000\u0139\u0001"+
+		"\u0000\u0000\u0000\u0000\u013b\u0001\u0000\u0000\u0000\u0000\u013d\u0001"+
+		"\u0000\u0000\u0000\u0000\u013f\u0001\u0000\u0000\u0000\u0000\u0141\u0001"+
+		"\u0000\u0000\u0000\u0000\u0143\u0001\u0000\u0000\u0000\u0000\u0145\u0001"+
+		"\u0000\u0000\u0000\u0000\u0147\u0001\u0000\u0000\u0000\u0000\u0149\u0001"+
+		"\u0000\u0000\u0000\u0000\u014b\u0001\u0000\u0000\u0000\u0000\u014d\u0001"+
+		"\u0000\u0000\u0000\u0000\u014f\u0001\u0000\u0000\u0000\u0000\u0151\u0001"+
+		"\u0000\u0000\u0000\u0000\u0153\u0001\u0000\u0000\u0000\u0000\u0155\u0001"+
+		"\u0000\u0000\u0000\u0000\u0157\u0001\u0000\u0000\u0000\u0000\u0159\u0001"+
+		"\u0000\u0000\u0000\u0000\u015b\u0001\u0000\u0000\u0000\u0001\u0165\u0001"+
+		"\u0000\u0000\u0000\u0003\u0167\u0001\u0000\u0000\u0000\u0005\u0169\u0001"+
+		"\u0000\u0000\u0000\u0007\u016b\u0001\u0000\u0000\u0000\t\u016d\u0001\u0000"+
+		"\u0000\u0000\u000b\u016f\u0001\u0000\u0000\u0000\r\u0171\u0001\u0000\u0000"+
+		"\u0000\u000f\u0173\u0001\u0000\u0000\u0000\u0011\u0175\u0001\u0000\u0000"+
+		"\u0000\u0013\u0177\u0001\u0000\u0000\u0000\u0015\u0179\u0001\u0000\u0000"+
+		"\u0000\u0017\u017b\u0001\u0000\u0000\u0000\u0019\u017d\u0001\u0000\u0000"+
+		"\u0000\u001b\u017f\u0001\u0000\u0000\u0000\u001d\u0181\u0001\u0000\u0000"+
+		"\u0000\u001f\u0184\u0001\u0000\u0000\u0000!\u0186\u0001\u0000\u0000\u0000"+
+		"#\u0188\u0001\u0000\u0000\u0000%\u018a\u0001\u0000\u0000\u0000\'\u018c"+
+		"\u0001\u0000\u0000\u0000)\u018e\u0001\u0000\u0000\u0000+\u0190\u0001\u0000"+
+		"\u0000\u0000-\u0193\u0001\u0000\u0000\u0000/\u0196\u0001\u0000\u0000\u0000"+
+		"1\u019a\u0001\u0000\u0000\u00003\u01a4\u0001\u0000\u0000\u00005\u01a8"+
+		"\u0001\u0000\u0000\u00007\u01ae\u0001\u0000\u0000\u00009\u01b4\u0001\u0000"+
+		"\u0000\u0000;\u01b8\u0001\u0000\u0000\u0000=\u01bc\u0001\u0000\u0000\u0000"+
+		"?\u01c2\u0001\u0000\u0000\u0000A\u01c5\u0001\u0000\u0000\u0000C\u01c9"+
+		"\u0001\u0000\u0000\u0000E\u01d3\u0001\u0000\u0000\u0000G\u01d9\u0001\u0000"+
+		"\u0000\u0000I\u01df\u0001\u0000\u0000\u0000K\u01e2\u0001\u0000\u0000\u0000"+
+		"M\u01e9\u0001\u0000\u0000\u0000O\u01f4\u0001\u0000\u0000\u0000Q\u0201"+
+		"\u0001\u0000\u0000\u0000S\u0209\u0001\u0000\u0000\u0000U\u0215\u0001\u0000"+
+		"\u0000\u0000W\u021e\u0001\u0000\u0000\u0000Y\u0225\u0001\u0000\u0000\u0000"+
+		"[\u022c\u0001\u0000\u0000\u0000]\u0233\u0001\u0000\u0000\u0000_\u0238"+
+		"\u0001\u0000\u0000\u0000a\u0241\u0001\u0000\u0000\u0000c\u024a\u0001\u0000"+
+		"\u0000\u0000e\u024f\u0001\u0000\u0000\u0000g\u025e\u0001\u0000\u0000\u0000"+
+		"i\u026a\u0001\u0000\u0000\u0000k\u0272\u0001\u0000\u0000\u0000m\u027a"+
+		"\u0001\u0000\u0000\u0000o\u0281\u0001\u0000\u0000\u0000q\u0287\u0001\u0000"+
+		"\u0000\u0000s\u0291\u0001\u0000\u0000\u0000u\u029b\u0001\u0000\u0000\u0000"+
+		"w\u02a0\u0001\u0000\u0000\u0000y\u02a5\u0001\u0000\u0000\u0000{\u02ae"+
+		"\u0001\u0000\u0000\u0000}\u02b8\u0001\u0000\u0000\u0000\u007f\u02be\u0001"+
+		"\u0000\u0000\u0000\u0081\u02c1\u0001\u0000\u0000\u0000\u0083\u02c4\u0001"+
+		"\u0000\u0000\u0000\u0085\u02ca\u0001\u0000\u0000\u0000\u0087\u02d3\u0001"+
+		"\u0000\u0000\u0000\u0089\u02dc\u0001\u0000\u0000\u0000\u008b\u02e2\u0001"+
+		"\u0000\u0000\u0000\u008d\u02e9\u0001\u0000\u0000\u0000\u008f\u02ee\u0001"+
+		"\u0000\u0000\u0000\u0091\u02f1\u0001\u0000\u0000\u0000\u0093\u02f6\u0001"+
+		"\u0000\u0000\u0000\u0095\u02fa\u0001\u0000\u0000\u0000\u0097\u02ff\u0001"+
+		"\u0000\u0000\u0000\u0099\u0308\u0001\u0000\u0000\u0000\u009b\u0312\u0001"+
+		"\u0000\u0000\u0000\u009d\u031b\u0001\u0000\u0000\u0000\u009f\u0321\u0001"+
+		"\u0000\u0000\u0000\u00a1\u032b\u0001\u0000\u0000\u0000\u00a3\u0338\u0001"+
+		"\u0000\u0000\u0000\u00a5\u033f\u0001\u0000\u0000\u0000\u00a7\u0345\u0001"+
+		"\u0000\u0000\u0000\u00a9\u0352\u0001\u0000\u0000\u0000\u00ab\u0359\u0001"+
+		"\u0000\u0000\u0000\u00ad\u035d\u0001\u0000\u0000\u0000\u00af\u0369\u0001"+
+		"\u0000\u0000\u0000\u00b1\u0375\u0001\u0000\u0000\u0000\u00b3\u0379\u0001"+
+		"\u0000\u0000\u0000\u00b5\u037e\u0001\u0000\u0000\u0000\u00b7\u0381\u0001"+
+		"\u0000\u0000\u0000\u00b9\u0384\u0001\u0000\u0000\u0000\u00bb\u0388\u0001"+
+		"\u0000\u0000\u0000\u00bd\u0390\u0001\u0000\u0000\u0000\u00bf\u0393\u0001"+
+		"\u0000\u0000\u0000\u00c1\u0399\u0001\u0000\u0000\u0000\u00c3\u03a3\u0001"+
+		"\u0000\u0000\u0000\u00c5\u03ac\u0001\u0000\u0000\u0000\u00c7\u03b0\u0001"+
+		"\u0000\u0000\u0000\u00c9\u03bb\u0001\u0000\u0000\u0000\u00cb\u03c7\u0001"+
+		"\u0000\u0000\u0000\u00cd\u03cf\u0001\u0000\u0000\u0000\u00cf\u03d6\u0001"+
+		"\u0000\u0000\u0000\u00d1\u03dd\u0001\u0000\u0000\u0000\u00d3\u03e5\u0001"+
+		"\u0000\u0000\u0000\u00d5\u03f1\u0001\u0000\u0000\u0000\u00d7\u03f9\u0001"+
+		"\u0000\u0000\u0000\u00d9\u0400\u0001\u0000\u0000\u0000\u00db\u0405\u0001"+
+		"\u0000\u0000\u0000\u00dd\u040b\u0001\u0000\u0000\u0000\u00df\u0412\u0001"+
+		"\u0000\u0000\u0000\u00e1\u0419\u0001\u0000\u0000\u0000\u00e3\u041d\u0001"+
+		"\u0000\u0000\u0000\u00e5\u0423\u0001\u0000\u0000\u0000\u00e7\u042a\u0001"+
+		"\u0000\u0000\u0000\u00e9\u0432\u0001\u0000\u0000\u0000\u00eb\u0438\u0001"+
+		"\u0000\u0000\u0000\u00ed\u0442\u0001\u0000\u0000\u0000\u00ef\u0448\u0001"+
+		"\u0000\u0000\u0000\u00f1\u044e\u0001\u0000\u0000\u0000\u00f3\u0458\u0001"+
+		"\u0000\u0000\u0000\u00f5\u045b\u0001\u0000\u0000\u0000\u00f7\u0461\u0001"+
+		"\u0000\u0000\u0000\u00f9\u0469\u0001\u0000\u0000\u0000\u00fb\u046e\u0001"+
+		"\u0000\u0000\u0000\u00fd\u0477\u0001\u0000\u0000\u0000\u00ff\u047b\u0001"+
+		"\u0000\u0000\u0000\u0101\u047f\u0001\u0000\u0000\u0000\u0103\u0484\u0001"+
+		"\u0000\u0000\u0000\u0105\u048d\u0001\u0000\u0000\u0000\u0107\u0494\u0001"+
+		"\u0000\u0000\u0000\u0109\u0498\u0001\u0000\u0000\u0000\u010b\u049d\u0001"+
+		"\u0000\u0000\u0000\u010d\u04a3\u0001\u0000\u0000\u0000\u010f\u04a8\u0001"+
+		"\u0000\u0000\u0000\u0111\u04af\u0001\u0000\u0000\u0000\u0113\u04b4\u0001"+
+		"\u0000\u0000\u0000\u0115\u04ba\u0001\u0000\u0000\u0000\u0117\u04bf\u0001"+
+		"\u0000\u0000\u0000\u0119\u04c9\u0001\u0000\u0000\u0000\u011b\u04cf\u0001"+
+		"\u0000\u0000\u0000\u011d\u04d6\u0001\u0000\u0000\u0000\u011f\u04db\u0001"+
+		"\u0000\u0000\u0000\u0121\u04e3\u0001\u0000\u0000\u0000\u0123\u04eb\u0001"+
+		"\u0000\u0000\u0000\u0125\u04f0\u0001\u0000\u0000\u0000\u0127\u04f8\u0001"+
+		"\u0000\u0000\u0000\u0129\u04ff\u0001\u0000\u0000\u0000\u012b\u0505\u0001"+
+		"\u0000\u0000\u0000\u012d\u050c\u0001\u0000\u0000\u0000\u012f\u0511\u0001"+
+		"\u0000\u0000\u0000\u0131\u0515\u0001\u0000\u0000\u0000\u0133\u051a\u0001"+
+		"\u0000\u0000\u0000\u0135\u051e\u0001\u0000\u0000\u0000\u0137\u0527\u0001"+
+		"\u0000\u0000\u0000\u0139\u052c\u0001\u0000\u0000\u0000\u013b\u0535\u0001"+
+		"\u0000\u0000\u0000\u013d\u053a\u0001\u0000\u0000\u0000\u013f\u0542\u0001"+
+		"\u0000\u0000\u0000\u0141\u0548\u0001\u0000\u0000\u0000\u0143\u0550\u0001"+
+		"\u0000\u0000\u0000\u0145\u0557\u0001\u0000\u0000\u0000\u0147\u0565\u0001"+
+		"\u0000\u0000\u0000\u0149\u0573\u0001\u0000\u0000\u0000\u014b\u0578\u0001"+
+		"\u0000\u0000\u0000\u014d\u059a\u0001\u0000\u0000\u0000\u014f\u05b5\u0001"+
+		"\u0000\u0000\u0000\u0151\u05c5\u0001\u0000\u0000\u0000\u0153\u05c7\u0001"+
+		"\u0000\u0000\u0000\u0155\u05d5\u0001\u0000\u0000\u0000\u0157\u05db\u0001"+
+		"\u0000\u0000\u0000\u0159\u05e9\u0001\u0000\u0000\u0000\u015b\u0616\u0001"+
+		"\u0000\u0000\u0000\u015d\u061a\u0001\u0000\u0000\u0000\u015f\u061f\u0001"+
+		"\u0000\u0000\u0000\u0161\u0621\u0001\u0000\u0000\u0000\u0163\u0623\u0001"+
+		"\u0000\u0000\u0000\u0165\u0166\u0005(\u0000\u0000\u0166\u0002\u0001\u0000"+
+		"\u0000\u0000\u0167\u0168\u0005)\u0000\u0000\u0168\u0004\u0001\u0000\u0000"+
+		"\u0000\u0169\u016a\u0005{\u0000\u0000\u016a\u0006\u0001\u0000\u0000\u0000"+
+		"\u016b\u016c\u0005}\u0000\u0000\u016c\b\u0001\u0000\u0000\u0000\u016d"+
+		"\u016e\u0005[\u0000\u0000\u016e\n\u0001\u0000\u0000\u0000\u016f\u0170"+
+		"\u0005]\u0000\u0000\u0170\f\u0001\u0000\u0000\u0000\u0171\u0172\u0005"+
+		",\u0000\u0000\u0172\u000e\u0001\u0000\u0000\u0000\u0173\u0174\u0005;\u0000"+
+		"\u0000\u0174\u0010\u0001\u0000\u0000\u0000\u0175\u0176\u0005:\u0000\u0000"+
+		"\u0176\u0012\u0001\u0000\u0000\u0000\u0177\u0178\u0005.\u0000\u0000\u0178"+
+		"\u0014\u0001\u0000\u0000\u0000\u0179\u017a\u0005*\u0000\u0000\u017a\u0016"+
+		"\u0001\u0000\u0000\u0000\u017b\u017c\u0005/\u0000\u0000\u017c\u0018\u0001"+
+		"\u0000\u0000\u0000\u017d\u017e\u0005%\u0000\u0000\u017e\u001a\u0001\u0000"+
+		"\u0000\u0000\u017f\u0180\u0005+\u0000\u0000\u0180\u001c\u0001\u0000\u0000"+
+		"\u0000\u0181\u0182\u0005-\u0000\u0000\u0182\u0183\u0005-\u0000\u0000\u0183"+
+		"\u001e\u0001\u0000\u0000\u0000\u0184\u0185\u0005-\u0000\u0000\u0185 \u0001"+
+		"\u0000\u0000\u0000\u0186\u0187\u0005\"\u0000\u0000\u0187\"\u0001\u0000"+
+		"\u0000\u0000\u0188\u0189\u0005\'\u0000\u0000\u0189$\u0001\u0000\u0000"+
+		"\u0000\u018a\u018b\u0005=\u0000\u0000\u018b&\u0001\u0000\u0000\u0000\u018c"+
+		"\u018d\u0005<\u0000\u0000\u018d(\u0001\u0000\u0000\u0000\u018e\u018f\u0005"+
+		">\u0000\u0000\u018f*\u0001\u0000\u0000\u0000\u0190\u0191\u0005<\u0000"+
+		"\u0000\u0191\u0192\u0005=\u0000\u0000\u0192,\u0001\u0000\u0000\u0000\u0193"+
+		"\u0194\u0005>\u0000\u0000\u0194\u0195\u0005=\u0000\u0000\u0195.\u0001"+
+		"\u0000\u0000\u0000\u0196\u0197\u0007\u0000\u0000\u0000\u0197\u0198\u0007"+
+		"\u0001\u0000\u0000\u0198\u0199\u0007\u0001\u0000\u0000\u01990\u0001\u0000"+
+		"\u0000\u0000\u019a\u019b\u0007\u0000\u0000\u0000\u019b\u019c\u0007\u0002"+
+		"\u0000\u0000\u019c\u019d\u0007\u0002\u0000\u0000\u019d\u019e\u0007\u0003"+
+		"\u0000\u0000\u019e\u019f\u0007\u0004\u0000\u0000\u019f\u01a0\u0007\u0002"+
+		"\u0000\u0000\u01a0\u01a1\u0007\u0000\u0000\u0000\u01a1\u01a2\u0007\u0005"+
+		"\u0000\u0000\u01a2\u01a3\u0007\u0004\u0000\u0000\u01a32\u0001\u0000\u0000"+
+		"\u0000\u01a4\u01a5\u0007\u0000\u0000\u0000\u01a5\u01a6\u0007\u0006\u0000"+
+		"\u0000\u01a6\u01a7\u0007\u0006\u0000\u0000\u01a74\u0001\u0000\u0000\u0000"+
+		"\u01a8\u01a9\u0007\u0000\u0000\u0000\u01a9\u01aa\u0007\u0006\u0000\u0000"+
+		"\u01aa\u01ab\u0007\u0006\u0000\u0000\u01ab\u01ac\u0007\u0007\u0000\u0000"+
+		"\u01ac\u01ad\u0007\b\u0000\u0000\u01ad6\u0001\u0000\u0000\u0000\u01ae"+
+		"\u01af\u0007\u0000\u0000\u0000\u01af\u01b0\u0007\u0006\u0000\u0000\u01b0"+
+		"\u01b1\u0007\u0005\u0000\u0000\u01b1\u01b2\u0007\u0004\u0000\u0000\u01b2"+
+		"\u01b3\u0007\u0003\u0000\u0000\u01b38\u0001\u0000\u0000\u0000\u01b4\u01b5"+
+		"\u0007\u0000\u0000\u0000\u01b5\u01b6\u0007\t\u0000\u0000\u01b6\u01b7\u0007"+
+		"\u0001\u0000\u0000\u01b7:\u0001\u0000\u0000\u0000\u01b8\u01b9\u0007\u0000"+
+		"\u0000\u0000\u01b9\u01ba\u0007\t\u0000\u0000\u01ba\u01bb\u0007\n\u0000"+
+		"\u0000\u01bb<\u0001\u0000\u0000\u0000\u01bc\u01bd\u0007\u0000\u0000\u0000"+
+		"\u01bd\u01be\u0007\u000b\u0000\u0000\u01be\u01bf\u0007\u000b\u0000\u0000"+
+		"\u01bf\u01c0\u0007\u0006\u0000\u0000\u01c0\u01c1\u0007\n\u0000\u0000\u01c1"+
+		">\u0001\u0000\u0000\u0000\u01c2\u01c3\u0007\u0000\u0000\u0000\u01c3\u01c4"+
+		"\u0007\f\u0000\u0000\u01c4@\u0001\u0000\u0000\u0000\u01c5\u01c6\u0007"+
+		"\u0000\u0000\u0000\u01c6\u01c7\u0007\f\u0000\u0000\u01c7\u01c8\u0007\r"+
+		"\u0000\u0000\u01c8B\u0001\u0000\u0000\u0000\u01c9\u01ca\u0007\u0000\u0000"+
+		"\u0000\u01ca\u01cb\u0007\u000e\u0000\u0000\u01cb\u01cc\u0007\u0005\u0000"+
+		"\u0000\u01cc\u01cd\u0007\u000f\u0000\u0000\u01cd\u01ce\u0007\u0007\u0000"+
+		"\u0000\u01ce\u01cf\u0007\u0003\u0000\u0000\u01cf\u01d0\u0007\u0010\u0000"+
+		"\u0000\u01d0\u01d1\u0007\u0011\u0000\u0000\u01d1\u01d2\u0007\u0004\u0000"+
+		"\u0000\u01d2D\u0001\u0000\u0000\u0000\u01d3\u01d4\u0007\u0012\u0000\u0000"+
+		"\u01d4\u01d5\u0007\u0000\u0000\u0000\u01d5\u01d6\u0007\u0005\u0000\u0000"+
+		"\u01d6\u01d7\u0007\r\u0000\u0000\u01d7\u01d8\u0007\u000f\u0000\u0000\u01d8"+
+		"F\u0001\u0000\u0000\u0000\u01d9\u01da\u0007\u0012\u0000\u0000\u01da\u01db"+
+		"\u0007\u0004\u0000\u0000\u01db\u01dc\u0007\u0002\u0000\u0000\u01dc\u01dd"+
+		"\u0007\u0010\u0000\u0000\u01dd\u01de\u0007\t\u0000\u0000\u01deH\u0001"+
+		"\u0000\u0000\u0000\u01df\u01e0\u0007\u0012\u0000\u0000\u01e0\u01e1\u0007"+
+		"\n\u0000\u0000\u01e1J\u0001\u0000\u0000\u0000\u01e2\u01e3\u0007\r\u0000"+
+		"\u0000\u01e3\u01e4\u0007\u0000\u0000\u0000\u01e4\u01e5\u0007\u0006\u0000"+
+		"\u0000\u01e5\u01e6\u0007\u0006\u0000\u0000\u01e6\u01e7\u0007\u0004\u0000"+
+		"\u0000\u01e7\u01e8\u0007\u0001\u0000\u0000\u01e8L\u0001\u0000\u0000\u0000"+
+		"\u01e9\u01ea\u0007\r\u0000\u0000\u01ea\u01eb\u0007\u0006\u0000\u0000\u01eb"+
+		"\u01ec\u0007\u000e\u0000\u0000\u01ec\u01ed\u0007\f\u0000\u0000\u01ed\u01ee"+
+		"\u0007\u0005\u0000\u0000\u01ee\u01ef\u0007\u0004\u0000\u0000\u01ef\u01f0"+
+		"\u0007\u0003\u0000\u0000\u01f0\u01f1\u0007\u0010\u0000\u0000\u01f1\u01f2"+
+		"\u0007\t\u0000\u0000\u01f2\u01f3\u0007\u0002\u0000\u0000\u01f3N\u0001"+
+		"\u0000\u0000\u0000\u01f4\u01f5\u0007\r\u0000\u0000\u01f5\u01f6\u0007\u0007"+
+		"\u0000\u0000\u01f6\u01f7\u0007\u0006\u0000\u0000\u01f7\u01f8\u0007\u000e"+
+		"\u0000\u0000\u01f8\u01f9\u0007\u0013\u0000\u0000\u01f9\u01fa\u0007\t\u0000"+
+		"\u0000\u01fa\u01fb\u0007\u0014\u0000\u0000\u01fb\u01fc\u0007\u0000\u0000"+
+		"\u0000\u01fc\u01fd\u0007\u0013\u0000\u0000\u01fd\u01fe\u0007\u0010\u0000"+
+		"\u0000\u01fe\u01ff\u0007\u0006\u0000\u0000\u01ff\u0200\u0007\n\u0000\u0000"+
+		"\u0200P\u0001\u0000\u0000\u0000\u0201\u0202\u0007\r\u0000\u0000\u0202"+
+		"\u0203\u0007\u0007\u0000\u0000\u0203\u0204\u0007\u0013\u0000\u0000\u0204"+
+		"\u0205\u0007\u000b\u0000\u0000\u0205\u0206\u0007\u0000\u0000\u0000\u0206"+
+		"\u0207\u0007\r\u0000\u0000\u0207\u0208\u0007\u0005\u0000\u0000\u0208R"+
+		"\u0001\u0000\u0000\u0000\u0209\u020a\u0007\r\u0000\u0000\u020a\u020b\u0007"+
+		"\u0007\u0000\u0000\u020b\u020c\u0007\t\u0000\u0000\u020c\u020d\u0007\f"+
+		"\u0000\u0000\u020d\u020e\u0007\u0010\u0000\u0000\u020e\u020f\u0007\f\u0000"+
+		"\u0000\u020f\u0210\u0007\u0005\u0000\u0000\u0210\u0211\u0007\u0004\u0000"+
+		"\u0000\u0211\u0212\u0007\t\u0000\u0000\u0212\u0213\u0007\r\u0000\u0000"+
+		"\u0213\u0214\u0007\n\u0000\u0000\u0214T\u0001\u0000\u0000\u0000\u0215"+
+		"\u0216\u0007\r\u0000\u0000\u0216\u0217\u0007\u0007\u0000\u0000\u0217\u0218"+
+		"\u0007\t\u0000\u0000\u0218\u0219\u0007\u0005\u0000\u0000\u0219\u021a\u0007"+
+		"\u0000\u0000\u0000\u021a\u021b\u0007\u0010\u0000\u0000\u021b\u021c\u0007"+
+		"\t\u0000\u0000\u021c\u021d\u0007\f\u0000\u0000\u021dV\u0001\u0000\u0000"+
+		"\u0000\u021e\u021f\u0007\r\u0000\u0000\u021f\u0220\u0007\u0003\u0000\u0000"+
+		"\u0220\u0221\u0007\u0004\u0000\u0000\u0221\u0222\u0007\u0000\u0000\u0000"+
+		"\u0222\u0223\u0007\u0005\u0000\u0000\u0223\u0224\u0007\u0004\u0000\u0000"+
+		"\u0224X\u0001\u0000\u0000\u0000\u0225\u0226\u0007\r\u0000\u0000\u0226"+
+		"\u0227\u0007\u000e\u0000\u0000\u0227\u0228\u0007\f\u0000\u0000\u0228\u0229"+
+		"\u0007\u0005\u0000\u0000\u0229\u022a\u0007\u0007\u0000\u0000\u022a\u022b"+
+		"\u0007\u0013\u0000\u0000\u022bZ\u0001\u0000\u0000\u0000\u022c\u022d\u0007"+
+		"\u0001\u0000\u0000\u022d\u022e\u0007\u0004\u0000\u0000\u022e\u022f\u0007"+
+		"\u0006\u0000\u0000\u022f\u0230\u0007\u0004\u0000\u0000\u0230\u0231\u0007"+
+		"\u0005\u0000\u0000\u0231\u0232\u0007\u0004\u0000\u0000\u0232\\\u0001\u0000"+
+		"\u0000\u0000\u0233\u0234\u0007\u0001\u0000\u0000\u0234\u0235\u0007\u0004"+
+		"\u0000\u0000\u0235\u0236\u0007\f\u0000\u0000\u0236\u0237\u0007\r\u0000"+
+		"\u0000\u0237^\u0001\u0000\u0000\u0000\u0238\u0239\u0007\u0001\u0000\u0000"+
+		"\u0239\u023a\u0007\u0004\u0000\u0000\u023a\u023b\u0007\f\u0000\u0000\u023b"+
+		"\u023c\u0007\r\u0000\u0000\u023c\u023d\u0007\u0003\u0000\u0000\u023d\u023e"+
+		"\u0007\u0010\u0000\u0000\u023e\u023f\u0007\u0012\u0000\u0000\u023f\u0240"+
+		"\u0007\u0004\u0000\u0000\u0240`\u0001\u0000\u0000\u0000\u0241\u0242\u0007"+
+		"\u0001\u0000\u0000\u0242\u0243\u0007\u0010\u0000\u0000\u0243\u0244\u0007"+
+		"\f\u0000\u0000\u0244\u0245\u0007\u0005\u0000\u0000\u0245\u0246\u0007\u0010"+
+		"\u0000\u0000\u0246\u0247\u0007\t\u0000\u0000\u0247\u0248\u0007\r\u0000"+
+		"\u0000\u0248\u0249\u0007\u0005\u0000\u0000\u0249b\u0001\u0000\u0000\u0000"+
+		"\u024a\u024b\u0007\u0001\u0000\u0000\u024b\u024c\u0007\u0003\u0000\u0000"+
+		"\u024c\u024d\u0007\u0007\u0000\u0000\u024d\u024e\u0007\u000b\u0000\u0000"+
+		"\u024ed\u0001\u0000\u0000\u0000\u024f\u0250\u0007\u0001\u0000\u0000\u0250"+
+		"\u0251\u0007\u000e\u0000\u0000\u0251\u0252\u0007\u0003\u0000\u0000\u0252"+
+		"\u0253\u0007\u0000\u0000\u0000\u0253\u0254\u0007\u0012\u0000\u0000\u0254"+
+		"\u0255\u0007\u0006\u0000\u0000\u0255\u0256\u0007\u0004\u0000\u0000\u0256"+
+		"\u0257\u0005_\u0000\u0000\u0257\u0258\u0007\b\u0000\u0000\u0258\u0259"+
+		"\u0007\u0003\u0000\u0000\u0259\u025a\u0007\u0010\u0000\u0000\u025a\u025b"+
+		"\u0007\u0005\u0000\u0000\u025b\u025c\u0007\u0004\u0000\u0000\u025c\u025d"+
+		"\u0007\f\u0000\u0000\u025df\u0001\u0000\u0000\u0000\u025e\u025f\u0007"+
+		"\u0004\u0000\u0000\u025f\u0260\u0007\u0000\u0000\u0000\u0260\u0261\u0007"+
+		"\r\u0000\u0000\u0261\u0262\u0007\u000f\u0000\u0000\u0262\u0263\u0005_"+
+		"\u0000\u0000\u0263\u0264\u0007\u0015\u0000\u0000\u0264\u0265\u0007\u000e"+
+		"\u0000\u0000\u0265\u0266\u0007\u0007\u0000\u0000\u0266\u0267\u0007\u0003"+
+		"\u0000\u0000\u0267\u0268\u0007\u000e\u0000\u0000\u0268\u0269\u0007\u0013"+
+		"\u0000\u0000\u0269h\u0001\u0000\u0000\u0000\u026a\u026b\u0007\u0004\u0000"+
+		"\u0000\u026b\u026c\u0007\t\u0000\u0000\u026c\u026d\u0007\u0005\u0000\u0000"+
+		"\u026d\u026e\u0007\u0003\u0000\u0000\u026e\u026f\u0007\u0010\u0000\u0000"+
+		"\u026f\u0270\u0007\u0004\u0000\u0000\u0270\u0271\u0007\f\u0000\u0000\u0271"+
+		"j\u0001\u0000\u0000\u0000\u0272\u0273\u0007\u0004\u0000\u0000\u0273\u0274"+
+		"\u0007\u0016\u0000\u0000\u0274\u0275\u0007\u0004\u0000\u0000\u0275\u0276"+
+		"\u0007\r\u0000\u0000\u0276\u0277\u0007\u000e\u0000\u0000\u0277\u0278\u0007"+
+		"\u0005\u0000\u0000\u0278\u0279\u0007\u0004\u0000\u0000\u0279l\u0001\u0000"+
+		"\u0000\u0000\u027a\u027b\u0007\u0004\u0000\u0000\u027b\u027c\u0007\u0016"+
+		"\u0000\u0000\u027c\u027d\u0007\u0010\u0000\u0000\u027d\u027e\u0007\f\u0000"+
+		"\u0000\u027e\u027f\u0007\u0005\u0000\u0000\u027f\u0280\u0007\f\u0000\u0000"+
+		"\u0280n\u0001\u0000\u0000\u0000\u0281\u0282\u0007\u0014\u0000\u0000\u0282"+
+		"\u0283\u0007\u0000\u0000\u0000\u0283\u0284\u0007\u0006\u0000\u0000\u0284"+
+		"\u0285\u0007\f\u0000\u0000\u0285\u0286\u0007\u0004\u0000\u0000\u0286p"+
+		"\u0001\u0000\u0000\u0000\u0287\u0288\u0007\u0014\u0000\u0000\u0288\u0289"+
+		"\u0007\u0010\u0000\u0000\u0289\u028a\u0007\u0006\u0000\u0000\u028a\u028b"+
+		"\u0007\u0005\u0000\u0000\u028b\u028c\u0007\u0004\u0000\u0000\u028c\u028d"+
+		"\u0007\u0003\u0000\u0000\u028d\u028e\u0007\u0010\u0000\u0000\u028e\u028f"+
+		"\u0007\t\u0000\u0000\u028f\u0290\u0007\u0002\u0000\u0000\u0290r\u0001"+
+		"\u0000\u0000\u0000\u0291\u0292\u0007\u0014\u0000\u0000\u0292\u0293\u0007"+
+		"\u0010\u0000\u0000\u0293\u0294\u0007\t\u0000\u0000\u0294\u0295\u0007\u0000"+
+		"\u0000\u0000\u0295\u0296\u0007\u0006\u0000\u0000\u0296\u0297\u0007\u0014"+
+		"\u0000\u0000\u0297\u0298\u0007\u000e\u0000\u0000\u0298\u0299\u0007\t\u0000"+
+		"\u0000\u0299\u029a\u0007\r\u0000\u0000\u029at\u0001\u0000\u0000\u0000"+
+		"\u029b\u029c\u0007\u0014\u0000\u0000\u029c\u029d\u0007\u0003\u0000\u0000"+
+		"\u029d\u029e\u0007\u0007\u0000\u0000\u029e\u029f\u0007\u0013\u0000\u0000"+
+		"\u029fv\u0001\u0000\u0000\u0000\u02a0\u02a1\u0007\u0014\u0000\u0000\u02a1"+
+		"\u02a2\u0007\u000e\u0000\u0000\u02a2\u02a3\u0007\u0006\u0000\u0000\u02a3"+
+		"\u02a4\u0007\u0006\u0000\u0000\u02a4x\u0001\u0000\u0000\u0000\u02a5\u02a6"+
+		"\u0007\u0014\u0000\u0000\u02a6\u02a7\u0007\u000e\u0000\u0000\u02a7\u02a8"+
+		"\u0007\t\u0000\u0000\u02a8\u02a9\u0007\r\u0000\u0000\u02a9\u02aa\u0007"+
+		"\u0005\u0000\u0000\u02aa\u02ab\u0007\u0010\u0000\u0000\u02ab\u02ac\u0007"+
+		"\u0007\u0000\u0000\u02ac\u02ad\u0007\t\u0000\u0000\u02adz\u0001\u0000"+
+		"\u0000\u0000\u02ae\u02af\u0007\u0014\u0000\u0000\u02af\u02b0\u0007\u000e"+
+		"\u0000\u0000\u02b0\u02b1\u0007\t\u0000\u0000\u02b1\u02b2\u0007\r\u0000"+
+		"\u0000\u02b2\u02b3\u0007\u0005\u0000\u0000\u02b3\u02b4\u0007\u0010\u0000"+
+		"\u0000\u02b4\u02b5\u0007\u0007\u0000\u0000\u02b5\u02b6\u0007\t\u0000\u0000"+
+		"\u02b6\u02b7\u0007\f\u0000\u0000\u02b7|\u0001\u0000\u0000\u0000\u02b8"+
+		"\u02b9\u0007\u0002\u0000\u0000\u02b9\u02ba\u0007\u0003\u0000\u0000\u02ba"+
+		"\u02bb\u0007\u0000\u0000\u0000\u02bb\u02bc\u0007\t\u0000\u0000\u02bc\u02bd"+
+		"\u0007\u0005\u0000\u0000\u02bd~\u0001\u0000\u0000\u0000\u02be\u02bf\u0007"+
+		"\u0010\u0000\u0000\u02bf\u02c0\u0007\u0014\u0000\u0000\u02c0\u0080\u0001"+
+		"\u0000\u0000\u0000\u02c1\u02c2\u0007\u0010\u0000\u0000\u02c2\u02c3\u0007"+
+		"\t\u0000\u0000\u02c3\u0082\u0001\u0000\u0000\u0000\u02c4\u02c5\u0007\u0010"+
+		"\u0000\u0000\u02c5\u02c6\u0007\t\u0000\u0000\u02c6\u02c7\u0007\u0001\u0000"+
+		"\u0000\u02c7\u02c8\u0007\u0004\u0000\u0000\u02c8\u02c9\u0007\u0016\u0000"+
+		"\u0000\u02c9\u0084\u0001\u0000\u0000\u0000\u02ca\u02cb\u0007\u0010\u0000"+
+		"\u0000\u02cb\u02cc\u0007\t\u0000\u0000\u02cc\u02cd\u0007\u0014\u0000\u0000"+
+		"\u02cd\u02ce\u0007\u0010\u0000\u0000\u02ce\u02cf\u0007\t\u0000\u0000\u02cf"+
+		"\u02d0\u0007\u0010\u0000\u0000\u02d0\u02d1\u0007\u0005\u0000\u0000\u02d1"+
+		"\u02d2\u0007\n\u0000\u0000\u02d2\u0086\u0001\u0000\u0000\u0000\u02d3\u02d4"+
+		"\u0007\u0010\u0000\u0000\u02d4\u02d5\u0007\t\u0000\u0000\u02d5\u02d6\u0007"+
+		"\u0010\u0000\u0000\u02d6\u02d7\u0007\u0005\u0000\u0000\u02d7\u02d8\u0007"+
+		"\r\u0000\u0000\u02d8\u02d9\u0007\u0007\u0000\u0000\u02d9\u02da\u0007\t"+
+		"\u0000\u0000\u02da\u02db\u0007\u0001\u0000\u0000\u02db\u0088\u0001\u0000"+
+		"\u0000\u0000\u02dc\u02dd\u0007\u0010\u0000\u0000\u02dd\u02de\u0007\t\u0000"+
+		"\u0000\u02de\u02df\u0007\u000b\u0000\u0000\u02df\u02e0\u0007\u000e\u0000"+
+		"\u0000\u02e0\u02e1\u0007\u0005\u0000\u0000\u02e1\u008a\u0001\u0000\u0000"+
+		"\u0000\u02e2\u02e3\u0007\u0010\u0000\u0000\u02e3\u02e4\u0007\t\u0000\u0000"+
+		"\u02e4\u02e5\u0007\f\u0000\u0000\u02e5\u02e6\u0007\u0004\u0000\u0000\u02e6"+
+		"\u02e7\u0007\u0003\u0000\u0000\u02e7\u02e8\u0007\u0005\u0000\u0000\u02e8"+
+		"\u008c\u0001\u0000\u0000\u0000\u02e9\u02ea\u0007\u0010\u0000\u0000\u02ea"+
+		"\u02eb\u0007\t\u0000\u0000\u02eb\u02ec\u0007\u0005\u0000\u0000\u02ec\u02ed"+
+		"\u0007\u0007\u0000\u0000\u02ed\u008e\u0001\u0000\u0000\u0000\u02ee\u02ef"+
+		"\u0007\u0010\u0000\u0000\u02ef\u02f0\u0007\f\u0000\u0000\u02f0\u0090\u0001"+
+		"\u0000\u0000\u0000\u02f1\u02f2\u0007\u0017\u0000\u0000\u02f2\u02f3\u0007"+
+		"\f\u0000\u0000\u02f3\u02f4\u0007\u0007\u0000\u0000\u02f4\u02f5\u0007\t"+
+		"\u0000\u0000\u02f5\u0092\u0001\u0000\u0000\u0000\u02f6\u02f7\u0007\u0018"+
+		"\u0000\u0000\u02f7\u02f8\u0007\u0004\u0000\u0000\u02f8\u02f9\u0007\n\u0000"+
+		"\u0000\u02f9\u0094\u0001\u0000\u0000\u0000\u02fa\u02fb\u0007\u0018\u0000"+
+		"\u0000\u02fb\u02fc\u0007\u0004\u0000\u0000\u02fc\u02fd\u0007\n\u0000\u0000"+
+		"\u02fd\u02fe\u0007\f\u0000\u0000\u02fe\u0096\u0001\u0000\u0000\u0000\u02ff"+
+		"\u0300\u0007\u0018\u0000\u0000\u0300\u0301\u0007\u0004\u0000\u0000\u0301"+
+		"\u0302\u0007\n\u0000\u0000\u0302\u0303\u0007\f\u0000\u0000\u0303\u0304"+
+		"\u0007\u000b\u0000\u0000\u0304\u0305\u0007\u0000\u0000\u0000\u0305\u0306"+
+		"\u0007\r\u0000\u0000\u0306\u0307\u0007\u0004\u0000\u0000\u0307\u0098\u0001"+
+		"\u0000\u0000\u0000\u0308\u0309\u0007\u0018\u0000\u0000\u0309\u030a\u0007"+
+		"\u0004\u0000\u0000\u030a\u030b\u0007\n\u0000\u0000\u030b\u030c\u0007\f"+
+		"\u0000\u0000\u030c\u030d\u0007\u000b\u0000\u0000\u030d\u030e\u0007\u0000"+
+		"\u0000\u0000\u030e\u030f\u0007\r\u0000\u0000\u030f\u0310\u0007\u0004\u0000"+
+		"\u0000\u0310\u0311\u0007\f\u0000\u0000\u0311\u009a\u0001\u0000\u0000\u0000"+
+		"\u0312\u0313\u0007\u0006\u0000\u0000\u0313\u0314\u0007\u0000\u0000\u0000"+
+		"\u0314\u0315\u0007\t\u0000\u0000\u0315\u0316\u0007\u0002\u0000\u0000\u0316"+
+		"\u0317\u0007\u000e\u0000\u0000\u0317\u0318\u0007\u0000\u0000\u0000\u0318"+
+		"\u0319\u0007\u0002\u0000\u0000\u0319\u031a\u0007\u0004\u0000\u0000\u031a"+
+		"\u009c\u0001\u0000\u0000\u0000\u031b\u031c\u0007\u0006\u0000\u0000\u031c"+
+		"\u031d\u0007\u0010\u0000\u0000\u031d\u031e\u0007\u0013\u0000\u0000\u031e"+
+		"\u031f\u0007\u0010\u0000\u0000\u031f\u0320\u0007\u0005\u0000\u0000\u0320"+
+		"\u009e\u0001\u0000\u0000\u0000\u0321\u0322\u0007\u0006\u0000\u0000\u0322"+
+		"\u0323\u0007\u0007\u0000\u0000\u0323\u0324\u0007\r\u0000\u0000\u0324\u0325"+
+		"\u0007\u0000\u0000\u0000\u0325\u0326\u0007\u0006\u0000\u0000\u0326\u0327"+
+		"\u0005_\u0000\u0000\u0327\u0328\u0007\u0007\u0000\u0000\u0328\u0329\u0007"+
+		"\t\u0000\u0000\u0329\u032a\u0007\u0004\u0000\u0000\u032a\u00a0\u0001\u0000"+
+		"\u0000\u0000\u032b\u032c\u0007\u0006\u0000\u0000\u032c\u032d\u0007\u0007"+
+		"\u0000\u0000\u032d\u032e\u0007\r\u0000\u0000\u032e\u032f\u0007\u0000\u0000"+
+		"\u0000\u032f\u0330\u0007\u0006\u0000\u0000\u0330\u0331\u0005_\u0000\u0000"+
+		"\u0331\u0332\u0007\u0015\u0000\u0000\u0332\u0333\u0007\u000e\u0000\u0000"+
+		"\u0333\u0334\u0007\u0007\u0000\u0000\u0334\u0335\u0007\u0003\u0000\u0000"+
+		"\u0335\u0336\u0007\u000e\u0000\u0000\u0336\u0337\u0007\u0013\u0000\u0000"+
+		"\u0337\u00a2\u0001\u0000\u0000\u0000\u0338\u0339\u0007\u0006\u0000\u0000"+
+		"\u0339\u033a\u0007\u0007\u0000\u0000\u033a\u033b\u0007\u0002\u0000\u0000"+
+		"\u033b\u033c\u0007\u0002\u0000\u0000\u033c\u033d\u0007\u0004\u0000\u0000"+
+		"\u033d\u033e\u0007\u0001\u0000\u0000\u033e\u00a4\u0001\u0000\u0000\u0000"+
+		"\u033f\u0340\u0007\u0006\u0000\u0000\u0340\u0341\u0007\u0007\u0000\u0000"+
+		"\u0341\u0342\u0007\u0002\u0000\u0000\u0342\u0343\u0007\u0010\u0000\u0000"+
+		"\u0343\u0344\u0007\t\u0000\u0000\u0344\u00a6\u0001\u0000\u0000\u0000\u0345"+
+		"\u0346\u0007\u0013\u0000\u0000\u0346\u0347\u0007\u0000\u0000\u0000\u0347"+
+		"\u0348\u0007\u0005\u0000\u0000\u0348\u0349\u0007\u0004\u0000\u0000\u0349"+
+		"\u034a\u0007\u0003\u0000\u0000\u034a\u034b\u0007\u0010\u0000\u0000\u034b"+
+		"\u034c\u0007\u0000\u0000\u0000\u034c\u034d\u0007\u0006\u0000\u0000\u034d"+
+		"\u034e\u0007\u0010\u0000\u0000\u034e\u034f\u0007\u0011\u0000\u0000\u034f"+
+		"\u0350\u0007\u0004\u0000\u0000\u0350\u0351\u0007\u0001\u0000\u0000\u0351"+
+		"\u00a8\u0001\u0000\u0000\u0000\u0352\u0353\u0007\u0013\u0000\u0000\u0353"+
+		"\u0354\u0007\u0007\u0000\u0000\u0354\u0355\u0007\u0001\u0000\u0000\u0355"+
+		"\u0356\u0007\u0010\u0000\u0000\u0356\u0357\u0007\u0014\u0000\u0000\u0357"+
+		"\u0358\u0007\n\u0000\u0000\u0358\u00aa\u0001\u0000\u0000\u0000\u0359\u035a"+
+		"\u0007\t\u0000\u0000\u035a\u035b\u0007\u0000\u0000\u0000\u035b\u035c\u0007"+
+		"\t\u0000\u0000\u035c\u00ac\u0001\u0000\u0000\u0000\u035d\u035e\u0007\t"+
+		"\u0000\u0000\u035e\u035f\u0007\u0007\u0000\u0000\u035f\u0360\u0007\u0003"+
+		"\u0000\u0000\u0360\u0361\u0007\u0004\u0000\u0000\u0361\u0362\u0007\r\u0000"+
+		"\u0000\u0362\u0363\u0007\u000e\u0000\u0000\u0363\u0364\u0007\u0003\u0000"+
+		"\u0000\u0364\u0365\u0007\f\u0000\u0000\u0365\u0366\u0007\u0010\u0000\u0000"+
+		"\u0366\u0367\u0007\u0019\u0000\u0000\u0367\u0368\u0007\u0004\u0000\u0000"+
+		"\u0368\u00ae\u0001\u0000\u0000\u0000\u0369\u036a\u0007\t\u0000\u0000\u036a"+
+		"\u036b\u0007\u0007\u0000\u0000\u036b\u036c\u0007\f\u0000\u0000\u036c\u036d"+
+		"\u0007\u000e\u0000\u0000\u036d\u036e\u0007\u000b\u0000\u0000\u036e\u036f"+
+		"\u0007\u0004\u0000\u0000\u036f\u0370\u0007\u0003\u0000\u0000\u0370\u0371"+
+		"\u0007\u000e\u0000\u0000\u0371\u0372\u0007\f\u0000\u0000\u0372\u0373\u0007"+
+		"\u0004\u0000\u0000\u0373\u0374\u0007\u0003\u0000\u0000\u0374\u00b0\u0001"+
+		"\u0000\u0000\u0000\u0375\u0376\u0007\t\u0000\u0000\u0376\u0377\u0007\u0007"+
+		"\u0000\u0000\u0377\u0378\u0007\u0005\u0000\u0000\u0378\u00b2\u0001\u0000"+
+		"\u0000\u0000\u0379\u037a\u0007\t\u0000\u0000\u037a\u037b\u0007\u000e\u0000"+
+		"\u0000\u037b\u037c\u0007\u0006\u0000\u0000\u037c\u037d\u0007\u0006\u0000"+
+		"\u0000\u037d\u00b4\u0001\u0000\u0000\u0000\u037e\u037f\u0007\u0007\u0000"+
+		"\u0000\u037f\u0380\u0007\u0014\u0000\u0000\u0380\u00b6\u0001\u0000\u0000"+
+		"\u0000\u0381\u0382\u0007\u0007\u0000\u0000\u0382\u0383\u0007\t\u0000\u0000"+
+		"\u0383\u00b8\u0001\u0000\u0000\u0000\u0384\u0385\u0007\u0007\u0000\u0000"+
+		"\u0385\u0386\u0007\t\u0000\u0000\u0386\u0387\u0007\u0004\u0000\u0000\u0387"+
+		"\u00ba\u0001\u0000\u0000\u0000\u0388\u0389\u0007\u0007\u0000\u0000\u0389"+
+		"\u038a\u0007\u000b\u0000\u0000\u038a\u038b\u0007\u0005\u0000\u0000\u038b"+
+		"\u038c\u0007\u0010\u0000\u0000\u038c\u038d\u0007\u0007\u0000\u0000\u038d"+
+		"\u038e\u0007\t\u0000\u0000\u038e\u038f\u0007\f\u0000\u0000\u038f\u00bc"+
+		"\u0001\u0000\u0000\u0000\u0390\u0391\u0007\u0007\u0000\u0000\u0391\u0392"+
+		"\u0007\u0003\u0000\u0000\u0392\u00be\u0001\u0000\u0000\u0000\u0393\u0394"+
+		"\u0007\u0007\u0000\u0000\u0394\u0395\u0007\u0003\u0000\u0000\u0395\u0396"+
+		"\u0007\u0001\u0000\u0000\u0396\u0397\u0007\u0004\u0000\u0000\u0397\u0398"+
+		"\u0007\u0003\u0000\u0000\u0398\u00c0\u0001\u0000\u0000\u0000\u0399\u039a"+
+		"\u0007\u000b\u0000\u0000\u039a\u039b\u0007\u0000\u0000\u0000\u039b\u039c"+
+		"\u0007\u0003\u0000\u0000\u039c\u039d\u0007\u0005\u0000\u0000\u039d\u039e"+
+		"\u0007\u0010\u0000\u0000\u039e\u039f\u0007\u0005\u0000\u0000\u039f\u03a0"+
+		"\u0007\u0010\u0000\u0000\u03a0\u03a1\u0007\u0007\u0000\u0000\u03a1\u03a2"+
+		"\u0007\t\u0000\u0000\u03a2\u00c2\u0001\u0000\u0000\u0000\u03a3\u03a4\u0007"+
+		"\u000b\u0000\u0000\u03a4\u03a5\u0007\u0000\u0000\u0000\u03a5\u03a6\u0007"+
+		"\f\u0000\u0000\u03a6\u03a7\u0007\f\u0000\u0000\u03a7\u03a8\u0007\b\u0000"+
+		"\u0000\u03a8\u03a9\u0007\u0007\u0000\u0000\u03a9\u03aa\u0007\u0003\u0000"+
+		"\u0000\u03aa\u03ab\u0007\u0001\u0000\u0000\u03ab\u00c4\u0001\u0000\u0000"+
+		"\u0000\u03ac\u03ad\u0007\u000b\u0000\u0000\u03ad\u03ae\u0007\u0004\u0000"+
+		"\u0000\u03ae\u03af\u0007\u0003\u0000\u0000\u03af\u00c6\u0001\u0000\u0000"+
+		"\u0000\u03b0\u03b1\u0007\u000b\u0000\u0000\u03b1\u03b2\u0007\u0004\u0000"+
+		"\u0000\u03b2\u03b3\u0007\u0003\u0000\u0000\u03b3\u03b4\u0007\u0013\u0000"+
+		"\u0000\u03b4\u03b5\u0007\u0010\u0000\u0000\u03b5\u03b6\u0007\f\u0000\u0000"+
+		"\u03b6\u03b7\u0007\f\u0000\u0000\u03b7\u03b8\u0007\u0010\u0000\u0000\u03b8"+
+		"\u03b9\u0007\u0007\u0000\u0000\u03b9\u03ba\u0007\t\u0000\u0000\u03ba\u00c8"+
+		"\u0001\u0000\u0000\u0000\u03bb\u03bc\u0007\u000b\u0000\u0000\u03bc\u03bd"+
+		"\u0007\u0004\u0000\u0000\u03bd\u03be\u0007\u0003\u0000\u0000\u03be\u03bf"+
+		"\u0007\u0013\u0000\u0000\u03bf\u03c0\u0007\u0010\u0000\u0000\u03c0\u03c1"+
+		"\u0007\f\u0000\u0000\u03c1\u03c2\u0007\f\u0000\u0000\u03c2\u03c3\u0007"+
+		"\u0010\u0000\u0000\u03c3\u03c4\u0007\u0007\u0000\u0000\u03c4\u03c5\u0007"+
+		"\t\u0000\u0000\u03c5\u03c6\u0007\f\u0000\u0000\u03c6\u00ca\u0001\u0000"+
+		"\u0000\u0000\u03c7\u03c8\u0007\u000b\u0000\u0000\u03c8\u03c9\u0007\u0003"+
+		"\u0000\u0000\u03c9\u03ca\u0007\u0010\u0000\u0000\u03ca\u03cb\u0007\u0013"+
+		"\u0000\u0000\u03cb\u03cc\u0007\u0000\u0000\u0000\u03cc\u03cd\u0007\u0003"+
+		"\u0000\u0000\u03cd\u03ce\u0007\n\u0000\u0000\u03ce\u00cc\u0001\u0000\u0000"+
+		"\u0000\u03cf\u03d0\u0007\u0015\u0000\u0000\u03d0\u03d1\u0007\u000e\u0000"+
+		"\u0000\u03d1\u03d2\u0007\u0007\u0000\u0000\u03d2\u03d3\u0007\u0003\u0000"+
+		"\u0000\u03d3\u03d4\u0007\u000e\u0000\u0000\u03d4\u03d5\u0007\u0013\u0000"+
+		"\u0000\u03d5\u00ce\u0001\u0000\u0000\u0000\u03d6\u03d7\u0007\u0003\u0000"+
+		"\u0000\u03d7\u03d8\u0007\u0004\u0000\u0000\u03d8\u03d9\u0007\t\u0000\u0000"+
+		"\u03d9\u03da\u0007\u0000\u0000\u0000\u03da\u03db\u0007\u0013\u0000\u0000"+
+		"\u03db\u03dc\u0007\u0004\u0000\u0000\u03dc\u00d0\u0001\u0000\u0000\u0000"+
+		"\u03dd\u03de\u0007\u0003\u0000\u0000\u03de\u03df\u0007\u0004\u0000\u0000"+
+		"\u03df\u03e0\u0007\u000b\u0000\u0000\u03e0\u03e1\u0007\u0006\u0000\u0000"+
+		"\u03e1\u03e2\u0007\u0000\u0000\u0000\u03e2\u03e3\u0007\r\u0000\u0000\u03e3"+
+		"\u03e4\u0007\u0004\u0000\u0000\u03e4\u00d2\u0001\u0000\u0000\u0000\u03e5"+
+		"\u03e6\u0007\u0003\u0000\u0000\u03e6\u03e7\u0007\u0004\u0000\u0000\u03e7"+
+		"\u03e8\u0007\u000b\u0000\u0000\u03e8\u03e9\u0007\u0006\u0000\u0000\u03e9"+
+		"\u03ea\u0007\u0010\u0000\u0000\u03ea\u03eb\u0007\r\u0000\u0000\u03eb\u03ec"+
+		"\u0007\u0000\u0000\u0000\u03ec\u03ed\u0007\u0005\u0000\u0000\u03ed\u03ee"+
+		"\u0007\u0010\u0000\u0000\u03ee\u03ef\u0007\u0007\u0000\u0000\u03ef\u03f0"+
+		"\u0007\t\u0000\u0000\u03f0\u00d4\u0001\u0000\u0000\u0000\u03f1\u03f2\u0007"+
+		"\u0003\u0000\u0000\u03f2\u03f3\u0007\u0004\u0000\u0000\u03f3\u03f4\u0007"+
+		"\u0005\u0000\u0000\u03f4\u03f5\u0007\u000e\u0000\u0000\u03f5\u03f6\u0007"+
+		"\u0003\u0000\u0000\u03f6\u03f7\u0007\t\u0000\u0000\u03f7\u03f8\u0007\f"+
+		"\u0000\u0000\u03f8\u00d6\u0001\u0000\u0000\u0000\u03f9\u03fa\u0007\u0003"+
+		"\u0000\u0000\u03fa\u03fb\u0007\u0004\u0000\u0000\u03fb\u03fc\u0007\u0019"+
+		"\u0000\u0000\u03fc\u03fd\u0007\u0007\u0000\u0000\u03fd\u03fe\u0007\u0018"+
+		"\u0000\u0000\u03fe\u03ff\u0007\u0004\u0000\u0000\u03ff\u00d8\u0001\u0000"+
+		"\u0000\u0000\u0400\u0401\u0007\u0003\u0000\u0000\u0401\u0402\u0007\u0007"+
+		"\u0000\u0000\u0402\u0403\u0007\u0006\u0000\u0000\u0403\u0404\u0007\u0004"+
+		"\u0000\u0000\u0404\u00da\u0001\u0000\u0000\u0000\u0405\u0406\u0007\u0003"+
+		"\u0000\u0000\u0406\u0407\u0007\u0007\u0000\u0000\u0407\u0408\u0007\u0006"+
+		"\u0000\u0000\u0408\u0409\u0007\u0004\u0000\u0000\u0409\u040a\u0007\f\u0000"+
+		"\u0000\u040a\u00dc\u0001\u0000\u0000\u0000\u040b\u040c\u0007\f\u0000\u0000"+
+		"\u040c\u040d\u0007\r\u0000\u0000\u040d\u040e\u0007\u000f\u0000\u0000\u040e"+
+		"\u040f\u0007\u0004\u0000\u0000\u040f\u0410\u0007\u0013\u0000\u0000\u0410"+
+		"\u0411\u0007\u0000\u0000\u0000\u0411\u00de\u0001\u0000\u0000\u0000\u0412"+
+		"\u0413\u0007\f\u0000\u0000\u0413\u0414\u0007\u0004\u0000\u0000\u0414\u0415"+
+		"\u0007\u0006\u0000\u0000\u0415\u0416\u0007\u0004\u0000\u0000\u0416\u0417"+
+		"\u0007\r\u0000\u0000\u0417\u0418\u0007\u0005\u0000\u0000\u0418\u00e0\u0001"+
+		"\u0000\u0000\u0000\u0419\u041a\u0007\f\u0000\u0000\u041a\u041b\u0007\u0004"+
+		"\u0000\u0000\u041b\u041c\u0007\u0005\u0000\u0000\u041c\u00e2\u0001\u0000"+
+		"\u0000\u0000\u041d\u041e\u0007\f\u0000\u0000\u041e\u041f\u0007\u0014\u0000"+
+		"\u0000\u041f\u0420\u0007\u000e\u0000\u0000\u0420\u0421\u0007\t\u0000\u0000"+
+		"\u0421\u0422\u0007\r\u0000\u0000\u0422\u00e4\u0001\u0000\u0000\u0000\u0423"+
+		"\u0424\u0007\f\u0000\u0000\u0424\u0425\u0007\u0005\u0000\u0000\u0425\u0426"+
+		"\u0007\u0000\u0000\u0000\u0426\u0427\u0007\u0005\u0000\u0000\u0427\u0428"+
+		"\u0007\u0010\u0000\u0000\u0428\u0429\u0007\r\u0000\u0000\u0429\u00e6\u0001"+
+		"\u0000\u0000\u0000\u042a\u042b\u0007\f\u0000\u0000\u042b\u042c\u0007\u0005"+
+		"\u0000\u0000\u042c\u042d\u0007\u0007\u0000\u0000\u042d\u042e\u0007\u0003"+
+		"\u0000\u0000\u042e\u042f\u0007\u0000\u0000\u0000\u042f\u0430\u0007\u0002"+
+		"\u0000\u0000\u0430\u0431\u0007\u0004\u0000\u0000\u0431\u00e8\u0001\u0000"+
+		"\u0000\u0000\u0432\u0433\u0007\f\u0000\u0000\u0433\u0434\u0007\u0005\u0000"+
+		"\u0000\u0434\u0435\u0007\n\u0000\u0000\u0435\u0436\u0007\u000b\u0000\u0000"+
+		"\u0436\u0437\u0007\u0004\u0000\u0000\u0437\u00ea\u0001\u0000\u0000\u0000"+
+		"\u0438\u0439\u0007\f\u0000\u0000\u0439\u043a\u0007\u000e\u0000\u0000\u043a"+
+		"\u043b\u0007\u000b\u0000\u0000\u043b\u043c\u0007\u0004\u0000\u0000\u043c"+
+		"\u043d\u0007\u0003\u0000\u0000\u043d\u043e\u0007\u000e\u0000\u0000\u043e"+
+		"\u043f\u0007\f\u0000\u0000\u043f\u0440\u0007\u0004\u0000\u0000\u0440\u0441"+
+		"\u0007\u0003\u0000\u0000\u0441\u00ec\u0001\u0000\u0000\u0000\u0442\u0443"+
+		"\u0007\u0005\u0000\u0000\u0443\u0444\u0007\u0000\u0000\u0000\u0444\u0445"+
+		"\u0007\u0012\u0000\u0000\u0445\u0446\u0007\u0006\u0000\u0000\u0446\u0447"+
+		"\u0007\u0004\u0000\u0000\u0447\u00ee\u0001\u0000\u0000\u0000\u0448\u0449"+
+		"\u0007\u0005\u0000\u0000\u0449\u044a\u0007\u000f\u0000\u0000\u044a\u044b"+
+		"\u0007\u0003\u0000\u0000\u044b\u044c\u0007\u0004\u0000\u0000\u044c\u044d"+
+		"\u0007\u0004\u0000\u0000\u044d\u00f0\u0001\u0000\u0000\u0000\u044e\u044f"+
+		"\u0007\u0005\u0000\u0000\u044f\u0450\u0007\u0010\u0000\u0000\u0450\u0451"+
+		"\u0007\u0013\u0000\u0000\u0451\u0452\u0007\u0004\u0000\u0000\u0452\u0453"+
+		"\u0007\f\u0000\u0000\u0453\u0454\u0007\u0005\u0000\u0000\u0454\u0455\u0007"+
+		"\u0000\u0000\u0000\u0455\u0456\u0007\u0013\u0000\u0000\u0456\u0457\u0007"+
+		"\u000b\u0000\u0000\u0457\u00f2\u0001\u0000\u0000\u0000\u0458\u0459\u0007"+
+		"\u0005\u0000\u0000\u0459\u045a\u0007\u0007\u0000\u0000\u045a\u00f4\u0001"+
+		"\u0000\u0000\u0000\u045b\u045c\u0007\u0005\u0000\u0000\u045c\u045d\u0007"+
+		"\u0007\u0000\u0000\u045d\u045e\u0007\u0018\u0000\u0000\u045e\u045f\u0007"+
+		"\u0004\u0000\u0000\u045f\u0460\u0007\t\u0000\u0000\u0460\u00f6\u0001\u0000"+
+		"\u0000\u0000\u0461\u0462\u0007\u0005\u0000\u0000\u0462\u0463\u0007\u0003"+
+		"\u0000\u0000\u0463\u0464\u0007\u0010\u0000\u0000\u0464\u0465\u0007\u0002"+
+		"\u0000\u0000\u0465\u0466\u0007\u0002\u0000\u0000\u0466\u0467\u0007\u0004"+
+		"\u0000\u0000\u0467\u0468\u0007\u0003\u0000\u0000\u0468\u00f8\u0001\u0000"+
+		"\u0000\u0000\u0469\u046a\u0007\u0005\u0000\u0000\u046a\u046b\u0007\u0003"+
+		"\u0000\u0000\u046b\u046c\u0007\u000e\u0000\u0000\u046c\u046d\u0007\u0004"+
+		"\u0000\u0000\u046d\u00fa\u0001\u0000\u0000\u0000\u046e\u046f\u0007\u0005"+
+		"\u0000\u0000\u046f\u0470\u0007\u0003\u0000\u0000\u0470\u0471\u0007\u000e"+
+		"\u0000\u0000\u0471\u0472\u0007\t\u0000\u0000\u0472\u0473\u0007\r\u0000"+
+		"\u0000\u0473\u0474\u0007\u0000\u0000\u0000\u0474\u0475\u0007\u0005\u0000"+
+		"\u0000\u0475\u0476\u0007\u0004\u0000\u0000\u0476\u00fc\u0001\u0000\u0000"+
+		"\u0000\u0477\u0478\u0007\u0005\u0000\u0000\u0478\u0479\u0007\u0005\u0000"+
+		"\u0000\u0479\u047a\u0007\u0006\u0000\u0000\u047a\u00fe\u0001\u0000\u0000"+
+		"\u0000\u047b\u047c\u0007\u0005\u0000\u0000\u047c\u047d\u0007\b\u0000\u0000"+
+		"\u047d\u047e\u0007\u0007\u0000\u0000\u047e\u0100\u0001\u0000\u0000\u0000"+
+		"\u047f\u0480\u0007\u0005\u0000\u0000\u0480\u0481\u0007\n\u0000\u0000\u0481"+
+		"\u0482\u0007\u000b\u0000\u0000\u0482\u0483\u0007\u0004\u0000\u0000\u0483"+
+		"\u0102\u0001\u0000\u0000\u0000\u0484\u0485\u0007\u000e\u0000\u0000\u0485"+
+		"\u0486\u0007\t\u0000\u0000\u0486\u0487\u0007\u0006\u0000\u0000\u0487\u0488"+
+		"\u0007\u0007\u0000\u0000\u0488\u0489\u0007\u0002\u0000\u0000\u0489\u048a"+
+		"\u0007\u0002\u0000\u0000\u048a\u048b\u0007\u0004\u0000\u0000\u048b\u048c"+
+		"\u0007\u0001\u0000\u0000\u048c\u0104\u0001\u0000\u0000\u0000\u048d\u048e"+
+		"\u0007\u000e\u0000\u0000\u048e\u048f\u0007\u000b\u0000\u0000\u048f\u0490"+
+		"\u0007\u0001\u0000\u0000\u0490\u0491\u0007\u0000\u0000\u0000\u0491\u0492"+
+		"\u0007\u0005\u0000\u0000\u0492\u0493\u0007\u0004\u0000\u0000\u0493\u0106"+
+		"\u0001\u0000\u0000\u0000\u0494\u0495\u0007\u000e\u0000\u0000\u0495\u0496"+
+		"\u0007\f\u0000\u0000\u0496\u0497\u0007\u0004\u0000\u0000\u0497\u0108\u0001"+
+		"\u0000\u0000\u0000\u0498\u0499\u0007\u000e\u0000\u0000\u0499\u049a\u0007"+
+		"\f\u0000\u0000\u049a\u049b\u0007\u0004\u0000\u0000\u049b\u049c\u0007\u0003"+
+		"\u0000\u0000\u049c\u010a\u0001\u0000\u0000\u0000\u049d\u049e\u0007\u000e"+
+		"\u0000\u0000\u049e\u049f\u0007\f\u0000\u0000\u049f\u04a0\u0007\u0010\u0000"+
+		"\u0000\u04a0\u04a1\u0007\t\u0000\u0000\u04a1\u04a2\u0007\u0002\u0000\u0000"+
+		"\u04a2\u010c\u0001\u0000\u0000\u0000\u04a3\u04a4\u0007\u000e\u0000\u0000"+
+		"\u04a4\u04a5\u0007\u000e\u0000\u0000\u04a5\u04a6\u0007\u0010\u0000\u0000"+
+		"\u04a6\u04a7\u0007\u0001\u0000\u0000\u04a7\u010e\u0001\u0000\u0000\u0000"+
+		"\u04a8\u04a9\u0007\u0019\u0000\u0000\u04a9\u04aa\u0007\u0000\u0000\u0000"+
+		"\u04aa\u04ab\u0007\u0006\u0000\u0000\u04ab\u04ac\u0007\u000e\u0000\u0000"+
+		"\u04ac\u04ad\u0007\u0004\u0000\u0000\u04ad\u04ae\u0007\f\u0000\u0000\u04ae"+
+		"\u0110\u0001\u0000\u0000\u0000\u04af\u04b0\u0007\u0019\u0000\u0000\u04b0"+
+		"\u04b1\u0007\u0010\u0000\u0000\u04b1\u04b2\u0007\u0004\u0000\u0000\u04b2"+
+		"\u04b3\u0007\b\u0000\u0000\u04b3\u0112\u0001\u0000\u0000\u0000\u04b4\u04b5"+
+		"\u0007\b\u0000\u0000\u04b5\u04b6\u0007\u000f\u0000\u0000\u04b6\u04b7\u0007"+
+		"\u0004\u0000\u0000\u04b7\u04b8\u0007\u0003\u0000\u0000\u04b8\u04b9\u0007"+
+		"\u0004\u0000\u0000\u04b9\u0114\u0001\u0000\u0000\u0000\u04ba\u04bb\u0007"+
+		"\b\u0000\u0000\u04bb\u04bc\u0007\u0010\u0000\u0000\u04bc\u04bd\u0007\u0005"+
+		"\u0000\u0000\u04bd\u04be\u0007\u000f\u0000\u0000\u04be\u0116\u0001\u0000"+
+		"\u0000\u0000\u04bf\u04c0\u0007\b\u0000\u0000\u04c0\u04c1\u0007\u0003\u0000"+
+		"\u0000\u04c1\u04c2\u0007\u0010\u0000\u0000\u04c2\u04c3\u0007\u0005\u0000"+
+		"\u0000\u04c3\u04c4\u0007\u0004\u0000\u0000\u04c4\u04c5\u0007\u0005\u0000"+
+		"\u0000\u04c5\u04c6\u0007\u0010\u0000\u0000\u04c6\u04c7\u0007\u0013\u0000"+
+		"\u0000\u04c7\u04c8\u0007\u0004\u0000\u0000\u04c8\u0118\u0001\u0000\u0000"+
+		"\u0000\u04c9\u04ca\u0007\u0000\u0000\u0000\u04ca\u04cb\u0007\f\u0000\u0000"+
+		"\u04cb\u04cc\u0007\r\u0000\u0000\u04cc\u04cd\u0007\u0010\u0000\u0000\u04cd"+
+		"\u04ce\u0007\u0010\u0000\u0000\u04ce\u011a\u0001\u0000\u0000\u0000\u04cf"+
+		"\u04d0\u0007\u0012\u0000\u0000\u04d0\u04d1\u0007\u0010\u0000\u0000\u04d1"+
+		"\u04d2\u0007\u0002\u0000\u0000\u04d2\u04d3\u0007\u0010\u0000\u0000\u04d3"+
+		"\u04d4\u0007\t\u0000\u0000\u04d4\u04d5\u0007\u0005\u0000\u0000\u04d5\u011c"+
+		"\u0001\u0000\u0000\u0000\u04d6\u04d7\u0007\u0012\u0000\u0000\u04d7\u04d8"+
+		"\u0007\u0006\u0000\u0000\u04d8\u04d9\u0007\u0007\u0000\u0000\u04d9\u04da"+
+		"\u0007\u0012\u0000\u0000\u04da\u011e\u0001\u0000\u0000\u0000\u04db\u04dc"+
+		"\u0007\u0012\u0000\u0000\u04dc\u04dd\u0007\u0007\u0000\u0000\u04dd\u04de"+
+		"\u0007\u0007\u0000\u0000\u04de\u04df\u0007\u0006\u0000\u0000\u04df\u04e0"+
+		"\u0007\u0004\u0000\u0000\u04e0\u04e1\u0007\u0000\u0000\u0000\u04e1\u04e2"+
+		"\u0007\t\u0000\u0000\u04e2\u0120\u0001\u0000\u0000\u0000\u04e3\u04e4\u0007"+
+		"\r\u0000\u0000\u04e4\u04e5\u0007\u0007\u0000\u0000\u04e5\u04e6\u0007\u000e"+
+		"\u0000\u0000\u04e6\u04e7\u0007\t\u0000\u0000\u04e7\u04e8\u0007\u0005\u0000"+
+		"\u0000\u04e8\u04e9\u0007\u0004\u0000\u0000\u04e9\u04ea\u0007\u0003\u0000"+
+		"\u0000\u04ea\u0122\u0001\u0000\u0000\u0000\u04eb\u04ec\u0007\u0001\u0000"+
+		"\u0000\u04ec\u04ed\u0007\u0000\u0000\u0000\u04ed\u04ee\u0007\u0005\u0000"+
+		"\u0000\u04ee\u04ef\u0007\u0004\u0000\u0000\u04ef\u0124\u0001\u0000\u0000"+
+		"\u0000\u04f0\u04f1\u0007\u0001\u0000\u0000\u04f1\u04f2\u0007\u0004\u0000"+
+		"\u0000\u04f2\u04f3\u0007\r\u0000\u0000\u04f3\u04f4\u0007\u0010\u0000\u0000"+
+		"\u04f4\u04f5\u0007\u0013\u0000\u0000\u04f5\u04f6\u0007\u0000\u0000\u0000"+
+		"\u04f6\u04f7\u0007\u0006\u0000\u0000\u04f7\u0126\u0001\u0000\u0000\u0000"+
+		"\u04f8\u04f9\u0007\u0001\u0000\u0000\u04f9\u04fa\u0007\u0007\u0000\u0000"+
+		"\u04fa\u04fb\u0007\u000e\u0000\u0000\u04fb\u04fc\u0007\u0012\u0000\u0000"+
+		"\u04fc\u04fd\u0007\u0006\u0000\u0000\u04fd\u04fe\u0007\u0004\u0000\u0000"+
+		"\u04fe\u0128\u0001\u0000\u0000\u0000\u04ff\u0500\u0007\u0014\u0000\u0000"+
+		"\u0500\u0501\u0007\u0006\u0000\u0000\u0501\u0502\u0007\u0007\u0000\u0000"+
+		"\u0502\u0503\u0007\u0000\u0000\u0000\u0503\u0504\u0007\u0005\u0000\u0000"+
+		"\u0504\u012a\u0001\u0000\u0000\u0000\u0505\u0506\u0007\u0014\u0000\u0000"+
+		"\u0506\u0507\u0007\u0003\u0000\u0000\u0507\u0508\u0007\u0007\u0000\u0000"+
+		"\u0508\u0509\u0007\u0011\u0000\u0000\u0509\u050a\u0007\u0004\u0000\u0000"+
+		"\u050a\u050b\u0007\t\u0000\u0000\u050b\u012c\u0001\u0000\u0000\u0000\u050c"+
+		"\u050d\u0007\u0010\u0000\u0000\u050d\u050e\u0007\t\u0000\u0000\u050e\u050f"+
+		"\u0007\u0004\u0000\u0000\u050f\u0510\u0007\u0005\u0000\u0000\u0510\u012e"+
+		"\u0001\u0000\u0000\u0000\u0511\u0512\u0007\u0010\u0000\u0000\u0512\u0513"+
+		"\u0007\t\u0000\u0000\u0513\u0514\u0007\u0005\u0000\u0000\u0514\u0130\u0001"+
+		"\u0000\u0000\u0000\u0515\u0516\u0007\u0006\u0000\u0000\u0516\u0517\u0007"+
+		"\u0010\u0000\u0000\u0517\u0518\u0007\f\u0000\u0000\u0518\u0519\u0007\u0005"+
+		"\u0000\u0000\u0519\u0132\u0001\u0000\u0000\u0000\u051a\u051b\u0007\u0013"+
+		"\u0000\u0000\u051b\u051c\u0007\u0000\u0000\u0000\u051c\u051d\u0007\u000b"+
+		"\u0000\u0000\u051d\u0134\u0001\u0000\u0000\u0000\u051e\u051f\u0007\f\u0000"+
+		"\u0000\u051f\u0520\u0007\u0013\u0000\u0000\u0520\u0521\u0007\u0000\u0000"+
+		"\u0000\u0521\u0522\u0007\u0006\u0000\u0000\u0522\u0523\u0007\u0006\u0000"+
+		"\u0000\u0523\u0524\u0007\u0010\u0000\u0000\u0524\u0525\u0007\t\u0000\u0000"+
+		"\u0525\u0526\u0007\u0005\u0000\u0000\u0526\u0136\u0001\u0000\u0000\u0000"+
+		"\u0527\u0528\u0007\u0005\u0000\u0000\u0528\u0529\u0007\u0004\u0000\u0000"+
+		"\u0529\u052a\u0007\u0016\u0000\u0000\u052a\u052b\u0007\u0005\u0000\u0000"+
+		"\u052b\u0138\u0001\u0000\u0000\u0000\u052c\u052d\u0007\u0005\u0000\u0000"+
+		"\u052d\u052e\u0007\u0010\u0000\u0000\u052e\u052f\u0007\u0013\u0000\u0000"+
+		"\u052f\u0530\u0007\u0004\u0000\u0000\u0530\u0531\u0007\u000e\u0000\u0000"+
+		"\u0531\u0532\u0007\u000e\u0000\u0000\u0532\u0533\u0007\u0010\u0000\u0000"+
+		"\u0533\u0534\u0007\u0001\u0000\u0000\u0534\u013a\u0001\u0000\u0000\u0000"+
+		"\u0535\u0536\u0007\u0005\u0000\u0000\u0536\u0537\u0007\u0010\u0000\u0000"+
+		"\u0537\u0538\u0007\u0013\u0000\u0000\u0538\u0539\u0007\u0004\u0000\u0000"+
+		"\u0539\u013c\u0001\u0000\u0000\u0000\u053a\u053b\u0007\u0005\u0000\u0000"+
+		"\u053b\u053c\u0007\u0010\u0000\u0000\u053c\u053d\u0007\t\u0000\u0000\u053d"+
+		"\u053e\u0007\n\u0000\u0000\u053e\u053f\u0007\u0010\u0000\u0000\u053f\u0540"+
+		"\u0007\t\u0000\u0000\u0540\u0541\u0007\u0005\u0000\u0000\u0541\u013e\u0001"+
+		"\u0000\u0000\u0000\u0542\u0543\u0007\u0005\u0000\u0000\u0543\u0544\u0007"+
+		"\u000e\u0000\u0000\u0544\u0545\u0007\u000b\u0000\u0000\u0545\u0546\u0007"+
+		"\u0006\u0000\u0000\u0546\u0547\u0007\u0004\u0000\u0000\u0547\u0140\u0001"+
+		"\u0000\u0000\u0000\u0548\u0549\u0007\u0019\u0000\u0000\u0549\u054a\u0007"+
+		"\u0000\u0000\u0000\u054a\u054b\u0007\u0003\u0000\u0000\u054b\u054c\u0007"+
+		"\r\u0000\u0000\u054c\u054d\u0007\u000f\u0000\u0000\u054d\u054e\u0007\u0000"+
+		"\u0000\u0000\u054e\u054f\u0007\u0003\u0000\u0000\u054f\u0142\u0001\u0000"+
+		"\u0000\u0000\u0550\u0551\u0007\u0019\u0000\u0000\u0551\u0552\u0007\u0000"+
+		"\u0000\u0000\u0552\u0553\u0007\u0003\u0000\u0000\u0553\u0554\u0007\u0010"+
+		"\u0000\u0000\u0554\u0555\u0007\t\u0000\u0000\u0555\u0556\u0007\u0005\u0000"+
+		"\u0000\u0556\u0144\u0001\u0000\u0000\u0000\u0557\u0558\u0005$\u0000\u0000"+
+		"\u0558\u0559\u0005$\u0000\u0000\u0559\u055f\u0001\u0000\u0000\u0000\u055a"+
+		"\u055e\b\u001a\u0000\u0000\u055b\u055c\u0005$\u0000\u0000\u055c\u055e"+
+		"\b\u001a\u0000\u0000\u055d\u055a\u0001\u0000\u0000\u0000\u055d\u055b\u0001"+
+		"\u0000\u0000\u0000\u055e\u0561\u0001\u0000\u0000\u0000\u055f\u055d\u0001"+
+		"\u0000\u0000\u0000\u055f\u0560\u0001\u0000\u0000\u0000\u0560\u0562\u0001"+
+		"\u0000\u0000\u0000\u0561\u055f\u0001\u0000\u0000\u0000\u0562\u0563\u0005"+
+		"$\u0000\u0000\u0563\u0564\u0005$\u0000\u0000\u0564\u0146\u0001\u0000\u0000"+
+		"\u0000\u0565\u056d\u0005\'\u0000\u0000\u0566\u0567\u0005\\\u0000\u0000"+
+		"\u0567\u056c\t\u0000\u0000\u0000\u0568\u0569\u0005\'\u0000\u0000\u0569"+
+		"\u056c\u0005\'\u0000\u0000\u056a\u056c\b\u001b\u0000\u0000\u056b\u0566"+
+		"\u0001\u0000\u0000\u0000\u056b\u0568\u0001\u0000\u0000\u0000\u056b\u056a"+
+		"\u0001\u0000\u0000\u0000\u056c\u056f\u0001\u0000\u0000\u0000\u056d\u056b"+
+		"\u0001\u0000\u0000\u0000\u056d\u056e\u0001\u0000\u0000\u0000\u056e\u0570"+
+		"\u0001\u0000\u0000\u0000\u056f\u056d\u0001\u0000\u0000\u0000\u0570\u0571"+
+		"\u0005\'\u0000\u0000\u0571\u0148\u0001\u0000\u0000\u0000\u0572\u0574\u0003"+
+		"\u0161\u00b0\u0000\u0573\u0572\u0001\u0000\u0000\u0000\u0574\u0575\u0001"+
+		"\u0000\u0000\u0000\u0575\u0573\u0001\u0000\u0000\u0000\u0575\u0576\u0001"+
+		"\u0000\u0000\u0000\u0576\u014a\u0001\u0000\u0000\u0000\u0577\u0579\u0003"+
+		"\u001f\u000f\u0000\u0578\u0577\u0001\u0000\u0000\u0000\u0578\u0579\u0001"+
+		"\u0000\u0000\u0000\u0579\u057b\u0001\u0000\u0000\u0000\u057a\u057c\u0007"+
+		"\u001c\u0000\u0000\u057b\u057a\u0001\u0000\u0000\u0000\u057c\u057d\u0001"+
+		"\u0000\u0000\u0000\u057d\u057b\u0001\u0000\u0000\u0000\u057d\u057e\u0001"+
+		"\u0000\u0000\u0000\u057e\u0585\u0001\u0000\u0000\u0000\u057f\u0581\u0003"+
+		"\u0013\t\u0000\u0580\u0582\u0007\u001c\u0000\u0000\u0581\u0580\u0001\u0000"+
+		"\u0000\u0000\u0582\u0583\u0001\u0000\u0000\u0000\u0583\u0581\u0001\u0000"+
+		"\u0000\u0000\u0583\u0584\u0001\u0000\u0000\u0000\u0584\u0586\u0001\u0000"+
+		"\u0000\u0000\u0585\u057f\u0001\u0000\u0000\u0000\u0585\u0586\u0001\u0000"+
+		"\u0000\u0000\u0586\u014c\u0001\u0000\u0000\u0000\u0587\u0588\u0007\u0016"+
+		"\u0000\u0000\u0588\u058c\u0005\'\u0000\u0000\u0589\u058a\u0003\u015f\u00af"+
+		"\u0000\u058a\u058b\u0003\u015f\u00af\u0000\u058b\u058d\u0001\u0000\u0000"+
+		"\u0000\u058c\u0589\u0001\u0000\u0000\u0000\u058d\u058e\u0001\u0000\u0000"+
+		"\u0000\u058e\u058c\u0001\u0000\u0000\u0000\u058e\u058f\u0001\u0000\u0000"+
+		"\u0000\u058f\u0590\u0001\u0000\u0000\u0000\u0590\u0591\u0005\'\u0000\u0000"+
+		"\u0591\u059b\u0001\u0000\u0000\u0000\u0592\u0593\u00050\u0000\u0000\u0593"+
+		"\u0594\u0007\u0016\u0000\u0000\u0594\u0596\u0001\u0000\u0000\u0000\u0595"+
+		"\u0597\u0003\u015f\u00af\u0000\u0596\u0595\u0001\u0000\u0000\u0000\u0597"+
+		"\u0598\u0001\u0000\u0000\u0000\u0598\u0596\u0001\u0000\u0000\u0000\u0598"+
+		"\u0599\u0001\u0000\u0000\u0000\u0599\u059b\u0001\u0000\u0000\u0000\u059a"+
+		"\u0587\u0001\u0000\u0000\u0000\u059a\u0592\u0001\u0000\u0000\u0000\u059b"+
+		"\u014e\u0001\u0000\u0000\u0000\u059c\u059e\u0003\u0161\u00b0\u0000\u059d"+
+		"\u059c\u0001\u0000\u0000\u0000\u059e\u059f\u0001\u0000\u0000\u0000\u059f"+
+		"\u059d\u0001\u0000\u0000\u0000\u059f\u05a0\u0001\u0000\u0000\u0000\u05a0"+
+		"\u05a2\u0001\u0000\u0000\u0000\u05a1\u05a3\u0005.\u0000\u0000\u05a2\u05a1"+
+		"\u0001\u0000\u0000\u0000\u05a2\u05a3\u0001\u0000\u0000\u0000\u05a3\u05a4"+
+		"\u0001\u0000\u0000\u0000\u05a4\u05a5\u0003\u0163\u00b1\u0000\u05a5\u05b6"+
+		"\u0001\u0000\u0000\u0000\u05a6\u05a8\u0003\u0161\u00b0\u0000\u05a7\u05a6"+
+		"\u0001\u0000\u0000\u0000\u05a8\u05ab\u0001\u0000\u0000\u0000\u05a9\u05a7"+
+		"\u0001\u0000\u0000\u0000\u05a9\u05aa\u0001\u0000\u0000\u0000\u05aa\u05ac"+
+		"\u0001\u0000\u0000\u0000\u05ab\u05a9\u0001\u0000\u0000\u0000\u05ac\u05ae"+
+		"\u0005.\u0000\u0000\u05ad\u05af\u0003\u0161\u00b0\u0000\u05ae\u05ad\u0001"+
+		"\u0000\u0000\u0000\u05af\u05b0\u0001\u0000\u0000\u0000\u05b0\u05ae\u0001"+
+		"\u0000\u0000\u0000\u05b0\u05b1\u0001\u0000\u0000\u0000\u05b1\u05b3\u0001"+
+		"\u0000\u0000\u0000\u05b2\u05b4\u0003\u0163\u00b1\u0000\u05b3\u05b2\u0001"+
+		"\u0000\u0000\u0000\u05b3\u05b4\u0001\u0000\u0000\u0000\u05b4\u05b6\u0001"+
+		"\u0000\u0000\u0000\u05b5\u059d\u0001\u0000\u0000\u0000\u05b5\u05a9\u0001"+
+		"\u0000\u0000\u0000\u05b6\u0150\u0001\u0000\u0000\u0000\u05b7\u05bb\u0007"+
+		"\u001d\u0000\u0000\u05b8\u05ba\u0007\u001e\u0000\u0000\u05b9\u05b8\u0001"+
+		"\u0000\u0000\u0000\u05ba\u05bd\u0001\u0000\u0000\u0000\u05bb\u05b9\u0001"+
+		"\u0000\u0000\u0000\u05bb\u05bc\u0001\u0000\u0000\u0000\u05bc\u05c6\u0001"+
+		"\u0000\u0000\u0000\u05bd\u05bb\u0001\u0000\u0000\u0000\u05be\u05c0\u0005"+
+		"\"\u0000\u0000\u05bf\u05c1\b\u001f\u0000\u0000\u05c0\u05bf\u0001\u0000"+
+		"\u0000\u0000\u05c1\u05c2\u0001\u0000\u0000\u0000\u05c2\u05c0\u0001\u0000"+
+		"\u0000\u0000\u05c2\u05c3\u0001\u0000\u0000\u0000\u05c3\u05c4\u0001\u0000"+
+		"\u0000\u0000\u05c4\u05c6\u0005\"\u0000\u0000\u05c5\u05b7\u0001\u0000\u0000"+
+		"\u0000\u05c5\u05be\u0001\u0000\u0000\u0000\u05c6\u0152\u0001\u0000\u0000"+
+		"\u0000\u05c7\u05c8\u0003\u015d\u00ae\u0000\u05c8\u05c9\u0003\u015d\u00ae"+
+		"\u0000\u05c9\u05ca\u0005-\u0000\u0000\u05ca\u05cb\u0003\u015d\u00ae\u0000"+
+		"\u05cb\u05cc\u0005-\u0000\u0000\u05cc\u05cd\u0003\u015d\u00ae\u0000\u05cd"+
+		"\u05ce\u0005-\u0000\u0000\u05ce\u05cf\u0003\u015d\u00ae\u0000\u05cf\u05d0"+
+		"\u0005-\u0000\u0000\u05d0\u05d1\u0003\u015d\u00ae\u0000\u05d1\u05d2\u0003"+
+		"\u015d\u00ae\u0000\u05d2\u05d3\u0003\u015d\u00ae\u0000\u05d3\u0154\u0001"+
+		"\u0000\u0000\u0000\u05d4\u05d6\u0007 \u0000\u0000\u05d5\u05d4\u0001\u0000"+
+		"\u0000\u0000\u05d6\u05d7\u0001\u0000\u0000\u0000\u05d7\u05d5\u0001\u0000"+
+		"\u0000\u0000\u05d7\u05d8\u0001\u0000\u0000\u0000\u05d8\u05d9\u0001\u0000"+
+		"\u0000\u0000\u05d9\u05da\u0006\u00aa\u0000\u0000\u05da\u0156\u0001\u0000"+
+		"\u0000\u0000\u05db\u05dc\u0005/\u0000\u0000\u05dc\u05dd\u0005*\u0000\u0000"+
+		"\u05dd\u05de\u0005!\u0000\u0000\u05de\u05e0\u0001\u0000\u0000\u0000\u05df"+
+		"\u05e1\t\u0000\u0000\u0000\u05e0\u05df\u0001\u0000\u0000\u0000\u05e1\u05e2"+
+		"\u0001\u0000\u0000\u0000\u05e2\u05e3\u0001\u0000\u0000\u0000\u05e2\u05e0"+
+		"\u0001\u0000\u0000\u0000\u05e3\u05e4\u0001\u0000\u0000\u0000\u05e4\u05e5"+
+		"\u0005*\u0000\u0000\u05e5\u05e6\u0005/\u0000\u0000\u05e6\u05e7\u0001\u0000"+
+		"\u0000\u0000\u05e7\u05e8\u0006\u00ab\u0000\u0000\u05e8\u0158\u0001\u0000"+
+		"\u0000\u0000\u05e9\u05ea\u0005/\u0000\u0000\u05ea\u05eb\u0005*\u0000\u0000"+
+		"\u05eb\u05ef\u0001\u0000\u0000\u0000\u05ec\u05ee\t\u0000\u0000\u0000\u05ed"+
+		"\u05ec\u0001\u0000\u0000\u0000\u05ee\u05f1\u0001\u0000\u0000\u0000\u05ef"+
+		"\u05f0\u0001\u0000\u0000\u0000\u05ef\u05ed\u0001\u0000\u0000\u0000\u05f0"+
+		"\u05f2\u0001\u0000\u0000\u0000\u05f1\u05ef\u0001\u0000\u0000\u0000\u05f2"+
+		"\u05f3\u0005*\u0000\u0000\u05f3\u05f4\u0005/\u0000\u0000\u05f4\u05f5\u0001"+
+		"\u0000\u0000\u0000\u05f5\u05f6\u0006\u00ac\u0000\u0000\u05f6\u015a\u0001"+
+		"\u0000\u0000\u0000\u05f7\u05f8\u0005-\u0000\u0000\u05f8\u05f9\u0005-\u0000"+
+		"\u0000\u05f9\u05fe\u0005 \u0000\u0000\u05fa\u05fe\u0005#\u0000\u0000\u05fb"+
+		"\u05fc\u0005/\u0000\u0000\u05fc\u05fe\u0005/\u0000\u0000\u05fd\u05f7\u0001"+
+		"\u0000\u0000\u0000\u05fd\u05fa\u0001\u0000\u0000\u0000\u05fd\u05fb\u0001"+
+		"\u0000\u0000\u0000\u05fe\u0602\u0001\u0000\u0000\u0000\u05ff\u0601\b!"+
+		"\u0000\u0000\u0600\u05ff\u0001\u0000\u0000\u0000\u0601\u0604\u0001\u0000"+
+		"\u0000\u0000\u0602\u0600\u0001\u0000\u0000\u0000\u0602\u0603\u0001\u0000"+
+		"\u0000\u0000\u0603\u060a\u0001\u0000\u0000\u0000\u0604\u0602\u0001\u0000"+
+		"\u0000\u0000\u0605\u0607\u0005\r\u0000\u0000\u0606\u0605\u0001\u0000\u0000"+
+		"\u0000\u0606\u0607\u0001\u0000\u0000\u0000\u0607\u0608\u0001\u0000\u0000"+
+		"\u0000\u0608\u060b\u0005\n\u0000\u0000\u0609\u060b\u0005\u0000\u0000\u0001"+
+		"\u060a\u0606\u0001\u0000\u0000\u0000\u060a\u0609\u0001\u0000\u0000\u0000"+
+		"\u060b\u0617\u0001\u0000\u0000\u0000\u060c\u060d\u0005-\u0000\u0000\u060d"+
+		"\u060e\u0005-\u0000\u0000\u060e\u0614\u0001\u0000\u0000\u0000\u060f\u0611"+
+		"\u0005\r\u0000\u0000\u0610\u060f\u0001\u0000\u0000\u0000\u0610\u0611\u0001"+
+		"\u0000\u0000\u0000\u0611\u0612\u0001\u0000\u0000\u0000\u0612\u0615\u0005"+
+		"\n\u0000\u0000\u0613\u0615\u0005\u0000\u0000\u0001\u0614\u0610\u0001\u0000"+
+		"\u0000\u0000\u0614\u0613\u0001\u0000\u0000\u0000\u0615\u0617\u0001\u0000"+
+		"\u0000\u0000\u0616\u05fd\u0001\u0000\u0000\u0000\u0616\u060c\u0001\u0000"+
+		"\u0000\u0000\u0617\u0618\u0001\u0000\u0000\u0000\u0618\u0619\u0006\u00ad"+
+		"\u0000\u0000\u0619\u015c\u0001\u0000\u0000\u0000\u061a\u061b\u0007\"\u0000"+
+		"\u0000\u061b\u061c\u0007\"\u0000\u0000\u061c\u061d\u0007\"\u0000\u0000"+
+		"\u061d\u061e\u0007\"\u0000\u0000\u061e\u015e\u0001\u0000\u0000\u0000\u061f"+
+		"\u0620\u0007\"\u0000\u0000\u0620\u0160\u0001\u0000\u0000\u0000\u0621\u0622"+
+		"\u0007\u001c\u0000\u0000\u0622\u0162\u0001\u0000\u0000\u0000\u0623\u0625"+
+		"\u0007\u0004\u0000\u0000\u0624\u0626\u0007#\u0000\u0000\u0625\u0624\u0001"+
+		"\u0000\u0000\u0000\u0625\u0626\u0001\u0000\u0000\u0000\u0626\u0628\u0001"+
+		"\u0000\u0000\u0000\u0627\u0629\u0003\u0161\u00b0\u0000\u0628\u0627\u0001"+
+		"\u0000\u0000\u0000\u0629\u062a\u0001\u0000\u0000\u0000\u062a\u0628\u0001"+
+		"\u0000\u0000\u0000\u062a\u062b\u0001\u0000\u0000\u0000\u062b\u0164\u0001"+
+		"\u0000\u0000\u0000\"\u0000\u055d\u055f\u056b\u056d\u0575\u0578\u057d\u0583"+
+		"\u0585\u058e\u0598\u059a\u059f\u05a2\u05a9\u05b0\u05b3\u05b5\u05bb\u05c2"+
+		"\u05c5\u05d7\u05e2\u05ef\u05fd\u0602\u0606\u060a\u0610\u0614\u0616\u0625"+
+		"\u062a\u0001\u0000\u0001\u0000";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
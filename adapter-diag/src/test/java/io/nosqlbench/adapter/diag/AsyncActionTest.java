@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.diag;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncActionTest {
+
+    private static StandardActivity<AsyncTestOp, Object> activity(String params) {
+        return new StandardActivity<>(new TestComponent("test", "async"),
+            ActivityDef.parseActivityDef("driver=asynctest;alias=asyncops;workload=activities/async_ops.yaml;" + params));
+    }
+
+    private static void run(StandardAction<?, ?> action, int cycles) {
+        for (long cycle = 0; cycle < cycles; cycle++) {
+            action.runCycle(cycle);
+        }
+        assertThat(action.awaitCompletion(10_000L)).isTrue();
+    }
+
+    private static List<String> starts() {
+        return AsyncTestOp.events.stream().filter(e -> e.startsWith("start ")).toList();
+    }
+
+    /**
+     * @return the events of one cycle, without the thread names
+     */
+    private static List<String> events(long cycle) {
+        return AsyncTestOp.events.stream()
+            .map(e -> e.split(" "))
+            .filter(e -> e[1].startsWith(cycle + ":"))
+            .map(e -> e[0] + " " + e[1])
+            .toList();
+    }
+
+    @BeforeEach
+    public void reset() {
+        AsyncTestOp.reset();
+    }
+
+    @Test
+    public void testWindowIsTheExactShareOfEachSlot() {
+        StandardActivity<AsyncTestOp, Object> activity = activity("async=3;threads=2;delay=5");
+        run(new StandardAction<>(activity, 0), 40);
+        assertThat(AsyncTestOp.maxInFlight.get()).isEqualTo(2);
+
+        AsyncTestOp.reset();
+        run(new StandardAction<>(activity, 1), 20);
+        assertThat(AsyncTestOp.maxInFlight.get()).isEqualTo(1);
+        assertThat(activity.getInstrumentation().getOrCreateCyclesServiceTimer().getCount()).isEqualTo(60L);
+        activity.close();
+    }
+
+    @Test
+    public void testAsyncBelowThreadsIsRejected() {
+        StandardActivity<AsyncTestOp, Object> activity = activity("async=3;threads=4");
+        assertThatThrownBy(() -> new StandardAction<>(activity, 3))
+            .isInstanceOf(BasicError.class)
+            .hasMessageContaining("less than threads=4");
+        activity.close();
+    }
+
+    @Test
+    public void testRetriesStartFromTheMotorThread() {
+        StandardActivity<AsyncTestOp, Object> activity = activity("async=4;threads=1;fail=2;errors=retry,warn");
+        String motor = Thread.currentThread().getName();
+        run(new StandardAction<>(activity, 0), 10);
+
+        assertThat(AsyncTestOp.tries).hasSize(10);
+        assertThat(AsyncTestOp.tries.values()).allMatch(tried -> tried.get() == 3);
+        assertThat(starts()).hasSize(30).allMatch(start -> start.endsWith(" " + motor));
+        assertThat(AsyncTestOp.events).filteredOn(e -> e.startsWith("done ")).hasSize(10);
+        assertThat(activity.getInstrumentation().getOrCreateTriesHistogram().getSnapshot().getMax()).isEqualTo(3L);
+        activity.close();
+    }
+
+    @Test
+    public void testFollowUpsRunInOrderOnTheMotorThread() {
+        StandardActivity<AsyncTestOp, Object> activity = activity("async=2;threads=1;chain=2");
+        String motor = Thread.currentThread().getName();
+        run(new StandardAction<>(activity, 0), 10);
+
+        assertThat(starts()).hasSize(30).allMatch(start -> start.endsWith(" " + motor));
+        for (long cycle = 0; cycle < 10; cycle++) {
+            assertThat(events(cycle)).containsExactly(
+                "start " + cycle + ":0", "done " + cycle + ":0",
+                "start " + cycle + ":1", "done " + cycle + ":1",
+                "start " + cycle + ":2", "done " + cycle + ":2"
+            );
+        }
+        assertThat(AsyncTestOp.maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(activity.getInstrumentation().getOrCreateCyclesServiceTimer().getCount()).isEqualTo(10L);
+        activity.close();
+    }
+
+    @Test
+    public void testAsyncChainsContinueInOrderAndReleaseTheirSlots() {
+        StandardActivity<AsyncTestOp, Object> activity = activity("async=2;threads=1;chain=2;delay=5;opchains=async");
+        String motor = Thread.currentThread().getName();
+        StandardAction<?, ?> action = new StandardAction<>(activity, 0);
+        run(action, 10);
+
+        for (long cycle = 0; cycle < 10; cycle++) {
+            assertThat(events(cycle)).containsExactly(
+                "start " + cycle + ":0", "done " + cycle + ":0",
+                "start " + cycle + ":1", "done " + cycle + ":1",
+                "start " + cycle + ":2", "done " + cycle + ":2"
+            );
+        }
+        // the motor starts every op of each chain, never the driver's completion thread,
+        // and goes on to the next cycle while the chain continues
+        assertThat(starts()).hasSize(30).allMatch(start -> start.endsWith(" " + motor));
+        List<String> events = List.copyOf(AsyncTestOp.events);
+        assertThat(events.indexOf("start 1:0 " + motor)).isLessThan(events.indexOf("done 0:2"));
+        // each chain holds one slot of the window until its last op is done
+        assertThat(AsyncTestOp.maxInFlight.get()).isEqualTo(2);
+        assertThat(activity.getInstrumentation().getOrCreatePendingOpCounter().getCount()).isEqualTo(0L);
+        assertThat(activity.getInstrumentation().getOrCreateCyclesServiceTimer().getCount()).isEqualTo(10L);
+
+        AsyncTestOp.reset();
+        run(action, 4);
+        assertThat(AsyncTestOp.events).filteredOn(e -> e.startsWith("done ")).hasSize(12);
+        activity.close();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.diag;
+
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.OpMapper;
+import io.nosqlbench.adapters.api.activityimpl.uniform.BaseDriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.nb.annotations.Service;
+
+/**
+ * A driver for tests of the async path of the standard action, whose ops are {@link AsyncTestOp}s.
+ * Each op template may set {@code fail}, {@code chain} and {@code delay}, as described there.
+ */
+@Service(value = DriverAdapter.class, selector = "asynctest")
+public class AsyncTestDriverAdapter extends BaseDriverAdapter<AsyncTestOp, Object> {
+
+    public AsyncTestDriverAdapter(NBComponent parentComponent, NBLabels labels) {
+        super(parentComponent, labels);
+    }
+
+    @Override
+    public OpMapper<AsyncTestOp> getOpMapper() {
+        return op -> new Dispenser(this, op);
+    }
+
+    private static class Dispenser extends BaseOpDispenser<AsyncTestOp, Object> {
+        private final int fail;
+        private final int chain;
+        private final long delay;
+
+        private Dispenser(DriverAdapter<AsyncTestOp, Object> adapter, ParsedOp op) {
+            super(adapter, op);
+            this.fail = op.takeStaticConfigOr("fail", 0);
+            this.chain = op.takeStaticConfigOr("chain", 0);
+            this.delay = op.takeStaticConfigOr("delay", 1);
+        }
+
+        @Override
+        public AsyncTestOp apply(long cycle) {
+            return new AsyncTestOp(cycle, fail, chain, 0, delay);
+        }
+    }
+}
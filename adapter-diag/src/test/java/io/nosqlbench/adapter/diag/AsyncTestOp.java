@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.diag;
+
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.OpGenerator;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An async op which completes on a separate driver thread after {@code delay} milliseconds. The
+ * first {@code fail} tries of the first op of each cycle fail, and each op of a cycle is followed
+ * by another until {@code chain} follow-up ops have been run. What happened is kept in static
+ * fields, which tests clear with {@link #reset()}.
+ */
+public class AsyncTestOp implements AsyncCycleOp<Long>, OpGenerator {
+    public final static String DRIVER_THREAD = "asynctest-driver";
+
+    private final static ScheduledExecutorService driver = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, DRIVER_THREAD);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public final static AtomicInteger inFlight = new AtomicInteger();
+    public final static AtomicInteger maxInFlight = new AtomicInteger();
+    public final static Map<Long, AtomicInteger> tries = new ConcurrentHashMap<>();
+    /**
+     * Events like {@code start 3:1 main}, for the start of the second op of cycle 3 on the main
+     * thread, and {@code done 3:1}, for its successful completion
+     */
+    public final static Queue<String> events = new ConcurrentLinkedQueue<>();
+
+    private final long cycle;
+    private final int fail;
+    private final int chain;
+    private final int link;
+    private final long delay;
+
+    public AsyncTestOp(long cycle, int fail, int chain, int link, long delay) {
+        this.cycle = cycle;
+        this.fail = fail;
+        this.chain = chain;
+        this.link = link;
+        this.delay = delay;
+    }
+
+    public static void reset() {
+        inFlight.set(0);
+        maxInFlight.set(0);
+        tries.clear();
+        events.clear();
+    }
+
+    @Override
+    public CompletionStage<Long> applyAsync(long value) {
+        events.add("start " + cycle + ":" + link + " " + Thread.currentThread().getName());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        driver.schedule(() -> {
+            inFlight.decrementAndGet();
+            int tried = tries.computeIfAbsent(cycle, c -> new AtomicInteger()).incrementAndGet();
+            if (link == 0 && tried <= fail) {
+                future.completeExceptionally(new RuntimeException("failing try " + tried + " of cycle " + cycle));
+            } else {
+                events.add("done " + cycle + ":" + link);
+                future.complete(cycle);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @Override
+    public Op getNextOp() {
+        return (link < chain) ? new AsyncTestOp(cycle, fail, chain, link + 1, delay) : null;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapter.diag;
+
+import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals.ArrivalLogWriter;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DiagActivityParamsTest {
+
+    private static StandardActivity<?, ?> activity(String params) {
+        return new StandardActivity<>(new TestComponent("test", "params"), ActivityDef.parseActivityDef(params));
+    }
+
+    @Test
+    public void testInstrumentTraceAtActivityLevel() {
+        StandardActivity<?, ?> activity = activity("driver=diag;alias=traced;op=noop;instrument=trace;tracing=slowest:5,interval:1h");
+        assertThat(activity.getOpTracer()).isNotNull();
+        assertThat(activity.getOpSequence().getOps()).allMatch(dispenser -> dispenser.getTraceName() != null);
+        activity.close();
+    }
+
+    @Test
+    public void testInstrumentTrueDoesNotTrace() {
+        StandardActivity<?, ?> activity = activity("driver=diag;alias=timed;op=noop;instrument=true");
+        assertThat(activity.getOpTracer()).isNull();
+        assertThat(activity.getOpSequence().getOps()).allMatch(dispenser -> dispenser.getTraceName() == null);
+        activity.close();
+    }
+
+    @Test
+    public void testVerifierSamplingAtActivityLevel() {
+        StandardActivity<?, ?> activity = activity("driver=diag;alias=sampled;workload=activities/verified_noop.yaml;verifier-every=10;verifier-fraction=0.5");
+        OpDispenser<?> dispenser = activity.getOpSequence().getOps().get(0);
+        int verified = 0;
+        for (long cycle = 0; cycle < 10000; cycle++) {
+            if (dispenser.isVerified(cycle)) {
+                assertThat(cycle % 10).isEqualTo(0L);
+                verified++;
+            }
+        }
+        assertThat(verified).isBetween(400, 600);
+        activity.close();
+    }
+
+    @Test
+    public void testArrivalsInputRequiresStrideOfOne() throws IOException {
+        File arrivals = File.createTempFile("diag-params", ".arrivals");
+        arrivals.deleteOnExit();
+        try (ArrivalLogWriter writer = new ArrivalLogWriter(arrivals.getPath())) {
+            writer.append(0L, 0);
+            writer.append(1_000_000L, 0);
+            writer.append(2_000_000L, 0);
+        }
+        StandardActivity<?, ?> activity = activity("driver=diag;alias=replayed;op=noop;stride=10;input=type:arrivals,file:" + arrivals.getPath());
+        activity.initActivity();
+        assertThat(activity.getParams().getOptionalString("stride")).contains("1");
+        assertThat(activity.getActivityDef().getCycleCount()).isEqualTo(3L);
+        activity.close();
+    }
+
+    @Test
+    public void testInstrumentRejectsOtherValues() {
+        assertThatThrownBy(() -> activity("driver=diag;alias=invalid;op=noop;instrument=sometimes"))
+            .hasStackTraceContaining("must be true, false or trace");
+    }
+}
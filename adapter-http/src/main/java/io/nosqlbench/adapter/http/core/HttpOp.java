@@ -18,6 +18,7 @@ package io.nosqlbench.adapter.http.core;
 
 import io.nosqlbench.adapter.http.errors.InvalidResponseBodyException;
 import io.nosqlbench.adapter.http.errors.InvalidStatusCodeException;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.AsyncCycleOp;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.RunnableOp;
 import org.apache.logging.log4j.core.tools.picocli.CommandLine;
@@ -33,12 +34,14 @@ import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Spliterators;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
-public class HttpOp implements CycleOp {
+public class HttpOp implements CycleOp, AsyncCycleOp<Object> {
 
     public final Pattern ok_status;
     public final Pattern ok_body;
@@ -68,47 +71,62 @@ public class HttpOp implements CycleOp {
 
     @Override
     public Object apply(long value) {
-        HttpResponse.BodyHandler<String> bodyreader = HttpResponse.BodyHandlers.ofString();
-        HttpResponse<String> response = null;
-        Exception error = null;
-        long startat = System.nanoTime();
         try {
-            CompletableFuture<HttpResponse<String>> responseFuture = client.sendAsync(request, bodyreader);
-            response = responseFuture.get(space.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-            space.getHttpMetrics().statusCodeHistogram.update(response.statusCode());
+            return applyAsync(value).toCompletableFuture().get(space.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof RuntimeException re) ? re : new RuntimeException(e.getCause());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            if (ok_status != null) {
-                if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
-                    throw new InvalidStatusCodeException(ok_status, response.statusCode());
-                }
-            }
-            if (ok_body != null) {
-                if (!ok_body.matcher(response.body()).matches()) {
-                    throw new InvalidResponseBodyException(ok_body, response.body());
+    @Override
+    public CompletionStage<Object> applyAsync(long value) {
+        HttpResponse.BodyHandler<String> bodyreader = HttpResponse.BodyHandlers.ofString();
+        long startat = System.nanoTime();
+        return client.sendAsync(request, bodyreader)
+            .orTimeout(space.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+            .handle((response, throwable) -> {
+                Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null)
+                    ? throwable.getCause() : throwable;
+                Exception error = (cause == null || cause instanceof Exception) ? (Exception) cause : new RuntimeException(cause);
+                try {
+                    if (error == null) {
+                        space.getHttpMetrics().statusCodeHistogram.update(response.statusCode());
+                        if (ok_status != null) {
+                            if (!ok_status.matcher(String.valueOf(response.statusCode())).matches()) {
+                                throw new InvalidStatusCodeException(ok_status, response.statusCode());
+                            }
+                        }
+                        if (ok_body != null) {
+                            if (!ok_body.matcher(response.body()).matches()) {
+                                throw new InvalidResponseBodyException(ok_body, response.body());
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    error = e;
+                } finally {
+                    long nanos = System.nanoTime() - startat;
+                    if (space.isDiagnosticMode()) {
+                        space.getConsole().summarizeRequest("request", error, request, System.out, cycle, nanos);
+                        if (response != null) {
+                            space.getConsole().summarizeResponseChain(error, response, System.out, cycle, nanos);
+                        } else {
+                            System.out.println("---- RESPONSE was null");
+                        }
+                        System.out.println();
+                    }
                 }
-            }
-        } catch (Exception e) {
-            error = e;
-        } finally {
-            long nanos = System.nanoTime() - startat;
-            if (space.isDiagnosticMode()) {
-                space.getConsole().summarizeRequest("request", error, request, System.out, cycle, nanos);
-                if (response != null) {
-                    space.getConsole().summarizeResponseChain(error, response, System.out, cycle, nanos);
-                } else {
-                    System.out.println("---- RESPONSE was null");
+                // propogate exception so main error handling logic can take over
+                if (error != null) {
+                    throw new CompletionException(new RuntimeException(error));
                 }
-                System.out.println();
-            }
-            // propogate exception so main error handling logic can take over
-            if (error != null) {
-                throw new RuntimeException(error);
-            }
-        }
-        return switch (resultType) {
-            case string -> response.body();
-            case json_element -> JsonParser.parseString(response.body()).getAsJsonObject();
-            case none -> null;
-        };
+                return switch (resultType) {
+                    case string -> response.body();
+                    case json_element -> JsonParser.parseString(response.body()).getAsJsonObject();
+                    case none -> null;
+                };
+            });
     }
 }
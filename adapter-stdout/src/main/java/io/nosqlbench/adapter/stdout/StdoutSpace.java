@@ -24,10 +24,12 @@ import io.nosqlbench.api.config.standard.Param;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class StdoutSpace {
 
     Writer writer;
+    private final ReentrantLock writeLock = new ReentrantLock();
     private PrintWriter console;
 
     public StdoutSpace(NBConfiguration cfg) {
@@ -36,11 +38,15 @@ public class StdoutSpace {
     }
 
     public void writeflush(String text) {
+        // lock first, so that virtual motor threads park here rather than pin in the writer's monitor
+        writeLock.lock();
         try {
             writer.write(text);
             writer.flush();
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            writeLock.unlock();
         }
     }
 
@@ -30,12 +30,14 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.net.Socket;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class TcpClientAdapterSpace {
 
     private final static Logger logger = LogManager.getLogger(TcpClientAdapterSpace.class);
     private final NBConfiguration config;
     Writer writer;
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     public TcpClientAdapterSpace(NBConfiguration config) {
         this.config = config;
@@ -64,11 +66,15 @@ public class TcpClientAdapterSpace {
     }
 
     public void writeflush(String text) {
+        // lock first, so that virtual motor threads park here rather than pin in the writer's monitor
+        writeLock.lock();
         try {
             writer.write(text);
             writer.flush();
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            writeLock.unlock();
         }
     }
     public static NBConfigModel getConfigModel() {
@@ -50,14 +50,19 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
     public static final String VERIFIER_INIT = "verifier-init";
     public static final String EXPECTED_RESULT = "expected-result";
     public static final String VERIFIER_IMPORTS = "verifier-imports";
+    public static final String VERIFIER_EVERY = "verifier-every";
+    public static final String VERIFIER_FRACTION = "verifier-fraction";
+    public static final String VERIFIER_MODE = "verifier-mode";
     public static final String START_TIMERS = "start-timers";
     public static final String STOP_TIMERS = "stop-timers";
+    public static final String INSTRUMENT = "instrument";
 
     private final String opName;
     protected final DriverAdapter<T, S> adapter;
     private final NBLabels labels;
     public final Timer verifierTimer;
     private boolean instrument;
+    private String traceName;
     private Timer successTimer;
     private Timer errorTimer;
     private final String[] timerStarts;
@@ -75,6 +80,10 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
      */
     private final CycleFunction<Boolean> _verifier;
     private final ThreadLocal<CycleFunction<Boolean>> tlVerifier;
+    /**
+     * Which cycles are verified, or null when there are no verifiers.
+     */
+    private final VerifierSampling verifierSampling;
 
     protected BaseOpDispenser(final DriverAdapter<T, S> adapter, final ParsedOp op) {
         super(adapter);
@@ -97,6 +106,7 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         this.configureVerifierImports(op);
         List<CycleFunction<Boolean>> verifiers = new ArrayList<>();
         verifiers = configureVerifiers(op);
+        this.verifierSampling = verifiers.isEmpty() ? null : VerifierSampling.of(op);
         this._verifier = CycleFunctions.of((a, b) -> a && b, verifiers, true);
         this.tlVerifier = ThreadLocal.withInitial(_verifier::newInstance);
         this.verifierTimer = create().timer("verifier",3);
@@ -110,6 +120,18 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         return this.tlVerifier.get();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Ops without a {@value #VERIFIER} or {@value #EXPECTED_RESULT} field are never verified.
+     * Otherwise, every cycle is verified unless verification is sampled with
+     * {@value #VERIFIER_EVERY} or {@value #VERIFIER_FRACTION}.
+     */
+    @Override
+    public boolean isVerified(long cycle) {
+        return verifierSampling != null && verifierSampling.test(cycle);
+    }
+
     private void configureVerifierImports(ParsedOp op) {
         List imports = op.takeOptionalStaticValue(VERIFIER_IMPORTS, List.class)
             .orElse(List.of());
@@ -124,6 +146,8 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
 
     private List<CycleFunction<Boolean>> configureVerifiers(ParsedOp op) {
         Binding variables = new Binding();
+        VerifierMode mode = op.takeOptionalStaticValue(VERIFIER_MODE, Object.class)
+            .map(String::valueOf).map(VerifierMode::of).orElse(VerifierMode.auto);
 
         Map<String, ParsedTemplateString> initBlocks = op.getTemplateMap().takeAsNamedTemplates(VERIFIER_INIT);
         List<CycleFunction<?>> verifierInitFunctions = new ArrayList<>();
@@ -144,7 +168,7 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         try {
             namedVerifiers.forEach((verifierName,stringTemplate) -> {
                 GroovyBooleanCycleFunction verifier =
-                    new GroovyBooleanCycleFunction(verifierName, stringTemplate, verifierImports, verifierStaticImports, variables);
+                    new GroovyBooleanCycleFunction(verifierName, stringTemplate, verifierImports, verifierStaticImports, variables, mode);
                 logger.info("configured verifier:" + verifier);
                 verifierFunctions.add(verifier);
             });
@@ -154,7 +178,7 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
 
         try {
              op.takeAsOptionalStringTemplate(EXPECTED_RESULT)
-                .map(tpl -> new GroovyObjectEqualityFunction(op.getName()+"-"+EXPECTED_RESULT, tpl, verifierImports, verifierStaticImports, variables))
+                .map(tpl -> new GroovyObjectEqualityFunction(op.getName()+"-"+EXPECTED_RESULT, tpl, verifierImports, verifierStaticImports, variables, mode))
                 .map(vl -> {
                     logger.info("Configured equality verifier: " + vl);
                     return vl;
@@ -175,8 +199,23 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         return this.adapter;
     }
 
+    /**
+     * With <em>instrument: true</em>, each op template has success and error timers of its own. With
+     * <em>instrument: trace</em>, its ops are also traced, as configured by the <em>tracing</em> activity
+     * parameter.
+     */
     private void configureInstrumentation(final ParsedOp pop) {
-        instrument = pop.takeStaticConfigOr("instrument", false);
+        String instrumentSpec = pop.takeStaticConfigOr(INSTRUMENT, "false");
+        switch (instrumentSpec.toLowerCase()) {
+            case "false" -> instrument = false;
+            case "true" -> instrument = true;
+            case "trace" -> {
+                instrument = true;
+                traceName = getOpName();
+            }
+            default -> throw new OpConfigError("The " + INSTRUMENT + " field of op '" + getOpName()
+                + "' must be true, false or trace, not '" + instrumentSpec + "'");
+        }
         if (this.instrument) {
             final int hdrDigits = pop.getStaticConfigOr("hdr_digits", 4);
 
@@ -185,6 +224,11 @@ public abstract class BaseOpDispenser<T extends Op, S> extends NBBaseComponent i
         }
     }
 
+    @Override
+    public String getTraceName() {
+        return traceName;
+    }
+
     @Override
     public void onStart(final long cycleValue) {
         if (null != timerStarts) ThreadLocalNamedTimers.TL_INSTANCE.get().start(this.timerStarts);
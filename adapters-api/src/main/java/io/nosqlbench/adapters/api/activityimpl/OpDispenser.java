@@ -86,4 +86,24 @@ public interface OpDispenser<T> extends LongFunction<T>, OpResultTracker {
 
     CycleFunction<Boolean> getVerifier();
 
+    /**
+     * Determine whether the result of the op for the given cycle should be verified. When this
+     * returns false, callers should not use {@link #getVerifier()} at all for this cycle, since
+     * this is how ops without verifiers avoid any verification overhead.
+     *
+     * @param cycle The cycle of the op
+     * @return true, if a verifier is configured and this cycle is selected for verification
+     */
+    default boolean isVerified(long cycle) {
+        return true;
+    }
+
+    /**
+     * @return the name which ops from this dispenser are traced with, as with <em>instrument: trace</em>,
+     * or null if they are not traced
+     */
+    default String getTraceName() {
+        return null;
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.activityimpl;
+
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.api.errors.OpConfigError;
+
+/**
+ * Selects which cycles of an op with verifiers are verified. By default, every cycle is.
+ * <UL>
+ * <LI>With {@value BaseOpDispenser#VERIFIER_EVERY}{@code : N}, only every Nth cycle is verified.</LI>
+ * <LI>With {@value BaseOpDispenser#VERIFIER_FRACTION}{@code : F}, a fraction F of cycles is verified,
+ * chosen by a hash of the cycle number. The same cycles are chosen on every run.</LI>
+ * </UL>
+ * When both are given, a cycle must be selected by both to be verified. Either can be given for an
+ * op template, or for all op templates of an activity as an activity parameter.
+ *
+ * @param every
+ *     The interval of cycles which are verified, or 1 for all of them
+ * @param threshold
+ *     The hashed cycle values at or below which cycles are verified, as an unsigned value,
+ *     or -1 (unsigned max) for all of them
+ */
+record VerifierSampling(long every, long threshold) {
+
+    static VerifierSampling of(ParsedOp op) {
+        long every = Long.parseLong(op.takeStaticConfigOr(BaseOpDispenser.VERIFIER_EVERY, "1"));
+        if (every < 1L) {
+            throw new OpConfigError(BaseOpDispenser.VERIFIER_EVERY + " must be at least 1, but was " + every);
+        }
+        double fraction = Double.parseDouble(op.takeStaticConfigOr(BaseOpDispenser.VERIFIER_FRACTION, "1.0"));
+        if (fraction <= 0.0d || fraction > 1.0d) {
+            throw new OpConfigError(BaseOpDispenser.VERIFIER_FRACTION + " must be greater than 0.0 and at most 1.0, but was " + fraction);
+        }
+        long threshold = (fraction >= 1.0d) ? -1L : (long) (fraction * 0x1p63) << 1;
+        return new VerifierSampling(every, threshold);
+    }
+
+    boolean test(long cycle) {
+        if (every > 1L && cycle % every != 0L) {
+            return false;
+        }
+        return threshold == -1L || Long.compareUnsigned(mix(cycle), threshold) <= 0;
+    }
+
+    /**
+     * The finalizer of murmur3, which spreads sequential cycle values over the whole range of long.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -172,12 +172,28 @@ public abstract class BaseDriverAdapter<R extends Op, S> extends NBBaseComponent
                 .add(Param.optional("cycles").setRegex("\\d+[KMBGTPE]?|\\d+[KMBGTPE]?\\.\\.\\d+[KMBGTPE]?").setDescription("cycle interval to use"))
                 .add(Param.optional("recycles").setDescription("allow cycles to be re-used this many times"))
                 .add(Param.optional(List.of("cyclerate", "targetrate", "rate"), String.class, "rate limit for cycles per second"))
-                .add(Param.optional("seq", String.class, "sequencing algorithm"))
-                .add(Param.optional("instrument", Boolean.class))
+                .add(Param.optional("ratemode").setRegex("simrate|open|gcra|striped").setDescription("rate limiter implementation to use for rate params"))
+                .add(Param.optional("ratetolerance", Double.class, "fraction of the rate a striped rate limiter may fall short before rebalancing"))
+                .add(Param.optional("input", String.class, "input type and its options, like type:chunked,chunk:1000"))
+                .add(Param.optional("seq").setRegex("bucket|interval|concat|fair").setDescription("sequencing algorithm"))
+                .add(Param.optional("instrument").setRegex("(?i)true|false|trace").setDescription("per-op-template timers, as true or false, or trace to also trace each op"))
+                .add(Param.optional("verifier-every", Long.class, "verify only every Nth cycle of op templates with verifiers"))
+                .add(Param.optional("verifier-fraction", Double.class, "verify only this fraction of cycles of op templates with verifiers, chosen by cycle"))
+                .add(Param.optional("tracing", String.class, "how traced ops are sampled, like slowest:10,interval:10s,to:traces.json"))
                 .add(Param.optional(List.of("workload", "yaml"), String.class, "location of workload yaml file"))
                 .add(Param.optional("driver", String.class))
                 .add(Param.defaultTo("dryrun", "none").setRegex("(op|jsonnet|none)"))
                 .add(Param.optional("maxtries", Integer.class))
+                .add(Param.optional("async", Integer.class, "number of async ops allowed in flight across all threads, for ops which support it"))
+                .add(Param.optional("opchains").setRegex("motor|async").setDescription("whether follow-up ops of async ops run on the motor thread or as async continuations"))
+                .add(Param.optional("threadmodel").setRegex("platform|virtual").setDescription("whether motors run on platform or virtual threads"))
+                .add(Param.optional("pinthreshold", String.class, "minimum duration of virtual thread pinning which is counted"))
+                .add(Param.optional("affinity", String.class, "motor thread placement, as numa or a CPU list like 0-7,16-23"))
+                .add(Param.optional("concurrency", String.class, "adaptive threads or async depth for a latency target, like adaptive:p99<20ms"))
+                .add(Param.optional("warmup", String.class, "cycles or duration recorded separately as warmup, like 30s or 100K,stable"))
+                .add(Param.optional("handoff", Integer.class, "the size of the queue of each later stage of ops, when op templates have stages"))
+                .add(Param.optional("think", String.class, "the think time of a session after each op, with input=type:sessions, like 100ms"))
+                .add(Param.optional("hdr_recorder", String.class, "how the timers of motors record values, shared or striped over threads"))
                 .asReadOnly();
     }
 
@@ -34,4 +34,9 @@ public class DryRunOpDispenserWrapper extends BaseOpDispenser<Op, Object> {
         Op op = realDispenser.apply(cycle);
         return new DryRunOp(op);
     }
+
+    @Override
+    public String getTraceName() {
+        return realDispenser.getTraceName();
+    }
 }
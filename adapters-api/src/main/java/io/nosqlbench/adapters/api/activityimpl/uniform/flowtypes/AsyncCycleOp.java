@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * <H2>AsyncCycleOp: f(cycle) -> CompletionStage&lt;T&gt;</H2>
+ * <p>An AsyncCycleOp of T is an operation which takes a long input value
+ * and starts an operation which completes with a value of type T at some
+ * later time. It is the non-blocking form of {@link CycleOp}.</p>
+ *
+ * <p>When an activity is configured with the <em>async</em> parameter, the
+ * runtime will start async ops without waiting for them to complete, up to
+ * the configured number of ops in flight. Timers, verifiers, retries and
+ * error handling are applied when the returned stage completes.</p>
+ *
+ * <h2>Designer Notes</h2>
+ * <p>
+ * Native drivers which offer an async API (like executeAsync or sendAsync)
+ * should implement this interface in addition to {@link CycleOp}, which can
+ * simply block on the returned stage. The runtime will select the async form
+ * only when async execution is enabled for the activity. Implementations must
+ * not block in {@link #applyAsync(long)}, and must always complete the
+ * returned stage, either normally or exceptionally.
+ * </p>
+ */
+public interface AsyncCycleOp<T> extends Op {
+
+    /**
+     * <p>Start an operation for the given cycle.</p>
+     *
+     * @param cycle The cycle value for which an operation is run
+     * @return A stage which completes with a result object which <em>may</em> be used by
+     * a subsequent {@link ChainingOp}
+     */
+    CompletionStage<T> applyAsync(long cycle);
+
+}
@@ -20,16 +20,47 @@ import groovy.lang.Binding;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * A cycle function for verifier scripts which yield a boolean. Unless the mode is
+ * {@link VerifierMode#dynamic}, scripts which only compare {@code result} to a literal are
+ * evaluated by a {@link SimpleResultPredicate} instead of the script where possible.
+ */
 public class GroovyBooleanCycleFunction extends GroovyCycleFunction<Boolean> {
 
+    private final SimpleResultPredicate predicate;
+
     public GroovyBooleanCycleFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticSymbolImports, Binding binding) {
-        super(name, template, imports, staticSymbolImports, binding);
+        this(name, template, imports, staticSymbolImports, binding, VerifierMode.dynamic);
+    }
+
+    public GroovyBooleanCycleFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticSymbolImports, Binding binding, VerifierMode mode) {
+        super(name, template, imports, staticSymbolImports, binding, mode);
+        this.predicate = (mode == VerifierMode.auto && template.getBindPoints().isEmpty())
+            ? SimpleResultPredicate.of(scriptText) : null;
+    }
+
+    private GroovyBooleanCycleFunction(GroovyBooleanCycleFunction original) {
+        super(original);
+        this.predicate = original.predicate;
     }
 
     @Override
     public Boolean apply(long value) {
-        return super.apply(value);
+        if (predicate != null) {
+            Map<?, ?> variables = variableBindings.getVariables();
+            Object result = variables.get("result");
+            if ((result != null || variables.containsKey("result")) && predicate.accepts(result)) {
+                return predicate.test(result);
+            }
+        }
+        return (Boolean) evaluate(value);
+    }
+
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new GroovyBooleanCycleFunction(this);
     }
 
 }
@@ -30,11 +30,22 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * A cycle function which evaluates a Groovy script, with the values of any bind points in the script
+ * and any injected variables available to it by name.
+ * <p>
+ * The script is compiled once, and each instance from {@link #newInstance()} runs its own instance
+ * of the same script class. With {@link VerifierMode#compiled} or {@link VerifierMode#auto}, the
+ * script is also compiled statically on the first call, as described in {@link StaticScript}. This
+ * avoids the dynamic dispatch and binding lookups of the script for each cycle.
+ */
 public class GroovyCycleFunction<T> implements CycleFunction<T> {
     private final static Logger logger = LogManager.getLogger(GroovyBooleanCycleFunction.class);
     private final String name;
@@ -46,7 +57,16 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
     protected final Script script; // Groovy Script as compiled
     protected final Binding variableBindings; // Groovy binding layer
     protected final Bindings bindingFunctions; // NB bindings
+    protected final VerifierMode mode;
     private final List<Class<?>> staticImports;
+    private final String[] bindPointNames;
+    private final StaticScript staticScript; // shared by all instances, null when dynamic
+
+    // per-instance state for the statically compiled form
+    private StaticScript.Form form;
+    private int[] valueSources;
+    private Object[] values;
+    private boolean dynamicOnly;
 
     /**
      * Instantiate a cycle function from basic types
@@ -59,21 +79,39 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
      *     The package imports to be installed into the execution environment
      */
     public GroovyCycleFunction(String name, String scriptText, Map<String, String> bindingSpecs, List<String> imports, List<Class<?>> staticImports, Binding binding) {
+        this(name, scriptText, bindingSpecs, imports, staticImports, binding, VerifierMode.dynamic);
+    }
+
+    /**
+     * Instantiate a cycle function from basic types
+     *
+     * @param scriptText
+     *     The raw script text, not including any bind point or capture point syntax
+     * @param bindingSpecs
+     *     The names and recipes of bindings which are referenced in the scriptText
+     * @param imports
+     *     The package imports to be installed into the execution environment
+     * @param mode
+     *     Whether the script is run dynamically or compiled statically
+     */
+    public GroovyCycleFunction(String name, String scriptText, Map<String, String> bindingSpecs, List<String> imports, List<Class<?>> staticImports, Binding binding, VerifierMode mode) {
         this.name = name;
         this.scriptText = scriptText;
         this.imports = imports;
         this.staticImports = staticImports;
+        this.mode = mode;
 
         // scripting env variable bindings
         this.variableBindings = binding!=null? binding : new Binding();
 
         // virtdata bindings to be evaluated at cycle time
         this.bindingFunctions = new BindingsTemplate().addFieldBindings(bindingSpecs).resolveBindings();
+        this.bindPointNames = bindingFunctions.getTemplate().getBindPointNames().toArray(new String[0]);
 
-        this.script = compileScript(this.scriptText, imports, staticImports, binding);
+        this.script = compileScript(this.scriptText, imports, staticImports, variableBindings);
+        this.staticScript = (mode == VerifierMode.dynamic) ? null : new StaticScript(name, scriptText, mode);
         addServices();
     }
-
     private void addServices() {
         for (final ScriptingExtensionPluginInfo<?> extensionDescriptor : BundledExtensions.findAll()) {
             staticImports.addAll(extensionDescriptor.autoImportStaticMethodClasses());
@@ -98,17 +136,27 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
     }
 
     public GroovyCycleFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticImports, Binding binding) {
+        this(name, template, imports, staticImports, binding, VerifierMode.dynamic);
+    }
+
+    public GroovyCycleFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticImports, Binding binding, VerifierMode mode) {
         this(
             name,
             template.getPositionalStatement(),
             resolveBindings(template.getBindPoints()),
             imports,
             staticImports,
-            binding
+            binding,
+            mode
         );
     }
 
     private Script compileScript(String scriptText, List<String> imports, List<Class<?>> staticImports, Binding binding) {
+        GroovyShell gshell = new GroovyShell(binding, compilerConfiguration(imports, staticImports));
+        return gshell.parse(scriptText);
+    }
+
+    private CompilerConfiguration compilerConfiguration(List<String> imports, List<Class<?>> staticImports) {
         // add classes which are in the imports to the groovy evaluation context
         String[] verifiedClasses = expandClassNames(imports);
         String[] verifiedStaticImports = expandStaticImports(staticImports);
@@ -117,9 +165,7 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
         ImportCustomizer importer = new ImportCustomizer().addImports(verifiedClasses);
         importer.addStaticStars(verifiedStaticImports);
         compilerConfiguration.addCompilationCustomizers(importer);
-
-        GroovyShell gshell = new GroovyShell(binding!=null? binding:new Binding(), compilerConfiguration);
-        return gshell.parse(scriptText);
+        return compilerConfiguration;
     }
 
     private String[] expandStaticImports(List<Class<?>> staticImports) {
@@ -163,12 +209,56 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
 
     @Override
     public T apply(long value) {
-        Map<String, Object> values = bindingFunctions.getAllMap(value);
-        values.forEach((k, v) -> variableBindings.setVariable(k, v));
-        T result = (T) script.run();
+        T result = (T) evaluate(value);
         return result;
     }
 
+    /**
+     * Run the script for a cycle, with the statically compiled form when there is one for the
+     * current types of its variables, or dynamically otherwise.
+     */
+    protected Object evaluate(long cycle) {
+        if (staticScript != null && !dynamicOnly) {
+            if (form == null) {
+                prepareStaticForm(cycle);
+            }
+            if (form != null) {
+                Map<?, ?> variables = variableBindings.getVariables();
+                String[] names = form.variables();
+                for (int i = 0; i < values.length; i++) {
+                    int source = valueSources[i];
+                    values[i] = (source >= 0) ? bindingFunctions.get(source, cycle) : variables.get(names[i]);
+                }
+                if (form.accepts(values)) {
+                    return form.invoke(values);
+                }
+            }
+        }
+        for (int i = 0; i < bindPointNames.length; i++) {
+            variableBindings.setVariable(bindPointNames[i], bindingFunctions.get(i, cycle));
+        }
+        return script.run();
+    }
+
+    private void prepareStaticForm(long cycle) {
+        Map<String, Object> sample = new LinkedHashMap<>();
+        variableBindings.getVariables().forEach((k, v) -> sample.put(k.toString(), v));
+        for (int i = 0; i < bindPointNames.length; i++) {
+            sample.put(bindPointNames[i], bindingFunctions.get(i, cycle));
+        }
+        this.form = staticScript.form(sample, () -> compilerConfiguration(imports, staticImports));
+        if (form == null) {
+            this.dynamicOnly = true;
+            return;
+        }
+        List<String> bindPoints = List.of(bindPointNames);
+        this.valueSources = new int[form.variables().length];
+        for (int i = 0; i < valueSources.length; i++) {
+            valueSources[i] = bindPoints.indexOf(form.variables()[i]);
+        }
+        this.values = new Object[valueSources.length];
+    }
+
     /**
      * Create an instance of an executable function which is based on the current one, with all of
      * the per-cycle bindings as well as the variable bindings duplicated (shared).
@@ -176,19 +266,26 @@ public class GroovyCycleFunction<T> implements CycleFunction<T> {
      */
     @Override
     public CycleFunction<T> newInstance() {
-        return new GroovyCycleFunction<T>(name, scriptText, bindingFunctions, imports, staticImports, this.variableBindings.getVariables());
+        return new GroovyCycleFunction<T>(this);
     }
 
-    private GroovyCycleFunction(String name, String scriptText, Bindings bindingFunctions, List<String> imports, List<Class<?>> staticImports, Map originalBinding) {
-        this.name = name;
-        this.scriptText = scriptText;
-        this.bindingFunctions = bindingFunctions;
-        this.imports = imports;
-        this.staticImports = staticImports;
+    /**
+     * Create an instance with its own instance of the compiled script and a copy of the variable
+     * bindings, sharing the compiled script class and static form with the original.
+     */
+    protected GroovyCycleFunction(GroovyCycleFunction<T> original) {
+        this.name = original.name;
+        this.scriptText = original.scriptText;
+        this.bindingFunctions = original.bindingFunctions;
+        this.bindPointNames = original.bindPointNames;
+        this.imports = original.imports;
+        this.staticImports = original.staticImports;
+        this.mode = original.mode;
+        this.staticScript = original.staticScript;
 
-        this.script = compileScript(scriptText, imports, staticImports, new Binding());
-        this.variableBindings = script.getBinding();
-        originalBinding.forEach((k,v) -> variableBindings.setVariable(k.toString(),v));
+        this.variableBindings = new Binding();
+        original.variableBindings.getVariables().forEach((k,v) -> variableBindings.setVariable(k.toString(),v));
+        this.script = InvokerHelper.createScript(original.script.getClass(), variableBindings);
     }
 
 
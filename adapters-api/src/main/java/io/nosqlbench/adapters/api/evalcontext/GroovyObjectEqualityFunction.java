@@ -20,7 +20,6 @@ import groovy.lang.Binding;
 import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * This evaluator uses {@link Object#equals(Object)} to compare the results of an operation with
@@ -34,17 +33,28 @@ public class GroovyObjectEqualityFunction extends GroovyCycleFunction<Boolean> {
     private Object result;
 
     public GroovyObjectEqualityFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticImports, Binding binding) {
-        super(name, template, imports, staticImports, binding);
+        this(name, template, imports, staticImports, binding, VerifierMode.dynamic);
+    }
+
+    public GroovyObjectEqualityFunction(String name, ParsedTemplateString template, List<String> imports, List<Class<?>> staticImports, Binding binding, VerifierMode mode) {
+        super(name, template, imports, staticImports, binding, mode);
+    }
+
+    private GroovyObjectEqualityFunction(GroovyObjectEqualityFunction original) {
+        super(original);
     }
 
     @Override
     public Boolean apply(long value) {
-        Map<String, Object> values = bindingFunctions.getAllMap(value);
-        values.forEach((k,v)-> variableBindings.setVariable(k,v));
-        Object scriptResult= script.run();
+        Object scriptResult = evaluate(value);
         return scriptResult.equals(result);
     }
 
+    @Override
+    public CycleFunction<Boolean> newInstance() {
+        return new GroovyObjectEqualityFunction(this);
+    }
+
     /**
      * Intercept and reserve the value of the result injected variable for comparison to the evaluated script result later.
      */
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An evaluator for verifier scripts which only compare {@code result} with a literal, like
+ * {@code result == 42}, {@code result != null}, {@code 'ok' == result} or {@code result in 1..10}.
+ * These are evaluated with a {@link MethodHandle} composed from the comparison and the literal,
+ * without running a script.
+ * <p>
+ * Each predicate also has a guard for the kinds of result values it has the same meaning for as
+ * Groovy. For other values, like a {@link String} compared with a number, {@link #accepts(Object)}
+ * is false and the script must be run instead.
+ */
+final class SimpleResultPredicate {
+
+    private final static String LITERAL = "-?\\d+(?:\\.\\d+)?|'[^'\\\\]*'|\"[^\"\\\\$]*\"|true|false|null";
+    private final static String OPERATOR = "==|!=|<=|>=|<|>";
+    private final static Pattern RESULT_FIRST = Pattern.compile(
+        "^\\s*result\\s*(" + OPERATOR + ")\\s*(" + LITERAL + ")\\s*;?\\s*$");
+    private final static Pattern LITERAL_FIRST = Pattern.compile(
+        "^\\s*(" + LITERAL + ")\\s*(" + OPERATOR + ")\\s*result\\s*;?\\s*$");
+    private final static Pattern RANGE = Pattern.compile(
+        "^\\s*result\\s+in\\s+(-?\\d+)\\s*\\.\\.(<?)\\s*(-?\\d+)\\s*;?\\s*$");
+
+    private final static MethodHandle COMPARE_NUMBER;
+    private final static MethodHandle COMPARE_STRING;
+    private final static MethodHandle EQUALS;
+    private final static MethodHandle IS_NULL;
+    private final static MethodHandle IN_RANGE;
+    private final static MethodHandle IS_NUMBER;
+    private final static MethodHandle IS_INTEGRAL;
+    private final static MethodHandle IS_INSTANCE;
+    private final static MethodHandle ALWAYS;
+    private final static MethodHandle NOT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> c = SimpleResultPredicate.class;
+            COMPARE_NUMBER = lookup.findStatic(c, "compareNumber", MethodType.methodType(int.class, Number.class, Object.class));
+            COMPARE_STRING = lookup.findStatic(c, "compareString", MethodType.methodType(int.class, String.class, Object.class));
+            EQUALS = lookup.findVirtual(Object.class, "equals", MethodType.methodType(boolean.class, Object.class));
+            IS_NULL = lookup.findStatic(c, "isNull", MethodType.methodType(boolean.class, Object.class));
+            IN_RANGE = lookup.findStatic(c, "inRange", MethodType.methodType(boolean.class, long.class, long.class, Object.class));
+            IS_NUMBER = lookup.findStatic(c, "isNumber", MethodType.methodType(boolean.class, Object.class));
+            IS_INTEGRAL = lookup.findStatic(c, "isIntegral", MethodType.methodType(boolean.class, Object.class));
+            IS_INSTANCE = lookup.findVirtual(Class.class, "isInstance", MethodType.methodType(boolean.class, Object.class));
+            NOT = lookup.findStatic(c, "not", MethodType.methodType(boolean.class, boolean.class));
+            ALWAYS = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String expression;
+    private final MethodHandle guard;
+    private final MethodHandle test;
+
+    private SimpleResultPredicate(String expression, MethodHandle guard, MethodHandle test) {
+        this.expression = expression;
+        this.guard = guard;
+        this.test = test;
+    }
+
+    /**
+     * @return A predicate for the script, or null if it is not a simple comparison of {@code result}
+     */
+    static SimpleResultPredicate of(String scriptText) {
+        Matcher matcher = RESULT_FIRST.matcher(scriptText);
+        if (matcher.matches()) {
+            return compare(scriptText, matcher.group(1), matcher.group(2));
+        }
+        matcher = LITERAL_FIRST.matcher(scriptText);
+        if (matcher.matches()) {
+            return compare(scriptText, flip(matcher.group(2)), matcher.group(1));
+        }
+        matcher = RANGE.matcher(scriptText);
+        if (matcher.matches()) {
+            long from = Long.parseLong(matcher.group(1));
+            long to = Long.parseLong(matcher.group(3));
+            if (!matcher.group(2).isEmpty()) {
+                to--;
+            }
+            return new SimpleResultPredicate(
+                scriptText.trim(),
+                IS_INTEGRAL,
+                MethodHandles.insertArguments(IN_RANGE, 0, from, to)
+            );
+        }
+        return null;
+    }
+
+    /**
+     * @return true if this predicate gives the same answer as the script for this result
+     */
+    boolean accepts(Object result) {
+        try {
+            return (boolean) guard.invokeExact(result);
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    boolean test(Object result) {
+        try {
+            return (boolean) test.invokeExact(result);
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "simple(" + expression + ")";
+    }
+
+    private static SimpleResultPredicate compare(String scriptText, String operator, String literalText) {
+        Object literal = literal(literalText);
+        boolean equality = operator.equals("==") || operator.equals("!=");
+        MethodHandle guard;
+        MethodHandle test;
+        if (literal == null) {
+            if (!equality) {
+                return null;
+            }
+            guard = ALWAYS;
+            test = IS_NULL;
+        } else if (literal instanceof Number number) {
+            guard = IS_NUMBER;
+            test = MethodHandles.filterReturnValue(
+                MethodHandles.insertArguments(COMPARE_NUMBER, 0, number),
+                signTest(operator)
+            );
+        } else if (literal instanceof String string) {
+            guard = IS_INSTANCE.bindTo(String.class);
+            test = MethodHandles.filterReturnValue(
+                MethodHandles.insertArguments(COMPARE_STRING, 0, string),
+                signTest(operator)
+            );
+        } else {
+            if (!equality) {
+                return null;
+            }
+            guard = IS_INSTANCE.bindTo(Boolean.class);
+            test = EQUALS.bindTo(literal);
+        }
+        if ((literal == null || literal instanceof Boolean) && operator.equals("!=")) {
+            test = MethodHandles.filterReturnValue(test, NOT);
+        }
+        return new SimpleResultPredicate(scriptText.trim(), guard, test);
+    }
+
+    private static Object literal(String text) {
+        return switch (text) {
+            case "null" -> null;
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            default -> {
+                if (text.startsWith("'") || text.startsWith("\"")) {
+                    yield text.substring(1, text.length() - 1);
+                } else if (text.contains(".")) {
+                    yield new BigDecimal(text);
+                } else {
+                    yield Long.parseLong(text);
+                }
+            }
+        };
+    }
+
+    /**
+     * The operator for the same comparison with its operands swapped, as in {@code 3 < result}
+     * being {@code result > 3}
+     */
+    private static String flip(String operator) {
+        return switch (operator) {
+            case "<" -> ">";
+            case ">" -> "<";
+            case "<=" -> ">=";
+            case ">=" -> "<=";
+            default -> operator;
+        };
+    }
+
+    /**
+     * A handle which tests the sign of {@code result.compareTo(literal)} for this operator
+     */
+    private static MethodHandle signTest(String operator) {
+        try {
+            String name = switch (operator) {
+                case "==" -> "isZero";
+                case "!=" -> "isNonZero";
+                case "<" -> "isNegative";
+                case "<=" -> "isNotPositive";
+                case ">" -> "isPositive";
+                case ">=" -> "isNotNegative";
+                default -> throw new IllegalArgumentException("Unknown operator '" + operator + "'");
+            };
+            return MethodHandles.lookup().findStatic(
+                SimpleResultPredicate.class, name, MethodType.methodType(boolean.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isZero(int sign) {
+        return sign == 0;
+    }
+
+    private static boolean isNonZero(int sign) {
+        return sign != 0;
+    }
+
+    private static boolean isNegative(int sign) {
+        return sign < 0;
+    }
+
+    private static boolean isNotPositive(int sign) {
+        return sign <= 0;
+    }
+
+    private static boolean isPositive(int sign) {
+        return sign > 0;
+    }
+
+    private static boolean isNotNegative(int sign) {
+        return sign >= 0;
+    }
+
+    private static boolean not(boolean value) {
+        return !value;
+    }
+
+    private static boolean isNull(Object value) {
+        return value == null;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isNumber(Object value) {
+        return isIntegral(value) || value instanceof Double || value instanceof Float
+            || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    private static boolean inRange(long from, long to, Object value) {
+        long v = ((Number) value).longValue();
+        return v >= from && v <= to;
+    }
+
+    private static int compareString(String literal, Object value) {
+        return ((String) value).compareTo(literal);
+    }
+
+    /**
+     * Compare a result with a numeric literal the way Groovy does, with floating point math if the
+     * result is a float or double, with decimal math if either side is a decimal, and otherwise with
+     * integer math.
+     */
+    private static int compareNumber(Number literal, Object value) {
+        Number number = (Number) value;
+        if (number instanceof Double || number instanceof Float) {
+            return Double.compare(number.doubleValue(), literal.doubleValue());
+        }
+        if (literal instanceof BigDecimal decimal) {
+            BigDecimal asDecimal = (number instanceof BigDecimal d) ? d
+                : (number instanceof BigInteger i) ? new BigDecimal(i) : BigDecimal.valueOf(number.longValue());
+            return asDecimal.compareTo(decimal);
+        }
+        if (number instanceof BigDecimal decimal) {
+            return decimal.compareTo(BigDecimal.valueOf(literal.longValue()));
+        }
+        if (number instanceof BigInteger integer) {
+            return integer.compareTo(BigInteger.valueOf(literal.longValue()));
+        }
+        return Long.compare(number.longValue(), literal.longValue());
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import groovy.lang.GroovyClassLoader;
+import io.nosqlbench.api.errors.OpConfigError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codehaus.groovy.control.CompilerConfiguration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The statically compiled form of a cycle function script. It is shared by all instances of a
+ * cycle function, which are one per thread, so that the script is compiled once per op dispenser.
+ * <p>
+ * The script becomes the body of a {@code @CompileStatic} method, with a parameter for each
+ * variable which the script uses. Since the types of variables like {@code result} are only known
+ * once there are values for them, this is done on the first call, with each parameter typed as
+ * the class of the value it has then. Later calls use the compiled form when their values are still
+ * of these types, and run the script dynamically when not.
+ * <p>
+ * Scripts which assign to their variables are not compiled, since assignments to parameters
+ * would not be seen by later cycles as they are with the Groovy binding.
+ */
+final class StaticScript {
+    private final static Logger logger = LogManager.getLogger(StaticScript.class);
+    private final static AtomicLong classCounter = new AtomicLong();
+
+    private final String name;
+    private final String scriptText;
+    private final VerifierMode mode;
+    private volatile Form form;
+    private volatile boolean unavailable;
+
+    StaticScript(String name, String scriptText, VerifierMode mode) {
+        this.name = name;
+        this.scriptText = scriptText;
+        this.mode = mode;
+    }
+
+    /**
+     * The compiled script, taking the values of the named variables as an array
+     *
+     * @param variables
+     *     The names of the variables which are parameters, in order
+     * @param types
+     *     The type of each parameter
+     * @param invoker
+     *     A handle of type {@code (Object[])Object} for the compiled method
+     */
+    record Form(String[] variables, Class<?>[] types, MethodHandle invoker) {
+
+        /**
+         * @return true if each value is of the type of its parameter
+         */
+        boolean accepts(Object[] values) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && !types[i].isInstance(values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object invoke(Object[] values) {
+            try {
+                return (Object) invoker.invokeExact(values);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    /**
+     * Get the compiled form of the script, compiling it on the first call.
+     *
+     * @param sample
+     *     The variables which the script can use, with their current values
+     * @param config
+     *     The compiler configuration with the imports for the script
+     * @return The compiled form, or null if the script must be run dynamically
+     */
+    Form form(Map<String, Object> sample, Supplier<CompilerConfiguration> config) {
+        Form compiled = this.form;
+        if (compiled != null || unavailable) {
+            return compiled;
+        }
+        synchronized (this) {
+            if (this.form == null && !unavailable) {
+                try {
+                    this.form = compile(sample, config.get());
+                    logger.debug(() -> "compiled script for '" + name + "' statically with " + describe(this.form));
+                } catch (Exception e) {
+                    if (mode == VerifierMode.compiled) {
+                        throw new OpConfigError("Unable to compile script for '" + name + "' statically: " + e.getMessage(), e);
+                    }
+                    logger.info(() -> "Running script for '" + name + "' dynamically, since it could not be compiled statically: " + e.getMessage());
+                    unavailable = true;
+                }
+            }
+            return this.form;
+        }
+    }
+
+    private Form compile(Map<String, Object> sample, CompilerConfiguration config) throws ReflectiveOperationException {
+        ClassLoader loader = StaticScript.class.getClassLoader();
+        List<String> names = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        StringBuilder parameters = new StringBuilder();
+        for (Map.Entry<String, Object> variable : sample.entrySet()) {
+            String variableName = variable.getKey();
+            if (!isIdentifier(variableName) || !pattern("(?<![\\w$.])", variableName, "(?![\\w$])").matcher(scriptText).find()) {
+                continue;
+            }
+            if (pattern("(?<![\\w$.])", variableName, "\\s*(?:[-+*/%&|^]?=(?![=~])|\\+\\+|--)").matcher(scriptText).find()
+                || pattern("(?:\\+\\+|--)\\s*", variableName, "(?![\\w$])").matcher(scriptText).find()) {
+                throw new IllegalArgumentException("it assigns to the variable '" + variableName + "'");
+            }
+            Class<?> type = typeOf(variable.getValue(), loader);
+            names.add(variableName);
+            types.add(type);
+            if (!parameters.isEmpty()) {
+                parameters.append(", ");
+            }
+            parameters.append(type.getCanonicalName()).append(' ').append(variableName);
+        }
+
+        String className = "NBStaticScript" + classCounter.incrementAndGet();
+        String source = "@groovy.transform.CompileStatic\n"
+            + "class " + className + " {\n"
+            + "static Object eval(" + parameters + ") {\n"
+            + scriptText + "\n"
+            + "}\n"
+            + "}\n";
+
+        GroovyClassLoader classLoader = new GroovyClassLoader(loader, config);
+        Class<?> compiledClass = classLoader.parseClass(source, className + ".groovy");
+        MethodHandle handle = MethodHandles.publicLookup().findStatic(
+            compiledClass, "eval", MethodType.methodType(Object.class, types.toArray(new Class<?>[0])));
+        MethodHandle invoker = handle
+            .asType(MethodType.genericMethodType(types.size()))
+            .asSpreader(Object[].class, types.size());
+        return new Form(names.toArray(new String[0]), types.toArray(new Class<?>[0]), invoker);
+    }
+
+    /**
+     * The type of a parameter for a value, which is the most specific public type of the value
+     * that the script can see. When the class of the value is not visible, as with the immutable
+     * collections of the JDK, this is chosen from its visible superclasses and interfaces, so that
+     * a {@link List} is typed as such rather than as {@link java.util.AbstractCollection}. Of the
+     * visible types which no other of them extends, the one with the most methods is used.
+     */
+    private static Class<?> typeOf(Object value, ClassLoader loader) {
+        if (value == null) {
+            return Object.class;
+        }
+        Class<?> type = value.getClass();
+        if (isVisible(type, loader)) {
+            return type;
+        }
+        Set<Class<?>> candidates = new LinkedHashSet<>();
+        addVisibleSupertypes(type, loader, candidates, new HashSet<>());
+        Class<?> selected = Object.class;
+        for (Class<?> candidate : candidates) {
+            boolean mostSpecific = true;
+            for (Class<?> other : candidates) {
+                if (other != candidate && candidate.isAssignableFrom(other)) {
+                    mostSpecific = false;
+                    break;
+                }
+            }
+            if (mostSpecific && candidate.getMethods().length > selected.getMethods().length) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private static void addVisibleSupertypes(Class<?> type, ClassLoader loader, Set<Class<?>> visible, Set<Class<?>> visited) {
+        if (type == null || type == Object.class || !visited.add(type)) {
+            return;
+        }
+        if (isVisible(type, loader)) {
+            visible.add(type);
+            return;
+        }
+        addVisibleSupertypes(type.getSuperclass(), loader, visible, visited);
+        for (Class<?> anInterface : type.getInterfaces()) {
+            addVisibleSupertypes(anInterface, loader, visible, visited);
+        }
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader loader) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.getCanonicalName() == null) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Pattern pattern(String before, String name, String after) {
+        return Pattern.compile(before + Pattern.quote(name) + after);
+    }
+
+    private static String describe(Form form) {
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < form.variables().length; i++) {
+            sb.append(i > 0 ? ", " : "").append(form.types()[i].getSimpleName()).append(' ').append(form.variables()[i]);
+        }
+        return sb.append(")").toString();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import io.nosqlbench.api.errors.OpConfigError;
+
+import java.util.Arrays;
+
+/**
+ * How verifier scripts are evaluated for each cycle.
+ */
+public enum VerifierMode {
+    /**
+     * Run the script dynamically, with every variable looked up through the Groovy binding.
+     */
+    dynamic,
+    /**
+     * Compile the script with {@code @CompileStatic}, with each variable it uses as a parameter typed
+     * by the value it has on the first call. Scripts which do not type check this way are an error.
+     */
+    compiled,
+    /**
+     * Evaluate simple comparisons of {@code result} with a literal directly, compile other scripts as
+     * with {@link #compiled}, and run scripts which do not type check dynamically.
+     */
+    auto;
+
+    public static VerifierMode of(String spec) {
+        try {
+            return VerifierMode.valueOf(spec.trim().toLowerCase());
+        } catch (IllegalArgumentException e) {
+            throw new OpConfigError("Invalid verifier-mode '" + spec + "', must be one of " + Arrays.toString(values()));
+        }
+    }
+}
@@ -578,6 +578,9 @@ public class ParsedOp extends NBBaseComponent implements LongFunction<Map<String
     public <V> Optional<LongFunction<V>> getAsOptionalFunction(String name, Class<V> type) {
         return tmap.getAsOptionalFunction(name, type);
     }
+    public <V> Optional<LongFunction<V>> takeAsOptionalFunction(String name, Class<V> type) {
+        return tmap.takeAsOptionalFunction(name, type);
+    }
     public <V extends Enum<V>> Optional<LongFunction<V>> getAsOptionalEnumFunction(String name, Class<V> type) {
         return tmap.getAsOptionalEnumFunction(name, type);
     }
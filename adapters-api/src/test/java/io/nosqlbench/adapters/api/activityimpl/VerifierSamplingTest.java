@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.activityimpl;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerifierSamplingTest {
+
+    @Test
+    public void testAllCyclesByDefault() {
+        VerifierSampling sampling = new VerifierSampling(1L, -1L);
+        for (long cycle = 0; cycle < 1000; cycle++) {
+            assertThat(sampling.test(cycle)).isTrue();
+        }
+    }
+
+    @Test
+    public void testEveryNthCycle() {
+        VerifierSampling sampling = new VerifierSampling(10L, -1L);
+        assertThat(sampling.test(0L)).isTrue();
+        assertThat(sampling.test(5L)).isFalse();
+        assertThat(sampling.test(10L)).isTrue();
+        assertThat(sampling.test(11L)).isFalse();
+    }
+
+    @Test
+    public void testHashedFraction() {
+        long threshold = (long) (0.25d * 0x1p63) << 1;
+        VerifierSampling sampling = new VerifierSampling(1L, threshold);
+        int verified = 0;
+        for (long cycle = 0; cycle < 100000; cycle++) {
+            if (sampling.test(cycle)) {
+                verified++;
+            }
+        }
+        assertThat(verified / 100000.0d).isCloseTo(0.25d, Offset.offset(0.01d));
+        assertThat(sampling.test(12345L)).isEqualTo(sampling.test(12345L));
+    }
+}
@@ -54,4 +54,52 @@ public class GroovyBooleanCycleFunctionTest {
         assertThatThrownBy(() -> function.apply(3L)).isInstanceOf(MissingPropertyException.class);
     }
 
+    @Test
+    public void testCompiledScript() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            result.size() == limit && result.get(0) == 'a' && {numbername}.length() > 0
+            """,
+            Map.of("numbername", "NumberNameToString()")
+        );
+        GroovyBooleanCycleFunction prototype = new GroovyBooleanCycleFunction("test3", parsedTemplate, List.of(), List.of(), null, VerifierMode.compiled);
+        prototype.setVariable("limit", 2);
+        CycleFunction<Boolean> function = prototype.newInstance();
+        assertThat(function).isInstanceOf(GroovyBooleanCycleFunction.class);
+
+        // an immutable list is typed as a List, so that List methods compile statically
+        function.setVariable("result", List.of("a", "b"));
+        assertThat(function.apply(4L)).isTrue();
+        function.setVariable("result", List.of("a"));
+        assertThat(function.apply(5L)).isFalse();
+
+        // a result of another type runs the script dynamically
+        function.setVariable("result", "abc");
+        assertThat(function.apply(6L)).isFalse();
+    }
+
+    @Test
+    public void testAutoFallsBackToDynamic() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("""
+            count = (count ?: 0) + 1; count > 0
+            """,
+            Map.of()
+        );
+        CycleFunction<Boolean> function = new GroovyBooleanCycleFunction("test4", parsedTemplate, List.of(), List.of(), null, VerifierMode.auto)
+            .newInstance();
+        function.setVariable("count", 0);
+        assertThat(function.apply(1L)).isTrue();
+        assertThat(function.apply(2L)).isTrue();
+    }
+
+    @Test
+    public void testAutoSimplePredicate() {
+        ParsedTemplateString parsedTemplate = new ParsedTemplateString("result == 3", Map.of());
+        CycleFunction<Boolean> function = new GroovyBooleanCycleFunction("test5", parsedTemplate, List.of(), List.of(), null, VerifierMode.auto)
+            .newInstance();
+        function.setVariable("result", 3L);
+        assertThat(function.apply(1L)).isTrue();
+        function.setVariable("result", "3");
+        assertThat(function.apply(2L)).isFalse();
+    }
+
 }
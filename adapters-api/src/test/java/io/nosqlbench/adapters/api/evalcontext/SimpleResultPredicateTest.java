@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.adapters.api.evalcontext;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimpleResultPredicateTest {
+
+    @Test
+    public void testNumericComparisons() {
+        SimpleResultPredicate equal = SimpleResultPredicate.of("result == 42");
+        assertThat(equal.accepts(42)).isTrue();
+        assertThat(equal.test(42)).isTrue();
+        assertThat(equal.test(42L)).isTrue();
+        assertThat(equal.test(43)).isFalse();
+
+        SimpleResultPredicate flipped = SimpleResultPredicate.of("10 < result;");
+        assertThat(flipped.test(11)).isTrue();
+        assertThat(flipped.test(10)).isFalse();
+
+        SimpleResultPredicate decimal = SimpleResultPredicate.of("result >= 1.5");
+        assertThat(decimal.test(1.5d)).isTrue();
+        assertThat(decimal.test(new BigDecimal("1.50"))).isTrue();
+        assertThat(decimal.test(1)).isFalse();
+    }
+
+    @Test
+    public void testRanges() {
+        SimpleResultPredicate inclusive = SimpleResultPredicate.of("result in 1..10");
+        assertThat(inclusive.test(10)).isTrue();
+        assertThat(inclusive.test(0L)).isFalse();
+
+        SimpleResultPredicate exclusive = SimpleResultPredicate.of("result in 1..<10");
+        assertThat(exclusive.test(9)).isTrue();
+        assertThat(exclusive.test(10)).isFalse();
+        assertThat(exclusive.accepts(1.5d)).isFalse();
+    }
+
+    @Test
+    public void testOtherLiterals() {
+        SimpleResultPredicate notNull = SimpleResultPredicate.of("result != null");
+        assertThat(notNull.accepts(null)).isTrue();
+        assertThat(notNull.test(null)).isFalse();
+        assertThat(notNull.test("value")).isTrue();
+
+        SimpleResultPredicate string = SimpleResultPredicate.of("'ok' == result");
+        assertThat(string.test("ok")).isTrue();
+        assertThat(string.accepts(42)).isFalse();
+
+        SimpleResultPredicate bool = SimpleResultPredicate.of("result != false");
+        assertThat(bool.test(true)).isTrue();
+        assertThat(bool.test(false)).isFalse();
+    }
+
+    @Test
+    public void testOtherScriptsAreNotSimple() {
+        assertThat(SimpleResultPredicate.of("result.size() == 3")).isNull();
+        assertThat(SimpleResultPredicate.of("result == cycle")).isNull();
+        assertThat(SimpleResultPredicate.of("result < null")).isNull();
+        assertThat(SimpleResultPredicate.of("result == \"${cycle}\"")).isNull();
+    }
+}
@@ -19,6 +19,7 @@ package io.nosqlbench.engine.api.activityapi.core;
 import io.nosqlbench.components.NBComponent;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.api.engine.activityimpl.ParameterMap;
+import io.nosqlbench.api.engine.metrics.HdrRecorderMode;
 import io.nosqlbench.engine.api.activityapi.core.progress.ProgressCapable;
 import io.nosqlbench.engine.api.activityapi.core.progress.StateCapable;
 import io.nosqlbench.engine.api.activityapi.cyclelog.filters.IntPredicateDispenser;
@@ -181,5 +182,12 @@ public interface Activity extends Comparable<Activity>, ActivityDefObserver, Pro
         return this.getParams().getOptionalInteger("hdr_digits").orElse(4);
     }
 
+    /**
+     * @return how the values of the timers of the motors are recorded, as set with <em>hdr_recorder</em>
+     */
+    default HdrRecorderMode getHdrRecorderMode() {
+        return this.getParams().getOptionalString("hdr_recorder").map(HdrRecorderMode::valueOf).orElse(HdrRecorderMode.shared);
+    }
+
     RunStateTally getRunStateTally();
 }
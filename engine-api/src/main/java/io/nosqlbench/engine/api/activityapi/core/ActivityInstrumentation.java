@@ -70,6 +70,25 @@ public interface ActivityInstrumentation {
      */
     Timer getCyclesResponseTimerOrNull();
 
+    /**
+     * The cycles service timer for the motor in the given slot. When motors are spread over NUMA
+     * nodes with <em>affinity=numa</em>, this is a timer for the node of the slot, labeled with it,
+     * which also updates the activity-wide timer.
+     * @return a new or existing {@link Timer}
+     */
+    default Timer getOrCreateCyclesServiceTimer(long slot) {
+        return getOrCreateCyclesServiceTimer();
+    }
+
+    /**
+     * The cycles response timer for the motor in the given slot, as with
+     * {@link #getOrCreateCyclesServiceTimer(long)}.
+     * @return a new or existing {@link Timer} if appropriate, else null
+     */
+    default Timer getCyclesResponseTimerOrNull(long slot) {
+        return getCyclesResponseTimerOrNull();
+    }
+
     /**
      * The pending ops counter keeps track of how many ops are submitted or in-flight, but
      * which haven't been completed yet.
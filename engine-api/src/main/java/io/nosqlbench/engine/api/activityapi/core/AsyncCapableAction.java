@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.core;
+
+/**
+ * An AsyncCapableAction is a {@link SyncAction} which may leave operations in flight
+ * after {@link #runCycle(long)} returns, when the <em>async</em> activity parameter
+ * is provided. The motor is responsible for waiting on these before it is considered
+ * finished or stopped.
+ * <p>
+ * Since a cycle may complete after it is run by the motor, an AsyncCapableAction is also
+ * responsible for recording the cycle service and response time metrics.
+ */
+public interface AsyncCapableAction extends SyncAction {
+
+    /**
+     * Run a cycle which was intended to start at the given instant, as determined by the
+     * cycle rate limiter. The response time of the cycle is measured from this instant to
+     * when the cycle completes, including any time spent waiting to be started.
+     *
+     * @param cycle a long input
+     * @param intendedStartNanos the {@link System#nanoTime()} instant this cycle should have started
+     * @return an int status
+     */
+    int runCycle(long cycle, long intendedStartNanos);
+
+    /**
+     * Wait until all operations which were started by this action have completed.
+     *
+     * @param timeoutMillis The maximum number of milliseconds to wait
+     * @return true, if there are no more operations in flight
+     */
+    boolean awaitCompletion(long timeoutMillis);
+
+}
@@ -21,9 +21,16 @@ import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.api.engine.activityimpl.ParameterMap;
+import io.nosqlbench.api.engine.metrics.HdrRecorderMode;
 import io.nosqlbench.api.engine.metrics.instruments.NBMetricCounter;
 import io.nosqlbench.api.engine.metrics.instruments.NBMetricHistogram;
 import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.engine.api.activityimpl.motor.MotorAffinity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ComponentActivityInstrumentation implements ActivityInstrumentation {
 
@@ -35,6 +42,7 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     private final ActivityDef def;
     private final ParameterMap params;
     private final int hdrdigits;
+    private final HdrRecorderMode recorderMode;
     private NBMetricTimer readInputTimer;
     private NBMetricTimer stridesServiceTimer;
     private NBMetricTimer stridesResponseTimer;
@@ -48,43 +56,50 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     private NBMetricTimer resultSuccessTimer;
     private NBMetricHistogram triesHistogram;
     private NBMetricTimer verifierTimer;
+    private final MotorAffinity affinity;
+    private final Map<Integer, NodeTimers> nodeTimers = new ConcurrentHashMap<>();
 
     public ComponentActivityInstrumentation(final Activity activity) {
         this.activity = activity;
         def = activity.getActivityDef();
         params = this.def.getParams();
         hdrdigits = activity.getHdrDigits();
+        recorderMode = activity.getHdrRecorderMode();
+        affinity = MotorAffinity.of(def);
         initMetrics();
     }
 
     private void initMetrics() {
-        readInputTimer=activity.create().timer("read_input",this.hdrdigits);
-        stridesServiceTimer=activity.create().timer("strides",this.hdrdigits);
+        readInputTimer=activity.create().timer("read_input",this.hdrdigits, recorderMode);
+        stridesServiceTimer=activity.create().timer("strides",this.hdrdigits, recorderMode);
         if (null != activity.getStrideLimiter()) {
             this.stridesResponseTimer = activity.create().timer(
                 "strides" + ComponentActivityInstrumentation.RESPONSE_TIME,
-                hdrdigits
+                hdrdigits,
+                recorderMode
             );
         }
         this.cyclesServiceTimer = activity.create().timer(
             "cycles"+ComponentActivityInstrumentation.SERVICE_TIME,
-            hdrdigits
+            hdrdigits,
+            recorderMode
         );
         if (null != activity.getCycleLimiter()) {
             this.cyclesResponseTimer = activity.create().timer(
                 "cycles" + ComponentActivityInstrumentation.RESPONSE_TIME,
-                hdrdigits
+                hdrdigits,
+                recorderMode
             );
         }
         this.pendingOpsCounter=activity.create().counter("pending_ops");
         this.opTrackerBlockedCounter=activity.create().counter("optracker_blocked");
 
-        this.bindTimer = activity.create().timer("bind",hdrdigits);
-        this.executeTimer = activity.create().timer("execute",hdrdigits);
-        this.resultTimer = activity.create().timer("result",hdrdigits);
-        this.resultSuccessTimer = activity.create().timer("result_success",hdrdigits);
-        this.triesHistogram = activity.create().histogram("tries",hdrdigits);
-        this.verifierTimer = activity.create().timer("verifier",hdrdigits);
+        this.bindTimer = activity.create().timer("bind",hdrdigits, recorderMode);
+        this.executeTimer = activity.create().timer("execute",hdrdigits, recorderMode);
+        this.resultTimer = activity.create().timer("result",hdrdigits, recorderMode);
+        this.resultSuccessTimer = activity.create().timer("result_success",hdrdigits, recorderMode);
+        this.triesHistogram = activity.create().histogram("tries",hdrdigits, recorderMode);
+        this.verifierTimer = activity.create().timer("verifier",hdrdigits, recorderMode);
     }
 
 
@@ -115,6 +130,20 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
         return cyclesResponseTimer;
     }
 
+    @Override
+    public Timer getOrCreateCyclesServiceTimer(long slot) {
+        return affinity.isNuma() ? nodeTimers(slot).serviceTimer : cyclesServiceTimer;
+    }
+
+    @Override
+    public Timer getCyclesResponseTimerOrNull(long slot) {
+        return affinity.isNuma() ? nodeTimers(slot).responseTimer : cyclesResponseTimer;
+    }
+
+    private NodeTimers nodeTimers(long slot) {
+        return nodeTimers.computeIfAbsent(affinity.nodeOf(slot), NodeTimers::new);
+    }
+
     @Override
     public  Counter getOrCreatePendingOpCounter() {
         return pendingOpsCounter;
@@ -154,4 +183,24 @@ public class ComponentActivityInstrumentation implements ActivityInstrumentation
     public Timer getOrCreateVerifierTimer() {
         return verifierTimer;
     }
+
+    /**
+     * The cycle timers of the motors on one NUMA node, labeled with the node. Each is a part of the
+     * activity-wide timer, so that each cycle is recorded once, on its node, and the activity totals
+     * merge all nodes when they are read.
+     */
+    private final class NodeTimers extends NBBaseComponent {
+        private final NBMetricTimer serviceTimer;
+        private final NBMetricTimer responseTimer;
+
+        private NodeTimers(int node) {
+            super(activity, NBLabels.forKV("node", String.valueOf(node)));
+            serviceTimer = create().timerPart("cycles" + SERVICE_TIME, cyclesServiceTimer);
+            if (null != cyclesResponseTimer) {
+                responseTimer = create().timerPart("cycles" + RESPONSE_TIME, cyclesResponseTimer);
+            } else {
+                responseTimer = null;
+            }
+        }
+    }
 }
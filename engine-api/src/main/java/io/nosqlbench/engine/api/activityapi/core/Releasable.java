@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.core;
+
+/**
+ * Implemented by motor components which hold work claimed for one motor, like cycles which it has
+ * not run yet. The motor calls {@link #release()} from its own thread when it stops running, so that
+ * the work can be given to other motors.
+ */
+public interface Releasable {
+    void release();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.core;
+
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.errors.BasicError;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The thread model determines what kind of thread each motor of an activity is run on.
+ * It is selected with the <em>threadmodel</em> activity parameter.
+ */
+public enum ThreadModel {
+
+    /**
+     * Each motor runs on a dedicated platform thread. This is the default.
+     */
+    platform,
+
+    /**
+     * Each motor runs on a virtual thread, allowing for very large numbers of motors
+     * against high-latency targets. Adapters which block while holding an object monitor
+     * will pin the carrier thread, which is reported by the pinning metrics.
+     */
+    virtual;
+
+    public static ThreadModel of(ActivityDef activityDef) {
+        String spec = activityDef.getParams().getOptionalString("threadmodel").orElse(platform.name());
+        try {
+            return ThreadModel.valueOf(spec.toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BasicError("Invalid threadmodel '" + spec + "', must be one of " + Arrays.toString(values()));
+        }
+    }
+}
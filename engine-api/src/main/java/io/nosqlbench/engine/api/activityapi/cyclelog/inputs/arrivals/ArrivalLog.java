@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import io.nosqlbench.api.errors.BasicError;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>A memory-mapped log of recorded op arrivals, as written by {@link ArrivalLogWriter}. Each
+ * record is one cycle, in order, with the time at which it is intended to start and the index of
+ * the op which is to be run for it.</p>
+ *
+ * <p>The format is big-endian. A header of the magic number {@link #MAGIC} and the format
+ * {@link #VERSION}, as two ints, is followed by one 12 byte record per cycle:</p>
+ * <ul>
+ *     <li>a long, the intended start of the cycle in nanoseconds from the first record, which is
+ *     never less than that of the record before it</li>
+ *     <li>an int, the index of the op to run among the ops of the activity, or -1 for
+ *     the op which the op sequence would select</li>
+ * </ul>
+ */
+public class ArrivalLog implements AutoCloseable {
+    public final static int MAGIC = 0x4E424152; // NBAR
+    public final static int VERSION = 1;
+    public final static int HEADER_BYTES = 8;
+    public final static int RECORD_BYTES = 12;
+
+    private final String filename;
+    private final RandomAccessFile raf;
+    private final MappedByteBuffer mbb;
+    private final long size;
+
+    public ArrivalLog(String filename) {
+        this.filename = filename;
+        this.size = sizeOf(new File(filename));
+        try {
+            raf = new RandomAccessFile(filename, "r");
+            mbb = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        if (mbb.getInt(0) != MAGIC || mbb.getInt(4) != VERSION) {
+            throw new BasicError("'" + filename + "' is not a version " + VERSION + " arrival log");
+        }
+    }
+
+    /**
+     * @return The number of records in an arrival log, from the length of the file
+     */
+    public static long sizeOf(File file) {
+        if (!file.exists()) {
+            throw new BasicError("arrival log '" + file + "' does not exist");
+        }
+        long length = file.length();
+        if (length < HEADER_BYTES || (length - HEADER_BYTES) % RECORD_BYTES != 0) {
+            throw new BasicError("'" + file + "' has a length of " + length + ", which is not that of an arrival log");
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new BasicError("'" + file + "' is larger than the 2GB which can be mapped at once, so split it by time");
+        }
+        return (length - HEADER_BYTES) / RECORD_BYTES;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return The intended start of a record, in nanoseconds from the first record
+     */
+    public long offsetNanos(long index) {
+        return mbb.getLong(position(index));
+    }
+
+    /**
+     * @return The op index of a record, or -1 if none was recorded
+     */
+    public int opIndex(long index) {
+        return mbb.getInt(position(index) + 8);
+    }
+
+    private int position(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("record " + index + " is not in arrival log '" + filename + "' of " + size + " records");
+        }
+        return (int) (HEADER_BYTES + index * RECORD_BYTES);
+    }
+
+    @Override
+    public void close() throws IOException {
+        raf.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ArrivalLog{" + filename + ", records=" + size + '}';
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a text file of arrivals to an {@link ArrivalLog}. Each line is the time of an arrival in
+ * milliseconds, which may be fractional, optionally followed by the index of the op to run for it,
+ * separated by a comma or spaces. Times may be absolute, as epoch millis, since they are replayed
+ * relative to the first one. Empty lines and lines starting with # are skipped.
+ */
+public class ArrivalLogImporterUtility {
+
+    private final static Pattern linePattern = Pattern.compile("\\s*(?<millis>\\d+(\\.\\d+)?)\\s*([,\\s]\\s*(?<op>-?\\d+))?\\s*");
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("USAGE: --import-arrival-log <input-textfile> <output-arrivals>");
+            return;
+        }
+        try {
+            long count = new ArrivalLogImporterUtility().convert(args[0], args[1]);
+            System.out.println("imported " + count + " arrivals to " + args[1]);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    long convert(String infile, String outfile) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new FileReader(infile));
+             ArrivalLogWriter writer = new ArrivalLogWriter(outfile)) {
+            double firstMillis = Double.NaN;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.trim().startsWith("#")) {
+                    continue;
+                }
+                Matcher matcher = linePattern.matcher(line);
+                if (!matcher.matches()) {
+                    throw new RuntimeException("Unrecognized line format on import: " + line);
+                }
+                double millis = Double.parseDouble(matcher.group("millis"));
+                if (Double.isNaN(firstMillis)) {
+                    firstMillis = millis;
+                }
+                String op = matcher.group("op");
+                writer.append(Math.round((millis - firstMillis) * 1_000_000.0d), op == null ? -1 : Integer.parseInt(op));
+            }
+            return writer.getCount();
+        }
+    }
+}
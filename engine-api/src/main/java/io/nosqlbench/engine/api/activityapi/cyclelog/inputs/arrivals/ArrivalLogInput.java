@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.ScheduledInput;
+import io.nosqlbench.engine.api.activityimpl.input.InputInterval;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>Replays an {@link ArrivalLog} on its recorded schedule. Cycles are provided in the order of the
+ * log, and each is started when it is due, relative to when the first cycle was started and divided
+ * by the speed. The schedule is open-loop: when cycles are started late, as when all threads are busy,
+ * the cycles after them are still due at their recorded times, and are not pushed back.</p>
+ *
+ * <p>Since the log is in order of arrival, the next cycle to be claimed is always the next one due,
+ * so a cursor into the log is all the timer queue that is needed. How late each cycle is started
+ * is reported as the <em>arrival_lateness</em> timer.</p>
+ */
+public class ArrivalLogInput extends NBBaseComponent implements ScheduledInput {
+    private final static Logger logger = LogManager.getLogger(ArrivalLogInput.class);
+
+    private final ArrivalLog log;
+    private final double speed;
+    private final long first;
+    private final long last;
+    private final long firstOffsetNanos;
+    private final AtomicLong next;
+    private final AtomicLong baseNanos = new AtomicLong(Long.MIN_VALUE);
+    private final NBMetricTimer lateness;
+
+    /**
+     * @param cycles
+     *     The range of records to replay, which is limited to those in the log
+     * @param speed
+     *     How much faster than recorded to replay, as 2.0 for twice as fast
+     */
+    public ArrivalLogInput(NBComponent parent, String filename, CyclesSpec cycles, double speed) {
+        super(parent);
+        if (!(speed > 0.0d)) {
+            throw new BasicError("The speed of an arrival log replay must be more than zero, not " + speed);
+        }
+        this.log = new ArrivalLog(filename);
+        this.speed = speed;
+        this.first = Math.min(cycles.first_inclusive(), log.size());
+        this.last = Math.min(cycles.last_exclusive(), log.size());
+        if (cycles.last_exclusive() > log.size()) {
+            logger.info(() -> "replaying cycles " + first + ".." + last + " of " + cycles + ", since " + log + " has no more");
+        }
+        this.firstOffsetNanos = (first < last) ? log.offsetNanos(first) : 0L;
+        this.next = new AtomicLong(first);
+        this.lateness = create().timer("arrival_lateness", 3);
+        create().gauge("arrival_cycle", () -> (double) next.get());
+    }
+
+    /**
+     * @param spec
+     *     A speed as a factor, like 2 or 2x for twice as fast as recorded
+     */
+    public static double parseSpeed(String spec) {
+        String factor = spec.endsWith("x") ? spec.substring(0, spec.length() - 1) : spec;
+        try {
+            return Double.parseDouble(factor);
+        } catch (NumberFormatException e) {
+            throw new BasicError("Unable to parse replay speed '" + spec + "', which should be a factor like 2 or 0.5x");
+        }
+    }
+
+    @Override
+    public CycleSegment getInputSegment(int segmentLength) {
+        while (true) {
+            long start = next.get();
+            if (start >= last) {
+                return null;
+            }
+            long end = Math.min(start + segmentLength, last);
+            if (next.compareAndSet(start, end)) {
+                return new InputInterval.Segment(0L, start, end);
+            }
+        }
+    }
+
+    @Override
+    public long awaitStart(long cycle) {
+        long intended = intendedStartNanos(cycle);
+        long now = System.nanoTime();
+        while (now < intended) {
+            LockSupport.parkNanos(this, intended - now);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            now = System.nanoTime();
+        }
+        long late = Math.max(0L, now - intended);
+        lateness.update(late, TimeUnit.NANOSECONDS);
+        return late;
+    }
+
+    /**
+     * @return When a cycle is due, in {@link System#nanoTime()}, as set by the first cycle which is awaited
+     */
+    public long intendedStartNanos(long cycle) {
+        long base = baseNanos.get();
+        if (base == Long.MIN_VALUE) {
+            baseNanos.compareAndSet(Long.MIN_VALUE, System.nanoTime());
+            base = baseNanos.get();
+        }
+        return base + (long) ((log.offsetNanos(cycle) - firstOffsetNanos) / speed);
+    }
+
+    @Override
+    public int opIndexFor(long cycle) {
+        return log.opIndex(cycle);
+    }
+
+    @Override
+    public boolean isContiguous() {
+        return true;
+    }
+
+    @Override
+    protected void teardown() {
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.warn("Unable to close " + log + ": " + e);
+        }
+        super.teardown();
+    }
+
+    @Override
+    public String toString() {
+        return "ArrivalLogInput{" + log + ", cycles=" + first + ".." + last + ", speed=" + speed + '}';
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityapi.input.InputDispenser;
+import io.nosqlbench.engine.api.activityapi.input.InputType;
+import io.nosqlbench.engine.api.util.SimpleConfig;
+import io.nosqlbench.nb.annotations.Service;
+
+import java.io.File;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Replays an arrival log, as with {@code input=type:arrivals,file:traffic.arrivals,speed:2}.
+ * The file defaults to the alias of the activity with an <em>.arrivals</em> extension,
+ * and the speed to 1.
+ */
+@Service(value = InputType.class, selector = "arrivals")
+public class ArrivalLogInputType implements InputType {
+
+    @Override
+    public InputDispenser getInputDispenser(Activity activity) {
+        return new Dispenser(activity);
+    }
+
+    @Override
+    public OptionalLong getCycleCount(Activity activity) {
+        return OptionalLong.of(ArrivalLog.sizeOf(new File(filenameFor(activity))));
+    }
+
+    /**
+     * A thread waits for each cycle of its stride in turn, so with a longer stride, cycles which are
+     * due would wait behind others in the same stride while other threads are idle.
+     */
+    @Override
+    public OptionalInt getRequiredStride(Activity activity) {
+        return OptionalInt.of(1);
+    }
+
+    private static String filenameFor(Activity activity) {
+        return new SimpleConfig(activity, "input").getString("file").orElse(activity.getAlias() + ".arrivals");
+    }
+
+    public static class Dispenser implements InputDispenser {
+
+        private final ArrivalLogInput input;
+
+        public Dispenser(Activity activity) {
+            SimpleConfig conf = new SimpleConfig(activity, "input");
+            this.input = new ArrivalLogInput(
+                activity,
+                filenameFor(activity),
+                activity.getActivityDef().getCyclesSpec(),
+                ArrivalLogInput.parseSpeed(conf.getString("speed").orElse("1"))
+            );
+        }
+
+        @Override
+        public Input getInput(long slot) {
+            return input;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes an {@link ArrivalLog}, one arrival at a time, in the order they are to be replayed.
+ */
+public class ArrivalLogWriter implements AutoCloseable {
+
+    private final DataOutputStream out;
+    private long lastOffsetNanos = 0L;
+    private long count = 0L;
+
+    public ArrivalLogWriter(String filename) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename), 1 << 16));
+        out.writeInt(ArrivalLog.MAGIC);
+        out.writeInt(ArrivalLog.VERSION);
+    }
+
+    /**
+     * @param offsetNanos
+     *     When the arrival is intended to start, in nanoseconds from the first arrival
+     * @param opIndex
+     *     The index of the op to run, or -1 for the op which the op sequence would select
+     */
+    public void append(long offsetNanos, int opIndex) throws IOException {
+        if (offsetNanos < lastOffsetNanos) {
+            throw new IllegalArgumentException("arrival " + count + " at " + offsetNanos + "ns is before the one before it at " + lastOffsetNanos + "ns");
+        }
+        if (opIndex < -1) {
+            throw new IllegalArgumentException("op index must be -1 or more, not " + opIndex);
+        }
+        out.writeLong(offsetNanos);
+        out.writeInt(opIndex);
+        lastOffsetNanos = offsetNanos;
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -20,6 +20,8 @@ public class ErrorDetail {
     public final Retry retryable;
     public final int resultCode;
     public final String name;
+    public final long retryDelayNanos;
+    public final long retryMaxDelayNanos;
 
     public boolean isRetryable() {
         return retryable == Retry.DoRetry;
@@ -32,23 +34,53 @@ public class ErrorDetail {
     }
 
     public ErrorDetail(String name, Retry retryable, int resultCode) {
+        this(name, retryable, resultCode, 0L, 0L);
+    }
+
+    public ErrorDetail(String name, Retry retryable, int resultCode, long retryDelayNanos, long retryMaxDelayNanos) {
         this.name = name;
         this.resultCode = resultCode;
         this.retryable = retryable;
+        this.retryDelayNanos = retryDelayNanos;
+        this.retryMaxDelayNanos = retryMaxDelayNanos;
     }
 
     public ErrorDetail withResultCode(int resultCode) {
         if (this.resultCode == resultCode) {
             return this;
         }
-        return new ErrorDetail(name, this.retryable, resultCode);
+        return new ErrorDetail(name, this.retryable, resultCode, retryDelayNanos, retryMaxDelayNanos);
     }
 
     public ErrorDetail withRetryable() {
         if (this.retryable == Retry.DoRetry) {
             return this;
         }
-        return new ErrorDetail(name, Retry.DoRetry, this.resultCode);
+        return new ErrorDetail(name, Retry.DoRetry, this.resultCode, retryDelayNanos, retryMaxDelayNanos);
+    }
+
+    /**
+     * @param delayNanos
+     *     The delay before the first retry, which is doubled for each retry after it
+     * @param maxDelayNanos
+     *     The most that the delay is doubled to
+     */
+    public ErrorDetail withRetryBackoff(long delayNanos, long maxDelayNanos) {
+        return new ErrorDetail(name, Retry.DoRetry, this.resultCode, delayNanos, maxDelayNanos);
+    }
+
+    /**
+     * @param tries
+     *     The number of tries so far, from 1
+     * @return How long to wait before the next try, or 0 to retry at once
+     */
+    public long getRetryDelayNanos(int tries) {
+        if (retryDelayNanos <= 0L) {
+            return 0L;
+        }
+        int doublings = Math.min(Math.max(0, tries - 1), 62);
+        long delay = (retryDelayNanos > (Long.MAX_VALUE >> doublings)) ? Long.MAX_VALUE : retryDelayNanos << doublings;
+        return Math.min(delay, retryMaxDelayNanos);
     }
 
     public static ErrorDetail OK = new ErrorDetail("OK",Retry.Unset, 0);
@@ -16,14 +16,54 @@
 
 package io.nosqlbench.engine.api.activityapi.errorhandling.modular.handlers;
 
+import io.nosqlbench.api.config.standard.ConfigModel;
+import io.nosqlbench.api.config.standard.NBConfigModel;
+import io.nosqlbench.api.config.standard.NBMapConfigurable;
+import io.nosqlbench.api.config.standard.Param;
+import io.nosqlbench.api.engine.util.Unit;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorDetail;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorHandler;
 import io.nosqlbench.nb.annotations.Service;
 
+import java.util.Map;
+
+/**
+ * Mark an error as retryable. With a <em>delay</em>, as in {@code handler=retry delay=10ms maxdelay=1s},
+ * each retry waits twice as long as the one before it, up to <em>maxdelay</em>, which defaults
+ * to 100 times the delay.
+ */
 @Service(value = ErrorHandler.class, selector = "retry")
-public class RetryErrorHandler implements ErrorHandler {
+public class RetryErrorHandler implements ErrorHandler, NBMapConfigurable {
+
+    private long delayNanos = 0L;
+    private long maxDelayNanos = 0L;
+
     @Override
     public ErrorDetail handleError(String name, Throwable t, long cycle, long durationInNanos, ErrorDetail detail) {
-        return detail.withRetryable();
+        return (delayNanos > 0L) ? detail.withRetryBackoff(delayNanos, maxDelayNanos) : detail.withRetryable();
+    }
+
+    @Override
+    public void applyConfig(Map<String, ?> providedConfig) {
+        Object delay = providedConfig.get("delay");
+        if (delay != null) {
+            this.delayNanos = nanosFor("delay", delay.toString());
+            Object maxDelay = providedConfig.get("maxdelay");
+            this.maxDelayNanos = (maxDelay != null) ? nanosFor("maxdelay", maxDelay.toString()) : delayNanos * 100;
+        }
+    }
+
+    private static long nanosFor(String name, String spec) {
+        return Unit.nanosecondsFor(spec).orElseThrow(
+            () -> new RuntimeException("Unable to parse retry " + name + " '" + spec + "' as a duration, like 10ms")
+        );
+    }
+
+    @Override
+    public NBConfigModel getConfigModel() {
+        return ConfigModel.of(this.getClass())
+            .add(Param.optional("delay", String.class))
+            .add(Param.optional("maxdelay", String.class))
+            .asReadOnly();
     }
 }
@@ -20,10 +20,29 @@ import io.nosqlbench.engine.api.activityapi.core.Activity;
 import io.nosqlbench.nb.annotations.Maturity;
 import io.nosqlbench.api.spi.SimpleServiceLoader;
 
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
 public interface InputType {
 
     SimpleServiceLoader<InputType> FINDER =
         new SimpleServiceLoader<>(InputType.class, Maturity.Any);
 
     InputDispenser getInputDispenser(Activity activity);
+
+    /**
+     * @return The number of cycles which this input would provide for the activity, if this is known
+     * before it is created, as for a log of recorded cycles. This is used as the default for cycles.
+     */
+    default OptionalLong getCycleCount(Activity activity) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * @return The stride which this input requires, if any, as for an input which schedules each
+     * cycle on its own. This overrides the stride of the activity.
+     */
+    default OptionalInt getRequiredStride(Activity activity) {
+        return OptionalInt.empty();
+    }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.input;
+
+/**
+ * Any action that implements ScheduleAware will be given the {@link ScheduledInput}
+ * of its motor, if it has one, before the first cycle is dispatched.
+ */
+public interface ScheduleAware {
+
+    /**
+     * @param schedule The input which decides when, and with which op, each cycle is run
+     */
+    void setSchedule(ScheduledInput schedule);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.input;
+
+/**
+ * An input which decides when each of its cycles is to be started, and optionally which op is run
+ * for it, as when a recorded schedule is replayed. A motor which takes cycles from a scheduled
+ * input waits for each of them with the input instead of with the cycle rate limiter, and any
+ * action which is {@link ScheduleAware} is given the input before the first cycle.
+ */
+public interface ScheduledInput extends Input {
+
+    /**
+     * Wait until a cycle is due. This is called from the motor thread which will run the cycle.
+     * @param cycle The cycle, as provided by this input
+     * @return How many nanoseconds after its intended start the cycle is started, or 0 if it is on time
+     */
+    long awaitStart(long cycle);
+
+    /**
+     * @param cycle The cycle, as provided by this input
+     * @return The index of the op to run for the cycle, among the ops of the op sequence,
+     * or -1 to select it from the op sequence as usual
+     */
+    default int opIndexFor(long cycle) {
+        return -1;
+    }
+
+    /**
+     * Report that the ops of a cycle are done, as when a session is ready for its next op after
+     * thinking. This is called by a {@link ScheduleAware} action, from whichever thread completes the cycle.
+     * @param cycle The cycle, as provided by this input
+     * @param thinkNanos How long to wait before the next cycle which follows from this one
+     */
+    default void onComplete(long cycle, long thinkNanos) {
+    }
+
+    /**
+     * Set the work to run on the calling thread while it waits for this input to provide cycles,
+     * as when the ops in flight of a motor must be completed from the motor thread.
+     * @param task The work to run, which should not block
+     */
+    default void setIdleTask(Runnable task) {
+    }
+}
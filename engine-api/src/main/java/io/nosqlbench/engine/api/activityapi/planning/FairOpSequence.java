@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.planning;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * <P>An op sequence which selects elements as they are started rather than by a fixed plan, so
+ * that their ratios hold for completed ops. Each element has a weight (its ratio), a budget of
+ * how many of it may be in flight at once, and optionally a rate at which it may be started.
+ * Of the elements which are within their budget and rate, the one with the fewest completions
+ * for its weight is selected.</P>
+ *
+ * <P>When one element becomes slow, only as many callers as its budget allows are held up by
+ * it, and the others go on selecting other elements. The budget of an element which does not
+ * have one is its share of the concurrency by weight, so that the budgets together are about
+ * the same as the concurrency.</P>
+ *
+ * <P>Callers must report each completion with {@link #onComplete(Object)}. The selector
+ * passed to {@link #apply(long)} is not used, other than by {@link #getSequence()}, which is
+ * the bucket sequence of the same ratios for the purpose of sizing strides.</P>
+ *
+ * @param <T>
+ *     The type of element which is to be sequenced
+ */
+public class FairOpSequence<T> implements OpSequence<T> {
+
+    private final List<T> elems;
+    private final long[] weights;
+    private final long totalWeight;
+    private final int[] budgets;
+    private final long[] intervals;
+    private final int[] seq;
+    private final IntSupplier concurrency;
+    private final AtomicIntegerArray inflight;
+    private final AtomicLongArray completed;
+    private final AtomicLongArray nextStartAt;
+
+    /**
+     * @param elems
+     *     The elements to select
+     * @param weights
+     *     The weight of each element, which must be positive
+     * @param budgets
+     *     How many of each element may be in flight, or 0 for its share of the concurrency
+     * @param rates
+     *     How many of each element may be started per second, or 0 for no limit
+     * @param concurrency
+     *     The total number of elements which may be in flight, as with threads or async
+     */
+    public FairOpSequence(List<T> elems, long[] weights, int[] budgets, double[] rates, IntSupplier concurrency) {
+        this.elems = elems;
+        this.weights = weights;
+        this.totalWeight = Arrays.stream(weights).sum();
+        this.budgets = budgets;
+        this.intervals = Arrays.stream(rates).mapToLong(r -> (r > 0.0d) ? (long) (1_000_000_000.0d / r) : 0L).toArray();
+        this.seq = new BucketSequencer<T>().seqIndexesByRatios(elems, Arrays.stream(weights).boxed().toList());
+        this.concurrency = concurrency;
+        this.inflight = new AtomicIntegerArray(elems.size());
+        this.completed = new AtomicLongArray(elems.size());
+        this.nextStartAt = new AtomicLongArray(elems.size());
+        for (int i = 0; i < elems.size(); i++) {
+            nextStartAt.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * Select an element, waiting until one can be started.
+     */
+    @Override
+    public T apply(long selector) {
+        T elem;
+        while ((elem = tryApply(selector)) == null) {
+            LockSupport.parkNanos(50_000L);
+        }
+        return elem;
+    }
+
+    @Override
+    public T tryApply(long selector) {
+        int total = concurrency.getAsInt();
+        long now = System.nanoTime();
+        for (int attempt = 0; attempt < elems.size(); attempt++) {
+            int selected = -1;
+            double lowestScore = Double.MAX_VALUE;
+            double lowestLoad = Double.MAX_VALUE;
+            for (int i = 0; i < elems.size(); i++) {
+                int current = inflight.get(i);
+                if (current >= budgetOf(i, total) || (intervals[i] > 0L && nextStartAt.get(i) > now)) {
+                    continue;
+                }
+                double score = (double) completed.get(i) / weights[i];
+                double load = (double) current / weights[i];
+                if (score < lowestScore || (score == lowestScore && load < lowestLoad)) {
+                    selected = i;
+                    lowestScore = score;
+                    lowestLoad = load;
+                }
+            }
+            if (selected < 0) {
+                return null;
+            }
+            if (inflight.incrementAndGet(selected) > budgetOf(selected, total)) {
+                inflight.decrementAndGet(selected);
+                continue;
+            }
+            if (intervals[selected] > 0L) {
+                long startAt = nextStartAt.get(selected);
+                if (startAt > now || !nextStartAt.compareAndSet(selected, startAt, Math.max(startAt, now) + intervals[selected])) {
+                    inflight.decrementAndGet(selected);
+                    continue;
+                }
+            }
+            return elems.get(selected);
+        }
+        return null;
+    }
+
+    @Override
+    public void onComplete(T element) {
+        for (int i = 0; i < elems.size(); i++) {
+            if (elems.get(i) == element) {
+                inflight.decrementAndGet(i);
+                completed.incrementAndGet(i);
+                return;
+            }
+        }
+    }
+
+    private int budgetOf(int index, int total) {
+        if (budgets[index] > 0) {
+            return budgets[index];
+        }
+        return (int) Math.max(1L, (Math.max(1, total) * weights[index] + totalWeight - 1) / totalWeight);
+    }
+
+    /**
+     * @return how many of the element at this index have completed
+     */
+    public long getCompleted(int index) {
+        return completed.get(index);
+    }
+
+    /**
+     * @return how many of the element at this index are in flight
+     */
+    public int getInflight(int index) {
+        return inflight.get(index);
+    }
+
+    @Override
+    public List<T> getOps() {
+        return elems;
+    }
+
+    @Override
+    public int[] getSequence() {
+        return seq;
+    }
+
+    @Override
+    public <U> FairOpSequence<U> transform(Function<T, U> func) {
+        double[] rates = Arrays.stream(intervals).mapToDouble(i -> (i > 0L) ? 1_000_000_000.0d / i : 0.0d).toArray();
+        return new FairOpSequence<>(elems.stream().map(func).collect(Collectors.toList()), weights, budgets, rates, concurrency);
+    }
+
+    @Override
+    public String toString() {
+        return "fair seq weights=" + Arrays.toString(weights) + ", inflight=" + inflight + ", completed=" + completed;
+    }
+}
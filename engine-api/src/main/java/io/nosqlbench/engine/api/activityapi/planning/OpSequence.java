@@ -40,6 +40,25 @@ public interface OpSequence<T> extends LongFunction<T> {
      */
     int[] getSequence();
 
+    /**
+     * Select an element only if it can be started now. For sequences which are planned in
+     * advance, this is the same as {@link #apply(long)}. Sequences which schedule elements by
+     * how many of them are in flight return null when none can be started yet.
+     * @param selector The selector, usually the cycle
+     * @return An element, or null
+     */
+    default T tryApply(long selector) {
+        return apply(selector);
+    }
+
+    /**
+     * Report that the work of an element which was selected by this sequence is done,
+     * successfully or not.
+     * @param element An element which was returned by {@link #apply(long)} or {@link #tryApply(long)}
+     */
+    default void onComplete(T element) {
+    }
+
     /**
      * Map this OpSequence to another type of OpSequence.
      * @param func The transformation function from this to another type
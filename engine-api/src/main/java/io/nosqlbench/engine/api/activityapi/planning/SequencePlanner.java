@@ -21,6 +21,7 @@ import org.apache.logging.log4j.LogManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntSupplier;
 import java.util.function.ToLongFunction;
 
 public class SequencePlanner<T> {
@@ -28,20 +29,45 @@ public class SequencePlanner<T> {
     private final SequencerType sequencerType;
     private final List<T> elements = new ArrayList<>();
     private final List<Long> ratios = new ArrayList<>();
+    private final List<Integer> budgets = new ArrayList<>();
+    private final List<Double> rates = new ArrayList<>();
+    private final IntSupplier concurrency;
     private int[] elementIndex;
 
     public SequencePlanner(SequencerType sequencerType) {
+        this(sequencerType, () -> 1);
+    }
+
+    /**
+     * @param concurrency
+     *     The number of elements which may be in flight, for the {@link SequencerType#fair} sequencer
+     */
+    public SequencePlanner(SequencerType sequencerType, IntSupplier concurrency) {
         this.sequencerType = sequencerType;
+        this.concurrency = concurrency;
     }
 
     public void addOp(T elem, ToLongFunction<T> ratioFunc) {
-        this.elements.add(elem);
-        this.ratios.add(ratioFunc.applyAsLong(elem));
+        addOp(elem, ratioFunc.applyAsLong(elem));
     }
 
     public void addOp(T elem, long func) {
+        addOp(elem, func, 0, 0.0d);
+    }
+
+    /**
+     * Add an element with a budget and rate, which are used only by the {@link SequencerType#fair} sequencer.
+     *
+     * @param budget
+     *     How many of this element may be in flight, or 0 for its share of the concurrency
+     * @param rate
+     *     How many of this element may be started per second, or 0 for no limit
+     */
+    public void addOp(T elem, long ratio, int budget, double rate) {
         this.elements.add(elem);
-        this.ratios.add(func);
+        this.ratios.add(ratio);
+        this.budgets.add(budget);
+        this.rates.add(rate);
     }
 
     public OpSequence<T> resolve() {
@@ -57,6 +83,16 @@ public class SequencePlanner<T> {
             case concat:
                 logger.trace("sequencing elements by concatenation");
                 this.elementIndex = new ConcatSequencer<T>().seqIndexesByRatios(elements, ratios);
+                break;
+            case fair:
+                logger.trace("sequencing elements by completions, within budgets");
+                return new FairOpSequence<>(
+                    elements,
+                    ratios.stream().mapToLong(Long::longValue).toArray(),
+                    budgets.stream().mapToInt(Integer::intValue).toArray(),
+                    rates.stream().mapToDouble(Double::doubleValue).toArray(),
+                    concurrency
+                );
         }
         return new Sequence<>(sequencerType, elements, elementIndex);
     }
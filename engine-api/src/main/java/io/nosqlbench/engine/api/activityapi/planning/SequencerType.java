@@ -31,5 +31,9 @@ public enum SequencerType {
     /** Space out elements each according to their frequency over the unit interval, with
     // order of appearance taking precedence over equal timing, then take all events in
     // the order that they appear on the unit interval. */
-    interval
+    interval,
+
+    /** Select elements as they are started, so that their ratios hold for completed ops, with
+     * each element limited to its own budget of ops in flight, and optionally to its own rate. */
+    fair
 }
@@ -18,8 +18,11 @@ package io.nosqlbench.engine.api.activityapi.ratelimits;
 
 import com.codahale.metrics.Gauge;
 import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.gcra.GcraRate;
+import io.nosqlbench.engine.api.activityapi.ratelimits.openloop.OpenLoopRate;
 import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRate;
 import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import io.nosqlbench.engine.api.activityapi.ratelimits.striped.StripedRate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,9 +31,27 @@ public enum RateLimiters {
     private static final Logger logger = LogManager.getLogger(RateLimiters.class);
 
     public static synchronized RateLimiter createOrUpdate(final NBComponent parent, final RateLimiter extant, final SimRateSpec spec) {
+        return createOrUpdate(parent, extant, spec, RateMode.simrate);
+    }
+
+    public static synchronized RateLimiter createOrUpdate(final NBComponent parent, final RateLimiter extant, final SimRateSpec spec, final RateMode mode) {
+        return createOrUpdate(parent, extant, spec, mode, StripedRate.DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param tolerance
+     *     The fraction of the rate by which a striped rate limiter may fall short before it
+     *     is rebalanced. This is only used for {@link RateMode#striped}.
+     */
+    public static synchronized RateLimiter createOrUpdate(final NBComponent parent, final RateLimiter extant, final SimRateSpec spec, final RateMode mode, final double tolerance) {
 
         if (null == extant) {
-            final RateLimiter rateLimiter= new SimRate(parent, spec);
+            final RateLimiter rateLimiter = switch (mode) {
+                case simrate -> new SimRate(parent, spec);
+                case open -> new OpenLoopRate(parent, spec);
+                case gcra -> new GcraRate(parent, spec);
+                case striped -> new StripedRate(parent, spec, tolerance);
+            };
 
             RateLimiters.logger.info(() -> "Using rate limiter: " + rateLimiter);
             return rateLimiter;
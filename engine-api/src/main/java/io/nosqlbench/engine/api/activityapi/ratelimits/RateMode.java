@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.errors.BasicError;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The rate mode selects which {@link RateLimiter} implementation is used for the
+ * rate parameters of an activity. It is set with the <em>ratemode</em> activity parameter.
+ */
+public enum RateMode {
+
+    /**
+     * A token bucket which is refilled periodically, with burst recovery of lost time.
+     * This is the default.
+     */
+    simrate,
+
+    /**
+     * An open-loop schedule, where every op has an intended start time which is
+     * fixed by the rate, regardless of how long previous ops took.
+     */
+    open,
+
+    /**
+     * A virtual clock (GCRA), where permits are computed from a single atomic timestamp,
+     * without a refill thread. Burst recovery of lost time works as for simrate.
+     */
+    gcra,
+
+    /**
+     * A share of the rate for each calling thread, which is rebalanced periodically
+     * according to how much of its share each thread uses.
+     */
+    striped;
+
+    public static RateMode of(ActivityDef activityDef) {
+        String spec = activityDef.getParams().getOptionalString("ratemode").orElse(simrate.name());
+        try {
+            return RateMode.valueOf(spec.toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BasicError("Invalid ratemode '" + spec + "', must be one of " + Arrays.toString(values()));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits.gcra;
+
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiter;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A rate limiter based on the generic cell rate algorithm (GCRA), also known as a virtual
+ * clock. Instead of a pool of permits which is refilled by a background thread, as in
+ * {@link io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRate}, all permits are
+ * computed from a single atomic timestamp: the <em>theoretical arrival time</em> of the next op.
+ * Each caller advances this clock by the time one op is worth with a single compare-and-set,
+ * and then waits until the clock value it claimed, if that is in the future.</P>
+ *
+ * <H2>Equivalence with SimRate</H2>
+ * <UL>
+ * <LI>The clock may fall behind the current time by at most one second. This is the same as
+ * the capacity of the active pool in SimRate. Callers which find the clock behind the current
+ * time are not blocked, so up to one second of unused time can be spent as fast as callers
+ * are able.</LI>
+ * <LI>Time beyond that is lost time, and is moved into a waiting pool, as in SimRate.</LI>
+ * <LI>While there is time in the waiting pool, each op is given a credit from it, such that
+ * ops are released at up to the burst ratio times the target rate, until the lost time is
+ * recovered. This is the same recovery rate that SimRate allows by backfilling its active pool
+ * from its waiting pool.</LI>
+ * </UL>
+ *
+ * <P>With no lost time to recover, the hot path is a read of the waiting pool and one CAS
+ * on the clock. There is no filler thread and no periodic refill, so ops are spaced evenly
+ * rather than being released in bursts at each refill interval.</P>
+ */
+public class GcraRate extends NBBaseComponent implements RateLimiter {
+    private final static Logger logger = LogManager.getLogger(GcraRate.class);
+
+    /**
+     * The most time that the clock may fall behind the current time without it being
+     * considered lost time.
+     */
+    private final static long TOLERANCE_NANOS = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(System.nanoTime());
+    private final AtomicLong waitingPool = new AtomicLong(0L);
+    private final AtomicLong cumulativeWaitNanos = new AtomicLong(0L);
+    private final LongAdder blocks = new LongAdder();
+
+    private volatile Pacing pacing;
+    private volatile SimRateSpec spec;
+    private volatile long startTime;
+
+    public GcraRate(NBComponent parent, SimRateSpec spec) {
+        super(parent, NBLabels.forKV());
+        applyRateSpec(spec);
+        create().gauge("cycles_waittime", () -> (double) getWaitTimeDuration().toNanos());
+        create().gauge("config_cyclerate", () -> this.spec.opsPerSec);
+        create().gauge("config_burstrate", () -> this.spec.burstRatio);
+    }
+
+    /**
+     * @param nanosPerOp
+     *     How far the clock is advanced for each op
+     * @param burstCreditNanos
+     *     The credit taken from the waiting pool for each op while there is lost time to recover,
+     *     so that the clock advances by only {@code nanosPerOp / burstRatio} per op
+     * @param toleranceNanos
+     *     How far the clock may fall behind the current time before the difference is lost time
+     */
+    private record Pacing(long nanosPerOp, long burstCreditNanos, long toleranceNanos) {
+        static Pacing of(SimRateSpec spec) {
+            long nanosPerOp = Math.max(1L, (long) (1_000_000_000d / spec.getRate()));
+            long burstCreditNanos = (long) (nanosPerOp - (nanosPerOp / Math.max(1.0d, spec.getBurstRatio())));
+            return new Pacing(nanosPerOp, burstCreditNanos, Math.max(TOLERANCE_NANOS, nanosPerOp));
+        }
+    }
+
+    /**
+     * Claim the next op slot on the clock, and wait until it starts.
+     *
+     * @return How far behind its scheduled time this op was started, in nanoseconds
+     */
+    @Override
+    public long block() {
+        this.blocks.increment();
+        Pacing pacing = this.pacing;
+        long now = System.nanoTime();
+        long scheduled;
+        while (true) {
+            scheduled = clock.get();
+            long floor = now - pacing.toleranceNanos();
+            long start = Math.max(scheduled, floor);
+            if (clock.compareAndSet(scheduled, start + pacing.nanosPerOp())) {
+                if (scheduled < floor) {
+                    waitingPool.addAndGet(floor - scheduled);
+                }
+                if (pacing.burstCreditNanos() > 0L && waitingPool.get() > 0L) {
+                    recoverBurst(pacing.burstCreditNanos());
+                }
+                if (start > now) {
+                    awaitNanos(start);
+                    return 0L;
+                }
+                return now - scheduled;
+            }
+            now = System.nanoTime();
+        }
+    }
+
+    /**
+     * Move up to one op's worth of burst credit from the waiting pool back onto the clock.
+     */
+    private void recoverBurst(long creditNanos) {
+        long available;
+        long taken;
+        do {
+            available = waitingPool.get();
+            if (available <= 0L) {
+                return;
+            }
+            taken = Math.min(available, creditNanos);
+        } while (!waitingPool.compareAndSet(available, available - taken));
+        clock.addAndGet(-taken);
+    }
+
+    private static void awaitNanos(long until) {
+        long remaining = until - System.nanoTime();
+        while (remaining > 0L) {
+            LockSupport.parkNanos(remaining);
+            remaining = until - System.nanoTime();
+        }
+    }
+
+    @Override
+    public synchronized void applyRateSpec(SimRateSpec updatingSpec) {
+        if (null == updatingSpec) throw new RuntimeException("RateSpec must be defined");
+        logger.info("rate spec:\n" + updatingSpec);
+
+        boolean reset = this.spec == null || updatingSpec.isRestart();
+        this.spec = updatingSpec;
+        this.pacing = Pacing.of(updatingSpec);
+        if (reset) {
+            long now = System.nanoTime();
+            cumulativeWaitNanos.addAndGet(waitingPool.getAndSet(0L));
+            clock.set(now); // Allow the first op to start immediately, but only the first
+            this.startTime = now;
+        }
+    }
+
+    /**
+     * The wait time is the lost time in the waiting pool, including any which has
+     * accumulated since the last op was started.
+     */
+    @Override
+    public Duration getWaitTimeDuration() {
+        long pending = Math.max(0L, System.nanoTime() - pacing.toleranceNanos() - clock.get());
+        return Duration.ofNanos(waitingPool.get() + pending);
+    }
+
+    @Override
+    public Duration getTotalWaitTimeDuration() {
+        return getWaitTimeDuration().plusNanos(cumulativeWaitNanos.get());
+    }
+
+    @Override
+    public double getWaitTimeSeconds() {
+        return getWaitTimeDuration().toNanos() / 1_000_000_000d;
+    }
+
+    @Override
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public SimRateSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "{ gcra rate:%f, burst:%f, ahead_ns:%,d, wait_ns:%,d, blocks:%,d }",
+            spec.getRate(), spec.getBurstRatio(), clock.get() - System.nanoTime(),
+            waitingPool.get(), blocks.sum()
+        );
+    }
+}
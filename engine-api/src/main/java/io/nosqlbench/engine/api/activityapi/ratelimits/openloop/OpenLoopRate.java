@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits.openloop;
+
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiter;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>An open-loop rate limiter assigns each op an <em>intended start time</em> on a fixed
+ * schedule, which is derived only from the rate and the time the schedule was started.
+ * The schedule starts when the first op asks for a slot, rather than when the rate limiter is
+ * created, so that activity setup is not counted as backlog.
+ * The n-th op is intended to start at <em>start + n * (1s/rate)</em>. Callers are blocked
+ * until the intended start time of their op, and the value returned from {@link #block()}
+ * is exactly how late the op is with respect to its own intended start time.</P>
+ *
+ * <P>This avoids coordinated omission: When the target system stalls, ops which were
+ * supposed to start during the stall are not silently delayed and re-timed from the moment
+ * a caller gets to them. Their lateness is carried into the response time, so that latency
+ * measurements under saturation reflect what a real open-loop client population would see.
+ * To catch up with the schedule after a stall, late ops are released faster than the rate,
+ * but no faster than <em>rate * burst ratio</em>, so that the target system is not flooded
+ * with the whole backlog at once.</P>
+ *
+ * <P>The schedule is held in a single immutable state object, so that changes to the rate
+ * do not require any locking on the hot path. When the rate is changed, the new schedule
+ * starts at the intended start time of the next op in the old schedule, preserving any
+ * backlog. A <em>restart</em> verb drops the backlog, and starts the new schedule with the next op instead.</P>
+ */
+public class OpenLoopRate extends NBBaseComponent implements RateLimiter {
+    private final static Logger logger = LogManager.getLogger(OpenLoopRate.class);
+    private final static long NOT_STARTED = Long.MIN_VALUE;
+
+    private final AtomicReference<Schedule> schedule = new AtomicReference<>();
+    private final AtomicLong cumulativeWaitNanos = new AtomicLong(0L);
+    private volatile SimRateSpec spec;
+    private volatile long startTime;
+
+    public OpenLoopRate(NBComponent parent, SimRateSpec spec) {
+        super(parent, NBLabels.forKV());
+        applyRateSpec(spec);
+        create().gauge("cycles_waittime", () -> (double) getWaitTimeDuration().toNanos());
+        create().gauge("config_cyclerate", () -> this.spec.opsPerSec);
+    }
+
+    private record Schedule(AtomicLong startNanos, double nanosPerOp, long burstNanosPerOp, AtomicLong ticket, AtomicLong lastRelease) {
+        /**
+         * Start the schedule at the given time, unless it was already started.
+         */
+        long startAt(long now) {
+            long start = startNanos.get();
+            if (start == NOT_STARTED && startNanos.compareAndSet(NOT_STARTED, now)) {
+                return now;
+            }
+            return startNanos.get();
+        }
+
+        long intendedStartOf(long start, long n) {
+            return start + (long) (n * nanosPerOp);
+        }
+
+        /**
+         * Reserve the release time of an op, which is its intended start time, or if it is late,
+         * the burst interval after the previous release, but not earlier than now.
+         */
+        long releaseOf(long intended, long now) {
+            long last, release;
+            do {
+                last = lastRelease.get();
+                long earliest = last == NOT_STARTED ? now : Math.max(now, last + burstNanosPerOp);
+                release = Math.max(intended, earliest);
+            } while (!lastRelease.compareAndSet(last, release));
+            return release;
+        }
+
+        /**
+         * @return the intended start time of the next op, or {@link #NOT_STARTED} if no op has asked for a slot yet
+         */
+        long nextIntendedStart() {
+            long start = startNanos.get();
+            return start == NOT_STARTED ? NOT_STARTED : intendedStartOf(start, ticket.get());
+        }
+    }
+
+    @Override
+    public long block() {
+        Schedule current = schedule.get();
+        long now = System.nanoTime();
+        long intended = current.intendedStartOf(current.startAt(now), current.ticket().getAndIncrement());
+        long release = current.releaseOf(intended, now);
+        while (now < release) {
+            LockSupport.parkNanos(release - now);
+            now = System.nanoTime();
+        }
+        return now - intended;
+    }
+
+    @Override
+    public synchronized void applyRateSpec(SimRateSpec updatingSpec) {
+        if (null == updatingSpec) throw new RuntimeException("RateSpec must be defined");
+        logger.info("rate spec:\n" + updatingSpec);
+
+        long now = System.nanoTime();
+        Schedule previous = schedule.get();
+        long scheduleStart = NOT_STARTED;
+        if (previous != null) {
+            cumulativeWaitNanos.addAndGet(getWaitTimeDuration().toNanos());
+            if (!updatingSpec.isRestart()) {
+                scheduleStart = previous.nextIntendedStart();
+            }
+        }
+        this.spec = updatingSpec;
+        this.startTime = now;
+        double nanosPerOp = 1_000_000_000d / updatingSpec.getRate();
+        long burstNanosPerOp = (long) (nanosPerOp / Math.max(1.0d, updatingSpec.getBurstRatio()));
+        long lastRelease = previous != null ? previous.lastRelease().get() : NOT_STARTED;
+        schedule.set(new Schedule(new AtomicLong(scheduleStart), nanosPerOp, burstNanosPerOp, new AtomicLong(0L), new AtomicLong(lastRelease)));
+    }
+
+    /**
+     * The wait time of an open-loop schedule is how far behind the schedule the next op is.
+     */
+    @Override
+    public Duration getWaitTimeDuration() {
+        long next = schedule.get().nextIntendedStart();
+        return next == NOT_STARTED ? Duration.ZERO : Duration.ofNanos(Math.max(0L, System.nanoTime() - next));
+    }
+
+    @Override
+    public Duration getTotalWaitTimeDuration() {
+        return getWaitTimeDuration().plusNanos(cumulativeWaitNanos.get());
+    }
+
+    @Override
+    public double getWaitTimeSeconds() {
+        return getWaitTimeDuration().toNanos() / 1_000_000_000d;
+    }
+
+    @Override
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public SimRateSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public String toString() {
+        Schedule current = schedule.get();
+        return String.format(
+            "{ open-loop rate:%f, issued:%,d, behind_ns:%,d }",
+            spec.getRate(), current.ticket().get(), getWaitTimeDuration().toNanos()
+        );
+    }
+}
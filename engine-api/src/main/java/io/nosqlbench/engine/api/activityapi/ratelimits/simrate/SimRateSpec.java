@@ -214,7 +214,7 @@ public class SimRateSpec {
     }
 
     public SimRateSpec(double opsPerSec, double burstRatio, Verb type) {
-        apply(opsPerSec, burstRatio, verb);
+        apply(opsPerSec, burstRatio, type);
     }
 
     private void apply(double opsPerSec, double burstRatio, Verb verb) {
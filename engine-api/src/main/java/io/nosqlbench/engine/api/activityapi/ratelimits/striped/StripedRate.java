@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits.striped;
+
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiter;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A rate limiter which divides the target rate into a share for each calling thread,
+ * called a stripe. Each stripe is a virtual clock which is only advanced by its own thread,
+ * so the hot path of {@link #block()} does not write to any memory shared with other
+ * threads. This avoids the cache-line contention of a single shared limiter when many
+ * motors run at high rates.</P>
+ *
+ * <P>A background rebalancer thread checks the rate achieved by each stripe on every tick.
+ * When the aggregate rate falls short of the target by more than the tolerance, the share
+ * of stripes which are not using their budget is reduced to what they are using, plus the
+ * tolerance as headroom, and the remainder is divided evenly among the stripes which are
+ * using all of their budget. When no stripe is using all of its budget, the rate is divided
+ * evenly again. The stripes of threads which have ended are dropped on the next tick, and
+ * their share is divided evenly among the remaining stripes.</P>
+ *
+ * <P>Unused time within a stripe is not banked beyond one tick, since it is redistributed
+ * to other stripes instead. For this reason, the burst ratio of the rate spec is not used.
+ * Time which a stripe could not use is reported as wait time.</P>
+ */
+public class StripedRate extends NBBaseComponent implements RateLimiter {
+    private final static Logger logger = LogManager.getLogger(StripedRate.class);
+
+    public final static double DEFAULT_TOLERANCE = 0.01d;
+    private final static long TICK_NANOS = 10_000_000L;
+
+    private final List<Stripe> stripes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Stripe> localStripe = ThreadLocal.withInitial(this::addStripe);
+    private final AtomicLong waitNanos = new AtomicLong(0L);
+    private final AtomicLong cumulativeWaitNanos = new AtomicLong(0L);
+    private final double tolerance;
+    private int nextStripeIndex;
+
+    private volatile SimRateSpec spec;
+    private volatile long startTime;
+    private volatile boolean running = true;
+    private final Thread rebalancer;
+
+    public StripedRate(NBComponent parent, SimRateSpec spec) {
+        this(parent, spec, DEFAULT_TOLERANCE);
+    }
+
+    public StripedRate(NBComponent parent, SimRateSpec spec, double tolerance) {
+        super(parent, NBLabels.forKV());
+        if (tolerance <= 0.0d || tolerance >= 1.0d) {
+            throw new RuntimeException("The rate tolerance must be between 0.0 and 1.0, exclusive, but was " + tolerance);
+        }
+        this.tolerance = tolerance;
+        applyRateSpec(spec);
+        create().gauge("cycles_waittime", () -> (double) getWaitTimeDuration().toNanos());
+        create().gauge("config_cyclerate", () -> this.spec.opsPerSec);
+        create().gauge("config_stripes", () -> (double) stripes.size());
+
+        this.rebalancer = new Thread(this::rebalanceLoop);
+        rebalancer.setName("REBALANCER");
+        rebalancer.setDaemon(true);
+        rebalancer.start();
+    }
+
+    @Override
+    public long block() {
+        return localStripe.get().block();
+    }
+
+    private synchronized Stripe addStripe() {
+        Stripe stripe = new Stripe(this, nextStripeIndex++, Thread.currentThread());
+        stripes.add(stripe);
+        divideEvenly();
+        return stripe;
+    }
+
+    private synchronized void divideEvenly() {
+        double nanosPerOp = 1_000_000_000d * stripes.size() / spec.getRate();
+        for (Stripe stripe : stripes) {
+            stripe.nanosPerOp = nanosPerOp;
+        }
+    }
+
+    private void rebalanceLoop() {
+        long lastTickAt = System.nanoTime();
+        while (running) {
+            LockSupport.parkNanos(TICK_NANOS);
+            long now = System.nanoTime();
+            rebalance(now - lastTickAt);
+            lastTickAt = now;
+        }
+        logger.debug("shutting down rebalancer thread");
+    }
+
+    private synchronized void rebalance(long elapsedNanos) {
+        if (stripes.isEmpty() || elapsedNanos <= 0L) {
+            return;
+        }
+        if (dropEndedStripes()) {
+            return;
+        }
+        double targetRate = spec.getRate();
+        double achievedRate = 0.0d;
+        int saturated = 0;
+        for (Stripe stripe : stripes) {
+            stripe.checkpoint(elapsedNanos);
+            achievedRate += stripe.achievedRate;
+            if (stripe.utilization >= 1.0d - tolerance) {
+                saturated++;
+            }
+        }
+
+        double shortfall = Math.max(0.0d, targetRate - achievedRate);
+        waitNanos.addAndGet((long) (shortfall / targetRate * elapsedNanos));
+        if (achievedRate >= targetRate * (1.0d - tolerance)) {
+            return;
+        }
+        if (saturated == 0) {
+            divideEvenly();
+            return;
+        }
+
+        double minimumShare = targetRate * tolerance / stripes.size();
+        double remaining = targetRate;
+        for (Stripe stripe : stripes) {
+            if (stripe.utilization < 1.0d - tolerance) {
+                double share = Math.max(minimumShare, stripe.achievedRate * (1.0d + tolerance));
+                stripe.nanosPerOp = 1_000_000_000d / share;
+                remaining -= share;
+            }
+        }
+        double saturatedShare = Math.max(minimumShare, remaining / saturated);
+        for (Stripe stripe : stripes) {
+            if (stripe.utilization >= 1.0d - tolerance) {
+                stripe.nanosPerOp = 1_000_000_000d / saturatedShare;
+            }
+        }
+    }
+
+    /**
+     * @return true if any stripes were dropped, in which case the rate has been divided evenly
+     */
+    private boolean dropEndedStripes() {
+        List<Stripe> ended = stripes.stream().filter(stripe -> !stripe.owner.isAlive()).toList();
+        if (ended.isEmpty()) {
+            return false;
+        }
+        stripes.removeAll(ended);
+        ended.forEach(Stripe::close);
+        if (!stripes.isEmpty()) {
+            divideEvenly();
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of threads which currently have a share of the rate
+     */
+    public int getStripeCount() {
+        return stripes.size();
+    }
+
+    @Override
+    public synchronized void applyRateSpec(SimRateSpec updatingSpec) {
+        if (null == updatingSpec) throw new RuntimeException("RateSpec must be defined");
+        logger.info("rate spec:\n" + updatingSpec);
+
+        boolean reset = this.spec == null || updatingSpec.isRestart();
+        this.spec = updatingSpec;
+        divideEvenly();
+        if (reset) {
+            cumulativeWaitNanos.addAndGet(waitNanos.getAndSet(0L));
+            this.startTime = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected void teardown() {
+        running = false;
+        rebalancer.interrupt();
+        super.teardown();
+    }
+
+    @Override
+    public Duration getWaitTimeDuration() {
+        return Duration.ofNanos(waitNanos.get());
+    }
+
+    @Override
+    public Duration getTotalWaitTimeDuration() {
+        return getWaitTimeDuration().plusNanos(cumulativeWaitNanos.get());
+    }
+
+    @Override
+    public double getWaitTimeSeconds() {
+        return getWaitTimeDuration().toNanos() / 1_000_000_000d;
+    }
+
+    @Override
+    public long getStartTime() {
+        return startTime;
+    }
+
+    @Override
+    public SimRateSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{ striped rate:%f, stripes:%d, tolerance:%f, wait_ns:%,d }",
+            spec.getRate(), stripes.size(), tolerance, waitNanos.get());
+    }
+
+    /**
+     * The state of one stripe. The clock and op count are written only by the owning thread,
+     * and the share only by the rebalancer. The padding keeps the fields of different
+     * stripes off of the same cache line.
+     */
+    private static final class Stripe extends NBBaseComponent {
+        long p01, p02, p03, p04, p05, p06, p07;
+        private final Thread owner;
+        private long clock = System.nanoTime();
+        private volatile long ops;
+        volatile double nanosPerOp;
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        // rebalancer state
+        private long opsAtCheckpoint;
+        private double achievedRate;
+        private double utilization;
+
+        Stripe(NBComponent parent, int index, Thread owner) {
+            super(parent, NBLabels.forKV("stripe", String.valueOf(index)));
+            this.owner = owner;
+            create().gauge("cycles_stripe_utilization", () -> utilization);
+            create().gauge("cycles_stripe_rate", () -> 1_000_000_000d / nanosPerOp);
+        }
+
+        long block() {
+            long nanosPerOp = (long) this.nanosPerOp;
+            long now = System.nanoTime();
+            long start = Math.max(clock, now - TICK_NANOS);
+            long lag = now - clock;
+            clock = start + nanosPerOp;
+            ops = ops + 1;
+            if (start > now) {
+                long remaining = start - now;
+                while (remaining > 0L) {
+                    LockSupport.parkNanos(remaining);
+                    remaining = start - System.nanoTime();
+                }
+                return 0L;
+            }
+            return lag;
+        }
+
+        void checkpoint(long elapsedNanos) {
+            long opsNow = this.ops;
+            long delta = opsNow - opsAtCheckpoint;
+            opsAtCheckpoint = opsNow;
+            achievedRate = delta * 1_000_000_000d / elapsedNanos;
+            utilization = achievedRate * nanosPerOp / 1_000_000_000d;
+        }
+    }
+}
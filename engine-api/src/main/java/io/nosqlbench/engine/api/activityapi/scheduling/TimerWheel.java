@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.scheduling;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>A hierarchical timer wheel, for scheduling work in the future without holding a thread
+ * for each pending timer, as for retries with back-off and think time.</P>
+ *
+ * <P>Time is divided into ticks. The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots,
+ * where each slot of the lowest level is one tick, and each slot of a level above spans a whole
+ * turn of the level below it. A timer is put in the slot of its deadline on the lowest level which
+ * can reach it. When a level completes a turn, the next slot of the level above is cascaded down,
+ * so each timer is moved at most once per level, however long its delay. Timers which are due
+ * after the top level can reach are cascaded within it until they can be placed below.</P>
+ *
+ * <P>Scheduling a timer is O(1) and lock-free: it is added to an inbox, which the wheel thread
+ * places into slots at each tick. Cancelled timers are only marked, and are dropped when they are
+ * reached. Timers are never run before their deadline, and are run up to one tick after it.</P>
+ *
+ * <P>Tasks are run on the wheel thread, in deadline order by tick. They must be short, as
+ * handing off to another thread or queue, since they delay all other timers while they run.
+ * Likewise, the futures of {@link #after(long, TimeUnit)} are completed on the wheel thread, so
+ * any work which is more than a hand-off should be attached with an async method.</P>
+ */
+public class TimerWheel implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(TimerWheel.class);
+
+    public final static int LEVELS = 4;
+    public final static int SLOTS = 256;
+    private final static int SLOT_BITS = 8;
+    private final static int SLOT_MASK = SLOTS - 1;
+
+    private static TimerWheel shared;
+
+    private final String name;
+    private final long tickNanos;
+    private final long startedAt;
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private final ConcurrentLinkedQueue<Timeout> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private long tick = 0L;
+
+    /**
+     * @param name
+     *     The name of the wheel thread
+     * @param tickNanos
+     *     The length of a tick, which is the resolution of timers
+     */
+    public TimerWheel(String name, long tickNanos) {
+        if (tickNanos < 1000L) {
+            throw new IllegalArgumentException("A timer wheel tick must be at least a microsecond, not " + tickNanos + "ns");
+        }
+        this.name = name;
+        this.tickNanos = tickNanos;
+        this.startedAt = System.nanoTime();
+        this.thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return The timer wheel which is shared by all activities, with a tick of one millisecond
+     */
+    public static synchronized TimerWheel shared() {
+        if (shared == null) {
+            shared = new TimerWheel("timerwheel", 1_000_000L);
+        }
+        return shared;
+    }
+
+    /**
+     * Run a task after a delay.
+     *
+     * @return The timeout, which can be cancelled until the task is run
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("timer wheel " + name + " is closed");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0L, delay));
+        Timeout timeout = new Timeout(task, ticksFor(deadline));
+        pending.incrementAndGet();
+        inbox.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return A future which is completed, on the wheel thread, after a delay
+     */
+    public CompletableFuture<Void> after(long delay, TimeUnit unit) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        schedule(() -> future.complete(null), delay, unit);
+        return future;
+    }
+
+    /**
+     * @return The number of timers which have been scheduled and not yet run or cancelled
+     */
+    public long getPending() {
+        return pending.get();
+    }
+
+    private long ticksFor(long deadlineNanos) {
+        long elapsed = deadlineNanos - startedAt;
+        return (elapsed <= 0L) ? 0L : (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private void run() {
+        while (running) {
+            Timeout timeout;
+            while ((timeout = inbox.poll()) != null) {
+                place(timeout);
+            }
+            long now = (System.nanoTime() - startedAt) / tickNanos;
+            while (tick < now) {
+                advance();
+            }
+            long nextTickAt = startedAt + (tick + 1) * tickNanos;
+            long wait = nextTickAt - System.nanoTime();
+            if (wait > 0L) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    /**
+     * Put a timer into the slot for its deadline, on the lowest level which reaches it,
+     * or run it if it is due.
+     */
+    private void place(Timeout timeout) {
+        long delta = timeout.deadline - tick;
+        if (delta <= 0L) {
+            expire(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((timeout.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        timeout.next = slots[level][slot];
+        slots[level][slot] = timeout;
+    }
+
+    private void advance() {
+        tick++;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0L) {
+                break;
+            }
+            int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timeout cascading = slots[level][slot];
+            slots[level][slot] = null;
+            while (cascading != null) {
+                Timeout next = cascading.next;
+                cascading.next = null;
+                if (!cascading.isCancelled()) {
+                    place(cascading);
+                }
+                cascading = next;
+            }
+        }
+        int slot = (int) (tick & SLOT_MASK);
+        Timeout expiring = slots[0][slot];
+        slots[0][slot] = null;
+        while (expiring != null) {
+            Timeout next = expiring.next;
+            expiring.next = null;
+            expire(expiring);
+            expiring = next;
+        }
+    }
+
+    private void expire(Timeout timeout) {
+        if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            pending.decrementAndGet();
+            try {
+                timeout.task.run();
+            } catch (Throwable t) {
+                logger.error("Error in timer task on " + name + ": " + t, t);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerWheel{" + name + ", tick=" + tickNanos + "ns, pending=" + pending.get() + '}';
+    }
+
+    /**
+     * A scheduled task, which can be cancelled until it is run.
+     */
+    public final class Timeout {
+        private final static int PENDING = 0;
+        private final static int CANCELLED = 1;
+        private final static int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task was cancelled, or false if it was already run or cancelled
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+}
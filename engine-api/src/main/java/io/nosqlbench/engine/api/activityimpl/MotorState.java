@@ -32,12 +32,11 @@ public class MotorState implements Supplier<RunState> {
     private final static Logger logger = LogManager.getLogger("MOTORS");
     private final AtomicReference<RunState> atomicState = new AtomicReference<>(RunState.Uninitialized);
     private final long slotId;
-    private final RunStateTally tally;
+    private final RunStateTally.Slot tally;
 
     public MotorState(long slotId, RunStateTally tally) {
         this.slotId = slotId;
-        this.tally = tally;
-        tally.add(atomicState.get());
+        this.tally = tally.add(atomicState.get());
     }
 
     public RunState get() {
@@ -57,19 +56,24 @@ public class MotorState implements Supplier<RunState> {
     /**
      * <p>Transition the thread slot to a new state. only accepting valid transitions.</p>
      * <p>The valid slot states will be moved to a data type eventually, simplifying this method.</p>
+     * <p>This is lock-free. When the state is changed by another thread at the same time, the
+     * transition is checked again from the state which that thread entered.</p>
      *
      * @param to The next SlotState for this thread/slot/motor
      */
-    public synchronized void enterState(RunState to) {
-        RunState from = atomicState.get();
-        if (!from.canTransitionTo(to)) {
-            throw new RuntimeException("Invalid transition from " + from + " to " + to);
+    public void enterState(RunState to) {
+        RunState current;
+        do {
+            current = atomicState.get();
+            if (!current.canTransitionTo(to)) {
+                throw new RuntimeException("Invalid transition from " + current + " to " + to);
+            }
+        } while (!atomicState.compareAndSet(current, to));
+        RunState from = current;
+        tally.change(from, to);
+        if (logger.isTraceEnabled()) {
+            logger.trace("TRANSITION[" + slotId + "]: " + from + " ==> " + to);
         }
-        while (!atomicState.compareAndSet(from, to)) {
-            logger.trace(() -> "retrying transition from:" + from + " to:" + to);
-        }
-        tally.change(from,to);
-        logger.trace(() -> "TRANSITION[" + slotId + "]: " + from + " ==> " + to);
     }
 
     public void removeState() {
@@ -27,6 +27,8 @@ import io.nosqlbench.engine.api.activityapi.errorhandling.modular.NBErrorHandler
 import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
 import io.nosqlbench.engine.api.activityapi.planning.SequencerType;
 import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiters;
+import io.nosqlbench.engine.api.activityapi.ratelimits.RateMode;
+import io.nosqlbench.engine.api.activityapi.ratelimits.striped.StripedRate;
 import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.CycleRateSpec;
 import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
 import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
@@ -38,6 +40,7 @@ import io.nosqlbench.api.errors.BasicError;
 import io.nosqlbench.api.errors.OpConfigError;
 import io.nosqlbench.engine.api.activityapi.cyclelog.filters.IntPredicateDispenser;
 import io.nosqlbench.engine.api.activityapi.input.InputDispenser;
+import io.nosqlbench.engine.api.activityapi.input.InputType;
 import io.nosqlbench.engine.api.activityapi.output.OutputDispenser;
 import io.nosqlbench.engine.api.activityapi.planning.SequencePlanner;
 import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiter;
@@ -47,6 +50,10 @@ import io.nosqlbench.adapters.api.activityconfig.yaml.OpTemplateFormat;
 import io.nosqlbench.adapters.api.activityconfig.yaml.OpsDocList;
 import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.StrideRateSpec;
 import io.nosqlbench.engine.api.activityimpl.motor.RunStateTally;
+import io.nosqlbench.engine.api.activityimpl.uniform.pipeline.OpPipeline;
+import io.nosqlbench.engine.api.activityimpl.uniform.tracing.OpTraceSampler;
+import io.nosqlbench.engine.api.activityimpl.uniform.sessions.ThinkTime;
+import io.nosqlbench.engine.api.util.SimpleConfig;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
 import io.nosqlbench.adapters.api.activityimpl.uniform.DryRunOpDispenserWrapper;
 import io.nosqlbench.adapters.api.activityimpl.uniform.decorators.SyntheticOpTemplateProvider;
@@ -62,6 +69,7 @@ import java.lang.reflect.AnnotatedType;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -90,6 +98,9 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
     private ActivityMetricProgressMeter progressMeter;
     private String workloadSource = "unspecified";
     private final RunStateTally tally = new RunStateTally();
+    private OpPipeline pipeline;
+    private final Map<OpDispenser<?>, ThinkTime> thinkTimes = new IdentityHashMap<>();
+    private OpTraceSampler opTracer;
 
     public SimpleActivity(NBComponent parent, ActivityDef activityDef) {
         super(parent,NBLabels.forKV("activity",activityDef.getAlias()).and(activityDef.auxLabels()));
@@ -316,10 +327,19 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
     }
 
     public void createOrUpdateStrideLimiter(SimRateSpec spec) {
-        strideLimiter = RateLimiters.createOrUpdate(this, strideLimiter, spec);
+        strideLimiter = RateLimiters.createOrUpdate(this, strideLimiter, spec, RateMode.of(activityDef), getRateTolerance());
     }
     public void createOrUpdateCycleLimiter(SimRateSpec spec) {
-        cycleLimiter = RateLimiters.createOrUpdate(this, cycleLimiter, spec);
+        cycleLimiter = RateLimiters.createOrUpdate(this, cycleLimiter, spec, RateMode.of(activityDef), getRateTolerance());
+    }
+
+    private double getRateTolerance() {
+        return activityDef.getParams().getOptionalDouble("ratetolerance").orElse(StripedRate.DEFAULT_TOLERANCE);
+    }
+
+    private InputType getInputType() {
+        String inputType = new SimpleConfig(this, "input").getString("type").orElse("atomicseq");
+        return InputType.FINDER.getOrThrow(inputType);
     }
 
     /**
@@ -332,7 +352,14 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
      */
     public synchronized void setDefaultsFromOpSequence(OpSequence<?> seq) {
         Optional<String> strideOpt = getParams().getOptionalString("stride");
-        if (strideOpt.isEmpty()) {
+        OptionalInt requiredStride = getInputType().getRequiredStride(this);
+        if (requiredStride.isPresent()) {
+            String stride = String.valueOf(requiredStride.getAsInt());
+            if (strideOpt.isPresent() && !strideOpt.get().equals(stride)) {
+                logger.warn(() -> "using stride " + stride + " instead of " + strideOpt.get() + ", as required by the input");
+            }
+            getParams().setSilently("stride", stride);
+        } else if (strideOpt.isEmpty()) {
             String stride = String.valueOf(seq.getSequence().length);
             logger.info(() -> "defaulting stride to " + stride + " (the sequence length)");
 //            getParams().set("stride", stride);
@@ -341,7 +368,11 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
 
         // CYCLES
         Optional<String> cyclesOpt = getParams().getOptionalString("cycles");
-        if (cyclesOpt.isEmpty()) {
+        OptionalLong inputCycles = cyclesOpt.isPresent() ? OptionalLong.empty() : getInputType().getCycleCount(this);
+        if (inputCycles.isPresent()) {
+            logger.info(() -> "defaulting cycles to " + inputCycles.getAsLong() + " (the length of the input)");
+            this.getActivityDef().setCycles(String.valueOf(inputCycles.getAsLong()));
+        } else if (cyclesOpt.isEmpty()) {
             String cycles = getParams().getOptionalString("stride").orElseThrow();
             logger.info(() -> "defaulting cycles to " + cycles + " (the stride length)");
 //            getParams().set("cycles", getParams().getOptionalString("stride").orElseThrow());
@@ -377,12 +408,13 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
             String spec = threadSpec.get();
             int processors = Runtime.getRuntime().availableProcessors();
             if ("auto".equalsIgnoreCase(spec)) {
-                int threads = processors * 10;
+                int multiplier = (ThreadModel.virtual == ThreadModel.of(activityDef)) ? 1000 : 10;
+                int threads = processors * multiplier;
                 if (threads > activityDef.getCycleCount()) {
                     threads = (int) activityDef.getCycleCount();
-                    logger.info("setting threads to {} (auto) [10xCORES, cycle count limited]", threads);
+                    logger.info("setting threads to {} (auto) [{}xCORES, cycle count limited]", threads, multiplier);
                 } else {
-                    logger.info("setting threads to {} (auto) [10xCORES]", threads);
+                    logger.info("setting threads to {} (auto) [{}xCORES]", threads, multiplier);
                 }
 //                activityDef.setThreads(threads);
                 activityDef.getParams().setSilently("threads", threads);
@@ -451,20 +483,40 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
         try {
 
             List<Long> ratios = new ArrayList<>(pops.size());
+            List<Integer> stages = new ArrayList<>(pops.size());
+            List<Integer> budgets = new ArrayList<>(pops.size());
+            List<Double> rates = new ArrayList<>(pops.size());
+            List<Optional<LongFunction<Object>>> thinks = new ArrayList<>(pops.size());
 
             for (int i = 0; i < pops.size(); i++) {
                 ParsedOp pop = pops.get(i);
                 long ratio = pop.takeStaticConfigOr("ratio", 1);
                 ratios.add(ratio);
+                int stage = pop.takeStaticConfigOr("stage", 1);
+                stages.add(stage);
+                int budget = pop.takeStaticConfigOr("inflight", 0);
+                budgets.add(budget);
+                double rate = pop.takeStaticConfigOr("oprate", 0.0d);
+                rates.add(rate);
+                thinks.add(pop.takeAsOptionalFunction("think", Object.class));
             }
 
             SequencerType sequencerType = getParams()
                     .getOptionalString("seq")
                     .map(SequencerType::valueOf)
                     .orElse(SequencerType.bucket);
-            SequencePlanner<OpDispenser<? extends O>> planner = new SequencePlanner<>(sequencerType);
+            if (sequencerType != SequencerType.fair
+                && (budgets.stream().anyMatch(b -> b > 0) || rates.stream().anyMatch(r -> r > 0.0d))) {
+                logger.warn("the inflight and oprate fields of op templates are only used with seq=fair");
+            }
+            if (!"sessions".equals(new SimpleConfig(this, "input").getString("type").orElse("atomicseq"))
+                && thinks.stream().anyMatch(Optional::isPresent)) {
+                logger.warn("the think fields of op templates are only used with input=type:sessions");
+            }
+            SortedMap<Integer, SequencePlanner<OpDispenser<? extends O>>> planners = new TreeMap<>();
 
             int dryrunCount = 0;
+            boolean traced = false;
             for (int i = 0; i < pops.size(); i++) {
                 long ratio = ratios.get(i);
                 ParsedOp pop = pops.get(i);
@@ -483,17 +535,38 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
                     dispenser = new DryRunOpDispenserWrapper(adapter, pop, dispenser);
                     dryrunCount++;
                 }
+                if (thinks.get(i).isPresent()) {
+                    thinkTimes.put(dispenser, new ThinkTime(pop.getName(), thinks.get(i).get()));
+                }
+                traced |= (dispenser.getTraceName() != null);
 
 //                if (strict) {
 //                    optemplate.assertConsumed();
 //                }
-                planner.addOp((OpDispenser<? extends O>) dispenser, ratio);
+                planners.computeIfAbsent(stages.get(i), n -> new SequencePlanner<>(sequencerType, this::getSequenceConcurrency))
+                    .addOp((OpDispenser<? extends O>) dispenser, ratio, budgets.get(i), rates.get(i));
+            }
+            Optional<String> tracing = getParams().getOptionalString(OpTraceSampler.TRACING);
+            if (traced) {
+                opTracer = new OpTraceSampler(this, getAlias(), tracing.orElse(""));
+            } else if (tracing.isPresent()) {
+                logger.warn("the " + OpTraceSampler.TRACING + " parameter is only used for op templates with instrument: trace");
             }
             if (0 < dryrunCount) {
                 logger.warn("initialized {} op templates for dry run only. These ops will be synthesized for each cycle, but will not be executed.", dryrunCount);
             }
+            if (planners.isEmpty()) {
+                return new SequencePlanner<OpDispenser<? extends O>>(sequencerType).resolve();
+            }
 
-            return planner.resolve();
+            SortedMap<Integer, OpSequence<OpDispenser<? extends Op>>> sequences = new TreeMap<>();
+            planners.forEach((stage, planner) -> sequences.put(stage, (OpSequence) planner.resolve()));
+            if (1 < sequences.size()) {
+                int capacity = getParams().getOptionalInteger("handoff").orElse(1024);
+                pipeline = new OpPipeline(this, sequences, capacity, getHdrDigits());
+                logger.info(() -> "running op templates in stages " + sequences.keySet() + ", with handoff queues of " + capacity);
+            }
+            return (OpSequence) sequences.get(sequences.firstKey());
 
         } catch (Exception e) {
             throw new OpConfigError(e.getMessage(), workloadSource, e);
@@ -622,7 +695,7 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
                 .getOptionalString("seq")
                 .map(SequencerType::valueOf)
                 .orElse(SequencerType.bucket);
-        SequencePlanner<OpDispenser<? extends O>> planner = new SequencePlanner<>(sequencerType);
+        SequencePlanner<OpDispenser<? extends O>> planner = new SequencePlanner<>(sequencerType, this::getSequenceConcurrency);
 
         try {
             for (int i = 0; i < stmts.size(); i++) {
@@ -641,6 +714,13 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
         return planner.resolve();
     }
 
+    /**
+     * @return the number of ops which may be in flight at once, which {@link SequencerType#fair} divides among op templates
+     */
+    protected int getSequenceConcurrency() {
+        return Math.max(activityDef.getThreads(), activityDef.getParams().getOptionalInteger("async").orElse(0));
+    }
+
     protected OpsDocList loadStmtsDocList() {
 
         try {
@@ -687,6 +767,27 @@ public class SimpleActivity extends NBBaseComponent implements Activity {
         return this.activityDef.getParams().getOptionalInteger("maxtries").orElse(10);
     }
 
+    /**
+     * @return the stages of ops of this activity, or null if all op templates are in the same stage
+     */
+    public OpPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * @return the think time of the op template of a dispenser, or null if it has none
+     */
+    public ThinkTime getThinkTime(OpDispenser<?> dispenser) {
+        return thinkTimes.get(dispenser);
+    }
+
+    /**
+     * @return the sampler of op traces for this activity, or null if no op templates are traced
+     */
+    public OpTraceSampler getOpTracer() {
+        return opTracer;
+    }
+
     @Override
     public RunStateTally getRunStateTally() {
         return tally;
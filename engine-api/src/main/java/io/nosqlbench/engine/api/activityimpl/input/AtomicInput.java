@@ -80,6 +80,23 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
 
     @Override
     public CycleSegment getInputSegment(int stride) {
+        long start = claimStride(stride);
+        return start < 0L ? null : new InputInterval.Segment(recycle_value.get(), start, start + stride);
+    }
+
+    /**
+     * @return a view of this input for one motor, which provides every stride in the same segment object
+     */
+    public Input forSlot(long slot) {
+        return new SlotInput();
+    }
+
+    /**
+     * Claim the next stride from the shared cycle counter, recycling as needed.
+     *
+     * @return the first cycle of the stride, or -1 if the input is exhausted
+     */
+    private long claimStride(int stride) {
         while (true) {
             long currentStrideStart = this.cycle_value.get();
             long nextStrideStart = currentStrideStart + stride;
@@ -88,7 +105,7 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
                 if (recycle_value.get() >= recycles_max.get()) {
                     logger.trace(() -> "Exhausted input for " + activityDef.getAlias() + " at " + currentStrideStart + ", recycle " +
                         "count " + recycle_value.get());
-                    return null;
+                    return -1L;
                 } else {
                     cycle_value.set(cycles_min.get());
                     logger.trace(() -> "recycling input for " + activityDef.getAlias() + " recycle:" + recycle_value.get());
@@ -96,8 +113,35 @@ public class AtomicInput extends NBBaseComponent implements Input, ActivityDefOb
                 }
             }
             if (cycle_value.compareAndSet(currentStrideStart, nextStrideStart)) {
-                return new InputInterval.Segment(recycle_value.get(), currentStrideStart, nextStrideStart);
+                return currentStrideStart;
+            }
+        }
+    }
+
+    /**
+     * The input for one motor. A segment returned from this input is only valid until the next call.
+     */
+    private final class SlotInput implements Input {
+        private final ReusableCycleSegment segment = new ReusableCycleSegment();
+
+        @Override
+        public CycleSegment getInputSegment(int stride) {
+            long start = claimStride(stride);
+            if (start < 0L) {
+                return null;
             }
+            segment.reset(recycle_value.get(), start, start + stride);
+            return segment;
+        }
+
+        @Override
+        public boolean isContiguous() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return AtomicInput.this.toString();
         }
     }
 
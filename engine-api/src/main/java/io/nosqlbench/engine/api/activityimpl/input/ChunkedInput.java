@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
+import io.nosqlbench.engine.api.activityapi.core.Releasable;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityimpl.motor.MotorAffinity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>This input provides the same cycles and recycles as {@link AtomicInput}, but claims them
+ * from the shared counter in chunks of many strides at a time. Each motor gets its own
+ * {@link SlotInput} view with {@link #forSlot(long)}, which subdivides its current chunk into
+ * strides locally, reusing a single segment object. This means that the shared counter is
+ * updated once per chunk rather than once per stride.</p>
+ *
+ * <p>The chunk size is rounded up to a multiple of the stride, so that stride boundaries are
+ * the same as with {@link AtomicInput}. As with {@link AtomicInput}, a stride which would cross
+ * the end of the cycle range is not provided, and the next recycle is started instead.</p>
+ *
+ * <p>Since motors work through their chunks independently, cycles are not provided in
+ * order across motors, and this input is not contiguous.</p>
+ *
+ * <p>When motors are spread over NUMA nodes with {@code affinity=numa}, each node has its own
+ * pool, which claims {@value #NODE_CHUNKS} chunks at a time from the shared counter. The motors
+ * of a node claim their chunks from its pool, so that the shared counter is rarely touched
+ * from more than one node.</p>
+ *
+ * <p>When a motor stops before its input is exhausted, like when the number of threads is
+ * reduced, the cycles which remain in its chunk are given back, as are those of its node pool
+ * once no motors of the node are running. These are claimed by other motors before any new
+ * cycles from the shared counter, so that no cycles are skipped.</p>
+ */
+public class ChunkedInput extends NBBaseComponent implements Input, ActivityDefObserver {
+    private final static Logger logger = LogManager.getLogger(ChunkedInput.class);
+
+    /**
+     * The number of chunks which the pool of a NUMA node claims at once
+     */
+    public final static int NODE_CHUNKS = 8;
+
+    private final AtomicLong cycle_value = new AtomicLong(0L);
+    private final AtomicLong cycles_min = new AtomicLong(0L);
+    private final AtomicLong cycles_max = new AtomicLong(Long.MAX_VALUE);
+
+    private final AtomicLong recycles_min = new AtomicLong(0L);
+    private final AtomicLong recycle_value = new AtomicLong(0L);
+    private final AtomicLong recycles_max = new AtomicLong(0L);
+
+    private final ActivityDef activityDef;
+    private final int chunk;
+    private final Map<Long, SlotInput> slots = new ConcurrentHashMap<>();
+    private final MotorAffinity affinity;
+    private final NodePool[] nodePools;
+    private final Deque<long[]> leftovers = new ArrayDeque<>();
+
+    public ChunkedInput(NBComponent parent, ActivityDef activityDef, int chunk) {
+        super(parent);
+        if (chunk < 1) {
+            throw new RuntimeException("The input chunk size must be at least 1, but was " + chunk);
+        }
+        this.activityDef = activityDef;
+        this.chunk = chunk;
+        this.affinity = MotorAffinity.of(activityDef);
+        this.nodePools = new NodePool[affinity.isNuma() ? affinity.nodes() : 0];
+        for (int i = 0; i < nodePools.length; i++) {
+            nodePools[i] = new NodePool();
+        }
+        onActivityDefUpdate(activityDef);
+        create().gauge("input_cycles_first", () -> (double) this.cycles_min.get());
+        create().gauge("input_cycles_last", () -> (double) this.cycles_max.get());
+        create().gauge("input_cycle", () -> (double) this.cycle_value.get());
+        create().gauge("input_recycles_first", () -> (double) this.recycles_min.get());
+        create().gauge("input_recycles_last", () -> (double) this.recycles_max.get());
+        create().gauge("input_recycle", () -> (double) this.recycle_value.get());
+    }
+
+    /**
+     * @return the input view for the given motor slot, which may only be used by one thread at a time
+     */
+    public SlotInput forSlot(long slot) {
+        return slots.computeIfAbsent(slot, s -> new SlotInput(nodePools.length > 0 ? nodePools[affinity.nodeOf(s)] : null));
+    }
+
+    /**
+     * Claim a single stride from the shared counter. This is thread-safe, but does not
+     * benefit from chunking. Motors should use {@link #forSlot(long)} instead.
+     */
+    @Override
+    public CycleSegment getInputSegment(int stride) {
+        SlotInput claim = new SlotInput(null);
+        return claim.claim(stride, stride) ? new InputInterval.Segment(claim.recycle, claim.next, claim.next + stride) : null;
+    }
+
+    /**
+     * Claim the next range of up to {@code length} cycles for the given slot view, which
+     * must be a whole number of strides. Since this happens only once per chunk, claims are
+     * simply serialized, which keeps recycle transitions exact.
+     *
+     * @return false if the input is exhausted
+     */
+    private synchronized boolean claim(SlotInput target, int stride, long length) {
+        long[] leftover = leftovers.poll();
+        if (leftover != null) {
+            long end = Math.min(leftover[2], leftover[1] + length);
+            target.recycle = leftover[0];
+            target.next = leftover[1];
+            target.end = end;
+            if (end < leftover[2]) {
+                leftover[1] = end;
+                leftovers.push(leftover);
+            }
+            return true;
+        }
+        while (true) {
+            long start = this.cycle_value.get();
+            long max = cycles_max.get();
+            if (start + stride > max) { // This indicates a stride boundary crossing the end
+                if (recycle_value.incrementAndGet() >= recycles_max.get()) {
+                    logger.trace(() -> "Exhausted input for " + activityDef.getAlias() + " at " + start + ", recycle " +
+                        "count " + recycle_value.get());
+                    recycle_value.set(recycles_max.get());
+                    return false;
+                }
+                cycle_value.set(cycles_min.get());
+                logger.trace(() -> "recycling input for " + activityDef.getAlias() + " recycle:" + recycle_value.get());
+                continue;
+            }
+            long end = start + ((Math.min(length, max - start) / stride) * stride);
+            cycle_value.set(end);
+            target.recycle = recycle_value.get();
+            target.next = start;
+            target.end = end;
+            return true;
+        }
+    }
+
+    /**
+     * Give back the unused cycles of a slot view, to be claimed before any new cycles.
+     */
+    private synchronized void giveBack(SlotInput source) {
+        if (source.next < source.end) {
+            leftovers.push(new long[]{source.recycle, source.next, source.end});
+            logger.debug(() -> "returned " + (source.end - source.next) + " unused cycles of recycle " + source.recycle);
+        }
+        source.next = source.end;
+    }
+
+    @Override
+    public synchronized void onActivityDefUpdate(ActivityDef activityDef) {
+        CyclesSpec recyclesSpec = activityDef.getRecyclesSpec();
+        CyclesSpec cyclesSpec = activityDef.getCyclesSpec();
+
+        cycles_max.set(cyclesSpec.last_exclusive());
+        if (cycles_min.get() != cyclesSpec.first_inclusive()) {
+            logger.info(() -> "resetting first cycle (inclusive) value to: cycle[" + cycles_min.get() + "->" + cyclesSpec.first_inclusive() + "]");
+            cycles_min.set(cyclesSpec.first_inclusive());
+            cycle_value.set(cycles_min.get());
+        }
+
+        recycles_max.set(recyclesSpec.last_exclusive());
+        if (recycles_min.get() != recyclesSpec.first_inclusive()) {
+            logger.info(() -> "resetting recycle value to new start: recycle[" + recycles_min.get() + "->" + recyclesSpec.first_inclusive() + "]");
+            recycles_min.set(recyclesSpec.first_inclusive());
+            recycle_value.set(recyclesSpec.first_inclusive());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedInput{" +
+            "cycleValue=" + cycle_value +
+            ", min=" + cycles_min +
+            ", max=" + cycles_max +
+            ", chunk=" + chunk +
+            ", slots=" + slots.size() +
+            ", activity=" + activityDef.getAlias() +
+            '}';
+    }
+
+    /**
+     * The input for one motor. It holds the unused part of its current chunk, and
+     * hands out strides from it in a single segment which is reset for each stride.
+     * A segment returned from this input is only valid until the next call. When the motor
+     * stops, the rest of its chunk is given back with {@link #release()}.
+     */
+    public final class SlotInput implements Input, Releasable {
+        private final ReusableCycleSegment segment = new ReusableCycleSegment();
+        private final NodePool pool;
+        private boolean joined;
+        private long recycle;
+        private long next;
+        private long end;
+
+        private SlotInput(NodePool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public CycleSegment getInputSegment(int stride) {
+            if (next + stride > end) {
+                long length = ((chunk + stride - 1) / stride) * (long) stride;
+                if (!claim(stride, length)) {
+                    return null;
+                }
+            }
+            segment.reset(recycle, next, next + stride);
+            next += stride;
+            return segment;
+        }
+
+        private boolean claim(int stride, long length) {
+            return (pool != null) ? pool.claim(this, stride, length) : ChunkedInput.this.claim(this, stride, length);
+        }
+
+        @Override
+        public void release() {
+            if (pool != null) {
+                pool.release(this);
+            } else {
+                giveBack(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return ChunkedInput.this + "[next=" + next + ", end=" + end + "]";
+        }
+    }
+
+    /**
+     * The cycles claimed for the motors of one NUMA node, which are handed out to them a chunk
+     * at a time.
+     */
+    private final class NodePool {
+        private final SlotInput reserve = new SlotInput(null);
+        private int running;
+
+        private synchronized boolean claim(SlotInput target, int stride, long length) {
+            if (!target.joined) {
+                target.joined = true;
+                running++;
+            }
+            if (reserve.next + stride > reserve.end) {
+                if (!ChunkedInput.this.claim(reserve, stride, length * NODE_CHUNKS)) {
+                    return false;
+                }
+            }
+            long end = reserve.next + Math.min(length, ((reserve.end - reserve.next) / stride) * stride);
+            target.recycle = reserve.recycle;
+            target.next = reserve.next;
+            target.end = end;
+            reserve.next = end;
+            return true;
+        }
+
+        private synchronized void release(SlotInput source) {
+            giveBack(source);
+            if (source.joined) {
+                source.joined = false;
+                if (--running == 0) {
+                    giveBack(reserve);
+                }
+            }
+        }
+    }
+}
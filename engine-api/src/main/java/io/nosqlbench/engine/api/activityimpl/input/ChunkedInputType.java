@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityapi.input.InputDispenser;
+import io.nosqlbench.engine.api.activityapi.input.InputType;
+import io.nosqlbench.engine.api.util.SimpleConfig;
+import io.nosqlbench.nb.annotations.Service;
+
+/**
+ * An input which claims cycles in chunks for each motor, as in {@code input=type:chunked,chunk:10000}.
+ * See {@link ChunkedInput} for details.
+ */
+@Service(value= InputType.class, selector="chunked")
+public class ChunkedInputType implements InputType {
+
+    public final static int DEFAULT_CHUNK = 1000;
+
+    @Override
+    public InputDispenser getInputDispenser(Activity activity) {
+        return new Dispenser(activity);
+    }
+
+    public static class Dispenser implements InputDispenser {
+
+        private final ChunkedInput input;
+
+        public Dispenser(Activity activity) {
+            int chunk = new SimpleConfig(activity, "input").getInteger("chunk").orElse(DEFAULT_CHUNK);
+            this.input = new ChunkedInput(activity, activity.getActivityDef(), chunk);
+        }
+
+        @Override
+        public Input getInput(long slot) {
+            return input.forSlot(slot);
+        }
+    }
+}
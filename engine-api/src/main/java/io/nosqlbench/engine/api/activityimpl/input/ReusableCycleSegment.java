@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+
+/**
+ * A cycle segment which can be reset to a new range, so that an input which is used by
+ * only one motor can provide every stride in the same segment object.
+ */
+final class ReusableCycleSegment implements CycleSegment {
+    private long recycle;
+    private long next;
+    private long afterEnd;
+
+    void reset(long recycle, long start, long afterEnd) {
+        this.recycle = recycle;
+        this.next = start;
+        this.afterEnd = afterEnd;
+    }
+
+    @Override
+    public long nextCycle() {
+        if (next < afterEnd) {
+            return next++;
+        }
+        return -100;
+    }
+
+    @Override
+    public long nextRecycle() {
+        return recycle;
+    }
+
+    @Override
+    public boolean isExhausted() {
+        return next >= afterEnd;
+    }
+
+    @Override
+    public long peekNextCycle() {
+        if (next < afterEnd) {
+            return next;
+        }
+        return -100;
+    }
+
+    @Override
+    public String toString() {
+        return "ReusableCycleSegment(" + next + "," + afterEnd + "]: recycle=" + recycle;
+    }
+}
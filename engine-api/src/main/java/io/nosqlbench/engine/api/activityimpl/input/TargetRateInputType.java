@@ -42,7 +42,7 @@ public class TargetRateInputType implements InputType {
 
         @Override
         public Input getInput(long slot) {
-            return input;
+            return input.forSlot(slot);
         }
     }
 }
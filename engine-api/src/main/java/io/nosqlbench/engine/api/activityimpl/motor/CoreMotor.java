@@ -27,6 +27,8 @@ import io.nosqlbench.engine.api.activityimpl.MotorState;
 import io.nosqlbench.engine.api.activityapi.core.ops.fluent.OpTracker;
 import io.nosqlbench.engine.api.activityapi.core.ops.fluent.OpTrackerImpl;
 import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityapi.input.ScheduleAware;
+import io.nosqlbench.engine.api.activityapi.input.ScheduledInput;
 import io.nosqlbench.engine.api.activityapi.output.Output;
 import io.nosqlbench.engine.api.activityapi.ratelimits.RateLimiter;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
@@ -191,6 +193,8 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
         motorState.enterState(Starting);
 
         try {
+            MotorAffinity.of(activity.getActivityDef()).pin(slotId);
+
             inputTimer = activity.getInstrumentation().getOrCreateInputTimer();
             strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
             stridesResponseTimer = activity.getInstrumentation().getStridesResponseTimerOrNull();
@@ -210,6 +214,16 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                 ((Startable) input).start();
             }
 
+            ScheduledInput schedule = (input instanceof ScheduledInput scheduled) ? scheduled : null;
+            if (schedule != null) {
+                if (cycleRateLimiter != null && slotId == 0) {
+                    logger.warn(() -> "The input of this activity is scheduled, so the cycle rate is not applied.");
+                }
+                if (action instanceof ScheduleAware scheduleAware) {
+                    scheduleAware.setSchedule(schedule);
+                }
+            }
+
             if (strideRateLimiter != null) {
                 // block for strides rate limiter
                 strideRateLimiter.block();
@@ -281,7 +295,10 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                             continue;
                         }
 
-                        if (cycleRateLimiter != null) {
+                        if (schedule != null) {
+                            // Block until the cycle is due on its schedule
+                            cycleDelay = schedule.awaitStart(cyclenum);
+                        } else if (cycleRateLimiter != null) {
                             // Block for cycle rate limiter
                             cycleDelay = cycleRateLimiter.block();
                         }
@@ -328,22 +345,25 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
 
             } else if (action instanceof SyncAction sync) {
 
-                cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer();
+                cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer(slotId);
+                cycleResponseTimer = activity.getInstrumentation().getCyclesResponseTimerOrNull(slotId);
                 strideServiceTimer = activity.getInstrumentation().getOrCreateStridesServiceTimer();
+                AsyncCapableAction asyncCapable = (sync instanceof AsyncCapableAction aca) ? aca : null;
 
-                if (activity.getActivityDef().getParams().containsKey("async")) {
+                if (activity.getActivityDef().getParams().containsKey("async") && !(sync instanceof AsyncCapableAction)) {
                     throw new RuntimeException("The async parameter was given for this activity, but it does not seem to know how to do async.");
                 }
 
+                // Nothing is allocated per stride or per cycle in this loop unless an output is attached
+                // or trace logging is enabled, so timers are updated from raw nanoTime deltas.
                 motorState.enterState(Running);
                 while (motorState.get() == Running) {
 
-                    CycleSegment cycleSegment = null;
-                    CycleResultSegmentBuffer segBuffer = new CycleResultSegmentBuffer(stride);
+                    CycleResultSegmentBuffer segBuffer = (output != null) ? new CycleResultSegmentBuffer(stride) : null;
 
-                    try (Timer.Context inputTime = inputTimer.time()) {
-                        cycleSegment = input.getInputSegment(stride);
-                    }
+                    long inputStart = System.nanoTime();
+                    CycleSegment cycleSegment = input.getInputSegment(stride);
+                    inputTimer.update(System.nanoTime() - inputStart, TimeUnit.NANOSECONDS);
 
                     if (cycleSegment == null) {
                         logger.trace(() -> "input exhausted (input " + input + ") via null segment, stopping motor thread " + slotId);
@@ -376,23 +396,40 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                             }
                             int result = -1;
 
-                            if (cycleRateLimiter != null) {
+                            if (schedule != null) {
+                                // Block until the cycle is due on its schedule
+                                cycleDelay = schedule.awaitStart(cyclenum);
+                            } else if (cycleRateLimiter != null) {
                                 // Block for cycle rate limiter
                                 cycleDelay = cycleRateLimiter.block();
                             }
 
                             long cycleStart = System.nanoTime();
+                            long intendedStart = cycleStart - cycleDelay;
                             try {
-                                logger.trace(()->"cycle " + cyclenum);
-                                result = sync.runCycle(cyclenum);
+                                if (logger.isTraceEnabled()) {
+                                    logger.trace("cycle " + cyclenum);
+                                }
+                                if (asyncCapable != null) {
+                                    result = asyncCapable.runCycle(cyclenum, intendedStart);
+                                } else {
+                                    result = sync.runCycle(cyclenum);
+                                }
                             } catch (Exception e) {
                                 motorState.enterState(Errored);
                                 throw e;
                             } finally {
-                                long cycleEnd = System.nanoTime();
-                                cycleServiceTimer.update((cycleEnd - cycleStart) + cycleDelay, TimeUnit.NANOSECONDS);
+                                if (asyncCapable == null) {
+                                    long cycleEnd = System.nanoTime();
+                                    cycleServiceTimer.update(cycleEnd - cycleStart, TimeUnit.NANOSECONDS);
+                                    if (cycleResponseTimer != null) {
+                                        cycleResponseTimer.update(cycleEnd - intendedStart, TimeUnit.NANOSECONDS);
+                                    }
+                                }
+                            }
+                            if (segBuffer != null) {
+                                segBuffer.append(cyclenum, result);
                             }
-                            segBuffer.append(cyclenum, result);
                         }
 
                     } finally {
@@ -411,10 +448,23 @@ public class CoreMotor<D> implements ActivityDefObserver, Motor<D>, Stoppable {
                     }
                 }
 
+                if (asyncCapable != null) {
+                    boolean finished = asyncCapable.awaitCompletion(60000);
+                    if (finished) {
+                        logger.debug(() -> "slot " + this.slotId + " completed all ops in flight");
+                    } else {
+                        logger.warn(() -> "slot " + this.slotId + " still had ops in flight after waiting for completion");
+                    }
+                }
+
             } else {
                 throw new RuntimeException("Valid Action implementations must implement either the SyncAction or the AsyncAction sub-interface");
             }
 
+            if (input instanceof Releasable releasable) {
+                releasable.release();
+            }
+
             if (motorState.get() == Stopping) {
                 motorState.enterState(Stopped);
                 logger.trace(() -> Thread.currentThread().getName() + " shutting down as " + motorState.get());
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.motor;
+
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.engine.api.activityapi.core.ThreadModel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Where the motor threads of an activity are placed, as set by the <em>affinity</em> activity
+ * parameter:
+ * <UL>
+ * <LI>{@code affinity=numa} spreads motors over the NUMA nodes of the host, by slot, and pins each
+ * to the CPUs of its node. Inputs and metrics which are node-aware then keep separate state for
+ * each node.</LI>
+ * <LI>{@code affinity=0-7,16-23} pins every motor to the given CPUs.</LI>
+ * </UL>
+ * Without the parameter, motors are not pinned. Pinning is done with {@code sched_setaffinity}
+ * on Linux only, and is skipped with a warning elsewhere, or for virtual threads.
+ */
+public final class MotorAffinity {
+    private final static Logger logger = LogManager.getLogger(MotorAffinity.class);
+    private final static AtomicBoolean warned = new AtomicBoolean(false);
+
+    public final static MotorAffinity NONE = new MotorAffinity("none", null, null, false);
+
+    private final String spec;
+    private final NumaTopology topology;
+    private final BitSet cpus;
+    private final boolean pinnable;
+
+    private MotorAffinity(String spec, NumaTopology topology, BitSet cpus, boolean pinnable) {
+        this.spec = spec;
+        this.topology = topology;
+        this.cpus = cpus;
+        this.pinnable = pinnable;
+    }
+
+    public static MotorAffinity of(ActivityDef activityDef) {
+        return activityDef.getParams().getOptionalString("affinity")
+            .map(spec -> of(spec, NumaTopology.host(), ThreadModel.of(activityDef) == ThreadModel.platform))
+            .orElse(NONE);
+    }
+
+    static MotorAffinity of(String spec, NumaTopology topology, boolean pinnable) {
+        String trimmed = spec.trim();
+        if (trimmed.equals("none")) {
+            return NONE;
+        }
+        if (trimmed.equals("numa")) {
+            return new MotorAffinity(trimmed, topology, null, pinnable);
+        }
+        return new MotorAffinity(trimmed, null, NumaTopology.parseCpuList(trimmed), pinnable);
+    }
+
+    /**
+     * @return true if motors are spread over NUMA nodes
+     */
+    public boolean isNuma() {
+        return topology != null;
+    }
+
+    /**
+     * @return the number of NUMA nodes motors are spread over, or 1 if they are not
+     */
+    public int nodes() {
+        return isNuma() ? topology.nodes() : 1;
+    }
+
+    /**
+     * @return the NUMA node of the motor in this slot, or 0 if motors are not spread over nodes
+     */
+    public int nodeOf(long slot) {
+        return isNuma() ? (int) (slot % topology.nodes()) : 0;
+    }
+
+    /**
+     * @return the CPUs the motor in this slot is pinned to, or null if it is not pinned
+     */
+    public BitSet cpusOf(long slot) {
+        if (isNuma()) {
+            return topology.cpus(nodeOf(slot));
+        }
+        return (cpus != null) ? (BitSet) cpus.clone() : null;
+    }
+
+    /**
+     * Pin the calling thread to the CPUs for the motor in this slot, if there are any.
+     *
+     * @return true if the thread was pinned
+     */
+    public boolean pin(long slot) {
+        BitSet slotCpus = cpusOf(slot);
+        if (slotCpus == null) {
+            return false;
+        }
+        if (!pinnable || !Platform.isLinux()) {
+            if (warned.compareAndSet(false, true)) {
+                logger.warn("affinity=" + spec + " can only pin platform motor threads on Linux, so motors are not pinned");
+            }
+            return false;
+        }
+        long[] mask = new long[Math.max(1, (slotCpus.length() + 63) / 64)];
+        long[] words = slotCpus.toLongArray();
+        System.arraycopy(words, 0, mask, 0, words.length);
+        try {
+            int rc = CLib.INSTANCE.sched_setaffinity(0, mask.length * Long.BYTES, mask);
+            if (rc != 0) {
+                logger.warn("Unable to pin motor " + slot + " to CPUs " + slotCpus + ", errno=" + Native.getLastError());
+                return false;
+            }
+        } catch (LinkageError e) {
+            if (warned.compareAndSet(false, true)) {
+                logger.warn("Unable to pin motor threads, since sched_setaffinity is not available: " + e);
+            }
+            return false;
+        }
+        logger.debug(() -> "pinned motor " + slot + " to CPUs " + slotCpus);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "affinity=" + spec;
+    }
+
+    private interface CLib extends Library {
+        CLib INSTANCE = Native.load("c", CLib.class);
+
+        int sched_setaffinity(int pid, int cpusetsize, long[] mask);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.motor;
+
+import io.nosqlbench.api.errors.BasicError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The NUMA nodes of this host and the CPUs of each, as read from {@code /sys/devices/system/node}
+ * on Linux. Where this is not available, the host is taken to be a single node with all of its
+ * processors.
+ */
+public final class NumaTopology {
+    private final static Logger logger = LogManager.getLogger(NumaTopology.class);
+    private final static Path NODES = Path.of("/sys/devices/system/node");
+    private final static Pattern NODE_DIR = Pattern.compile("node(\\d+)");
+
+    private static NumaTopology host;
+
+    private final List<BitSet> nodeCpus;
+
+    public NumaTopology(List<BitSet> nodeCpus) {
+        if (nodeCpus.isEmpty()) {
+            throw new BasicError("A NUMA topology must have at least one node");
+        }
+        this.nodeCpus = List.copyOf(nodeCpus);
+    }
+
+    /**
+     * @return the topology of this host, which is read once
+     */
+    public static synchronized NumaTopology host() {
+        if (host == null) {
+            host = read(NODES);
+            logger.debug(() -> "NUMA topology: " + host);
+        }
+        return host;
+    }
+
+    static NumaTopology read(Path nodesDir) {
+        List<Integer> ids = new ArrayList<>();
+        if (Files.isDirectory(nodesDir)) {
+            try (Stream<Path> entries = Files.list(nodesDir)) {
+                entries.forEach(p -> {
+                    Matcher matcher = NODE_DIR.matcher(p.getFileName().toString());
+                    if (matcher.matches() && Files.exists(p.resolve("cpulist"))) {
+                        ids.add(Integer.parseInt(matcher.group(1)));
+                    }
+                });
+            } catch (IOException e) {
+                logger.warn("Unable to read NUMA nodes from " + nodesDir + ": " + e);
+                ids.clear();
+            }
+        }
+        ids.sort(Integer::compare);
+
+        List<BitSet> nodes = new ArrayList<>();
+        for (int id : ids) {
+            try {
+                BitSet cpus = parseCpuList(Files.readString(nodesDir.resolve("node" + id).resolve("cpulist")));
+                if (!cpus.isEmpty()) { // memory-only nodes have no CPUs
+                    nodes.add(cpus);
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to read CPUs of NUMA node " + id + ": " + e);
+            }
+        }
+        if (nodes.isEmpty()) {
+            BitSet all = new BitSet();
+            all.set(0, Runtime.getRuntime().availableProcessors());
+            nodes.add(all);
+        }
+        return new NumaTopology(nodes);
+    }
+
+    /**
+     * Parse a Linux CPU list, like {@code 0-7,16-23}.
+     */
+    public static BitSet parseCpuList(String cpuList) {
+        BitSet cpus = new BitSet();
+        String spec = cpuList.trim();
+        if (spec.isEmpty()) {
+            return cpus;
+        }
+        for (String part : spec.split(",")) {
+            String[] range = part.trim().split("-");
+            try {
+                int from = Integer.parseInt(range[0].trim());
+                int to = (range.length > 1) ? Integer.parseInt(range[1].trim()) : from;
+                if (range.length > 2 || from < 0 || to < from) {
+                    throw new NumberFormatException(part);
+                }
+                cpus.set(from, to + 1);
+            } catch (NumberFormatException e) {
+                throw new BasicError("Invalid CPU list '" + cpuList + "', expected a list like 0-7,16-23");
+            }
+        }
+        return cpus;
+    }
+
+    public int nodes() {
+        return nodeCpus.size();
+    }
+
+    /**
+     * @return a copy of the CPUs of the node with this index, counting only nodes with CPUs
+     */
+    public BitSet cpus(int node) {
+        return (BitSet) nodeCpus.get(node).clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < nodeCpus.size(); i++) {
+            sb.append(i > 0 ? ", " : "").append("node").append(i).append("=").append(nodeCpus.get(i));
+        }
+        return sb.toString();
+    }
+}
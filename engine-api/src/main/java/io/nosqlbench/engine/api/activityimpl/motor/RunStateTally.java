@@ -20,6 +20,15 @@ import io.nosqlbench.engine.api.activityapi.core.RunState;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
 /**
  * <H2>Synopsis</H2>
  * <P>Event-oriented tally of the runtime states of all
@@ -27,21 +36,23 @@ import org.apache.logging.log4j.Logger;
  * aggregate scorecard for an activity's thread states.</P>
  * <HR></HR>
  * <H2>Purpose</H2>
- * <P>This limits inter-thread signaling requirements by constraining
- * the cases for which blockers are notified. This is because the
- * meaningful scenarios for which a blocker would want to be notified
- * do not include changes of positive values to other positive values.
- * This allows an explicit optimization around scenarios for which a
- * state count increments to 1 or decrements to 0, as in "some" or "none".
- * This is an effective optimization for scenarios with many active
- * threads.
- * </P>
+ * <P>State changes are made without locks, so that starting or stopping many thousands of
+ * motors at once does not serialize them on the tally. Motors are spread over stripes, each
+ * of which packs the counts of all states for its motors into a single long, so that each
+ * state change is one atomic update of one stripe. When a motor is added, it is given a
+ * {@link Slot} for its stripe, which it makes all of its changes through. Since every change
+ * of a motor is made to the same stripe, any view of the tally counts each motor exactly once,
+ * in one of the states which it was in while the view was taken.</P>
+ * <P>Blockers are not notified by a monitor. Each waiter is signaled by the first state change
+ * after it last evaluated its condition, and any further changes until it evaluates it again
+ * only find it already signaled. So a storm of state changes wakes each waiter at most a few
+ * times, and costs the motors no more than a volatile read when nobody is waiting.</P>
  * <HR></HR>
  * <H2>Calling Semantics</H2>
  * <P>Callers of the await functions will block for the required condition or,
  * if specified, the timeout to occur without the condition.
- * These callers are unblocked atomically, after any state add, state remove,
- * or state change events are fully completed.</P>
+ * These callers are unblocked after any state add, state remove,
+ * or state change events which meet their condition are completed.</P>
  * <P>{@link RunStateImage} is returned from blocking methods so that
  * callers can know consistently what the current run states were at
  * the time their condition was met or timed out. Any callers of such
@@ -53,6 +64,9 @@ import org.apache.logging.log4j.Logger;
  *     <LI>Under consistent usage patterns, all counts should be zero or positive at all times.</LI>
  *     <LI>The current count for each state should be equal to the visible {@link RunState} on each
  *     motor thread, as all transitions are made through the motor threads directly.</LI>
+ *     <LI>A change from a state is not counted until the change into that state has been, so a change
+ *     which is counted out of order with the one before it, as when two threads change the state of
+ *     the same motor, waits briefly for it.</LI>
  * </UL>
  */
 public class RunStateTally {
@@ -64,65 +78,87 @@ public class RunStateTally {
      */
     public final long DEFAULT_TIMEOUT_MS=Long.MAX_VALUE;
 
-    private final int[] counts = new int[RunState.values().length];
+    private final static int STATES = RunState.values().length;
+    private final static int BITS = 63 / STATES;
+    private final static long MASK = (1L << BITS) - 1;
+
+    /**
+     * The most motors which are counted in one stripe, so that no count can overflow into another
+     */
+    final static int STRIPE_CAPACITY = (int) MASK;
+
+    private final static int SPINS_BEFORE_YIELD = 1_000;
+    private final static int MAX_SPINS = 1_000_000;
+
+    private final Object lock = new Object();
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private volatile Stripe[] stripes;
+    private volatile Waiter[] waiters = new Waiter[0];
+
+    /**
+     * Counts of motors which are changed without a {@link Slot}
+     */
+    private final AtomicLongArray loose = new AtomicLongArray(STATES);
+
+    public RunStateTally() {
+        Stripe[] initial = new Stripe[Math.max(4, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2)];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Stripe();
+        }
+        this.stripes = initial;
+    }
 
     /**
      * @return the current count for the specified state
      * @param runState The {@link RunState} to count
      *
      */
-    public synchronized int tallyFor(RunState runState) {
-        return counts[runState.ordinal()];
+    public int tallyFor(RunState runState) {
+        return counts()[runState.ordinal()];
     }
 
     /**
-     * Signal that a motor thread has left one {@link RunState} and entered another,
-     * atomically. After both counts are updated, if any RunState counts changed to or from zero,
-     * then all potential observers are notified to re-evaluate their await conditions.
+     * Signal that a motor thread has left one {@link RunState} and entered another, for a motor
+     * which is not tracked with a {@link Slot}. Motors should use {@link Slot#change(RunState, RunState)}
+     * instead, which is cheaper and is counted atomically.
      * @param from the prior RunState
      * @param to the next RunState
      */
-    public synchronized void change(RunState from, RunState to) {
-        counts[from.ordinal()]--;
-        counts[to.ordinal()]++;
-        logger.trace(() -> this +" -"+from+ String.format(":%04d",counts[from.ordinal()])+ ", +"+to+ String.format(":%04d",counts[to.ordinal()]));
-
-        if (counts[from.ordinal()]==0 || counts[to.ordinal()]==1) {
-//            logger.debug(() -> "NOTIFYing on edge "+
-//                "from " + from + String.format(":%04d",counts[from.ordinal()]) +
-//                " to " + to + String.format(":%04d",counts[to.ordinal()]));
-            notifyAll();
+    public void change(RunState from, RunState to) {
+        loose.incrementAndGet(to.ordinal());
+        loose.decrementAndGet(from.ordinal());
+        if (logger.isTraceEnabled()) {
+            logger.trace(this + " -" + from + ", +" + to);
         }
+        signalWaiters();
     }
 
     /**
      * Add a previously untracked motor thread to state tracking with the provided {@link RunState}.
-     * If the given state's count becomes non-zero, then all potential observers are notified to re-evaluate
-     * their await conditions.
+     * All potential observers are signaled to re-evaluate their await conditions.
      * @param state The initial tracking state for the related motor thread
+     * @return The slot of the motor, which all of its later changes should be made through
      */
-    public synchronized void add(RunState state) {
-        counts[state.ordinal()]++;
-        logger.trace(() -> this +" +"+state+ String.format(":%04d",counts[state.ordinal()]));
-        if (counts[state.ordinal()]==1) {
-//            logger.debug(() -> "NOTIFYing on ++-SOME edge for " + state + String.format(":%04d",counts[state.ordinal()]));
-            notifyAll();
+    public Slot add(RunState state) {
+        Slot slot = new Slot(claimStripe(), state);
+        if (logger.isTraceEnabled()) {
+            logger.trace(this + " +" + state);
         }
+        signalWaiters();
+        return slot;
     }
 
     /**
-     * Remove a previously tracked motor thread from state tracking with the provided {@link RunState}.
-     * If the given state's count becomes zero, then all potential observers are notified to re-evaluate
-     * their await conditions.
+     * Remove a previously tracked motor thread from state tracking with the provided {@link RunState},
+     * for a motor which is not tracked with a {@link Slot}. Motors should use {@link Slot#remove(RunState)} instead.
      * @param state The final tracking state for the related motor thread
      */
-    public synchronized void remove(RunState state) {
-        counts[state.ordinal()]--;
-        logger.trace(() -> this +" -"+state+ String.format(":%04d",counts[state.ordinal()]));
-        if (counts[state.ordinal()]==0) {
-//            logger.debug(() -> "NOTIFYing on 00-NONE edge for " + state + String.format(":%04d",counts[state.ordinal()]));
-            notifyAll();
+    public void remove(RunState state) {
+        loose.decrementAndGet(state.ordinal());
+        if (logger.isTraceEnabled()) {
+            logger.trace(this + " -" + state);
         }
+        signalWaiters();
     }
 
     /**
@@ -133,7 +169,7 @@ public class RunStateTally {
      * @param runStates The states which <EM>may</EM> have zero counts and still match the condition
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOther(RunState... runStates) {
+    public RunStateImage awaitNoneOther(RunState... runStates) {
         return this.awaitNoneOther(DEFAULT_TIMEOUT_MS, runStates);
     }
     /**
@@ -142,47 +178,25 @@ public class RunStateTally {
      * @param runStates RunStates which are the only valid states before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOther(long timeoutMillis, RunState... runStates) {
-//        logger.debug(() -> "☐ Awaiting only " + Arrays.toString(runStates) + " for " + timeoutMillis+"ms");
-        long timeoutAt = timeoutAt(timeoutMillis);
-
-        int sum=0;
-        for (RunState runState: RunState.values()) {
-            sum+=counts[runState.ordinal()];
-        }
-        for (RunState runState : runStates) {
-            sum-=counts[runState.ordinal()];
-        }
-        while (sum>0 && System.currentTimeMillis()<timeoutAt) {
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
-            }
-
-            sum=0;
-            for (RunState runState: RunState.values()) {
-                sum+=counts[runState.ordinal()];
+    public RunStateImage awaitNoneOther(long timeoutMillis, RunState... runStates) {
+        return await(timeoutMillis, counts -> {
+            int sum = 0;
+            for (int count : counts) {
+                sum += count;
             }
             for (RunState runState : runStates) {
-                sum-=counts[runState.ordinal()];
+                sum -= counts[runState.ordinal()];
             }
-        }
-
-        boolean timedout = (sum!=0);
-//        logger.debug(() -> (timedout ? "✘ TIMED-OUT awaiting only " : "☑ Awaited only " ) + toString(runStates));
-        return new RunStateImage(this.counts,timedout);
+            return sum <= 0;
+        });
     }
 
-    private long timeoutAt(long timeoutMillis) {
-        long delayTill= System.currentTimeMillis() + timeoutMillis;
-        return (delayTill>0) ? delayTill : Long.MAX_VALUE;
-    }
     /**
      * Await until there are zero counts for all of the specified {@link RunState}s.
      * @param runStates all RunStates which must be zeroed before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOf(RunState... runStates) {
+    public RunStateImage awaitNoneOf(RunState... runStates) {
         return this.awaitNoneOf(DEFAULT_TIMEOUT_MS, runStates);
     }
     /**
@@ -191,27 +205,15 @@ public class RunStateTally {
      * @param runStates all RunStates which must be zeroed before unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitNoneOf(long timeoutMillis, RunState... runStates) {
-//        logger.debug(() -> "☐ Awaiting none of " + Arrays.toString(runStates)+ " for " + timeoutMillis+"ms");
-        long timeoutAt = timeoutAt(timeoutMillis);
-
-        int sum=0;
-        for (RunState runState : runStates) {
-            sum+=counts[runState.ordinal()];
-        }
-        while (sum>0 && System.currentTimeMillis()<timeoutAt) {
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
-            }
-            sum=0;
+    public RunStateImage awaitNoneOf(long timeoutMillis, RunState... runStates) {
+        return await(timeoutMillis, counts -> {
             for (RunState runState : runStates) {
-                sum+=counts[runState.ordinal()];
+                if (counts[runState.ordinal()] > 0) {
+                    return false;
+                }
             }
-        }
-        boolean timedout=sum==0;
-//        logger.debug(() -> (timedout ? "✘ TIMED-OUT awaiting none of " : "☑ Awaited none of " ) + toString(runStates));
-        return new RunStateImage(this.counts,timedout);
+            return true;
+        });
     }
 
     /**
@@ -219,7 +221,7 @@ public class RunStateTally {
      * @param runStates RunStates any of which allow unblocking
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitAny(RunState... runStates) {
+    public RunStateImage awaitAny(RunState... runStates) {
         return this.awaitAny(DEFAULT_TIMEOUT_MS,runStates);
     }
 
@@ -230,27 +232,125 @@ public class RunStateTally {
      * @param timeoutMillis Milliseconds to wait for any of the runstates before giving up
      * @return A {@link RunStateImage}, indicating success or failure, and the view of states at the time of evaluation
      */
-    public synchronized RunStateImage awaitAny(long timeoutMillis, RunState... runStates) {
-//        logger.debug(() -> "☐ Awaiting any " + Arrays.toString(runStates) + " for " + timeoutMillis + "ms");
+    public RunStateImage awaitAny(long timeoutMillis, RunState... runStates) {
+        return await(timeoutMillis, counts -> {
+            for (RunState runState : runStates) {
+                if (counts[runState.ordinal()] > 0) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Evaluate a condition on the counts whenever they may have changed, until it is met or the
+     * timeout passes. The waiter is registered before the first evaluation, and clears its signal
+     * before each one, so that no change after an evaluation can be missed.
+     */
+    private RunStateImage await(long timeoutMillis, Predicate<int[]> condition) {
         long timeoutAt = timeoutAt(timeoutMillis);
+        Waiter waiter = new Waiter(Thread.currentThread());
+        register(waiter);
+        try {
+            while (true) {
+                waiter.signaled = false;
+                int[] counts = counts();
+                if (condition.test(counts)) {
+                    return new RunStateImage(counts, false);
+                }
+                long remaining = timeoutAt - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return new RunStateImage(counts, true);
+                }
+                if (!waiter.signaled) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(remaining));
+                    Thread.interrupted();
+                }
+            }
+        } finally {
+            unregister(waiter);
+        }
+    }
 
-        while (System.currentTimeMillis()<timeoutAt) {
-            for (RunState runState : runStates) {
-                if (counts[runState.ordinal()]>0) {
-//                    logger.debug("☑ Awaited any " + toString(runStates));
-                    return new RunStateImage(this.counts,false);
+    private long timeoutAt(long timeoutMillis) {
+        long delayTill= System.currentTimeMillis() + timeoutMillis;
+        return (delayTill>0) ? delayTill : Long.MAX_VALUE;
+    }
+
+    private void register(Waiter waiter) {
+        synchronized (lock) {
+            Waiter[] registered = Arrays.copyOf(waiters, waiters.length + 1);
+            registered[registered.length - 1] = waiter;
+            waiters = registered;
+        }
+    }
+
+    private void unregister(Waiter waiter) {
+        synchronized (lock) {
+            waiters = Arrays.stream(waiters).filter(w -> w != waiter).toArray(Waiter[]::new);
+        }
+    }
+
+    private void signalWaiters() {
+        for (Waiter waiter : waiters) {
+            if (!waiter.signaled) {
+                waiter.signaled = true;
+                LockSupport.unpark(waiter.thread);
+            }
+        }
+    }
+
+    private Stripe claimStripe() {
+        while (true) {
+            Stripe[] current = stripes;
+            for (int tries = 0; tries < current.length; tries++) {
+                Stripe stripe = current[Math.floorMod(nextStripe.getAndIncrement(), current.length)];
+                if (stripe.members.incrementAndGet() <= STRIPE_CAPACITY) {
+                    return stripe;
                 }
+                stripe.members.decrementAndGet();
             }
-            try {
-                wait(timeoutAt-System.currentTimeMillis());
-            } catch (InterruptedException e) {
+            synchronized (lock) {
+                if (stripes == current) {
+                    Stripe[] grown = Arrays.copyOf(current, current.length * 2);
+                    for (int i = current.length; i < grown.length; i++) {
+                        grown[i] = new Stripe();
+                    }
+                    stripes = grown;
+                }
             }
         }
-//        logger.debug(() -> "✘ TIMED-OUT awaiting any of " + toString(runStates));
-        return new RunStateImage(this.counts,true);
+    }
+
+    /**
+     * @return the counts of all states, with each motor counted in one state
+     */
+    private int[] counts() {
+        long[] sums = new long[STATES];
+        for (Stripe stripe : stripes) {
+            long packed = stripe.get();
+            for (int i = 0; i < STATES; i++) {
+                sums[i] += countOf(packed, i);
+            }
+        }
+        int[] counts = new int[STATES];
+        for (int i = 0; i < STATES; i++) {
+            counts[i] = (int) (sums[i] + loose.get(i));
+        }
+        return counts;
+    }
+
+    private static long countOf(long packed, int ordinal) {
+        return (packed >>> (ordinal * BITS)) & MASK;
+    }
+
+    private static long unitOf(RunState state) {
+        return 1L << (state.ordinal() * BITS);
     }
 
     public String toString(RunState... runStates) {
+        int[] counts = counts();
         StringBuilder sb = new StringBuilder();
         for (RunState runState : runStates) {
             sb.append(runState.getCode()).append("(").append(counts[runState.ordinal()]).append(") ");
@@ -261,4 +361,97 @@ public class RunStateTally {
     public String toString() {
         return toString(RunState.values());
     }
+
+    /**
+     * The tally of one motor, which counts its state changes in the stripe it was added to.
+     */
+    public final class Slot {
+        private final Stripe stripe;
+
+        private Slot(Stripe stripe, RunState initial) {
+            this.stripe = stripe;
+            stripe.update(null, initial);
+        }
+
+        /**
+         * Signal that the motor has left one {@link RunState} and entered another, atomically.
+         * All potential observers are then signaled to re-evaluate their await conditions.
+         * @param from the prior RunState
+         * @param to the next RunState
+         */
+        public void change(RunState from, RunState to) {
+            stripe.update(from, to);
+            if (logger.isTraceEnabled()) {
+                logger.trace(RunStateTally.this + " -" + from + ", +" + to);
+            }
+            signalWaiters();
+        }
+
+        /**
+         * Remove the motor from state tracking.
+         * @param state The final tracking state of the motor
+         */
+        public void remove(RunState state) {
+            stripe.update(state, null);
+            stripe.members.decrementAndGet();
+            if (logger.isTraceEnabled()) {
+                logger.trace(RunStateTally.this + " -" + state);
+            }
+            signalWaiters();
+        }
+    }
+
+    /**
+     * The packed counts of the motors of one stripe. The padding keeps the counts of each stripe
+     * on their own cache line, so that motors of different stripes do not contend.
+     */
+    @SuppressWarnings("unused")
+    private final static class Stripe {
+        private static final VarHandle PACKED;
+
+        static {
+            try {
+                PACKED = MethodHandles.lookup().findVarHandle(Stripe.class, "packed", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long p0, p1, p2, p3, p4, p5, p6;
+        private volatile long packed;
+        private long q0, q1, q2, q3, q4, q5, q6;
+        private final AtomicInteger members = new AtomicInteger();
+
+        long get() {
+            return packed;
+        }
+
+        void update(RunState from, RunState to) {
+            long delta = ((to != null) ? unitOf(to) : 0L) - ((from != null) ? unitOf(from) : 0L);
+            int spins = 0;
+            while (true) {
+                long current = packed;
+                if (from != null && countOf(current, from.ordinal()) == 0) {
+                    if (++spins > MAX_SPINS) {
+                        throw new IllegalStateException("No motor is counted as " + from + " to change to " + to);
+                    } else if (spins > SPINS_BEFORE_YIELD) {
+                        Thread.yield();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                } else if (PACKED.compareAndSet(this, current, current + delta)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private final static class Waiter {
+        private final Thread thread;
+        private volatile boolean signaled;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
 }
@@ -16,23 +16,46 @@
 
 package io.nosqlbench.engine.api.activityimpl.uniform.actions;
 
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
 import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.*;
 import io.nosqlbench.adapters.api.evalcontext.CycleFunction;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.errors.BasicError;
 import io.nosqlbench.api.errors.ResultVerificationError;
 import io.nosqlbench.engine.api.activityapi.core.ActivityDefObserver;
-import io.nosqlbench.engine.api.activityapi.core.SyncAction;
+import io.nosqlbench.engine.api.activityapi.core.AsyncCapableAction;
+import io.nosqlbench.engine.api.activityapi.core.RunState;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.ErrorDetail;
 import io.nosqlbench.engine.api.activityapi.errorhandling.modular.NBErrorHandler;
+import io.nosqlbench.engine.api.activityapi.input.ScheduleAware;
+import io.nosqlbench.engine.api.activityapi.input.ScheduledInput;
+import io.nosqlbench.engine.api.activityapi.planning.FairOpSequence;
 import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
+import io.nosqlbench.engine.api.activityapi.scheduling.TimerWheel;
 import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.activityimpl.uniform.pipeline.Handoff;
+import io.nosqlbench.engine.api.activityimpl.uniform.pipeline.OpPipeline;
+import io.nosqlbench.engine.api.activityimpl.uniform.pipeline.OpStage;
+import io.nosqlbench.engine.api.activityimpl.uniform.sessions.SessionInput;
+import io.nosqlbench.engine.api.activityimpl.uniform.sessions.ThinkTime;
+import io.nosqlbench.engine.api.activityimpl.uniform.tracing.OpTraceSampler;
+import io.nosqlbench.virtdata.library.basics.core.threadstate.SharedState;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This is the generified version of an Action. All driver adapters us this, as opposed
@@ -40,15 +63,71 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * This allows the API to be consolidated so that the internal machinery of NB
  * works in a very consistent and uniform way for all users and drivers.
+ * <p>
+ * When the <em>async</em> activity parameter is set, ops which implement {@link AsyncCycleOp}
+ * are started without waiting for them to complete. Each action (one per motor) is allowed
+ * its share of the async limit as ops in flight, and blocks the motor only when this window
+ * is full. The shares of all motors add up to exactly the async limit, so a fixed limit must be
+ * at least the number of threads. When the limit is adjusted below that, as by adaptive
+ * concurrency, the motors without a share wait until they have one again. Timers, verifiers, retries and the error handler are applied on completion, from
+ * whichever thread completes the op. Any follow-up ops from an {@link OpGenerator} are handed
+ * back to the motor thread and run there before the next cycle is started.
+ * <p>
+ * With <em>opchains=async</em>, follow-up ops which implement {@link AsyncCycleOp} are instead
+ * started as continuations of the op before them, from the motor thread once it completes. The
+ * motor can then start the next cycle while a chain is still in flight. Each op of a chain is
+ * still started only after the one before it completes, with its own count of tries, and the
+ * chain holds its window slot until it is done. Follow-up ops which are not async are run on the motor thread as before,
+ * until the chain reaches an async op again.
+ * <p>
+ * With <em>seq=fair</em>, the op for a cycle is selected when it is started, as described in
+ * {@link io.nosqlbench.engine.api.activityapi.planning.FairOpSequence}, and each cycle is reported
+ * to the sequence when its chain is complete.
+ * <p>
+ * When the error handler gives a retry delay, as with <em>handler=retry delay=10ms</em>, synchronous
+ * ops wait on the motor thread before each retry. Async ops do not hold the motor: the retry is
+ * scheduled on the shared {@link TimerWheel}, and started from the motor thread when it is due,
+ * while the op holds its window slot. Async retries without a delay are also started from the
+ * motor thread, so that native drivers are never called from their own completion handlers.
+ * <p>
+ * When the input of the motor is a {@link ScheduledInput}, as when an arrival log is replayed,
+ * the op for each cycle is the one which the input names for it, if any. The input is told when
+ * each cycle is complete, with the think time of its op, so that a {@link SessionInput} can queue
+ * the next cycle of the same session once it is done thinking. While such an input has no cycle
+ * for the motor, the motor still runs follow-up work, since that may be what completes a session.
+ * <p>
+ * The cycle service time is measured from when the op is started until its chain is complete,
+ * and the cycle response time from when the cycle was intended to start, according to the
+ * cycle rate limiter, until its chain is complete.
+ * <p>
+ * Ops of templates with <em>instrument: trace</em> are offered to the {@link OpTraceSampler} of
+ * the activity once they are done, with the time spent binding, executing and verifying them.
+ * For synchronous ops, these are summed over all tries. For async ops, they are those of the
+ * last try.
+ * <p>
+ * When op templates are in more than one stage, as described in {@link OpPipeline}, each action
+ * also runs the ops of later stages. Before each cycle, it takes at most one queued handoff from
+ * each later stage, starting with the last. These ops are run synchronously, with the result of
+ * the stage before as the input of any {@link ChainingOp} and as the <em>input</em> variable of
+ * verifiers. Variables which the op of the stage before captured are also given to the verifiers,
+ * and put into the thread-local {@link SharedState} before the op is bound, so that bindings of the
+ * later stage can read them with <em>Load</em>. Handoffs from async ops are made from the motor thread, like follow-up ops. When all
+ * cycles are done, the action runs queued handoffs until none are left, unless the activity is
+ * being stopped.
  *
  * @param <A>
  *     The type of activity
  * @param <R>
  *     The type of operation
  */
-public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> implements SyncAction, ActivityDefObserver {
+public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> implements AsyncCapableAction, ActivityDefObserver, ScheduleAware {
     private final static Logger logger = LogManager.getLogger("ACTION");
 
+    /**
+     * The code for a chain which was continued asynchronously, which is completed later
+     */
+    private final static int CONTINUED = Integer.MIN_VALUE;
+
     private final A activity;
     private final int slot;
     private final Timer executeTimer;
@@ -60,6 +139,23 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
     private final OpSequence<OpDispenser<? extends Op>> opsequence;
     private final int maxTries;
     private final Timer verifierTimer;
+    private final Counter pendingOpsCounter;
+    private final Timer cycleServiceTimer;
+    private final Timer cycleResponseTimer;
+    private final OpStage firstStage;
+    private final List<OpStage> laterStages;
+    private final OpTraceSampler tracer;
+
+    private final AtomicInteger pendingOps = new AtomicInteger(0);
+    private final Queue<FollowUp> followUps = new ConcurrentLinkedQueue<>();
+    private final Queue<Handoff> deferredHandoffs = new ConcurrentLinkedQueue<>();
+    private final Queue<AsyncStart> dueStarts = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> asyncError = new AtomicReference<>();
+    private volatile boolean asyncEnabled = false;
+    private volatile boolean asyncChains = false;
+    private volatile int maxPendingOps = 1;
+    private volatile Thread motorThread;
+    private ScheduledInput schedule;
 
     public StandardAction(A activity, int slot) {
         this.activity = activity;
@@ -73,62 +169,193 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
         resultSuccessTimer = activity.getInstrumentation().getOrCreateResultSuccessTimer();
         errorHandler = activity.getErrorHandler();
         verifierTimer = activity.getInstrumentation().getOrCreateVerifierTimer();
+        pendingOpsCounter = activity.getInstrumentation().getOrCreatePendingOpCounter();
+        cycleServiceTimer = activity.getInstrumentation().getOrCreateCyclesServiceTimer(slot);
+        cycleResponseTimer = activity.getInstrumentation().getCyclesResponseTimerOrNull(slot);
+        OpPipeline pipeline = activity.getPipeline();
+        firstStage = (pipeline != null) ? pipeline.getFirstStage() : null;
+        laterStages = (pipeline != null) ? pipeline.getLaterStages() : List.of();
+        tracer = activity.getOpTracer();
+        onActivityDefUpdate(activity.getActivityDef());
     }
 
+    /**
+     * Run a cycle which is intended to start now, as when no cycle rate limiter is used.
+     */
     @Override
     public int runCycle(long cycle) {
+        return runCycle(cycle, System.nanoTime());
+    }
 
-        OpDispenser<? extends Op> dispenser;
+    /**
+     * {@inheritDoc}
+     * <p>
+     * For async ops, the returned code is always 0, since the outcome of the
+     * operation is not known yet.
+     */
+    @Override
+    public int runCycle(long cycle, long intendedStartNanos) {
+        long cycleStartedAt = System.nanoTime();
+        this.motorThread = Thread.currentThread();
+        throwAnyAsyncError();
+        runFollowUps();
+        runLaterStages();
+
+        OpDispenser<? extends Op> dispenser = selectDispenser(cycle);
         Op op = null;
 
-        try (Timer.Context ct = bindTimer.time()) {
-            dispenser = opsequence.apply(cycle);
+        long bindStart = System.nanoTime();
+        long bindNanos;
+        try {
             op = dispenser.apply(cycle);
         } catch (Exception e) {
             throw new RuntimeException("while binding request in cycle " + cycle + ": " + e.getMessage(), e);
+        } finally {
+            bindNanos = System.nanoTime() - bindStart;
+            bindTimer.update(bindNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (asyncEnabled && op instanceof AsyncCycleOp<?> asyncOp) {
+            awaitWindow();
+            pendingOps.incrementAndGet();
+            pendingOpsCounter.inc();
+            startAsync(dispenser, asyncOp, cycle, 1, System.nanoTime(), intendedStartNanos, bindNanos);
+            return 0;
         }
 
+        int code = runChain(dispenser, op, cycle, null, cycleStartedAt, intendedStartNanos, false, firstStage, null, bindNanos);
+        recordCycle(dispenser, cycle, cycleStartedAt, intendedStartNanos);
+        return code;
+    }
+
+    /**
+     * Select the op for a cycle. While the sequence can not start any op yet, as with
+     * <em>seq=fair</em> when every op is at its budget, follow-up work is run, since it may be
+     * what completes the ops in flight.
+     */
+    private OpDispenser<? extends Op> selectDispenser(long cycle) {
+        if (schedule != null) {
+            int index = schedule.opIndexFor(cycle);
+            if (index >= 0) {
+                List<OpDispenser<? extends Op>> ops = opsequence.getOps();
+                if (index >= ops.size()) {
+                    throw new RuntimeException("cycle " + cycle + " is scheduled for op " + index + ", but there are only " + ops.size() + " ops");
+                }
+                return ops.get(index);
+            }
+        }
+        OpDispenser<? extends Op> dispenser;
+        while ((dispenser = opsequence.tryApply(cycle)) == null) {
+            runFollowUps();
+            throwAnyAsyncError();
+            LockSupport.parkNanos(this, 50_000L);
+        }
+        return dispenser;
+    }
+
+    private void recordCycle(OpDispenser<? extends Op> dispenser, long cycle, long cycleStartedAt, long intendedStartNanos) {
+        opsequence.onComplete(dispenser);
+        long cycleEnd = System.nanoTime();
+        if (schedule != null) {
+            ThinkTime thinkTime = activity.getThinkTime(dispenser);
+            schedule.onComplete(cycle, (thinkTime != null) ? thinkTime.nanosFor(cycle) : 0L);
+        }
+        cycleServiceTimer.update(cycleEnd - cycleStartedAt, TimeUnit.NANOSECONDS);
+        if (cycleResponseTimer != null) {
+            cycleResponseTimer.update(cycleEnd - intendedStartNanos, TimeUnit.NANOSECONDS);
+        }
+        if (firstStage != null) {
+            firstStage.getServiceTimer().update(cycleEnd - cycleStartedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Run an op and any follow-up ops it generates, synchronously in the calling thread.
+     *
+     * @param continueAsync
+     *     If true, the chain is continued asynchronously from the first {@link AsyncCycleOp} in it,
+     *     with the window slot held by the caller, and {@link #CONTINUED} is returned.
+     * @param stage
+     *     The stage of the chain, which is handed off to the next stage if it succeeds, or null
+     * @param input
+     *     The handoff which the chain was started for, or null if it was started for a cycle
+     * @param bindNanos
+     *     How long it took to bind the first op of the chain, which is traced with that op
+     */
+    private int runChain(
+        OpDispenser<? extends Op> dispenser,
+        Op op,
+        long cycle,
+        Object result,
+        long cycleStartedAt,
+        long intendedStartNanos,
+        boolean continueAsync,
+        OpStage stage,
+        Handoff input,
+        long bindNanos
+    ) {
         int code = 0;
-        Object result = null;
+        boolean succeeded = true;
+        Op last = null;
         while (op != null) {
+            if (continueAsync && op instanceof AsyncCycleOp<?> asyncOp) {
+                startAsync(dispenser, asyncOp, cycle, 1, cycleStartedAt, intendedStartNanos, bindNanos);
+                return CONTINUED;
+            }
+
+            String traceName = (tracer != null) ? dispenser.getTraceName() : null;
+            long traceStart = 0L;
+            long traceEnd = 0L;
+            long executeNanos = 0L;
+            long verifyNanos = 0L;
+            int attempts = 0;
+            Throwable lastError = null;
 
             int tries = 0;
             while (++tries < maxTries) {
                 Throwable error = null;
                 long startedAt = System.nanoTime();
+                if (attempts++ == 0) {
+                    traceStart = startedAt - bindNanos;
+                }
 
                 dispenser.onStart(cycle);
 
-                try (Timer.Context ct = executeTimer.time()) {
+                long executeStart = System.nanoTime();
+                long verifyStart = 0L;
+                try {
                     if (op instanceof RunnableOp) {
                         ((RunnableOp) op).run();
                     } else if (op instanceof CycleOp<?>) {
                         result = ((CycleOp) op).apply(cycle);
                     } else if (op instanceof ChainingOp) {
                         result = ((ChainingOp) op).apply(result);
+                    } else if (op instanceof AsyncCycleOp<?> asyncOp) {
+                        result = asyncOp.applyAsync(cycle).toCompletableFuture().join();
                     } else {
                         throw new RuntimeException("The op implementation did not implement any active logic. Implement " +
-                            "one of [RunnableOp, CycleOp, or ChainingOp]");
+                            "one of [RunnableOp, CycleOp, ChainingOp, or AsyncCycleOp]");
                     }
 
-                    try (Timer.Context ignored = verifierTimer.time()) {
-                        CycleFunction<Boolean> verifier = dispenser.getVerifier();
-                        try {
-                            verifier.setVariable("result", result);
-                            verifier.setVariable("cycle",cycle);
-                            Boolean isGood = verifier.apply(cycle);
-                            if (!isGood) {
-                                throw new ResultVerificationError("result verification failed", maxTries - tries, verifier.getExpressionDetails());
-                            }
-                        } catch (Exception e) {
-                            throw new ResultVerificationError(e, maxTries - tries, verifier.getExpressionDetails());
-                        }
+                    if (traceName != null) {
+                        verifyStart = System.nanoTime();
                     }
+                    verify(dispenser, cycle, result, tries, input);
                 } catch (Exception e) {
-                    error = e;
+                    error = unwrap(e);
                 } finally {
-                    long nanos = System.nanoTime() - startedAt;
+                    long endedAt = System.nanoTime();
+                    if (traceName != null) {
+                        long executeEnd = (verifyStart != 0L) ? verifyStart : endedAt;
+                        executeNanos += executeEnd - executeStart;
+                        verifyNanos += endedAt - executeEnd;
+                        traceEnd = endedAt;
+                        lastError = error;
+                    }
+                    executeTimer.update(endedAt - executeStart, TimeUnit.NANOSECONDS);
+                    long nanos = endedAt - startedAt;
                     resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+                    succeeded = (error == null);
                     if (error == null) {
                         resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
                         dispenser.onSuccess(cycle, nanos);
@@ -140,11 +367,20 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
                         if (!detail.isRetryable()) {
                             break;
                         }
+                        if (tries + 1 < maxTries) {
+                            awaitRetryDelay(detail.getRetryDelayNanos(tries));
+                        }
                     }
                 }
             }
             triesHistogram.update(tries);
+            if (traceName != null) {
+                tracer.record(cycle, traceName, traceStart, traceEnd, bindNanos, executeNanos, verifyNanos,
+                    attempts, result, lastError);
+            }
+            bindNanos = 0L;
 
+            last = op;
             if (op instanceof OpGenerator) {
                 logger.trace(() -> "GEN OP for cycle(" + cycle + ")");
                 op = ((OpGenerator) op).getNextOp();
@@ -153,11 +389,360 @@ public class StandardAction<A extends StandardActivity<R, ?>, R extends Op> impl
             }
         }
 
+        if (succeeded && stage != null && stage.getNext() != null) {
+            handOff(stage.getNext(), stage.handoff(cycle, last, result));
+        }
         return code;
     }
 
+    /**
+     * Verify the result of a cycle, unless the dispenser has no verifiers or this cycle is
+     * not sampled for verification, in which case no verifier state or timers are touched.
+     */
+    private void verify(OpDispenser<? extends Op> dispenser, long cycle, Object result, int tries, Handoff input) {
+        if (!dispenser.isVerified(cycle)) {
+            return;
+        }
+        long verifyStart = System.nanoTime();
+        CycleFunction<Boolean> verifier = dispenser.getVerifier();
+        try {
+            verifier.setVariable("result", result);
+            verifier.setVariable("cycle", cycle);
+            if (input != null) {
+                verifier.setVariable("input", input.result());
+                input.captures().forEach(verifier::setVariable);
+            }
+            Boolean isGood = verifier.apply(cycle);
+            if (!isGood) {
+                throw new ResultVerificationError("result verification failed", maxTries - tries, verifier.getExpressionDetails());
+            }
+        } catch (Exception e) {
+            throw new ResultVerificationError(e, maxTries - tries, verifier.getExpressionDetails());
+        } finally {
+            verifierTimer.update(System.nanoTime() - verifyStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Start one try of an async op. The execute timer measures only the hand-off to the
+     * native driver, while the result timers measure the time until completion.
+     *
+     * @param bindNanos
+     *     How long it took to bind the op, if this is its first try and it is the first op of its
+     *     cycle, or 0 otherwise
+     */
+    private void startAsync(
+        OpDispenser<? extends Op> dispenser,
+        AsyncCycleOp<?> op,
+        long cycle,
+        int tries,
+        long cycleStartedAt,
+        long intendedStartNanos,
+        long bindNanos
+    ) {
+        long startedAt = System.nanoTime();
+        dispenser.onStart(cycle);
+        CompletionStage<?> stage;
+        try {
+            stage = op.applyAsync(cycle);
+        } catch (Exception e) {
+            stage = CompletableFuture.failedStage(e);
+        } finally {
+            executeTimer.update(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        stage.whenComplete((result, throwable) -> onAsyncComplete(
+            dispenser, op, cycle, tries, startedAt, cycleStartedAt, intendedStartNanos, bindNanos, result, throwable
+        ));
+    }
+
+    private void onAsyncComplete(
+        OpDispenser<? extends Op> dispenser,
+        AsyncCycleOp<?> op,
+        long cycle,
+        int tries,
+        long startedAt,
+        long cycleStartedAt,
+        long intendedStartNanos,
+        long bindNanos,
+        Object result,
+        Throwable throwable
+    ) {
+        try {
+            long completedAt = System.nanoTime();
+            Throwable error = unwrap(throwable);
+            if (error == null) {
+                try {
+                    verify(dispenser, cycle, result, tries, null);
+                } catch (Exception e) {
+                    error = e;
+                }
+            }
+            long endedAt = System.nanoTime();
+            long nanos = endedAt - startedAt;
+            resultTimer.update(nanos, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                resultSuccessTimer.update(nanos, TimeUnit.NANOSECONDS);
+                dispenser.onSuccess(cycle, nanos);
+            } else {
+                ErrorDetail detail = errorHandler.handleError(error, cycle, nanos);
+                dispenser.onError(cycle, nanos, error);
+                if (detail.isRetryable() && tries + 1 < maxTries) {
+                    long delay = detail.getRetryDelayNanos(tries);
+                    AsyncStart retry = new AsyncStart(dispenser, op, cycle, tries + 1, cycleStartedAt, intendedStartNanos);
+                    if (delay > 0L) {
+                        TimerWheel.shared().schedule(() -> {
+                            dueStarts.add(retry);
+                            LockSupport.unpark(motorThread);
+                        }, delay, TimeUnit.NANOSECONDS);
+                    } else {
+                        dueStarts.add(retry);
+                        LockSupport.unpark(motorThread);
+                    }
+                    return;
+                }
+            }
+            triesHistogram.update(tries);
+            if (tracer != null) {
+                String traceName = dispenser.getTraceName();
+                if (traceName != null) {
+                    tracer.record(cycle, traceName, startedAt - bindNanos, endedAt, bindNanos,
+                        completedAt - startedAt, endedAt - completedAt, tries, result, error);
+                }
+            }
+
+            if (op instanceof OpGenerator generator) {
+                Op next = generator.getNextOp();
+                if (next instanceof AsyncCycleOp<?> nextAsync && asyncChains) {
+                    logger.trace(() -> "GEN OP for cycle(" + cycle + ") continued async");
+                    dueStarts.add(new AsyncStart(dispenser, nextAsync, cycle, 1, cycleStartedAt, intendedStartNanos));
+                    LockSupport.unpark(motorThread);
+                    return;
+                }
+                if (next != null) {
+                    logger.trace(() -> "GEN OP for cycle(" + cycle + ") deferred to motor thread");
+                    followUps.add(new FollowUp(dispenser, next, cycle, result, cycleStartedAt, intendedStartNanos));
+                    LockSupport.unpark(motorThread);
+                    return;
+                }
+            }
+            if (error == null && firstStage != null && firstStage.getNext() != null) {
+                deferredHandoffs.add(firstStage.handoff(cycle, op, result));
+                LockSupport.unpark(motorThread);
+            }
+            recordCycle(dispenser, cycle, cycleStartedAt, intendedStartNanos);
+        } catch (Throwable t) {
+            asyncError.compareAndSet(null, t);
+        }
+        completeAsync();
+    }
+
+    private void awaitRetryDelay(long delayNanos) {
+        long until = System.nanoTime() + delayNanos;
+        long remaining = delayNanos;
+        while (remaining > 0L && activity.getRunState() != RunState.Stopping) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = until - System.nanoTime();
+        }
+    }
+
+    private void completeAsync() {
+        pendingOpsCounter.dec();
+        if (pendingOps.decrementAndGet() < maxPendingOps) {
+            LockSupport.unpark(motorThread);
+        }
+    }
+
+    /**
+     * Follow-up ops, due retries and async continuations are started on the motor thread, so that
+     * native drivers are never called or blocked in their completion handlers. The window slot of
+     * the original op is held until its chain is done, including any part of it which is continued
+     * asynchronously.
+     */
+    private void runFollowUps() {
+        AsyncStart due;
+        while ((due = dueStarts.poll()) != null) {
+            startAsync(due.dispenser(), due.op(), due.cycle(), due.tries(), due.cycleStartedAt(), due.intendedStartNanos(), 0L);
+        }
+        FollowUp followUp;
+        while ((followUp = followUps.poll()) != null) {
+            boolean continued = false;
+            try {
+                continued = CONTINUED == runChain(
+                    followUp.dispenser(), followUp.op(), followUp.cycle(), followUp.result(),
+                    followUp.cycleStartedAt(), followUp.intendedStartNanos(), asyncChains, firstStage, null, 0L
+                );
+                if (!continued) {
+                    recordCycle(followUp.dispenser(), followUp.cycle(), followUp.cycleStartedAt(), followUp.intendedStartNanos());
+                }
+            } finally {
+                if (!continued) {
+                    completeAsync();
+                }
+            }
+        }
+        Handoff deferred;
+        while ((deferred = deferredHandoffs.poll()) != null) {
+            handOff(firstStage.getNext(), deferred);
+        }
+    }
+
+    /**
+     * Run at most one queued handoff of each later stage, starting with the last stage, so that
+     * work which is already in the pipeline is finished before more is added to it.
+     */
+    private void runLaterStages() {
+        for (int i = laterStages.size() - 1; i >= 0; i--) {
+            OpStage stage = laterStages.get(i);
+            Handoff input = stage.poll();
+            if (input != null) {
+                runStage(stage, input);
+            }
+        }
+    }
+
+    private void runStage(OpStage stage, Handoff input) {
+        long startedAt = System.nanoTime();
+        long cycle = input.cycle();
+        OpDispenser<? extends Op> dispenser;
+        Op op;
+        long bindNanos;
+        try {
+            // captures of the stage before are bound like saved values, so that Load('name') can read them
+            if (!input.captures().isEmpty()) {
+                SharedState.tl_ObjectMap.get().putAll(input.captures());
+            }
+            dispenser = stage.getSequence().apply(cycle);
+            op = dispenser.apply(cycle);
+        } catch (Exception e) {
+            throw new RuntimeException("while binding request in cycle " + cycle + " of stage " + stage.getNumber() + ": " + e.getMessage(), e);
+        } finally {
+            bindNanos = System.nanoTime() - startedAt;
+            bindTimer.update(bindNanos, TimeUnit.NANOSECONDS);
+        }
+        runChain(dispenser, op, cycle, input.result(), startedAt, startedAt, false, stage, input, bindNanos);
+        stage.getSequence().onComplete(dispenser);
+        stage.getServiceTimer().update(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Queue a handoff for a stage. While its queue is full, queued work of that stage is run
+     * here instead, which slows the stage handing off down to the pace of the one taking it.
+     */
+    private void handOff(OpStage stage, Handoff handoff) {
+        while (!stage.offer(handoff)) {
+            Handoff queued = stage.poll();
+            if (queued != null) {
+                runStage(stage, queued);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void drainLaterStages() {
+        boolean ran;
+        do {
+            ran = false;
+            for (OpStage stage : laterStages) {
+                Handoff input;
+                while ((input = stage.poll()) != null) {
+                    runStage(stage, input);
+                    ran = true;
+                }
+            }
+        } while (ran);
+    }
+
+    private void awaitWindow() {
+        while (pendingOps.get() >= maxPendingOps && activity.getRunState() != RunState.Stopping) {
+            runFollowUps();
+            throwAnyAsyncError();
+            LockSupport.parkNanos(this, 1_000_000L);
+        }
+    }
+
+    private void throwAnyAsyncError() {
+        Throwable error = asyncError.get();
+        if (error != null) {
+            if (error instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new RuntimeException("Error while completing async op: " + error, error);
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    @Override
+    public boolean awaitCompletion(long timeoutMillis) {
+        long endAt = System.currentTimeMillis() + timeoutMillis;
+        this.motorThread = Thread.currentThread();
+        while ((pendingOps.get() > 0 || !followUps.isEmpty() || !deferredHandoffs.isEmpty())
+            && System.currentTimeMillis() < endAt) {
+            runFollowUps();
+            LockSupport.parkNanos(this, 1_000_000L);
+        }
+        throwAnyAsyncError();
+        if (pendingOps.get() == 0 && activity.getRunState() != RunState.Stopping) {
+            drainLaterStages();
+        }
+        return pendingOps.get() == 0;
+    }
+
+    @Override
+    public void setSchedule(ScheduledInput schedule) {
+        if (opsequence instanceof FairOpSequence<?>) {
+            throw new BasicError("seq=fair selects ops by what is in flight, so it can not be used with a scheduled input");
+        }
+        this.schedule = schedule;
+        schedule.setIdleTask(() -> {
+            this.motorThread = Thread.currentThread();
+            throwAnyAsyncError();
+            runFollowUps();
+        });
+    }
+
     @Override
     public void onActivityDefUpdate(ActivityDef activityDef) {
+        this.asyncEnabled = activityDef.getParams().containsKey("async");
+        this.asyncChains = activityDef.getParams().getOptionalString("opchains").orElse("motor").equals("async");
+        this.maxPendingOps = getMaxPendingOpsForThisSlot(activityDef);
+        LockSupport.unpark(motorThread);
+    }
+
+    private int getMaxPendingOpsForThisSlot(ActivityDef def) {
+        int maxTotalOpsInFlight = def.getParams().getOptionalInteger("async").orElse(1);
+        int threads = Math.max(1, def.getThreads());
+        if (asyncEnabled && maxTotalOpsInFlight < threads && !def.getParams().containsKey("concurrency")) {
+            throw new BasicError("async=" + maxTotalOpsInFlight + " is less than threads=" + threads + ", so some threads " +
+                "could never start an op. Set async to at least the number of threads.");
+        }
+        return (maxTotalOpsInFlight / threads) + (slot < (maxTotalOpsInFlight % threads) ? 1 : 0);
+    }
+
+    private record AsyncStart(
+        OpDispenser<? extends Op> dispenser,
+        AsyncCycleOp<?> op,
+        long cycle,
+        int tries,
+        long cycleStartedAt,
+        long intendedStartNanos
+    ) {
+    }
+
+    private record FollowUp(
+        OpDispenser<? extends Op> dispenser,
+        Op op,
+        long cycle,
+        Object result,
+        long cycleStartedAt,
+        long intendedStartNanos
+    ) {
     }
 
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.pipeline;
+
+import java.util.Map;
+
+/**
+ * What one stage of a pipeline passes to the next for a cycle.
+ *
+ * @param cycle
+ *     The cycle which the first stage ran, which later stages also bind their ops with
+ * @param result
+ *     The result of the last op of the stage before
+ * @param captures
+ *     The variables captured from that op, if it captures any
+ */
+public record Handoff(long cycle, Object result, Map<String, ?> captures) {
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.pipeline;
+
+import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * <P>The stages of an activity whose op templates have a {@code stage} field. The ops of the
+ * lowest stage are run for each cycle, as usual. When they succeed, their result is handed off
+ * to the next stage, which selects and binds its ops with the same cycle. This allows the ops of
+ * a later stage to refer to what an earlier stage did, like reading a row which was just written,
+ * without sharing state between threads in bindings.</P>
+ *
+ * <P>The ops of later stages are run by the same motors, which take queued handoffs before
+ * starting each cycle. When the queue of a stage is full, the motor which is handing off runs
+ * queued work of that stage itself until there is room, so that earlier stages slow down to the
+ * pace of later ones.</P>
+ */
+public class OpPipeline {
+
+    private final List<OpStage> stages;
+
+    /**
+     * @param stages
+     *     The op sequence of each stage, by stage number
+     * @param capacity
+     *     The size of the handoff queue of each stage after the first
+     * @param hdrdigits
+     *     The precision of the stage timers
+     */
+    public OpPipeline(
+        NBComponent parent,
+        SortedMap<Integer, OpSequence<OpDispenser<? extends Op>>> stages,
+        int capacity,
+        int hdrdigits
+    ) {
+        List<OpStage> list = new ArrayList<>(stages.size());
+        for (Map.Entry<Integer, OpSequence<OpDispenser<? extends Op>>> entry : stages.entrySet()) {
+            OpStage stage = new OpStage(parent, entry.getKey(), entry.getValue(), list.isEmpty() ? 0 : capacity, hdrdigits);
+            if (!list.isEmpty()) {
+                list.get(list.size() - 1).setNext(stage);
+            }
+            list.add(stage);
+        }
+        this.stages = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return the stage which is run for each cycle
+     */
+    public OpStage getFirstStage() {
+        return stages.get(0);
+    }
+
+    /**
+     * @return the stages which take handoffs, in order
+     */
+    public List<OpStage> getLaterStages() {
+        return stages.subList(1, stages.size());
+    }
+
+    public List<OpStage> getStages() {
+        return stages;
+    }
+}
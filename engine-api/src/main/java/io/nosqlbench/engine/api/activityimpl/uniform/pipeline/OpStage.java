@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.pipeline;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import io.nosqlbench.adapters.api.activityimpl.OpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.Op;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.VariableCapture;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.engine.api.activityapi.planning.OpSequence;
+
+import java.util.Map;
+
+/**
+ * One stage of an {@link OpPipeline}. Every stage but the first takes its work from a
+ * {@link HandoffQueue}, which the stage before it fills. The metrics of a stage are labeled
+ * with its number.
+ */
+public class OpStage extends NBBaseComponent {
+
+    private final int number;
+    private final OpSequence<OpDispenser<? extends Op>> sequence;
+    private final HandoffQueue<Handoff> inbound;
+    private final Timer serviceTimer;
+    private final Counter fullCounter;
+    private OpStage next;
+    private volatile boolean capturing = true;
+
+    OpStage(NBComponent parent, int number, OpSequence<OpDispenser<? extends Op>> sequence, int capacity, int hdrdigits) {
+        super(parent, NBLabels.forKV("stage", String.valueOf(number)));
+        this.number = number;
+        this.sequence = sequence;
+        this.serviceTimer = create().timer("stage_servicetime", hdrdigits);
+        if (capacity > 0) {
+            this.inbound = new HandoffQueue<>(capacity);
+            this.fullCounter = create().counter("handoff_full");
+            create().gauge("handoff_depth", () -> (double) inbound.size());
+        } else {
+            this.inbound = null;
+            this.fullCounter = null;
+        }
+    }
+
+    void setNext(OpStage next) {
+        this.next = next;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the ops of this stage, selected by the cycle of a handoff
+     */
+    public OpSequence<OpDispenser<? extends Op>> getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the stage which takes the results of this one, or null for the last stage
+     */
+    public OpStage getNext() {
+        return next;
+    }
+
+    /**
+     * The time from when the ops of this stage are started for a cycle until they complete
+     */
+    public Timer getServiceTimer() {
+        return serviceTimer;
+    }
+
+    /**
+     * @return true if the handoff was queued for this stage, or false if its queue is full
+     */
+    public boolean offer(Handoff handoff) {
+        if (inbound.offer(handoff)) {
+            return true;
+        }
+        fullCounter.inc();
+        return false;
+    }
+
+    /**
+     * @return the next handoff for this stage, or null if there is none
+     */
+    public Handoff poll() {
+        return inbound.poll();
+    }
+
+    public boolean isIdle() {
+        return inbound == null || inbound.isEmpty();
+    }
+
+    /**
+     * Make the handoff for the next stage from an op of this one. Variables are captured if the
+     * op supports it. Ops which implement {@link VariableCapture} without supporting it for this
+     * stage are only asked once.
+     */
+    public Handoff handoff(long cycle, Op op, Object result) {
+        Map<String, ?> captures = Map.of();
+        if (capturing && op instanceof VariableCapture capture) {
+            try {
+                captures = capture.capture();
+            } catch (UnsupportedOperationException e) {
+                capturing = false;
+            }
+        }
+        return new Handoff(cycle, result, captures);
+    }
+
+    @Override
+    public String toString() {
+        return "stage " + number + ((inbound != null) ? " (" + inbound.size() + " queued)" : "");
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.sessions;
+
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleArray;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.ScheduledInput;
+import io.nosqlbench.engine.api.activityapi.scheduling.TimerWheel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>Runs the cycles of an activity as a number of sessions, each of which is a simulated user that
+ * runs the ops of the op sequence in order, one at a time, and thinks for a while after each op as
+ * given by its {@link ThinkTime}. Session <em>s</em> of <em>N</em> runs cycles <em>s</em>,
+ * <em>s+N</em>, <em>s+2N</em> and so on, and step <em>k</em> of a session runs the op at position
+ * <em>k</em> of the op sequence, so that op ratios can be used to script what each user does.</p>
+ *
+ * <p>A session is not bound to a thread. While it thinks, it is held only on the shared
+ * {@link TimerWheel}, and when it is ready again its next cycle is queued, to be taken by whichever
+ * motor asks for cycles next. So with async ops, a million sessions can be run by a few motors.
+ * Sessions are started in order, and before any session which is ready again. How long each cycle
+ * waits for a motor after its session is ready is reported as the <em>session_lateness</em> timer,
+ * and is included in the cycle response time.</p>
+ *
+ * <p>The next cycle of a session is queued only when the action reports that the cycle before it is
+ * done, with {@link #onComplete(long, long)}, so this input can only be used with actions which are
+ * {@link io.nosqlbench.engine.api.activityapi.input.ScheduleAware}.</p>
+ *
+ * <p>Each motor is given its own view of this input with {@link #forSlot(long)}, which provides
+ * its cycles in one reused segment, and the queue of ready cycles holds them as primitive longs,
+ * so that no garbage is made for each cycle.</p>
+ */
+public class SessionInput extends NBBaseComponent implements ScheduledInput {
+    private final static Logger logger = LogManager.getLogger(SessionInput.class);
+
+    private final long first;
+    private final long last;
+    private final int sessions;
+    private final Supplier<int[]> sequenceSource;
+    private final BooleanSupplier stopping;
+
+    private final AtomicLong unstarted;
+    private final AtomicInteger active;
+    private final AtomicInteger thinking = new AtomicInteger();
+    private final ReadyQueue ready;
+    private final long[] readyAt;
+    private final AtomicLong startedAt = new AtomicLong(Long.MIN_VALUE);
+    private final NBMetricTimer lateness;
+    private volatile int[] sequence;
+
+    /**
+     * @param cycles
+     *     The cycles of all sessions together
+     * @param count
+     *     How many sessions to run, which is limited to the number of cycles
+     * @param sequenceSource
+     *     The positions of the op sequence, as indices of its ops, which is asked for when the first op is selected
+     * @param stopping
+     *     Whether the activity is being stopped, so that motors which are waiting for a session are released
+     */
+    public SessionInput(NBComponent parent, CyclesSpec cycles, long count, Supplier<int[]> sequenceSource, BooleanSupplier stopping) {
+        super(parent);
+        if (count < 1 || count > Integer.MAX_VALUE) {
+            throw new BasicError("The number of sessions must be from 1 to " + Integer.MAX_VALUE + ", not " + count);
+        }
+        this.first = cycles.first_inclusive();
+        this.last = cycles.last_exclusive();
+        this.sessions = (int) Math.max(1L, Math.min(count, last - first));
+        if (sessions < count) {
+            logger.warn(() -> "running " + sessions + " sessions instead of " + count + ", since there are only " + (last - first) + " cycles");
+        }
+        this.sequenceSource = sequenceSource;
+        this.stopping = stopping;
+        this.unstarted = new AtomicLong(first);
+        this.active = new AtomicInteger((int) Math.min(sessions, Math.max(0L, last - first)));
+        this.readyAt = new long[sessions];
+        this.ready = new ReadyQueue(sessions);
+        this.lateness = create().timer("session_lateness", 3);
+        create().gauge("sessions_active", () -> (double) active.get());
+        create().gauge("sessions_thinking", () -> (double) thinking.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While no session is ready, this waits for one, and returns null only when all sessions are
+     * done or the activity is being stopped. Motors use {@link #forSlot(long)} instead, which also
+     * runs their idle tasks while waiting.
+     */
+    @Override
+    public CycleSegment getInputSegment(int segmentLength) {
+        long[] cycles = new long[segmentLength];
+        int taken = takeCycles(cycles, segmentLength, null);
+        return (taken < 0) ? null : new CycleArray.ArraySegment(Arrays.copyOf(cycles, taken), 0L);
+    }
+
+    /**
+     * @return a view of this input for one motor, which provides every segment in the same object
+     */
+    public ScheduledInput forSlot(long slot) {
+        return new SlotInput();
+    }
+
+    /**
+     * Take up to the given number of cycles which are ready to start, waiting until there is at least one.
+     *
+     * @return how many cycles were taken, or -1 if there will be no more
+     */
+    private int takeCycles(long[] cycles, int length, Runnable idleTask) {
+        startedAt.compareAndSet(Long.MIN_VALUE, System.nanoTime());
+        while (true) {
+            int taken = takeUnstarted(cycles, length);
+            long cycle;
+            while (taken < length && (cycle = ready.poll()) >= 0L) {
+                cycles[taken++] = cycle;
+            }
+            if (taken > 0) {
+                return taken;
+            }
+            if (active.get() == 0 || stopping.getAsBoolean() || Thread.currentThread().isInterrupted()) {
+                return -1;
+            }
+            if (idleTask != null) {
+                idleTask.run();
+            }
+            LockSupport.parkNanos(this, 100_000L);
+        }
+    }
+
+    private int takeUnstarted(long[] cycles, int length) {
+        long end = first + sessions;
+        while (true) {
+            long start = unstarted.get();
+            if (start >= end || start >= last) {
+                return 0;
+            }
+            long until = Math.min(Math.min(start + length, end), last);
+            if (unstarted.compareAndSet(start, until)) {
+                int taken = 0;
+                for (long cycle = start; cycle < until; cycle++) {
+                    cycles[taken++] = cycle;
+                }
+                return taken;
+            }
+        }
+    }
+
+    /**
+     * Cycles are only provided when their sessions are ready, so this never waits.
+     * @return How long ago the session of the cycle was ready, or since this input was started for the first step
+     */
+    @Override
+    public long awaitStart(long cycle) {
+        long ready = readyAt[sessionOf(cycle)];
+        if (ready == 0L) {
+            ready = startedAt.get();
+        }
+        long late = Math.max(0L, System.nanoTime() - ready);
+        lateness.update(late, TimeUnit.NANOSECONDS);
+        return late;
+    }
+
+    @Override
+    public int opIndexFor(long cycle) {
+        int[] positions = sequence;
+        if (positions == null) {
+            positions = sequenceSource.get();
+            if (positions.length == 0) {
+                throw new BasicError("Sessions can not be run without any ops in the op sequence");
+            }
+            sequence = positions;
+        }
+        long step = (cycle - first) / sessions;
+        return positions[(int) (step % positions.length)];
+    }
+
+    @Override
+    public void onComplete(long cycle, long thinkNanos) {
+        long next = cycle + sessions;
+        if (next >= last) {
+            active.decrementAndGet();
+        } else if (thinkNanos <= 0L) {
+            readyNext(next);
+        } else {
+            thinking.incrementAndGet();
+            TimerWheel.shared().schedule(() -> {
+                thinking.decrementAndGet();
+                readyNext(next);
+            }, thinkNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void readyNext(long cycle) {
+        readyAt[sessionOf(cycle)] = System.nanoTime();
+        ready.offer(cycle);
+    }
+
+    private int sessionOf(long cycle) {
+        return (int) ((cycle - first) % sessions);
+    }
+
+    /**
+     * @return How many sessions still have cycles to run
+     */
+    public int getActiveSessions() {
+        return active.get();
+    }
+
+    /**
+     * The input for one motor, which runs its idle task while waiting for a session to be ready.
+     * A segment returned from this input is only valid until the next call.
+     */
+    private final class SlotInput implements ScheduledInput {
+        private final SlotSegment segment = new SlotSegment();
+        private Runnable idleTask;
+
+        @Override
+        public CycleSegment getInputSegment(int segmentLength) {
+            if (segment.cycles.length < segmentLength) {
+                segment.cycles = new long[segmentLength];
+            }
+            int taken = takeCycles(segment.cycles, segmentLength, idleTask);
+            if (taken < 0) {
+                return null;
+            }
+            segment.reset(taken);
+            return segment;
+        }
+
+        @Override
+        public long awaitStart(long cycle) {
+            return SessionInput.this.awaitStart(cycle);
+        }
+
+        @Override
+        public int opIndexFor(long cycle) {
+            return SessionInput.this.opIndexFor(cycle);
+        }
+
+        @Override
+        public void onComplete(long cycle, long thinkNanos) {
+            SessionInput.this.onComplete(cycle, thinkNanos);
+        }
+
+        @Override
+        public void setIdleTask(Runnable task) {
+            this.idleTask = task;
+        }
+
+        @Override
+        public String toString() {
+            return SessionInput.this.toString();
+        }
+    }
+
+    private static final class SlotSegment implements CycleSegment {
+        private long[] cycles = new long[1];
+        private int length;
+        private int offset;
+
+        void reset(int length) {
+            this.length = length;
+            this.offset = 0;
+        }
+
+        @Override
+        public long nextCycle() {
+            return (offset < length) ? cycles[offset++] : -100;
+        }
+
+        @Override
+        public long nextRecycle() {
+            return 0L;
+        }
+
+        @Override
+        public boolean isExhausted() {
+            return offset >= length;
+        }
+
+        @Override
+        public long peekNextCycle() {
+            return (offset < length) ? cycles[offset] : -100;
+        }
+    }
+
+    /**
+     * A bounded queue of the cycles of sessions which are ready, for any number of producers and
+     * consumers. Each slot has a sequence number which tells whether it is free to be written or
+     * ready to be read for the current pass over the ring. There is at most one ready cycle for
+     * each session, so it is never full unless there are more than 2<sup>30</sup> sessions.
+     */
+    private static final class ReadyQueue {
+        private final long[] cycles;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+
+        ReadyQueue(int sessions) {
+            int capacity = 1 << (32 - Integer.numberOfLeadingZeros(Math.min(Math.max(sessions, 2), 1 << 30) - 1));
+            this.cycles = new long[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        void offer(long cycle) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long available = sequences.get(index) - position;
+                if (available == 0L && tail.compareAndSet(position, position + 1)) {
+                    cycles[index] = cycle;
+                    sequences.set(index, position + 1);
+                    return;
+                }
+                if (available < 0L) {
+                    Thread.onSpinWait();
+                }
+                position = tail.get();
+            }
+        }
+
+        /**
+         * @return the next ready cycle, or -1 if there is none
+         */
+        long poll() {
+            long position = head.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long available = sequences.get(index) - (position + 1);
+                if (available == 0L && head.compareAndSet(position, position + 1)) {
+                    long cycle = cycles[index];
+                    sequences.set(index, position + mask + 1);
+                    return cycle;
+                }
+                if (available < 0L) {
+                    return -1L;
+                }
+                position = head.get();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SessionInput{sessions=" + sessions + ", cycles=" + first + ".." + last + ", active=" + active.get() + '}';
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.sessions;
+
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.core.RunState;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityapi.input.InputDispenser;
+import io.nosqlbench.engine.api.activityapi.input.InputType;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.util.SimpleConfig;
+import io.nosqlbench.nb.annotations.Service;
+
+import java.util.OptionalLong;
+
+/**
+ * Runs the cycles of an activity as sessions, as with {@code input=type:sessions,count:1000000}.
+ * Unless cycles are given, each session runs the op sequence once, or more exactly, there are
+ * as many cycles as the count times the stride.
+ */
+@Service(value = InputType.class, selector = "sessions")
+public class SessionInputType implements InputType {
+
+    @Override
+    public InputDispenser getInputDispenser(Activity activity) {
+        return new Dispenser(activity);
+    }
+
+    @Override
+    public OptionalLong getCycleCount(Activity activity) {
+        long stride = activity.getParams().getOptionalLong("stride").orElse(1L);
+        return OptionalLong.of(countFor(activity) * stride);
+    }
+
+    private static long countFor(Activity activity) {
+        return new SimpleConfig(activity, "input").getLong("count").orElseThrow(
+            () -> new BasicError("input=type:sessions requires the number of sessions, as in input=type:sessions,count:1000")
+        );
+    }
+
+    public static class Dispenser implements InputDispenser {
+
+        private final SessionInput input;
+
+        public Dispenser(Activity activity) {
+            if (!(activity instanceof StandardActivity<?, ?> standard)) {
+                throw new BasicError("input=type:sessions can only be used with activities of driver adapters");
+            }
+            this.input = new SessionInput(
+                activity,
+                activity.getActivityDef().getCyclesSpec(),
+                countFor(activity),
+                () -> standard.getOpSequence().getSequence(),
+                () -> activity.getRunState() == RunState.Stopping
+            );
+        }
+
+        @Override
+        public Input getInput(long slot) {
+            return input.forSlot(slot);
+        }
+    }
+}
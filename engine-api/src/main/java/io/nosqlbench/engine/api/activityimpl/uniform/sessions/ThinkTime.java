@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.sessions;
+
+import io.nosqlbench.api.engine.util.Unit;
+import io.nosqlbench.api.errors.OpConfigError;
+
+import java.util.function.LongFunction;
+
+/**
+ * The time which a session waits after an op before it runs its next op, as given by the
+ * <em>think</em> field of the op template. A number is taken as milliseconds, and a string may
+ * also be a duration like {@code 250ms} or {@code 2s}. When the field is a binding, as with
+ * {@code think: "{think}"} and a binding like {@code think: Exponential(500.0d)}, a think time
+ * is drawn for each cycle, so that think times can follow any curve which virtdata provides.
+ */
+public class ThinkTime {
+
+    private final String opName;
+    private final LongFunction<Object> function;
+
+    public ThinkTime(String opName, LongFunction<Object> function) {
+        this.opName = opName;
+        this.function = function;
+        nanosFor(0L);
+    }
+
+    /**
+     * @return How many nanoseconds to think after the op of a cycle, which is never negative
+     */
+    public long nanosFor(long cycle) {
+        return Math.max(0L, nanosFor(opName, function.apply(cycle)));
+    }
+
+    private static long nanosFor(String opName, Object value) {
+        if (value instanceof Number number) {
+            return (long) (number.doubleValue() * 1_000_000.0d);
+        }
+        String spec = String.valueOf(value).trim();
+        try {
+            return (long) (Double.parseDouble(spec) * 1_000_000.0d);
+        } catch (NumberFormatException ignored) {
+        }
+        return Unit.nanosecondsFor(spec).orElseThrow(
+            () -> new OpConfigError("Unable to parse think time '" + spec + "' of op '" + opName + "' as milliseconds or a duration, like 250ms")
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ThinkTime{" + opName + '}';
+    }
+}
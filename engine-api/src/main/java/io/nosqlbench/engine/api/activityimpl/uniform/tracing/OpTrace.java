@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The trace of one op, with the time spent in each phase of it. Bind time is the time taken to
+ * synthesize the op for its cycle, which is only counted for the first op of a cycle. Execute and
+ * verify times are summed over all tries of the op.
+ * <p>
+ * Traces are reused as slots of an {@link OpTraceRing} until they are kept by an {@link OpTraceSampler},
+ * after which they are not changed again.
+ */
+public class OpTrace {
+
+    long cycle;
+    String opName;
+    long startNanos;
+    long startEpochNanos;
+    long durationNanos;
+    long bindNanos;
+    long executeNanos;
+    long verifyNanos;
+    int tries;
+    long resultSize;
+    Throwable error;
+
+    OpTrace() {
+    }
+
+    void set(long cycle, String opName, long startNanos, long durationNanos, long bindNanos, long executeNanos,
+             long verifyNanos, int tries, long resultSize, Throwable error) {
+        this.cycle = cycle;
+        this.opName = opName;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+        this.bindNanos = bindNanos;
+        this.executeNanos = executeNanos;
+        this.verifyNanos = verifyNanos;
+        this.tries = tries;
+        this.resultSize = resultSize;
+        this.error = error;
+    }
+
+    void copyFrom(OpTrace other) {
+        set(other.cycle, other.opName, other.startNanos, other.durationNanos, other.bindNanos, other.executeNanos,
+            other.verifyNanos, other.tries, other.resultSize, other.error);
+        this.startEpochNanos = other.startEpochNanos;
+    }
+
+    public long getCycle() {
+        return cycle;
+    }
+
+    public String getOpName() {
+        return opName;
+    }
+
+    /**
+     * @return when the op was bound, in nanoseconds since the epoch
+     */
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getBindNanos() {
+        return bindNanos;
+    }
+
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    public long getVerifyNanos() {
+        return verifyNanos;
+    }
+
+    /**
+     * @return the time from binding the op until its last try was done, including any retry delays
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getTries() {
+        return tries;
+    }
+
+    /**
+     * @return the size of the result, as described in {@link #sizeOf(Object)}
+     */
+    public long getResultSize() {
+        return resultSize;
+    }
+
+    public boolean isError() {
+        return error != null;
+    }
+
+    /**
+     * @return the error of the last try, or null if the op succeeded
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return the number of elements or bytes of a result which is an array, collection, map, character sequence
+     * or byte buffer, 0 for no result, or -1 when the size of the result is not known
+     */
+    public static long sizeOf(Object result) {
+        if (result == null) {
+            return 0L;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof CharSequence chars) {
+            return chars.length();
+        }
+        if (result instanceof ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+        return -1L;
+    }
+
+    @Override
+    public String toString() {
+        return "OpTrace{" +
+            "cycle=" + cycle +
+            ", op=" + opName +
+            ", duration=" + durationNanos +
+            ", bind=" + bindNanos +
+            ", execute=" + executeNanos +
+            ", verify=" + verifyNanos +
+            ", tries=" + tries +
+            ", size=" + resultSize +
+            (error != null ? ", error=" + error : "") +
+            '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A bounded ring of op traces, which any number of threads may offer traces to without locking,
+ * and which one thread drains. The traces are preallocated slots which are written in place, so
+ * offering a trace does not allocate. When the ring is full, traces are dropped and counted,
+ * rather than making the threads which run ops wait.
+ * <p>
+ * Each writer claims a sequence number, writes the slot for it, and then publishes the sequence
+ * number for that slot. The reader only reads slots which are published, in order, and a slot is
+ * not claimed again until the reader is done with it.
+ */
+public class OpTraceRing {
+
+    private final OpTrace[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity
+     *     The number of slots, which is rounded up to a power of two
+     */
+    public OpTraceRing(int capacity) {
+        int size = (capacity <= 2) ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new OpTrace[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new OpTrace();
+            published.set(i, -1L);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return true if the trace was added, or false if the ring was full and it was dropped
+     */
+    public boolean offer(long cycle, String opName, long startNanos, long durationNanos, long bindNanos,
+                         long executeNanos, long verifyNanos, int tries, long resultSize, Throwable error) {
+        long seq;
+        do {
+            seq = claimed.get();
+            if (seq - consumed.get() >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(seq, seq + 1));
+
+        int index = (int) (seq & mask);
+        slots[index].set(cycle, opName, startNanos, durationNanos, bindNanos, executeNanos, verifyNanos,
+            tries, resultSize, error);
+        published.lazySet(index, seq);
+        return true;
+    }
+
+    /**
+     * Pass each published trace to the consumer, in the order they were claimed. The trace is only
+     * valid during the call, so the consumer must copy anything it keeps. This must only be called
+     * from one thread at a time.
+     *
+     * @return the number of traces which were drained
+     */
+    public int drain(Consumer<OpTrace> consumer) {
+        long seq = consumed.get();
+        long end = claimed.get();
+        int count = 0;
+        while (seq < end) {
+            int index = (int) (seq & mask);
+            if (published.get(index) != seq) {
+                // claimed but not written yet, which is picked up on the next drain
+                break;
+            }
+            OpTrace trace = slots[index];
+            try {
+                consumer.accept(trace);
+            } finally {
+                trace.error = null;
+                seq++;
+                consumed.lazySet(seq);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return how many traces were dropped because the ring was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+}
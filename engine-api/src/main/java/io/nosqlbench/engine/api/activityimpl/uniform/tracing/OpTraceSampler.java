@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import io.nosqlbench.api.engine.util.Unit;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.components.PeriodicTaskComponent;
+import io.nosqlbench.engine.api.util.SimpleConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Keeps the traces of the slowest ops of an activity in each interval, from the traces which
+ * actions offer to it. This is tail sampling, in that an op is only kept or discarded once it is
+ * done and its latency is known. It is configured with the <em>tracing</em> activity parameter:</p>
+ * <ul>
+ *     <li>slowest - keep the slowest N ops of each interval, 10 by default</li>
+ *     <li>above - keep only ops which took longer than this duration, like 50ms. When this is
+ *     given without slowest, all such ops are kept, up to the number kept in memory.</li>
+ *     <li>interval - the sampling interval, 10s by default</li>
+ *     <li>keep - how many of the last kept traces are kept in memory for scripts, 1000 by default</li>
+ *     <li>to - a file to also write kept traces to, as OTLP JSON</li>
+ *     <li>ring - how many traces can be waiting to be sampled, 16384 by default</li>
+ * </ul>
+ *
+ * <p>Traces go through an {@link OpTraceRing}, which is drained a few times per second. Once the
+ * slowest N ops of the interval so far are known, ops which are faster than all of them are not
+ * offered to the ring at all, so that most ops only pay for a comparison.</p>
+ */
+public class OpTraceSampler extends PeriodicTaskComponent {
+    private final static Logger logger = LogManager.getLogger(OpTraceSampler.class);
+
+    public static final String TRACING = "tracing";
+    private static final long DRAIN_MILLIS = 100L;
+
+    private final OpTraceRing ring;
+    private final int limit;
+    private final long aboveNanos;
+    private final long intervalNanos;
+    private final OpTraceStore store;
+    private final OtlpJsonTraceWriter writer;
+    private final long epochOffsetNanos;
+
+    private final PriorityQueue<OpTrace> kept = new PriorityQueue<>(Comparator.comparingLong(OpTrace::getDurationNanos));
+    private volatile long floorNanos;
+    private long intervalEndsAt;
+    private long reportedDropped;
+
+    public OpTraceSampler(NBComponent parent, String activity, String spec) {
+        super(parent, NBLabels.forKV("tracer", "ops"), DRAIN_MILLIS, false, false);
+        SimpleConfig config = new SimpleConfig(spec);
+        this.aboveNanos = config.getString("above").map(d -> durationFor(d, "above")).orElse(0L);
+        this.store = new OpTraceStore(config.getInteger("keep").orElse(1000));
+        int slowest = config.getInteger("slowest").orElse(config.getString("above").isPresent() ? 0 : 10);
+        this.limit = (slowest > 0) ? slowest : store.getCapacity();
+        this.intervalNanos = durationFor(config.getString("interval").orElse("10s"), "interval");
+        this.ring = new OpTraceRing(config.getInteger("ring").orElse(16384));
+        this.epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+        this.floorNanos = aboveNanos;
+        this.intervalEndsAt = System.nanoTime() + intervalNanos;
+        Optional<String> to = config.getString("to");
+        try {
+            this.writer = to.isPresent() ? new OtlpJsonTraceWriter(Path.of(to.get()), activity) : null;
+        } catch (IOException e) {
+            throw new BasicError("Unable to open op trace file '" + to.get() + "': " + e);
+        }
+        create().gauge("optraces_dropped", () -> (double) ring.getDropped());
+        logger.info(() -> "tracing " + (slowest > 0 ? "the slowest " + slowest + " ops" : "ops")
+            + (aboveNanos > 0 ? " above " + aboveNanos + "ns" : "") + " of each " + intervalNanos / 1_000_000L + "ms"
+            + (writer != null ? ", to " + writer.getPath() : ""));
+        start();
+    }
+
+    private static long durationFor(String spec, String name) {
+        return Unit.nanosecondsFor(spec).orElseThrow(
+            () -> new BasicError("Unable to parse " + name + " '" + spec + "' of " + TRACING + " as a duration, like 50ms")
+        );
+    }
+
+    /**
+     * Offer the trace of an op, if it may be slow enough to keep.
+     *
+     * @param startNanos
+     *     When the op was bound, or when its first try started if it was not bound for this cycle
+     * @param endNanos
+     *     When the last try of the op was done
+     */
+    public void record(long cycle, String opName, long startNanos, long endNanos, long bindNanos,
+                       long executeNanos, long verifyNanos, int tries, Object result, Throwable error) {
+        long durationNanos = endNanos - startNanos;
+        if (durationNanos < floorNanos) {
+            return;
+        }
+        ring.offer(cycle, opName, startNanos, durationNanos, bindNanos, executeNanos, verifyNanos,
+            tries, OpTrace.sizeOf(result), error);
+    }
+
+    @Override
+    protected synchronized void task() {
+        ring.drain(this::sample);
+        if (System.nanoTime() - intervalEndsAt >= 0L) {
+            publish();
+            intervalEndsAt += intervalNanos;
+        }
+    }
+
+    private void sample(OpTrace trace) {
+        long duration = trace.getDurationNanos();
+        if (duration <= aboveNanos) {
+            return;
+        }
+        OpTrace copy;
+        if (kept.size() < limit) {
+            copy = new OpTrace();
+        } else if (duration > kept.peek().getDurationNanos()) {
+            copy = kept.poll();
+        } else {
+            return;
+        }
+        copy.copyFrom(trace);
+        copy.startEpochNanos = trace.startNanos + epochOffsetNanos;
+        kept.add(copy);
+        if (kept.size() >= limit) {
+            floorNanos = Math.max(aboveNanos, kept.peek().getDurationNanos());
+        }
+    }
+
+    private void publish() {
+        List<OpTrace> traces = new ArrayList<>(kept);
+        traces.sort(Comparator.comparingLong(OpTrace::getStartEpochNanos));
+        kept.clear();
+        floorNanos = aboveNanos;
+        traces.forEach(store::add);
+        if (writer != null) {
+            try {
+                writer.write(traces);
+            } catch (IOException e) {
+                logger.error("Unable to write op traces to '" + writer.getPath() + "': " + e, e);
+            }
+        }
+        long dropped = ring.getDropped();
+        if (dropped > reportedDropped) {
+            logger.warn("dropped " + (dropped - reportedDropped) + " op traces while the trace ring was full. "
+                + "Raise the threshold, or the ring size with " + TRACING + "=...,ring:" + ring.getCapacity() * 2);
+            reportedDropped = dropped;
+        }
+    }
+
+    /**
+     * @return the kept traces of this activity, for scripts to query
+     */
+    public OpTraceStore getStore() {
+        return store;
+    }
+
+    @Override
+    public void teardown() {
+        super.teardown();
+        synchronized (this) {
+            ring.drain(this::sample);
+            publish();
+        }
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.error("Unable to close op trace file '" + writer.getPath() + "': " + e, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The most recent op traces which were kept by an {@link OpTraceSampler}, up to a fixed number of them,
+ * for scripts to query while an activity is running or after it is done. The oldest traces are
+ * evicted first.
+ */
+public class OpTraceStore {
+
+    private final int capacity;
+    private final ArrayDeque<OpTrace> traces;
+
+    public OpTraceStore(int capacity) {
+        this.capacity = capacity;
+        this.traces = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    synchronized void add(OpTrace trace) {
+        if (capacity <= 0) {
+            return;
+        }
+        while (traces.size() >= capacity) {
+            traces.removeFirst();
+        }
+        traces.addLast(trace);
+    }
+
+    /**
+     * @return all traces in the store, oldest first
+     */
+    public synchronized List<OpTrace> all() {
+        return new ArrayList<>(traces);
+    }
+
+    /**
+     * @return the n slowest traces in the store, slowest first
+     */
+    public synchronized List<OpTrace> slowest(int n) {
+        return traces.stream()
+            .sorted(Comparator.comparingLong(OpTrace::getDurationNanos).reversed())
+            .limit(n)
+            .toList();
+    }
+
+    /**
+     * @return the traces of ops which took longer than the given number of milliseconds, oldest first
+     */
+    public synchronized List<OpTrace> slowerThan(double millis) {
+        long nanos = (long) (millis * 1_000_000.0d);
+        return traces.stream().filter(t -> t.getDurationNanos() > nanos).toList();
+    }
+
+    /**
+     * @return the traces of the named op template, oldest first
+     */
+    public synchronized List<OpTrace> forOp(String opName) {
+        return traces.stream().filter(t -> t.getOpName().equals(opName)).toList();
+    }
+
+    /**
+     * @return the traces of the given cycle, as when a cycle ran more than one op
+     */
+    public synchronized List<OpTrace> forCycle(long cycle) {
+        return traces.stream().filter(t -> t.getCycle() == cycle).toList();
+    }
+
+    /**
+     * @return the traces of ops which failed on their last try, oldest first
+     */
+    public synchronized List<OpTrace> errors() {
+        return traces.stream().filter(OpTrace::isError).toList();
+    }
+
+    public synchronized int size() {
+        return traces.size();
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
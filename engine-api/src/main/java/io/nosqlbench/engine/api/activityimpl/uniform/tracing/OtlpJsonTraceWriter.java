@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes op traces as OTLP JSON, in the form of the OpenTelemetry file exporter: one
+ * <em>ExportTraceServiceRequest</em> per line, with one line for each sampling interval. These files
+ * can be loaded by OpenTelemetry collectors with the <em>otlpjsonfile</em> receiver.
+ * <p>
+ * Each op is a span named for its op template, with child spans for its bind, execute and verify
+ * phases. Ops of the same cycle are in the same trace. The cycle, tries, result size and the time of
+ * each phase are given as attributes, and ops which failed have an error status with their error.
+ */
+public class OtlpJsonTraceWriter implements AutoCloseable {
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_OK = 1;
+    private static final int STATUS_ERROR = 2;
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private final String activity;
+    private final String traceIdPrefix;
+    private long spanIds;
+
+    public OtlpJsonTraceWriter(Path path, String activity) throws IOException {
+        this.path = path;
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.activity = activity;
+        // trace ids are unique to this activity and run, and then to each cycle
+        long run = (((long) activity.hashCode()) << 32) ^ System.currentTimeMillis();
+        this.traceIdPrefix = hex16(run);
+    }
+
+    public void write(List<OpTrace> traces) throws IOException {
+        if (traces.isEmpty()) {
+            return;
+        }
+        StringWriter line = new StringWriter();
+        try (JsonWriter json = new JsonWriter(line)) {
+            json.beginObject().name("resourceSpans").beginArray().beginObject();
+            json.name("resource").beginObject().name("attributes").beginArray();
+            stringAttribute(json, "service.name", "nosqlbench");
+            stringAttribute(json, "nb.activity", activity);
+            json.endArray().endObject();
+            json.name("scopeSpans").beginArray().beginObject();
+            json.name("scope").beginObject().name("name").value("io.nosqlbench.optrace").endObject();
+            json.name("spans").beginArray();
+            for (OpTrace trace : traces) {
+                writeSpans(json, trace);
+            }
+            json.endArray();
+            json.endObject().endArray();
+            json.endObject().endArray().endObject();
+        }
+        writer.write(line.toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    private void writeSpans(JsonWriter json, OpTrace trace) throws IOException {
+        String traceId = traceIdPrefix + hex16(trace.getCycle());
+        String opSpanId = hex16(++spanIds);
+        long start = trace.getStartEpochNanos();
+        long end = start + trace.getDurationNanos();
+
+        json.beginObject();
+        span(json, traceId, opSpanId, null, trace.getOpName(), SPAN_KIND_CLIENT, start, end);
+        json.name("attributes").beginArray();
+        intAttribute(json, "nb.cycle", trace.getCycle());
+        intAttribute(json, "nb.tries", trace.getTries());
+        intAttribute(json, "nb.result_size", trace.getResultSize());
+        intAttribute(json, "nb.bind_nanos", trace.getBindNanos());
+        intAttribute(json, "nb.execute_nanos", trace.getExecuteNanos());
+        intAttribute(json, "nb.verify_nanos", trace.getVerifyNanos());
+        json.endArray();
+        json.name("status").beginObject();
+        if (trace.isError()) {
+            json.name("code").value(STATUS_ERROR);
+            json.name("message").value(String.valueOf(trace.getError()));
+        } else {
+            json.name("code").value(STATUS_OK);
+        }
+        json.endObject();
+        json.endObject();
+
+        // the phases are laid out in order, with any time between tries at the end of the execute phase
+        long phaseStart = start;
+        phase(json, traceId, opSpanId, "bind", phaseStart, trace.getBindNanos());
+        phaseStart += trace.getBindNanos();
+        long executeNanos = trace.getDurationNanos() - trace.getBindNanos() - trace.getVerifyNanos();
+        phase(json, traceId, opSpanId, "execute", phaseStart, executeNanos);
+        phase(json, traceId, opSpanId, "verify", end - trace.getVerifyNanos(), trace.getVerifyNanos());
+    }
+
+    private void phase(JsonWriter json, String traceId, String parentId, String name, long start, long nanos) throws IOException {
+        if (nanos <= 0L) {
+            return;
+        }
+        json.beginObject();
+        span(json, traceId, hex16(++spanIds), parentId, name, SPAN_KIND_INTERNAL, start, start + nanos);
+        json.endObject();
+    }
+
+    private static void span(JsonWriter json, String traceId, String spanId, String parentId, String name,
+                             int kind, long start, long end) throws IOException {
+        json.name("traceId").value(traceId);
+        json.name("spanId").value(spanId);
+        if (parentId != null) {
+            json.name("parentSpanId").value(parentId);
+        }
+        json.name("name").value(name);
+        json.name("kind").value(kind);
+        // 64 bit integers are strings in OTLP JSON
+        json.name("startTimeUnixNano").value(Long.toString(start));
+        json.name("endTimeUnixNano").value(Long.toString(end));
+    }
+
+    private static void stringAttribute(JsonWriter json, String key, String value) throws IOException {
+        json.beginObject().name("key").value(key)
+            .name("value").beginObject().name("stringValue").value(value).endObject()
+            .endObject();
+    }
+
+    private static void intAttribute(JsonWriter json, String key, long value) throws IOException {
+        json.beginObject().name("key").value(key)
+            .name("value").beginObject().name("intValue").value(Long.toString(value)).endObject()
+            .endObject();
+    }
+
+    private static String hex16(long value) {
+        String hex = Long.toHexString(value);
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
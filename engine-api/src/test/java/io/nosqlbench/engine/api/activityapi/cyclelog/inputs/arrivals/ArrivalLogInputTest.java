@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArrivalLogInputTest {
+
+    private static File arrivals;
+
+    @BeforeAll
+    public static void createArrivalLog() throws IOException {
+        arrivals = File.createTempFile("arrival-log-test", ".arrivals");
+        arrivals.deleteOnExit();
+        try (ArrivalLogWriter writer = new ArrivalLogWriter(arrivals.getPath())) {
+            writer.append(0L, 0);
+            writer.append(10_000_000L, 1);
+            writer.append(10_000_000L, -1);
+            writer.append(40_000_000L, 2);
+            writer.append(60_000_000L, 0);
+        }
+    }
+
+    @Test
+    public void testReadLog() throws IOException {
+        assertThat(ArrivalLog.sizeOf(arrivals)).isEqualTo(5L);
+        try (ArrivalLog log = new ArrivalLog(arrivals.getPath())) {
+            assertThat(log.size()).isEqualTo(5L);
+            assertThat(log.offsetNanos(3)).isEqualTo(40_000_000L);
+            assertThat(log.opIndex(1)).isEqualTo(1);
+            assertThat(log.opIndex(2)).isEqualTo(-1);
+            assertThatThrownBy(() -> log.offsetNanos(5)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    public void testWriterRejectsOutOfOrder() throws IOException {
+        File unordered = File.createTempFile("arrival-log-test-unordered", ".arrivals");
+        unordered.deleteOnExit();
+        try (ArrivalLogWriter writer = new ArrivalLogWriter(unordered.getPath())) {
+            writer.append(5L, 0);
+            assertThatThrownBy(() -> writer.append(4L, 0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testSegmentsWithinCycles() {
+        ArrivalLogInput input = new ArrivalLogInput(new TestComponent("arrivals", "segments"), arrivals.getPath(), CyclesSpec.parse("1..100"), 1.0d);
+        CycleSegment s1 = input.getInputSegment(3);
+        assertThat(s1.nextCycle()).isEqualTo(1L);
+        assertThat(s1.nextCycle()).isEqualTo(2L);
+        assertThat(s1.nextCycle()).isEqualTo(3L);
+        CycleSegment s2 = input.getInputSegment(3);
+        assertThat(s2.nextCycle()).isEqualTo(4L);
+        assertThat(s2.isExhausted()).isTrue();
+        assertThat(input.getInputSegment(3)).isNull();
+        assertThat(input.opIndexFor(3)).isEqualTo(2);
+    }
+
+    @Test
+    public void testSpeedScalesSchedule() {
+        ArrivalLogInput input = new ArrivalLogInput(new TestComponent("arrivals", "speed"), arrivals.getPath(), CyclesSpec.parse("1..5"), 2.0d);
+        long base = input.intendedStartNanos(1);
+        assertThat(input.intendedStartNanos(2) - base).isEqualTo(0L);
+        assertThat(input.intendedStartNanos(3) - base).isEqualTo(15_000_000L);
+        assertThat(input.intendedStartNanos(4) - base).isEqualTo(25_000_000L);
+
+        assertThat(ArrivalLogInput.parseSpeed("2x")).isEqualTo(2.0d);
+        assertThat(ArrivalLogInput.parseSpeed("0.5")).isEqualTo(0.5d);
+        assertThatThrownBy(() -> ArrivalLogInput.parseSpeed("fast")).isInstanceOf(BasicError.class);
+    }
+
+    @Test
+    public void testAwaitStartIsOpenLoop() {
+        ArrivalLogInput input = new ArrivalLogInput(new TestComponent("arrivals", "await"), arrivals.getPath(), CyclesSpec.parse("0..5"), 1.0d);
+        long started = System.nanoTime();
+        assertThat(input.awaitStart(0)).isLessThan(5_000_000L);
+        input.awaitStart(1);
+        assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(10_000_000L);
+
+        // cycle 3 is due 40ms after cycle 0, whether or not cycles before it ran late
+        while (System.nanoTime() < started + 70_000_000L) {
+            Thread.onSpinWait();
+        }
+        assertThat(input.awaitStart(3)).isGreaterThanOrEqualTo(25_000_000L);
+    }
+}
@@ -159,6 +159,20 @@ class NBErrorHandlerTest {
         assertThat(detail.resultCode).isEqualTo(42);
     }
 
+    @Test
+    void testRetryBackoff() {
+        final ErrorMetrics errorMetrics = new ErrorMetrics(new TestComponent("activity","testalias_backoff"));
+        final NBErrorHandler eh = new NBErrorHandler(() -> "handler=retry delay=10ms maxdelay=50ms", () -> errorMetrics);
+        final ErrorDetail detail = eh.handleError(this.runtimeException, 1, 2);
+        assertThat(detail.isRetryable()).isTrue();
+        assertThat(detail.getRetryDelayNanos(1)).isEqualTo(10_000_000L);
+        assertThat(detail.getRetryDelayNanos(2)).isEqualTo(20_000_000L);
+        assertThat(detail.getRetryDelayNanos(3)).isEqualTo(40_000_000L);
+        assertThat(detail.getRetryDelayNanos(4)).isEqualTo(50_000_000L);
+        assertThat(detail.getRetryDelayNanos(100)).isEqualTo(50_000_000L);
+        assertThat(ErrorDetail.ERROR_RETRYABLE.getRetryDelayNanos(3)).isEqualTo(0L);
+    }
+
     @Test
     void testErrorLogAppender() {
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.planning;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FairOpSequenceTest {
+
+    private static FairOpSequence<String> sequence(long[] weights, int[] budgets, double[] rates, int concurrency) {
+        return new FairOpSequence<>(List.of("a", "b"), weights, budgets, rates, () -> concurrency);
+    }
+
+    @Test
+    public void testBudgetsHoldBackOnlyTheirOp() {
+        FairOpSequence<String> seq = sequence(new long[]{1, 1}, new int[]{1, 0}, new double[]{0, 0}, 4);
+        assertThat(seq.tryApply(0)).isEqualTo("a");
+        assertThat(seq.tryApply(1)).isEqualTo("b");
+        assertThat(seq.tryApply(2)).isEqualTo("b");
+        assertThat(seq.getInflight(0)).isEqualTo(1);
+        assertThat(seq.getInflight(1)).isEqualTo(2);
+        assertThat(seq.tryApply(3)).isNull();
+        seq.onComplete("a");
+        assertThat(seq.getCompleted(0)).isEqualTo(1);
+        assertThat(seq.tryApply(4)).isEqualTo("a");
+    }
+
+    @Test
+    public void testRatiosHoldForCompletions() {
+        FairOpSequence<String> seq = sequence(new long[]{3, 1}, new int[]{0, 0}, new double[]{0, 0}, 1);
+        int[] counts = new int[2];
+        for (int i = 0; i < 400; i++) {
+            String op = seq.tryApply(i);
+            counts[op.equals("a") ? 0 : 1]++;
+            seq.onComplete(op);
+        }
+        assertThat(counts[0]).isEqualTo(300);
+        assertThat(counts[1]).isEqualTo(100);
+    }
+
+    @Test
+    public void testSlowOpDoesNotStarveOthers() {
+        FairOpSequence<String> seq = sequence(new long[]{1, 1}, new int[]{0, 0}, new double[]{0, 0}, 4);
+        int b = 0;
+        for (int i = 0; i < 100; i++) {
+            String op = seq.tryApply(i);
+            assertThat(op).isNotNull();
+            if (op.equals("a")) {
+                seq.onComplete(op);
+            } else {
+                b++;
+            }
+        }
+        assertThat(b).isEqualTo(2);
+        assertThat(seq.getCompleted(0)).isEqualTo(98);
+    }
+
+    @Test
+    public void testRatesLimitStarts() {
+        FairOpSequence<String> seq = sequence(new long[]{1, 1}, new int[]{0, 0}, new double[]{0.001d, 0}, 4);
+        assertThat(seq.tryApply(0)).isEqualTo("a");
+        seq.onComplete("a");
+        assertThat(seq.tryApply(1)).isEqualTo("b");
+        seq.onComplete("b");
+        assertThat(seq.tryApply(2)).isEqualTo("b");
+    }
+
+    @Test
+    public void testPlannerResolvesFair() {
+        SequencePlanner<String> planner = new SequencePlanner<>(SequencerType.fair, () -> 2);
+        planner.addOp("a", 2, 0, 0.0d);
+        planner.addOp("b", 1, 0, 0.0d);
+        OpSequence<String> seq = planner.resolve();
+        assertThat(seq).isInstanceOf(FairOpSequence.class);
+        assertThat(seq.getSequence()).hasSize(3);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.gcra.GcraRate;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GcraRateTest {
+
+    @Test
+    public void testOpsAreSpacedAtTheRate() {
+        TestComponent parent = new TestComponent("test", "spacing");
+        GcraRate rate = new GcraRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        long start = System.nanoTime();
+        long maxLateness = 0L;
+        for (int i = 0; i < 300; i++) {
+            long lateness = rate.block();
+            // the first ops may make up the time since the clock was set
+            if (i >= 100) {
+                maxLateness = Math.max(maxLateness, lateness);
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertThat(elapsedMillis).isBetween(270L, 450L);
+        assertThat(maxLateness).isLessThan(50_000_000L);
+        parent.close();
+    }
+
+    @Test
+    public void testAggregateRateOfManyThreads() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "aggregate");
+        GcraRate rate = new GcraRate(parent, new SimRateSpec(2000.0d, 1.1d));
+        AtomicLong ops = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    rate.block();
+                    ops.incrementAndGet();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(ops.get()).isBetween(1800L, 2300L);
+        parent.close();
+    }
+
+    @Test
+    public void testLostTimeIsRecoveredAtTheBurstRatio() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "burst");
+        GcraRate bursting = new GcraRate(parent, new SimRateSpec(1000.0d, 2.0d));
+        GcraRate steady = new GcraRate(parent, new SimRateSpec(1000.0d, 1.0d));
+        // idle for 1.5s, which is 0.5s beyond the tolerance of either clock
+        Thread.sleep(1500);
+        assertThat(bursting.getWaitTimeDuration().toMillis()).isBetween(450L, 750L);
+        long burstingOps = opsWithin(bursting, 1_000_000_000L);
+        long steadyOps = opsWithin(steady, 1_000_000_000L);
+        // both spend the 1s tolerance at once, then only the bursting one makes up the lost 0.5s
+        assertThat(steadyOps).isBetween(1900L, 2200L);
+        assertThat(burstingOps).isBetween(2350L, 2800L);
+        parent.close();
+    }
+
+    private static long opsWithin(GcraRate rate, long nanos) {
+        long ops = 0L;
+        long deadline = System.nanoTime() + nanos;
+        while (System.nanoTime() < deadline) {
+            rate.block();
+            ops++;
+        }
+        return ops;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.openloop.OpenLoopRate;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenLoopRateTest {
+
+    @Test
+    public void testOpsStartOnTheirSchedule() {
+        TestComponent parent = new TestComponent("test", "schedule");
+        OpenLoopRate rate = new OpenLoopRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        long start = System.nanoTime();
+        long maxLateness = 0L;
+        for (int i = 0; i < 200; i++) {
+            maxLateness = Math.max(maxLateness, rate.block());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        // op 199 is intended to start 199ms after the schedule started, less the clock granularity
+        assertThat(elapsedMillis).isBetween(190L, 400L);
+        assertThat(maxLateness).isLessThan(50_000_000L);
+        parent.close();
+    }
+
+    @Test
+    public void testBacklogIsWorkedOffAtTheBurstRate() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "burst");
+        OpenLoopRate rate = new OpenLoopRate(parent, new SimRateSpec(1000.0d, 2.0d));
+        rate.block();
+        Thread.sleep(200);
+        long start = System.nanoTime();
+        long firstLateness = rate.block();
+        long lateness = firstLateness;
+        for (int i = 2; i < 100; i++) {
+            lateness = rate.block();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        // 99 late ops are released at 2000 ops/s rather than all at once
+        assertThat(elapsedMillis).isBetween(48L, 150L);
+        // each late op keeps its intended start time, so the lateness shrinks as the backlog is worked off
+        assertThat(firstLateness).isGreaterThanOrEqualTo(190_000_000L);
+        assertThat(lateness).isLessThan(firstLateness - 20_000_000L);
+        parent.close();
+    }
+
+    @Test
+    public void testRestartDropsTheBacklog() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "restart");
+        OpenLoopRate rate = new OpenLoopRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        rate.block();
+        Thread.sleep(100);
+        // the next op was intended to start 1ms after the first
+        assertThat(rate.getWaitTimeDuration().toMillis()).isGreaterThanOrEqualTo(90L);
+        rate.applyRateSpec(new SimRateSpec(1000.0d, 1.1d, SimRateSpec.Verb.restart));
+        assertThat(rate.block()).isLessThan(50_000_000L);
+        parent.close();
+    }
+
+    @Test
+    public void testScheduleStartsWithTheFirstOp() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "firstop");
+        OpenLoopRate rate = new OpenLoopRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        // time between creating the rate limiter and the first op, like activity setup, is not backlog
+        Thread.sleep(100);
+        assertThat(rate.getWaitTimeDuration()).isZero();
+        assertThat(rate.block()).isLessThan(50_000_000L);
+        parent.close();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.ratelimits;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import io.nosqlbench.engine.api.activityapi.ratelimits.striped.StripedRate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StripedRateTest {
+
+    @Test
+    public void testAggregateRateOfAllStripes() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "aggregate");
+        StripedRate rate = new StripedRate(parent, new SimRateSpec(4000.0d, 1.1d));
+        AtomicLong ops = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        for (int t = 0; t < 4; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    rate.block();
+                    ops.incrementAndGet();
+                }
+                // stay alive until the stripes are counted, since those of ended threads are dropped
+                done.countDown();
+                awaitQuietly(release);
+            }));
+        }
+        done.await();
+        assertThat(rate.getStripeCount()).isEqualTo(4);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(ops.get()).isBetween(3200L, 4800L);
+        parent.close();
+    }
+
+    @Test
+    public void testRebalancesToSaturatedStripes() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "rebalance");
+        StripedRate rate = new StripedRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        AtomicLong fastOps = new AtomicLong();
+        long measureFrom = System.nanoTime() + 500_000_000L;
+        long deadline = measureFrom + 1_000_000_000L;
+        Thread slow = Thread.ofPlatform().start(() -> {
+            while (System.nanoTime() < deadline) {
+                rate.block();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        Thread fast = Thread.ofPlatform().start(() -> {
+            while (System.nanoTime() < deadline) {
+                rate.block();
+                if (System.nanoTime() >= measureFrom) {
+                    fastOps.incrementAndGet();
+                }
+            }
+        });
+        slow.join();
+        fast.join();
+        // an even split would hold the fast thread to 500 ops/s, but the slow one uses at most 50
+        assertThat(fastOps.get()).isBetween(600L, 1100L);
+        parent.close();
+    }
+
+    @Test
+    public void testDropsStripesOfEndedThreads() throws InterruptedException {
+        TestComponent parent = new TestComponent("test", "ended");
+        StripedRate rate = new StripedRate(parent, new SimRateSpec(1000.0d, 1.1d));
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 5; i++) {
+                    rate.block();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(rate.getStripeCount()).isLessThanOrEqualTo(8);
+        long waitUntil = System.currentTimeMillis() + 5000L;
+        while (rate.getStripeCount() > 0 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        assertThat(rate.getStripeCount()).isEqualTo(0);
+
+        // a thread which starts later has the whole rate, rather than an eighth of it
+        AtomicLong ops = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long deadline = System.nanoTime() + 500_000_000L;
+        Thread later = Thread.ofPlatform().start(() -> {
+            while (System.nanoTime() < deadline) {
+                rate.block();
+                ops.incrementAndGet();
+            }
+            done.countDown();
+            awaitQuietly(release);
+        });
+        done.await();
+        assertThat(rate.getStripeCount()).isEqualTo(1);
+        release.countDown();
+        later.join();
+        assertThat(ops.get()).isBetween(400L, 600L);
+        parent.close();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
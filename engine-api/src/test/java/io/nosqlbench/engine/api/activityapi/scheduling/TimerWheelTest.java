@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityapi.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimerWheelTest {
+
+    @Test
+    public void testRunsInDeadlineOrder() throws Exception {
+        try (TimerWheel wheel = new TimerWheel("test-order", 1_000_000L)) {
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(3);
+            wheel.schedule(() -> { order.add(3); done.countDown(); }, 60, TimeUnit.MILLISECONDS);
+            wheel.schedule(() -> { order.add(1); done.countDown(); }, 5, TimeUnit.MILLISECONDS);
+            wheel.schedule(() -> { order.add(2); done.countDown(); }, 30, TimeUnit.MILLISECONDS);
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(order).containsExactly(1, 2, 3);
+            assertThat(wheel.getPending()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    public void testNeverEarlyAcrossLevels() throws Exception {
+        // with 10us ticks, these delays cascade from the second and third levels
+        try (TimerWheel wheel = new TimerWheel("test-levels", 10_000L)) {
+            long[] delays = {0L, 50_000L, 2_600_000L, 30_000_000L, 700_000_000L};
+            CountDownLatch done = new CountDownLatch(delays.length);
+            AtomicInteger early = new AtomicInteger();
+            for (long delay : delays) {
+                long due = System.nanoTime() + delay;
+                wheel.schedule(() -> {
+                    if (System.nanoTime() < due) {
+                        early.incrementAndGet();
+                    }
+                    done.countDown();
+                }, delay, TimeUnit.NANOSECONDS);
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(early.get()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        try (TimerWheel wheel = new TimerWheel("test-cancel", 1_000_000L)) {
+            AtomicInteger runs = new AtomicInteger();
+            TimerWheel.Timeout cancelled = wheel.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+            assertThat(wheel.getPending()).isEqualTo(1L);
+            assertThat(cancelled.cancel()).isTrue();
+            assertThat(cancelled.cancel()).isFalse();
+            assertThat(wheel.getPending()).isEqualTo(0L);
+            wheel.after(40, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+            assertThat(runs.get()).isEqualTo(0);
+            assertThat(cancelled.isExpired()).isFalse();
+        }
+    }
+
+    @Test
+    public void testManyPendingTimers() throws Exception {
+        try (TimerWheel wheel = new TimerWheel("test-many", 1_000_000L)) {
+            int count = 200_000;
+            CountDownLatch done = new CountDownLatch(count);
+            AtomicLong maxLateness = new AtomicLong();
+            for (int i = 0; i < count; i++) {
+                long delay = (i % 500) * 1_000_000L;
+                long due = System.nanoTime() + delay;
+                wheel.schedule(() -> {
+                    maxLateness.accumulateAndGet(System.nanoTime() - due, Math::max);
+                    done.countDown();
+                }, delay, TimeUnit.NANOSECONDS);
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxLateness.get()).isGreaterThanOrEqualTo(0L);
+            assertThat(wheel.getPending()).isEqualTo(0L);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.input;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedInputTest {
+
+    private ChunkedInput input(String def, int chunk) {
+        return new ChunkedInput(new TestComponent("testing","chunkedinput"), ActivityDef.parseActivityDef(def), chunk);
+    }
+
+    @Test
+    public void testThatNoCyclesAndNoRecyclesMeansZero() {
+        Input input = input("alias=foo;cycles=0;recycles=0", 100).forSlot(0);
+        assertThat(input.getInputSegment(1)).isNull();
+    }
+
+    @Test
+    public void testThatStridesMatchAtomicInputWithinOneSlot() {
+        Input input = input("alias=foo;cycles=310..330;recycles=37..39", 15).forSlot(0);
+        int stride=10;
+        CycleSegment segment = input.getInputSegment(stride);
+        assertThat(segment.nextCycle()).isEqualTo(310L);
+        assertThat(segment.nextRecycle()).isEqualTo(37L);
+        segment = input.getInputSegment(stride);
+        assertThat(segment.nextCycle()).isEqualTo(320L);
+        assertThat(segment.nextRecycle()).isEqualTo(37L);
+        segment = input.getInputSegment(stride);
+        assertThat(segment.nextCycle()).isEqualTo(310L);
+        assertThat(segment.nextRecycle()).isEqualTo(38L);
+        segment = input.getInputSegment(stride);
+        assertThat(segment.nextCycle()).isEqualTo(320L);
+        assertThat(segment.nextRecycle()).isEqualTo(38L);
+        assertThat(input.getInputSegment(stride)).isNull();
+    }
+
+    @Test
+    public void testThatPartialStridesAtTheEndAreSkipped() {
+        Input input = input("alias=foo;cycles=25", 100).forSlot(0);
+        List<Long> starts = new ArrayList<>();
+        CycleSegment segment;
+        while ((segment = input.getInputSegment(10)) != null) {
+            starts.add(segment.peekNextCycle());
+        }
+        assertThat(starts).containsExactly(0L, 10L);
+    }
+
+    @Test
+    public void testThatSlotsShareEachCycleExactlyOnce() throws InterruptedException {
+        assertEachCycleExactlyOnce(input("alias=foo;cycles=100000;recycles=3", 64));
+    }
+
+    @Test
+    public void testThatNodePoolsShareEachCycleExactlyOnce() throws InterruptedException {
+        assertEachCycleExactlyOnce(input("alias=foo;cycles=100000;recycles=3;affinity=numa", 64));
+    }
+
+    @Test
+    public void testThatStoppedSlotsGiveBackTheirCycles() {
+        ChunkedInput chunked = input("alias=foo;cycles=100;recycles=2", 30);
+        ChunkedInput.SlotInput stopped = chunked.forSlot(0);
+        assertThat(stopped.getInputSegment(5).nextCycle()).isEqualTo(0L);
+        stopped.release();
+
+        List<String> cycles = readAll(chunked.forSlot(1), 5);
+        assertThat(cycles).hasSize(195);
+        assertThat(cycles).doesNotHaveDuplicates().doesNotContain("0:0", "0:4").contains("0:5", "0:29", "1:0");
+        assertThat(stopped.getInputSegment(5)).isNull();
+    }
+
+    @Test
+    public void testThatStoppedNodesGiveBackTheirReserve() {
+        ChunkedInput chunked = input("alias=foo;cycles=1000;affinity=numa", 10);
+        List<String> cycles = new ArrayList<>();
+        for (int slot = 0; slot < 64; slot++) {
+            ChunkedInput.SlotInput input = chunked.forSlot(slot);
+            CycleSegment segment = input.getInputSegment(1);
+            if (segment != null) {
+                cycles.add(segment.nextRecycle() + ":" + segment.nextCycle());
+            }
+            input.release();
+        }
+        cycles.addAll(readAll(chunked.forSlot(64), 1));
+        assertThat(cycles).hasSize(1000).doesNotHaveDuplicates();
+    }
+
+    private List<String> readAll(Input input, int stride) {
+        List<String> cycles = new ArrayList<>();
+        CycleSegment segment;
+        while ((segment = input.getInputSegment(stride)) != null) {
+            while (!segment.isExhausted()) {
+                cycles.add(segment.nextRecycle() + ":" + segment.nextCycle());
+            }
+        }
+        return cycles;
+    }
+
+    private void assertEachCycleExactlyOnce(ChunkedInput chunked) throws InterruptedException {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ConcurrentLinkedQueue<String> duplicates = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int slot = 0; slot < 8; slot++) {
+            Input input = chunked.forSlot(slot);
+            threads.add(Thread.ofPlatform().start(() -> {
+                CycleSegment segment;
+                while ((segment = input.getInputSegment(4)) != null) {
+                    while (!segment.isExhausted()) {
+                        String key = segment.nextRecycle() + ":" + segment.nextCycle();
+                        if (!seen.add(key)) {
+                            duplicates.add(key);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(duplicates).isEmpty();
+        assertThat(seen).hasSize(300000);
+    }
+}
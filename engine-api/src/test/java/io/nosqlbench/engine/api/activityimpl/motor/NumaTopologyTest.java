@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.motor;
+
+import io.nosqlbench.api.errors.BasicError;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class NumaTopologyTest {
+
+    @Test
+    public void testParseCpuList() {
+        assertThat(NumaTopology.parseCpuList("0-3,8,10-11\n").toString()).isEqualTo("{0, 1, 2, 3, 8, 10, 11}");
+        assertThat(NumaTopology.parseCpuList("").isEmpty()).isTrue();
+        assertThatThrownBy(() -> NumaTopology.parseCpuList("3-1")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> NumaTopology.parseCpuList("a-b")).isInstanceOf(BasicError.class);
+    }
+
+    @Test
+    public void testReadNodesWithCpus(@TempDir Path dir) throws IOException {
+        writeNode(dir, "node1", "4-7");
+        writeNode(dir, "node0", "0-3");
+        writeNode(dir, "node2", "\n");
+        Files.createDirectories(dir.resolve("power"));
+
+        NumaTopology topology = NumaTopology.read(dir);
+        assertThat(topology.nodes()).isEqualTo(2);
+        assertThat(topology.cpus(0).toString()).isEqualTo("{0, 1, 2, 3}");
+        assertThat(topology.cpus(1).toString()).isEqualTo("{4, 5, 6, 7}");
+    }
+
+    @Test
+    public void testMissingTopologyIsOneNode(@TempDir Path dir) {
+        NumaTopology topology = NumaTopology.read(dir.resolve("absent"));
+        assertThat(topology.nodes()).isEqualTo(1);
+        assertThat(topology.cpus(0).cardinality()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void testAffinitySpreadsSlotsOverNodes() {
+        BitSet node0 = NumaTopology.parseCpuList("0-3");
+        BitSet node1 = NumaTopology.parseCpuList("4-7");
+        MotorAffinity numa = MotorAffinity.of("numa", new NumaTopology(List.of(node0, node1)), false);
+        assertThat(numa.isNuma()).isTrue();
+        assertThat(numa.nodeOf(0)).isEqualTo(0);
+        assertThat(numa.nodeOf(3)).isEqualTo(1);
+        assertThat(numa.cpusOf(5)).isEqualTo(node1);
+        assertThat(numa.pin(0)).isFalse();
+
+        MotorAffinity cpus = MotorAffinity.of("2-3", new NumaTopology(List.of(node0, node1)), false);
+        assertThat(cpus.isNuma()).isFalse();
+        assertThat(cpus.nodeOf(3)).isEqualTo(0);
+        assertThat(cpus.cpusOf(3).toString()).isEqualTo("{2, 3}");
+    }
+
+    private static void writeNode(Path dir, String node, String cpuList) throws IOException {
+        Path nodeDir = Files.createDirectories(dir.resolve(node));
+        Files.writeString(nodeDir.resolve("cpulist"), cpuList);
+    }
+}
@@ -19,6 +19,9 @@ package io.nosqlbench.engine.api.activityimpl.motor;
 import io.nosqlbench.engine.api.activityapi.core.RunState;
 import org.junit.jupiter.api.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -211,4 +214,51 @@ public class RunStateTallyTest {
     }
 
 
+    @Test
+    @Order(5)
+    public void testSlotsChangedConcurrently() throws InterruptedException {
+        RunStateTally tally = new RunStateTally();
+        int threads = 4;
+        int motorsPerThread = 5000;
+        RunStateTally.Slot[][] slots = new RunStateTally.Slot[threads][motorsPerThread];
+        List<Thread> starters = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            RunStateTally.Slot[] mine = slots[t];
+            starters.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = tally.add(RunState.Uninitialized);
+                    mine[i].change(RunState.Uninitialized, RunState.Starting);
+                    mine[i].change(RunState.Starting, RunState.Running);
+                }
+            }));
+        }
+        for (Thread starter : starters) {
+            starter.join();
+        }
+
+        RunStateImage running = tally.awaitNoneOther(5000, RunState.Running);
+        assertThat(running.isTimeout()).isFalse();
+        assertThat(tally.tallyFor(RunState.Running)).isEqualTo(threads * motorsPerThread);
+
+        Thread stopper = Thread.ofPlatform().start(() -> {
+            for (RunStateTally.Slot[] mine : slots) {
+                for (RunStateTally.Slot slot : mine) {
+                    slot.change(RunState.Running, RunState.Stopping);
+                    slot.change(RunState.Stopping, RunState.Stopped);
+                }
+            }
+        });
+        RunStateImage stopped = tally.awaitNoneOther(5000, RunState.Stopped);
+        assertThat(stopped.isTimeout()).isFalse();
+        assertThat(stopped.isOnly(RunState.Stopped)).isTrue();
+        stopper.join();
+
+        for (RunStateTally.Slot[] mine : slots) {
+            for (RunStateTally.Slot slot : mine) {
+                slot.remove(RunState.Stopped);
+            }
+        }
+        assertThat(tally.tallyFor(RunState.Stopped)).isEqualTo(0);
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandoffQueueTest {
+
+    @Test
+    public void testCapacityIsRoundedUp() {
+        assertThat(new HandoffQueue<>(1).capacity()).isEqualTo(2);
+        assertThat(new HandoffQueue<>(1000).capacity()).isEqualTo(1024);
+        assertThat(new HandoffQueue<>(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    public void testOrderAndBounds() {
+        HandoffQueue<Integer> queue = new HandoffQueue<>(4);
+        assertThat(queue.poll()).isNull();
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.poll()).isEqualTo(0);
+        assertThat(queue.offer(4)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        HandoffQueue<Long> queue = new HandoffQueue<>(64);
+        int producers = 4;
+        int consumers = 4;
+        long perProducer = 100_000L;
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        long total = producers * perProducer;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (long v = 1; v <= perProducer; v++) {
+                    while (!queue.offer(v)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                while (consumed.get() < total) {
+                    Long v = queue.poll();
+                    if (v != null) {
+                        sum.addAndGet(v);
+                        consumed.incrementAndGet();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(consumed.get()).isEqualTo(total);
+        assertThat(sum.get()).isEqualTo(producers * (perProducer * (perProducer + 1) / 2));
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.sessions;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.ScheduledInput;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionInputTest {
+
+    private static SessionInput sessions(String cycles, long count, int... sequence) {
+        return new SessionInput(new TestComponent("sessions", "test"), CyclesSpec.parse(cycles), count, () -> sequence, () -> false);
+    }
+
+    private static List<Long> cyclesOf(CycleSegment segment) {
+        List<Long> cycles = new ArrayList<>();
+        while (!segment.isExhausted()) {
+            cycles.add(segment.nextCycle());
+        }
+        return cycles;
+    }
+
+    @Test
+    public void testSessionsRunInTurn() {
+        SessionInput input = sessions("0..6", 3, 0, 1);
+        assertThat(cyclesOf(input.getInputSegment(2))).containsExactly(0L, 1L);
+        assertThat(cyclesOf(input.getInputSegment(2))).containsExactly(2L);
+
+        input.onComplete(1L, 0L);
+        assertThat(cyclesOf(input.getInputSegment(2))).containsExactly(4L);
+        input.onComplete(0L, 0L);
+        input.onComplete(2L, 0L);
+        assertThat(cyclesOf(input.getInputSegment(4))).containsExactly(3L, 5L);
+
+        assertThat(input.getActiveSessions()).isEqualTo(3);
+        input.onComplete(3L, 0L);
+        input.onComplete(4L, 0L);
+        input.onComplete(5L, 0L);
+        assertThat(input.getActiveSessions()).isEqualTo(0);
+        assertThat(input.getInputSegment(2)).isNull();
+    }
+
+    @Test
+    public void testStepsFollowSequence() {
+        SessionInput input = sessions("10..40", 5, 2, 0, 0, 1);
+        assertThat(input.opIndexFor(10L)).isEqualTo(2);
+        assertThat(input.opIndexFor(14L)).isEqualTo(2);
+        assertThat(input.opIndexFor(15L)).isEqualTo(0);
+        assertThat(input.opIndexFor(22L)).isEqualTo(0);
+        assertThat(input.opIndexFor(27L)).isEqualTo(1);
+        assertThat(input.opIndexFor(33L)).isEqualTo(2);
+        assertThat(input.opIndexFor(39L)).isEqualTo(0);
+    }
+
+    @Test
+    public void testThinkTimeDelaysNextStep() {
+        SessionInput input = sessions("0..2", 1, 0);
+        assertThat(cyclesOf(input.getInputSegment(1))).containsExactly(0L);
+        long thinkStarted = System.nanoTime();
+        input.onComplete(0L, 20_000_000L);
+        assertThat(cyclesOf(input.getInputSegment(1))).containsExactly(1L);
+        assertThat(System.nanoTime() - thinkStarted).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(input.awaitStart(1L)).isLessThan(1_000_000_000L);
+    }
+
+    @Test
+    public void testIdleTaskRunsWhileWaiting() {
+        ScheduledInput slot = sessions("0..2", 1, 0).forSlot(0);
+        assertThat(cyclesOf(slot.getInputSegment(1))).containsExactly(0L);
+        slot.setIdleTask(() -> slot.onComplete(0L, 0L));
+        assertThat(cyclesOf(slot.getInputSegment(1))).containsExactly(1L);
+    }
+
+    @Test
+    public void testSlotReusesSegment() {
+        SessionInput input = sessions("0..8", 4, 0);
+        ScheduledInput slot = input.forSlot(0);
+        CycleSegment segment = slot.getInputSegment(3);
+        assertThat(cyclesOf(segment)).containsExactly(0L, 1L, 2L);
+        input.onComplete(1L, 0L);
+        input.onComplete(0L, 0L);
+        CycleSegment next = slot.getInputSegment(3);
+        assertThat(next).isSameAs(segment);
+        assertThat(cyclesOf(next)).containsExactly(3L, 5L, 4L);
+        input.onComplete(2L, 0L);
+        assertThat(cyclesOf(slot.getInputSegment(3))).containsExactly(6L);
+    }
+
+    @Test
+    public void testThinkTimeValues() {
+        assertThat(new ThinkTime("op", c -> 250).nanosFor(0L)).isEqualTo(250_000_000L);
+        assertThat(new ThinkTime("op", c -> 1.5d).nanosFor(0L)).isEqualTo(1_500_000L);
+        assertThat(new ThinkTime("op", c -> "2s").nanosFor(0L)).isEqualTo(2_000_000_000L);
+        assertThat(new ThinkTime("op", c -> "10").nanosFor(0L)).isEqualTo(10_000_000L);
+        assertThat(new ThinkTime("op", c -> -5).nanosFor(0L)).isEqualTo(0L);
+    }
+}
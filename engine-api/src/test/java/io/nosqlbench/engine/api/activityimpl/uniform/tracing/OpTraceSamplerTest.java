@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.api.activityimpl.uniform.tracing;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.nosqlbench.api.config.standard.TestComponent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpTraceSamplerTest {
+
+    @Test
+    public void testRingOrderAndBounds() {
+        OpTraceRing ring = new OpTraceRing(3);
+        assertThat(ring.getCapacity()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i, "op", 0L, i, 0L, i, 0L, 1, 0L, null)).isTrue();
+        }
+        assertThat(ring.offer(4, "op", 0L, 4, 0L, 4, 0L, 1, 0L, null)).isFalse();
+        assertThat(ring.getDropped()).isEqualTo(1);
+
+        List<Long> cycles = new ArrayList<>();
+        assertThat(ring.drain(t -> cycles.add(t.getCycle()))).isEqualTo(4);
+        assertThat(cycles).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(ring.offer(5, "op", 0L, 5, 0L, 5, 0L, 1, 0L, null)).isTrue();
+        assertThat(ring.drain(t -> cycles.add(t.getCycle()))).isEqualTo(1);
+        assertThat(cycles).endsWith(5L);
+    }
+
+    @Test
+    public void testConcurrentOffersAreAllDrainedOrDropped() throws Exception {
+        OpTraceRing ring = new OpTraceRing(1024);
+        int producers = 4;
+        int perProducer = 100_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.offer(i, "op", 0L, i, 0L, i, 0L, 1, 0L, null);
+                }
+            }));
+        }
+        AtomicInteger drained = new AtomicInteger();
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            ring.drain(t -> {
+                assertThat(t.getDurationNanos()).isEqualTo(t.getCycle());
+                drained.incrementAndGet();
+            });
+        }
+        ring.drain(t -> drained.incrementAndGet());
+        assertThat(drained.get() + ring.getDropped()).isEqualTo((long) producers * perProducer);
+    }
+
+    @Test
+    public void testKeepsSlowestOpsAndWritesOtlp(@TempDir Path dir) throws Exception {
+        TestComponent root = new TestComponent("root", "tracing");
+        Path file = dir.resolve("traces.jsonl");
+        OpTraceSampler sampler = new OpTraceSampler(root, "main", "slowest:3,interval:1h,to:" + file);
+
+        for (int i = 0; i < 100; i++) {
+            long start = 1_000_000L * i;
+            sampler.record(i, "read", start, start + 1000L * i, 10L, 900L * i, 10L, 1, List.of(1, 2), null);
+        }
+        sampler.task();
+        // faster than the three slowest so far, so it is never offered
+        sampler.record(100, "read", 0L, 50L, 10L, 30L, 10L, 1, null, null);
+        sampler.record(101, "write", 0L, 200_000L, 10L, 100_000L, 10L, 3, null, new RuntimeException("timeout"));
+        root.close();
+
+        OpTraceStore store = sampler.getStore();
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.slowest(3)).extracting(OpTrace::getCycle).containsExactly(101L, 99L, 98L);
+        assertThat(store.errors()).extracting(OpTrace::getOpName).containsExactly("write");
+        assertThat(store.forOp("read")).extracting(OpTrace::getResultSize).containsOnly(2L);
+        assertThat(store.slowerThan(0.1d)).extracting(OpTrace::getCycle).containsExactly(101L);
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        JsonObject request = JsonParser.parseString(lines.get(0)).getAsJsonObject();
+        JsonObject resourceSpans = request.getAsJsonArray("resourceSpans").get(0).getAsJsonObject();
+        JsonArray spans = resourceSpans.getAsJsonArray("scopeSpans").get(0).getAsJsonObject().getAsJsonArray("spans");
+        // each op has a span for itself and for each of its bind, execute and verify phases
+        assertThat(spans.size()).isEqualTo(12);
+        JsonObject write = null;
+        for (int i = 0; i < spans.size(); i++) {
+            JsonObject span = spans.get(i).getAsJsonObject();
+            assertThat(span.get("traceId").getAsString()).hasSize(32);
+            assertThat(span.get("spanId").getAsString()).hasSize(16);
+            if (span.get("name").getAsString().equals("write")) {
+                write = span;
+            }
+        }
+        assertThat(write).isNotNull();
+        assertThat(write.getAsJsonObject("status").get("code").getAsInt()).isEqualTo(2);
+        assertThat(write.getAsJsonObject("status").get("message").getAsString()).contains("timeout");
+        long start = Long.parseLong(write.get("startTimeUnixNano").getAsString());
+        long end = Long.parseLong(write.get("endTimeUnixNano").getAsString());
+        assertThat(end - start).isEqualTo(200_000L);
+    }
+
+    @Test
+    public void testKeepsAllOpsAboveThreshold() {
+        TestComponent root = new TestComponent("root", "threshold");
+        OpTraceSampler sampler = new OpTraceSampler(root, "main", "above:1ms,interval:1h,keep:100");
+        for (int i = 0; i < 20; i++) {
+            sampler.record(i, "read", 0L, 100_000L * i, 0L, 100_000L * i, 0L, 1, null, null);
+        }
+        root.close();
+        assertThat(sampler.getStore().all()).extracting(OpTrace::getCycle)
+            .containsExactlyInAnyOrder(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.ratelimits.gcra.GcraRate;
+import io.nosqlbench.engine.api.activityapi.ratelimits.simrate.SimRateSpec;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link GcraRate#block()} at an unattainable rate, for comparison with
+ * {@link SimRateTest}. Run with {@link #main(String[])}, as with other JMH tests here.
+ */
+@State(Scope.Group)
+@Measurement(time = 10,timeUnit = TimeUnit.SECONDS)
+public class GcraRateTest {
+
+    private final NBComponent parent = new TestComponent("rltest","rltest");
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(GcraRateTest.class.getSimpleName())
+            .forks(1)
+            .warmupBatchSize(1)
+            .warmupIterations(0)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private GcraRate rl;
+
+    @Setup
+    public void setup() {
+        SimRateSpec spec = new SimRateSpec(1000000000.0,1.1);
+        rl = new GcraRate(parent,spec);
+    }
+
+    @Benchmark
+    @Group("gcra1")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void tptest1() {
+        rl.block();
+    }
+
+    @Benchmark
+    @Group("gcra6")
+    @GroupThreads(6)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void tptest6() {
+        rl.block();
+    }
+
+    @Benchmark
+    @Group("gcra24")
+    @GroupThreads(24)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void tptest24() {
+        rl.block();
+    }
+
+    @Benchmark
+    @Group("gcra64")
+    @GroupThreads(64)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void tptest64() {
+        rl.block();
+    }
+
+    @Benchmark
+    @Group("gcra240")
+    @GroupThreads(240)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void tptest240() {
+        rl.block();
+    }
+
+    @Test
+    @Disabled
+    public void testBasicRate() {
+        SimRateSpec spec = new SimRateSpec(1000000.0, 1.1);
+        GcraRate rl = new GcraRate(parent,spec);
+        long startAt = System.nanoTime();
+        for (long i = 1; i <= 10000000L; i++) {
+            rl.block();
+            if ((i%1000000)!=0) continue;
+            double seconds = (System.nanoTime() - startAt) / 1_000_000_000d;
+            System.out.printf("ops:%,d rate:%,.1f/s%n", i, i / seconds);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.api.engine.metrics.DeltaHdrHistogramReservoir;
+import io.nosqlbench.api.engine.metrics.HdrRecorderMode;
+import io.nosqlbench.api.labels.NBLabels;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of recording a value into a timer reservoir which 64 threads update at once, with
+ * each {@link HdrRecorderMode}. The reported time is per value, for each of the threads. A separate
+ * group thread takes a snapshot every 10ms while values are recorded, as the reporters would, so that
+ * the cost of flipping the recorders is included.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class HdrRecorderContentionTest {
+
+    @Param({"shared", "striped"})
+    public HdrRecorderMode mode;
+
+    private DeltaHdrHistogramReservoir reservoir;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(HdrRecorderContentionTest.class.getSimpleName())
+            .forks(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Values {
+        long value = 1_000L;
+
+        long next() {
+            value = (value * 31 + 17) % 10_000_000L + 1_000L;
+            return value;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        reservoir = new DeltaHdrHistogramReservoir(NBLabels.forKV("name", "contention"), 3, mode);
+    }
+
+    @Benchmark
+    @Group("recording")
+    @GroupThreads(64)
+    @Disabled
+    public void update(Values values) {
+        reservoir.update(values.next());
+    }
+
+    @Benchmark
+    @Group("recording")
+    @GroupThreads(1)
+    @Disabled
+    public void snapshot(Blackhole bh) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(10);
+        bh.consume(reservoir.getSnapshot().size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.cyclelog.buffers.results.CycleSegment;
+import io.nosqlbench.engine.api.activityapi.input.Input;
+import io.nosqlbench.engine.api.activityimpl.input.AtomicInput;
+import io.nosqlbench.engine.api.activityimpl.input.ChunkedInput;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the cost of claiming strides of 1 from {@link AtomicInput} with
+ * {@link ChunkedInput}, across different numbers of threads.
+ */
+@State(Scope.Benchmark)
+@Measurement(time = 10,timeUnit = TimeUnit.SECONDS)
+public class InputClaimTest {
+
+    private final NBComponent parent = new TestComponent("inputtest","inputtest");
+    private final AtomicLong slots = new AtomicLong(0L);
+    private final ActivityDef def = ActivityDef.parseActivityDef("alias=inputtest;cycles=" + Long.MAX_VALUE / 2);
+
+    private AtomicInput atomicInput;
+    private ChunkedInput chunkedInput;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(InputClaimTest.class.getSimpleName())
+            .forks(1)
+            .warmupBatchSize(1)
+            .warmupIterations(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        atomicInput = new AtomicInput(parent, def);
+        chunkedInput = new ChunkedInput(parent, def, 1000);
+    }
+
+    @State(Scope.Thread)
+    public static class SlotState {
+        Input slotInput;
+
+        @Setup
+        public void setup(InputClaimTest bench) {
+            slotInput = bench.chunkedInput.forSlot(bench.slots.getAndIncrement());
+        }
+    }
+
+    private static void consume(CycleSegment segment, Blackhole bh) {
+        while (!segment.isExhausted()) {
+            bh.consume(segment.nextCycle());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void atomic1(Blackhole bh) {
+        consume(atomicInput.getInputSegment(1), bh);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void chunked1(SlotState slot, Blackhole bh) {
+        consume(slot.slotInput.getInputSegment(1), bh);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void atomic16(Blackhole bh) {
+        consume(atomicInput.getInputSegment(1), bh);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void chunked16(SlotState slot, Blackhole bh) {
+        consume(slot.slotInput.getInputSegment(1), bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void atomic64(Blackhole bh) {
+        consume(atomicInput.getInputSegment(1), bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void chunked64(SlotState slot, Blackhole bh) {
+        consume(slot.slotInput.getInputSegment(1), bh);
+    }
+}
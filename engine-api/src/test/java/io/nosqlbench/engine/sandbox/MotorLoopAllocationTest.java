@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.engine.api.activityimpl.input.AtomicInput;
+import io.nosqlbench.engine.api.activityimpl.motor.CoreMotor;
+import io.nosqlbench.engine.api.activityimpl.uniform.StandardActivity;
+import io.nosqlbench.engine.api.activityimpl.uniform.actions.StandardAction;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the allocation of the {@link CoreMotor} sync loop per cycle, through a {@link StandardAction}
+ * and the op dispenser of the {@link NoopBenchDriverAdapter}, with no output attached. Run
+ * {@link #main(String[])} to see gc.alloc.rate.norm from the GC profiler, which should be 0 B/op apart
+ * from the setup of each motor, amortized over {@link #CYCLES} cycles.
+ */
+@State(Scope.Thread)
+@Measurement(time = 10,timeUnit = TimeUnit.SECONDS)
+public class MotorLoopAllocationTest {
+
+    private final static int CYCLES = 1_000_000;
+
+    private final ActivityDef def = ActivityDef.parseActivityDef("driver=noopbench;alias=motorloop;op=noop;cycles=" + CYCLES + ";stride=1");
+    private StandardActivity<NoopBenchDriverAdapter.NoopOp, Object> activity;
+    private StandardAction<StandardActivity<NoopBenchDriverAdapter.NoopOp, Object>, NoopBenchDriverAdapter.NoopOp> action;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(MotorLoopAllocationTest.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .forks(1)
+            .warmupIterations(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        activity = new StandardActivity<>(new TestComponent("motorloop","motorloop"), def);
+        activity.initActivity();
+        action = new StandardAction<>(activity, 0);
+    }
+
+    private void runMotor() {
+        AtomicInput input = new AtomicInput(activity, def);
+        try {
+            new CoreMotor(activity, 0L, input.forSlot(0L), action).run();
+        } finally {
+            input.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES)
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void motorloop() {
+        runMotor();
+    }
+
+    @Test
+    @Disabled
+    public void testBytesPerCycle() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        setup();
+        runMotor(); // warm up
+        long before = threads.getCurrentThreadAllocatedBytes();
+        runMotor();
+        long after = threads.getCurrentThreadAllocatedBytes();
+        System.out.printf("bytes per cycle: %.3f%n", (double) (after - before) / CYCLES);
+    }
+}
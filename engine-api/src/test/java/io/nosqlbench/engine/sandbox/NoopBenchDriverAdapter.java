@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.adapters.api.activityimpl.BaseOpDispenser;
+import io.nosqlbench.adapters.api.activityimpl.OpMapper;
+import io.nosqlbench.adapters.api.activityimpl.uniform.BaseDriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.DriverAdapter;
+import io.nosqlbench.adapters.api.activityimpl.uniform.flowtypes.CycleOp;
+import io.nosqlbench.adapters.api.templating.ParsedOp;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.nb.annotations.Service;
+
+/**
+ * A driver for benchmarks of the engine itself. Every op template is mapped to one shared op which
+ * does nothing, so that what is measured is the work of the activity, the action and the dispenser.
+ */
+@Service(value = DriverAdapter.class, selector = "noopbench")
+public class NoopBenchDriverAdapter extends BaseDriverAdapter<NoopBenchDriverAdapter.NoopOp, Object> {
+
+    public NoopBenchDriverAdapter(NBComponent parentComponent, NBLabels labels) {
+        super(parentComponent, labels);
+    }
+
+    @Override
+    public OpMapper<NoopOp> getOpMapper() {
+        return op -> new Dispenser(this, op);
+    }
+
+    public final static class NoopOp implements CycleOp<Object> {
+        private final static Object RESULT = new Object();
+
+        @Override
+        public Object apply(long value) {
+            return RESULT;
+        }
+    }
+
+    private static class Dispenser extends BaseOpDispenser<NoopOp, Object> {
+        private final NoopOp op = new NoopOp();
+
+        private Dispenser(DriverAdapter<NoopOp, Object> adapter, ParsedOp op) {
+            super(adapter, op);
+        }
+
+        @Override
+        public NoopOp apply(long cycle) {
+            return op;
+        }
+    }
+}
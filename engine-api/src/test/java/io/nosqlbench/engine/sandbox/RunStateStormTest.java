@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.engine.api.activityapi.core.RunState;
+import io.nosqlbench.engine.api.activityimpl.motor.RunStateImage;
+import io.nosqlbench.engine.api.activityimpl.motor.RunStateTally;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures how long it takes to start and then stop many motors, as seen by the {@link RunStateTally}.
+ * The state changes of the motors are made from a pool of threads, while the benchmark thread waits
+ * for all motors to be running and then for all of them to be stopped, as the activity executor does.
+ * The monitor tally is the synchronized tally with notifyAll which this replaced, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+public class RunStateStormTest {
+
+    @Param({"1000", "100000"})
+    public int motors;
+
+    @Param({"8"})
+    public int threads;
+
+    private ExecutorService pool;
+    private RunStateTally tally;
+    private RunStateTally.Slot[] slots;
+    private MonitorTally monitor;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(RunStateStormTest.class.getSimpleName())
+            .forks(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startPool() {
+        pool = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Setup(Level.Invocation)
+    public void addMotors() {
+        tally = new RunStateTally();
+        slots = new RunStateTally.Slot[motors];
+        for (int i = 0; i < motors; i++) {
+            slots[i] = tally.add(RunState.Uninitialized);
+        }
+        monitor = new MonitorTally();
+        for (int i = 0; i < motors; i++) {
+            monitor.add(RunState.Uninitialized);
+        }
+    }
+
+    @Benchmark
+    @Disabled
+    public RunStateImage stripedStartStop() {
+        storm(i -> {
+            slots[i].change(RunState.Uninitialized, RunState.Starting);
+            slots[i].change(RunState.Starting, RunState.Running);
+        });
+        tally.awaitNoneOther(RunState.Running);
+        storm(i -> {
+            slots[i].change(RunState.Running, RunState.Stopping);
+            slots[i].change(RunState.Stopping, RunState.Stopped);
+        });
+        return tally.awaitNoneOther(RunState.Stopped);
+    }
+
+    @Benchmark
+    @Disabled
+    public int monitorStartStop() {
+        storm(i -> {
+            monitor.change(RunState.Uninitialized, RunState.Starting);
+            monitor.change(RunState.Starting, RunState.Running);
+        });
+        monitor.awaitNoneOther(RunState.Running);
+        storm(i -> {
+            monitor.change(RunState.Running, RunState.Stopping);
+            monitor.change(RunState.Stopping, RunState.Stopped);
+        });
+        return monitor.awaitNoneOther(RunState.Stopped);
+    }
+
+    private void storm(IntConsumer motor) {
+        int each = (motors + threads - 1) / threads;
+        for (int t = 0; t < threads; t++) {
+            int from = t * each;
+            int to = Math.min(motors, from + each);
+            pool.execute(() -> {
+                for (int i = from; i < to; i++) {
+                    motor.accept(i);
+                }
+            });
+        }
+    }
+
+    private final static class MonitorTally {
+        private final int[] counts = new int[RunState.values().length];
+
+        synchronized void add(RunState state) {
+            if (++counts[state.ordinal()] == 1) {
+                notifyAll();
+            }
+        }
+
+        synchronized void change(RunState from, RunState to) {
+            counts[from.ordinal()]--;
+            counts[to.ordinal()]++;
+            if (counts[from.ordinal()] == 0 || counts[to.ordinal()] == 1) {
+                notifyAll();
+            }
+        }
+
+        synchronized int awaitNoneOther(RunState state) {
+            while (others(state) > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException ignored) {
+                }
+            }
+            return counts[state.ordinal()];
+        }
+
+        private int others(RunState state) {
+            int sum = 0;
+            for (int count : counts) {
+                sum += count;
+            }
+            return sum - counts[state.ordinal()];
+        }
+    }
+}
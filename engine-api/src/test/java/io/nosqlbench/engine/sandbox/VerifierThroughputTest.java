@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.sandbox;
+
+import io.nosqlbench.adapters.api.evalcontext.CycleFunction;
+import io.nosqlbench.adapters.api.evalcontext.GroovyBooleanCycleFunction;
+import io.nosqlbench.adapters.api.evalcontext.VerifierMode;
+import io.nosqlbench.virtdata.core.templates.ParsedTemplateString;
+import org.junit.jupiter.api.Disabled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of producing a result per cycle without verification, and with a
+ * verifier in each {@link VerifierMode}. The verifier is called the same way as by the standard
+ * action, with {@code result} and {@code cycle} set before each call. A simple comparison like
+ * {@code result == 42} is evaluated without the script in {@link VerifierMode#auto}, while the
+ * other scripts are compiled statically.
+ */
+@State(Scope.Thread)
+@Measurement(time = 10,timeUnit = TimeUnit.SECONDS)
+public class VerifierThroughputTest {
+
+    @Param({"result == 42", "result.size() == 3 && cycle >= 0", "result.size() == limit"})
+    public String script;
+
+    private CycleFunction<Boolean> dynamic;
+    private CycleFunction<Boolean> compiled;
+    private CycleFunction<Boolean> auto;
+    private long cycle;
+
+    public static void main(String[] args) {
+        Options jmhOptions = new OptionsBuilder()
+            .include(VerifierThroughputTest.class.getSimpleName())
+            .forks(1)
+            .warmupBatchSize(1)
+            .warmupIterations(1)
+            .build();
+        try {
+            new Runner(jmhOptions).run();
+        } catch (RunnerException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        dynamic = verifier(VerifierMode.dynamic);
+        compiled = verifier(VerifierMode.compiled);
+        auto = verifier(VerifierMode.auto);
+    }
+
+    private CycleFunction<Boolean> verifier(VerifierMode mode) {
+        GroovyBooleanCycleFunction prototype = new GroovyBooleanCycleFunction(
+            "verifier-" + mode, new ParsedTemplateString(script, Map.of()), List.of(), new ArrayList<>(), null, mode);
+        prototype.setVariable("limit", 3);
+        return prototype.newInstance();
+    }
+
+    private Object result(long cycle) {
+        return script.startsWith("result ==") ? (Object) 42L : List.of(cycle, cycle + 1, cycle + 2);
+    }
+
+    private boolean verify(CycleFunction<Boolean> verifier) {
+        long value = cycle++;
+        verifier.setVariable("result", result(value));
+        verifier.setVariable("cycle", value);
+        return verifier.apply(value);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void unverified(Blackhole bh) {
+        bh.consume(result(cycle++));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void dynamic(Blackhole bh) {
+        bh.consume(verify(dynamic));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void compiled(Blackhole bh) {
+        bh.consume(verify(compiled));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Disabled
+    public void auto(Blackhole bh) {
+        bh.consume(verify(auto));
+    }
+}
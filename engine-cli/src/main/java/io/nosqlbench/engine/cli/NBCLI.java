@@ -16,6 +16,7 @@
 
 package io.nosqlbench.engine.cli;
 
+import com.codahale.metrics.MetricFilter;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.nosqlbench.adapters.api.activityconfig.rawyaml.RawOpsLoader;
@@ -24,8 +25,12 @@ import io.nosqlbench.api.annotations.Layer;
 import io.nosqlbench.api.apps.BundledApp;
 import io.nosqlbench.api.content.Content;
 import io.nosqlbench.api.content.NBIO;
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
 import io.nosqlbench.api.engine.metrics.instruments.NBFunctionGauge;
+import io.nosqlbench.api.engine.metrics.journal.MetricsJournalReporter;
 import io.nosqlbench.api.engine.metrics.reporters.CsvReporter;
+import io.nosqlbench.api.engine.metrics.reporters.HistoLogReporter;
+import io.nosqlbench.api.engine.metrics.reporters.Log4JMetricsReporter;
 import io.nosqlbench.api.engine.metrics.reporters.MetricInstanceFilter;
 import io.nosqlbench.api.engine.metrics.reporters.PromPushReporterComponent;
 import io.nosqlbench.api.engine.util.Unit;
@@ -36,10 +41,13 @@ import io.nosqlbench.api.logging.NBLogLevel;
 import io.nosqlbench.api.metadata.SessionNamer;
 import io.nosqlbench.api.metadata.SystemId;
 import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBCreators;
 import io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog.CycleLogDumperUtility;
+import io.nosqlbench.engine.api.activityapi.cyclelog.inputs.arrivals.ArrivalLogImporterUtility;
 import io.nosqlbench.engine.api.activityapi.cyclelog.outputs.cyclelog.CycleLogImporterUtility;
 import io.nosqlbench.engine.api.activityapi.input.InputType;
 import io.nosqlbench.engine.api.activityapi.output.OutputType;
+import io.nosqlbench.engine.cli.NBCLIOptions.LoggerConfigData;
 import io.nosqlbench.engine.cli.NBCLIOptions.Mode;
 import io.nosqlbench.engine.core.annotation.Annotators;
 import io.nosqlbench.engine.core.lifecycle.ExecutionResult;
@@ -57,6 +65,7 @@ import org.apache.logging.log4j.core.config.ConfigurationFactory;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -67,6 +76,7 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.ServiceLoader.Provider;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
@@ -327,6 +337,11 @@ public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
             return NBCLI.EXIT_OK;
         }
 
+        if (options.wantsToImportArrivalLog()) {
+            ArrivalLogImporterUtility.main(options.getArrivalLogImportOptions());
+            return NBCLI.EXIT_OK;
+        }
+
         if (options.wantsTopicalHelp()) {
             final Optional<String> helpDoc = MarkdownFinder.forHelpTopic(options.wantsTopicalHelpFor());
             System.out.println(helpDoc.orElseThrow(
@@ -390,10 +405,32 @@ public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
             sessionName
         );
 
+        // All reporters share one snapshot of each metric per interval, so they see the same data
+        List<LoggerConfigData> histoLogConfigs = options.getHistoLoggerConfigs();
+        MetricsSnapshotter snapshotter = (options.wantsReportCsvTo().isPresent()
+            || options.wantsReportPromPushTo().isPresent()
+            || options.wantsReportJournalTo().isPresent()
+            || options.wantsReportPromScrape().isPresent()
+            || !histoLogConfigs.isEmpty())
+            ? session.create().metricsSnapshotter(options.getReportInterval() * 1000L)
+            : null;
+
+        if (snapshotter != null && options.wantsLoggedMetrics()) {
+            Log4JMetricsReporter logged = new NBCreators.Log4jReporterBuilder(session)
+                .filter(MetricFilter.ALL)
+                .interval(0)
+                .build();
+            snapshotter.attach(logged);
+        }
+
+        for (LoggerConfigData histoLog : histoLogConfigs) {
+            new HistoLogReporter(session, sessionName, new File(histoLog.file), Pattern.compile(histoLog.pattern), snapshotter, histoLog.millis);
+        }
+
         options.wantsReportCsvTo().ifPresent(cfg -> {
             MetricInstanceFilter filter = new MetricInstanceFilter();
             filter.addPattern(cfg.pattern);
-            new CsvReporter(session,Path.of(cfg.file), cfg.millis, filter);
+            new CsvReporter(session,Path.of(cfg.file), snapshotter, cfg.millis, filter);
         });
 
         options.wantsReportPromPushTo().ifPresent(cfg -> {
@@ -407,9 +444,17 @@ public class NBCLI implements Function<String[], Integer>, NBLabeledElement {
                 break;
                 default: throw new RuntimeException("Unable to parse '" + cfg + "', must be in <URI> or <URI>,ms form");
             }
-            session.create().pushReporter(uri,intervalMs,NBLabels.forKV());
+            session.create().pushReporter(uri,snapshotter,intervalMs,NBLabels.forKV());
         });
 
+        options.wantsReportJournalTo().ifPresent(path ->
+            new MetricsJournalReporter(session, path, snapshotter, snapshotter.getIntervalMillis())
+        );
+
+        options.wantsReportPromScrape().ifPresent(address ->
+            session.create().scrapeReporter(address, snapshotter, snapshotter.getIntervalMillis())
+        );
+
 
 
         ExecutionResult sessionResult = session.apply(options.getCommands());
@@ -92,6 +92,7 @@ public class NBCLIOptions {
     // Execution
     private static final String EXPORT_CYCLE_LOG = "--export-cycle-log";
     private static final String IMPORT_CYCLE_LOG = "--import-cycle-log";
+    private static final String IMPORT_ARRIVAL_LOG = "--import-arrival-log";
     private static final String HDR_DIGITS = "--hdr-digits";
 
     // Execution Options
@@ -113,6 +114,8 @@ public class NBCLIOptions {
     private static final String REPORT_PROMPUSH_TO = "--report-prompush-to";
     private static final String GRAPHITE_LOG_LEVEL = "--graphite-log-level";
     private static final String REPORT_CSV_TO = "--report-csv-to";
+    private static final String REPORT_JOURNAL_TO = "--report-journal-to";
+    private static final String REPORT_PROM_SCRAPE = "--report-prom-scrape";
     private static final String REPORT_SUMMARY_TO = "--report-summary-to";
     private static final String REPORT_SUMMARY_TO_DEFAULT = "stdout:60,_LOGS_/_SESSION_.summary";
     private static final String PROGRESS = "--progress";
@@ -146,6 +149,8 @@ public class NBCLIOptions {
     private String reportGraphiteTo;
     private String reportPromPushTo;
     private String reportCsvTo;
+    private String reportJournalTo;
+    private String reportPromScrape;
     private int reportInterval = 10;
     private String metricsPrefix = "nosqlbench";
     private String wantsMetricsForActivity;
@@ -163,6 +168,7 @@ public class NBCLIOptions {
     private boolean wantsMarkerTypes;
     private String[] rleDumpOptions = new String[0];
     private String[] cyclelogImportOptions = new String[0];
+    private String[] arrivalLogImportOptions = new String[0];
     private String consoleLoggingPattern = NBCLIOptions.DEFAULT_CONSOLE_PATTERN;
     private String logfileLoggingPattern = NBCLIOptions.DEFAULT_LOGFILE_PATTERN;
     private NBLogLevel logsLevel = NBLogLevel.INFO;
@@ -560,6 +566,10 @@ public class NBCLIOptions {
                     arglist.removeFirst();
                     this.cyclelogImportOptions = this.readAllWords(arglist);
                     break;
+                case NBCLIOptions.IMPORT_ARRIVAL_LOG:
+                    arglist.removeFirst();
+                    this.arrivalLogImportOptions = this.readAllWords(arglist);
+                    break;
                 case NBCLIOptions.LOG_HISTOGRAMS:
                     arglist.removeFirst();
                     final String logto = arglist.removeFirst();
@@ -583,6 +593,14 @@ public class NBCLIOptions {
                     arglist.removeFirst();
                     this.reportCsvTo = arglist.removeFirst();
                     break;
+                case NBCLIOptions.REPORT_JOURNAL_TO:
+                    arglist.removeFirst();
+                    this.reportJournalTo = this.readWordOrThrow(arglist, "metrics journal file");
+                    break;
+                case NBCLIOptions.REPORT_PROM_SCRAPE:
+                    arglist.removeFirst();
+                    this.reportPromScrape = this.readWordOrThrow(arglist, "prometheus scrape address, as [host]:port");
+                    break;
                 case NBCLIOptions.REPORT_SUMMARY_TO:
                     arglist.removeFirst();
                     this.reportSummaryTo = this.readWordOrThrow(arglist, "report summary file");
@@ -807,6 +825,14 @@ public class NBCLIOptions {
         return Optional.ofNullable(this.reportCsvTo).map(LoggerConfigData::new);
     }
 
+    public Optional<Path> wantsReportJournalTo() {
+        return Optional.ofNullable(this.reportJournalTo).map(Path::of);
+    }
+
+    public Optional<String> wantsReportPromScrape() {
+        return Optional.ofNullable(this.reportPromScrape);
+    }
+
     public Path getLogsDirectory() {
         return Path.of(this.logsDirectory);
     }
@@ -847,6 +873,14 @@ public class NBCLIOptions {
         return this.cyclelogImportOptions;
     }
 
+    public boolean wantsToImportArrivalLog() {
+        return 0 < arrivalLogImportOptions.length;
+    }
+
+    public String[] getArrivalLogImportOptions() {
+        return this.arrivalLogImportOptions;
+    }
+
     public String[] getCycleLogExporterOptions() {
         return this.rleDumpOptions;
     }
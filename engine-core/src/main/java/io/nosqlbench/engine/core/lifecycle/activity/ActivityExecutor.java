@@ -26,6 +26,7 @@ import io.nosqlbench.api.annotations.Annotation;
 import io.nosqlbench.api.annotations.Layer;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
 import io.nosqlbench.api.engine.activityimpl.ParameterMap;
+import io.nosqlbench.api.engine.util.Unit;
 import io.nosqlbench.engine.api.activityapi.core.progress.ProgressCapable;
 import io.nosqlbench.engine.api.activityapi.core.progress.ProgressMeterDisplay;
 import io.nosqlbench.engine.api.activityimpl.motor.RunStateImage;
@@ -36,6 +37,7 @@ import io.nosqlbench.engine.core.lifecycle.IndexedThreadFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
@@ -146,17 +148,10 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
         executorService.shutdownNow();
         requestStopMotors();
 
-        int divisor = 100;
-        int polltime = initialMillisToWait / divisor;
         long gracefulWaitStartedAt = System.currentTimeMillis();
-        long waitUntil = initialMillisToWait + gracefulWaitStartedAt;
-        long time = gracefulWaitStartedAt;
-        while (time < waitUntil && !executorService.isTerminated()) {
-            try {
-                Thread.sleep(polltime);
-                time = System.currentTimeMillis();
-            } catch (InterruptedException ignored) {
-            }
+        try {
+            executorService.awaitTermination(initialMillisToWait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {
         }
         long gracefulWaitEndedAt = System.currentTimeMillis();
         logger.debug("took " + (gracefulWaitEndedAt - gracefulWaitStartedAt) + " ms to shutdown gracefully");
@@ -499,12 +494,43 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
     }
 
     private void startMotorExecutorService() {
-        this.executorService = new ThreadPoolExecutor(
-            0, Integer.MAX_VALUE,
-            0L, TimeUnit.SECONDS,
-            new SynchronousQueue<>(),
-            new IndexedThreadFactory(activity.getAlias(), new ActivityExceptionHandler(this))
-        );
+        ThreadModel threadModel = ThreadModel.of(activityDef);
+        switch (threadModel) {
+            case platform -> this.executorService = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE,
+                0L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new IndexedThreadFactory(activity.getAlias(), new ActivityExceptionHandler(this))
+            );
+            case virtual -> {
+                String threadPrefix = activity.getAlias() + ":";
+                ThreadFactory virtualThreadFactory = Thread.ofVirtual()
+                    .name(threadPrefix, 1)
+                    .uncaughtExceptionHandler(new ActivityExceptionHandler(this))
+                    .factory();
+                this.executorService = Executors.newThreadPerTaskExecutor(virtualThreadFactory);
+                startPinningMonitor(threadPrefix);
+            }
+        }
+        logger.debug(() -> "started " + threadModel + " motor executor for " + activity.getAlias());
+    }
+
+    /**
+     * Virtual motor threads which block while holding a monitor pin their carrier thread. This
+     * is tracked for the lifetime of the activity, with the minimum pinning duration which is
+     * counted set by the <em>pinthreshold</em> activity parameter.
+     */
+    private void startPinningMonitor(String threadPrefix) {
+        long thresholdMs = activityDef.getParams().getOptionalString("pinthreshold")
+            .flatMap(Unit::msFor)
+            .orElse(1L);
+        try {
+            VirtualThreadPinningMonitor monitor =
+                new VirtualThreadPinningMonitor(activity, threadPrefix, Duration.ofMillis(thresholdMs));
+            activity.registerAutoCloseable(monitor);
+        } catch (Exception e) {
+            logger.warn("Unable to monitor virtual thread pinning for activity '" + activity.getAlias() + "': " + e);
+        }
     }
 
 
@@ -533,6 +559,7 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
             activity.setRunState(RunState.Starting);
             this.startedAt = System.currentTimeMillis();
             activity.onActivityDefUpdate(activityDef);
+            startWarmup();
         } catch (Exception e) {
             this.exception = new RuntimeException("Error initializing activity '" + activity.getAlias() + "':\n" + e.getMessage(), e);
             activitylogger.error(() -> "error initializing activity '" + activity.getAlias() + "': " + exception);
@@ -541,9 +568,33 @@ public class ActivityExecutor implements NBLabeledElement, ParameterMap.Listener
         adjustMotorCountToThreadParam(activity.getActivityDef());
         tally.awaitAny(RunState.Running, RunState.Finished, RunState.Stopped);
         activity.setRunState(RunState.Running);
+        startConcurrencyController();
         activitylogger.debug("START/after alias=(" + activity.getAlias() + ")");
     }
 
+    /**
+     * With <em>warmup=...</em>, the first part of the activity is recorded separately, as
+     * described in {@link WarmupController}. This has to happen before any motors are started.
+     */
+    private void startWarmup() {
+        activityDef.getParams().getOptionalString("warmup").ifPresent(spec -> {
+            WarmupController warmup = new WarmupController(activity, WarmupController.Spec.parse(spec));
+            activity.registerAutoCloseable(warmup);
+        });
+    }
+
+    /**
+     * With <em>concurrency=adaptive:...</em>, the threads or async depth of the activity are
+     * adjusted for as long as it runs, as described in {@link AdaptiveConcurrencyController}.
+     */
+    private void startConcurrencyController() {
+        activityDef.getParams().getOptionalString("concurrency").ifPresent(spec -> {
+            AdaptiveConcurrencyController controller =
+                new AdaptiveConcurrencyController(activity, AdaptiveConcurrencyController.Spec.parse(spec));
+            activity.registerAutoCloseable(controller);
+        });
+    }
+
 
     @Override
     public NBLabels getLabels() {
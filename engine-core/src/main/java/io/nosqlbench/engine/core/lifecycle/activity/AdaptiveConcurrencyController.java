@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import io.nosqlbench.api.engine.activityimpl.ParameterMap;
+import io.nosqlbench.api.engine.metrics.HdrDeltaHistogramAttachment;
+import io.nosqlbench.api.engine.metrics.HdrDeltaHistogramProvider;
+import io.nosqlbench.api.engine.util.Unit;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.core.RunState;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <P>Adjusts the concurrency of a running activity to the most it can have while still meeting a
+ * latency target, as set with {@code concurrency=adaptive:p99<20ms}. When the <em>async</em>
+ * parameter is set, the number of ops in flight is adjusted. Otherwise, the number of threads is.
+ * Either is changed through the activity parameters, just as when they are changed by a user.</P>
+ *
+ * <P>At each interval, the chosen percentile of the <em>result</em> timer over that interval is
+ * compared with the target. While it is within the target, the limit grows by the square root of
+ * the current limit (at least 1). When it is not, the limit is scaled down by the ratio of the
+ * target to the observed latency, by at most half. Since latency grows with concurrency once the
+ * target is saturated, this settles just below the point where the target is missed, which is
+ * also where throughput stops improving.</P>
+ *
+ * <P>Options can follow the target, separated by commas:</P>
+ * <UL>
+ * <LI>{@code min:N} and {@code max:N} bound the limit, 1 and 1000 by default</LI>
+ * <LI>{@code interval:5s} is how often the limit is adjusted, 2 seconds by default</LI>
+ * </UL>
+ */
+public class AdaptiveConcurrencyController implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(AdaptiveConcurrencyController.class);
+    private final static Pattern TARGET = Pattern.compile("p(\\d+(?:\\.\\d+)?)\\s*<\\s*(.+)");
+
+    /**
+     * Intervals with fewer results than this do not change the limit
+     */
+    public final static int MIN_SAMPLES = 10;
+
+    private final Activity activity;
+    private final Spec spec;
+    private final String parameter;
+    private final HdrDeltaHistogramProvider results;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile int limit;
+    private volatile long observedNanos;
+
+    /**
+     * The settings of the controller
+     *
+     * @param percentile
+     *     The percentile of result latency which is controlled, like 99.0 or 99.9
+     * @param targetNanos
+     *     The latency which the percentile should not exceed
+     * @param min
+     *     The lowest limit
+     * @param max
+     *     The highest limit
+     * @param intervalMillis
+     *     How often the limit is adjusted
+     */
+    public record Spec(double percentile, long targetNanos, int min, int max, long intervalMillis) {
+
+        /**
+         * Parse a spec like {@code adaptive:p99<20ms,max:200,interval:5s}.
+         */
+        public static Spec parse(String spec) {
+            String trimmed = spec.trim();
+            if (!trimmed.startsWith("adaptive:")) {
+                throw new BasicError("Invalid concurrency '" + spec + "', expected a form like adaptive:p99<20ms");
+            }
+            String[] parts = trimmed.substring("adaptive:".length()).split(",");
+            Matcher matcher = TARGET.matcher(parts[0].trim());
+            if (!matcher.matches()) {
+                throw new BasicError("Invalid concurrency target '" + parts[0] + "', expected a form like p99<20ms");
+            }
+            double percentile = percentile(matcher.group(1), spec);
+            long target = nanos(matcher.group(2), spec);
+            int min = 1;
+            int max = 1000;
+            long interval = 2000L;
+            for (int i = 1; i < parts.length; i++) {
+                String[] kv = parts[i].split(":", 2);
+                if (kv.length != 2) {
+                    throw new BasicError("Invalid concurrency option '" + parts[i] + "' in '" + spec + "'");
+                }
+                String value = kv[1].trim();
+                switch (kv[0].trim()) {
+                    case "min" -> min = Integer.parseInt(value);
+                    case "max" -> max = Integer.parseInt(value);
+                    case "interval" -> interval = nanos(value, spec) / 1_000_000L;
+                    default -> throw new BasicError("Unknown concurrency option '" + kv[0] + "' in '" + spec + "'");
+                }
+            }
+            if (min < 1 || max < min || interval < 1L || percentile <= 0.0d || percentile >= 100.0d) {
+                throw new BasicError("Invalid concurrency '" + spec + "', which needs 1 <= min <= max, a positive interval, " +
+                    "and a percentile below 100");
+            }
+            return new Spec(percentile, target, min, max, interval);
+        }
+
+        /**
+         * Read a percentile like {@code 99}, {@code 99.9}, or {@code 999} as shorthand for 99.9. Shorthand
+         * beyond two digits must start with 9, so that a mistyped {@code p100} or {@code p050} is not read
+         * as another percentile.
+         */
+        private static double percentile(String digits, String spec) {
+            boolean leadingZero = digits.length() > 1 && digits.charAt(0) == '0' && digits.charAt(1) != '.';
+            if (!leadingZero && (digits.contains(".") || digits.length() <= 2)) {
+                return Double.parseDouble(digits);
+            }
+            if (leadingZero || digits.charAt(0) != '9') {
+                throw new BasicError("Invalid percentile 'p" + digits + "' in concurrency '" + spec + "', expected a form " +
+                    "like p99.9, or p999 as shorthand for it");
+            }
+            return Double.parseDouble(digits.substring(0, 2) + "." + digits.substring(2));
+        }
+
+        private static long nanos(String duration, String spec) {
+            return Unit.nanosecondsFor(duration.trim())
+                .orElseThrow(() -> new BasicError("Invalid duration '" + duration + "' in concurrency '" + spec + "'"));
+        }
+    }
+
+    public AdaptiveConcurrencyController(Activity activity, Spec spec) {
+        this.activity = activity;
+        this.spec = spec;
+        ParameterMap params = activity.getActivityDef().getParams();
+        this.parameter = params.containsKey("async") ? "async" : "threads";
+        int initial = parameter.equals("async")
+            ? params.getOptionalInteger("async").orElse(1)
+            : activity.getActivityDef().getThreads();
+        this.limit = Math.max(spec.min(), Math.min(spec.max(), initial));
+
+        if (!(activity.getInstrumentation().getOrCreateResultTimer() instanceof HdrDeltaHistogramAttachment attachment)) {
+            throw new BasicError("The result timer of activity '" + activity.getAlias() + "' can not be sampled for adaptive concurrency");
+        }
+        this.results = attachment.attachHdrDeltaHistogram();
+
+        activity.create().gauge("concurrency_limit", () -> (double) limit);
+        activity.create().gauge("concurrency_latency", () -> (double) observedNanos);
+        activity.create().gauge("concurrency_target", () -> (double) spec.targetNanos());
+
+        this.thread = Thread.ofPlatform()
+            .daemon()
+            .name("concurrency:" + activity.getAlias())
+            .start(this::run);
+        logger.info(() -> "adjusting " + parameter + " of " + activity.getAlias() + " from " + limit + " for p" +
+            spec.percentile() + "<" + spec.targetNanos() + "ns");
+    }
+
+    private void run() {
+        apply(limit);
+        while (running) {
+            try {
+                Thread.sleep(spec.intervalMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!running || activity.getRunState() != RunState.Running) {
+                continue;
+            }
+            try {
+                adjust();
+            } catch (Exception e) {
+                logger.warn("Error while adjusting concurrency of " + activity.getAlias() + ": " + e, e);
+            }
+        }
+    }
+
+    private void adjust() {
+        Histogram interval = results.getNextHdrDeltaHistogram();
+        if (interval.getTotalCount() < MIN_SAMPLES) {
+            return;
+        }
+        observedNanos = interval.getValueAtPercentile(spec.percentile());
+        int next = nextLimit(limit, observedNanos, spec);
+        if (next != limit) {
+            int previous = limit;
+            logger.debug(() -> "p" + spec.percentile() + "=" + observedNanos + "ns, " + parameter + " " + previous + "->" + next);
+            apply(next);
+        }
+    }
+
+    private void apply(int next) {
+        this.limit = next;
+        activity.getActivityDef().getParams().set(parameter, next);
+    }
+
+    /**
+     * The limit for the next interval, given the latency observed with the current one
+     */
+    public static int nextLimit(int limit, long observedNanos, Spec spec) {
+        int next;
+        if (observedNanos <= spec.targetNanos()) {
+            next = limit + Math.max(1, (int) Math.sqrt(limit));
+        } else {
+            double gradient = Math.max(0.5d, (double) spec.targetNanos() / observedNanos);
+            next = Math.min(limit - 1, (int) (limit * gradient));
+        }
+        return Math.max(spec.min(), Math.min(spec.max(), next));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public String toString() {
+        return "adaptive concurrency of " + activity.getAlias() + ": " + parameter + "=" + limit;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <P>When motors are run on virtual threads, any op which blocks while holding an object monitor
+ * (a synchronized block or method) pins its carrier thread. Pinned carriers are not available to
+ * run other virtual threads, so an adapter which does this will quietly cap the effective
+ * concurrency of the activity at the size of the carrier pool.</P>
+ *
+ * <P>This monitor subscribes to the JFR <em>jdk.VirtualThreadPinned</em> event for the motor
+ * threads of a single activity, and reports how often and for how long pinning occurs with the
+ * <em>virtual_thread_pinned</em> counter and <em>virtual_thread_pinned_time</em> timer. The first
+ * occurrence from each distinct call site is logged with the frame which was holding the monitor,
+ * which is usually enough to find the offending adapter code.</P>
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(VirtualThreadPinningMonitor.class);
+    private final static String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final String threadPrefix;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private final RecordingStream stream;
+
+    /**
+     * @param activity The activity whose motor threads should be watched
+     * @param threadPrefix The name prefix of the virtual motor threads for the activity
+     * @param threshold The minimum duration of a pinning event which is counted
+     */
+    public VirtualThreadPinningMonitor(Activity activity, String threadPrefix, Duration threshold) {
+        this.threadPrefix = threadPrefix;
+        this.pinnedCounter = activity.create().counter("virtual_thread_pinned");
+        this.pinnedTimer = activity.create().timer("virtual_thread_pinned_time");
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        logger.debug(() -> "monitoring carrier pinning for threads '" + threadPrefix + "*' with threshold " + threshold);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null || thread.getJavaName() == null || !thread.getJavaName().startsWith(threadPrefix)) {
+            return;
+        }
+        pinnedCounter.inc();
+        pinnedTimer.update(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+
+        String site = pinnedSiteOf(event.getStackTrace());
+        if (reportedSites.add(site)) {
+            logger.warn("virtual motor thread '" + thread.getJavaName() + "' pinned its carrier for "
+                + event.getDuration().toMillis() + "ms at " + site
+                + ". Blocking inside synchronized code limits concurrency with threadmodel=virtual.");
+        }
+    }
+
+    /**
+     * The JFR stack trace for a pinning event starts in the JDK parking internals, so
+     * the first frame outside java.* and jdk.* is taken as the call site.
+     */
+    private static String pinnedSiteOf(RecordedStackTrace trace) {
+        if (trace == null) {
+            return "(unknown)";
+        }
+        for (RecordedFrame frame : trace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "(jdk internal)";
+    }
+
+    public long getPinnedCount() {
+        return pinnedCounter.getCount();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+        if (pinnedCounter.getCount() > 0) {
+            logger.info(() -> "virtual motor threads '" + threadPrefix + "*' pinned their carriers "
+                + pinnedCounter.getCount() + " times at " + reportedSites.size() + " distinct call sites.");
+        }
+    }
+}
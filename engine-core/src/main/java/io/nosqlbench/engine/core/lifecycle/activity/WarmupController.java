@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricHistogram;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.api.engine.util.Unit;
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.api.activityapi.core.RunState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <P>Measures the first part of an activity separately, as set with {@code warmup=30s} or
+ * {@code warmup=100K}. While warming up, all timers and histograms of the activity record into
+ * twins which are labeled with {@code phase=warmup}, so that JIT compilation, connection setup
+ * and cache fills do not skew the results of the activity. Once warmup is over, the delta
+ * histograms of the activity metrics are reset and recording continues in them as usual.</P>
+ *
+ * <P>Options can follow the length of warmup, separated by commas:</P>
+ * <UL>
+ * <LI>{@code stable} or {@code stable:0.1} extends warmup until the JIT compiler has been busy
+ * for no more than this fraction of an interval, and the op rate of one interval is within this
+ * fraction of the one before, 0.05 by default</LI>
+ * <LI>{@code max:5M} ends warmup regardless of stability after this long, 5 minutes by default</LI>
+ * <LI>{@code interval:1s} is how often progress is checked, 1 second by default</LI>
+ * </UL>
+ */
+public class WarmupController implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(WarmupController.class);
+    private final static String CYCLES_TIMER = "cycles_servicetime";
+
+    private final Activity activity;
+    private final Spec spec;
+    private final List<NBMetricTimer> timers = new ArrayList<>();
+    private final List<NBMetricHistogram> histograms = new ArrayList<>();
+    private final NBMetricTimer warmupCycles;
+    private final CompilationMXBean compiler;
+    private final long startedAt;
+    private final Thread thread;
+    private volatile boolean warming = true;
+
+    /**
+     * The settings of warmup
+     *
+     * @param cycles
+     *     The number of cycles which are warmup, or 0 when warmup is a duration
+     * @param millis
+     *     How long warmup lasts, or 0 when warmup is a number of cycles
+     * @param tolerance
+     *     The tolerance for JIT activity and op rate changes, or 0 to not wait for stability
+     * @param maxMillis
+     *     How long warmup may be extended while waiting for stability
+     * @param intervalMillis
+     *     How often progress is checked
+     */
+    public record Spec(long cycles, long millis, double tolerance, long maxMillis, long intervalMillis) {
+
+        /**
+         * Parse a spec like {@code 30s,stable:0.1,max:2M}. Durations end in {@code s}, like
+         * {@code 30s} or {@code 1500ms}. Anything else is a number of cycles, like {@code 100K}.
+         */
+        public static Spec parse(String spec) {
+            String[] parts = spec.trim().split(",");
+            String length = parts[0].trim();
+            long cycles = 0L;
+            long millis = 0L;
+            if (length.endsWith("s")) {
+                millis = millis(length, spec);
+            } else {
+                cycles = Unit.longCountFor(length)
+                    .orElseThrow(() -> new BasicError("Invalid warmup length '" + length + "' in '" + spec + "'"));
+            }
+            double tolerance = 0.0d;
+            long max = 300_000L;
+            long interval = 1000L;
+            for (int i = 1; i < parts.length; i++) {
+                String[] kv = parts[i].split(":", 2);
+                String value = (kv.length == 2) ? kv[1].trim() : null;
+                switch (kv[0].trim()) {
+                    case "stable" -> tolerance = (value == null) ? 0.05d : Double.parseDouble(value);
+                    case "max" -> max = millis(required(value, parts[i], spec), spec);
+                    case "interval" -> interval = millis(required(value, parts[i], spec), spec);
+                    default -> throw new BasicError("Unknown warmup option '" + kv[0] + "' in '" + spec + "'");
+                }
+            }
+            if ((cycles <= 0L && millis <= 0L) || tolerance < 0.0d || interval < 1L) {
+                throw new BasicError("Invalid warmup '" + spec + "', which needs a positive length and interval, " +
+                    "and a tolerance of at least 0");
+            }
+            return new Spec(cycles, millis, tolerance, Math.max(max, millis), interval);
+        }
+
+        private static String required(String value, String option, String spec) {
+            if (value == null) {
+                throw new BasicError("Invalid warmup option '" + option + "' in '" + spec + "'");
+            }
+            return value;
+        }
+
+        private static long millis(String duration, String spec) {
+            return Unit.msFor(duration.trim())
+                .orElseThrow(() -> new BasicError("Invalid duration '" + duration + "' in warmup '" + spec + "'"));
+        }
+    }
+
+    /**
+     * This must be created before the motors of the activity are started, so that the first
+     * ops are recorded as warmup.
+     */
+    public WarmupController(Activity activity, Spec spec) {
+        this.activity = activity;
+        this.spec = spec;
+        this.compiler = ManagementFactory.getCompilationMXBean();
+
+        WarmupMetrics warmup = new WarmupMetrics(activity);
+        NBMetricTimer cycles = null;
+        for (NBMetric metric : List.copyOf(activity.getComponentMetrics())) {
+            String name = metric.getLabels().valueOf("name");
+            if (metric instanceof NBMetricTimer timer) {
+                NBMetricTimer twin = warmup.create().timer(name, activity.getHdrDigits());
+                timer.setDiversion(twin);
+                timers.add(timer);
+                if (name.equals(CYCLES_TIMER)) {
+                    cycles = twin;
+                }
+            } else if (metric instanceof NBMetricHistogram histogram) {
+                NBMetricHistogram twin = warmup.create().histogram(name, activity.getHdrDigits());
+                histogram.setDiversion(twin);
+                histograms.add(histogram);
+            }
+        }
+        if (cycles == null) {
+            throw new BasicError("Activity '" + activity.getAlias() + "' has no " + CYCLES_TIMER + " timer to measure warmup");
+        }
+        this.warmupCycles = cycles;
+        activity.create().gauge("warmup_active", () -> warming ? 1.0d : 0.0d);
+
+        this.startedAt = System.currentTimeMillis();
+        this.thread = Thread.ofPlatform()
+            .daemon()
+            .name("warmup:" + activity.getAlias())
+            .start(this::run);
+        logger.info(() -> "warming up " + activity.getAlias() + " for " +
+            ((spec.cycles() > 0L) ? spec.cycles() + " cycles" : spec.millis() + "ms") +
+            ((spec.tolerance() > 0.0d) ? ", until stable within " + spec.tolerance() : ""));
+    }
+
+    private void run() {
+        long lastCount = 0L;
+        long lastCompileMillis = compileMillis();
+        double lastRate = -1.0d;
+        while (warming) {
+            try {
+                Thread.sleep(spec.intervalMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            RunState state = activity.getRunState();
+            if (state != RunState.Running && state != RunState.Starting) {
+                continue;
+            }
+            long elapsed = System.currentTimeMillis() - startedAt;
+            long count = warmupCycles.getCount();
+            double rate = (count - lastCount) * 1000.0d / spec.intervalMillis();
+            long compileMillis = compileMillis();
+            boolean reached = (spec.cycles() > 0L) ? count >= spec.cycles() : elapsed >= spec.millis();
+            boolean stable = spec.tolerance() <= 0.0d
+                || isStable(lastRate, rate, compileMillis - lastCompileMillis, spec);
+            if (reached && stable) {
+                endWarmup("after " + count + " cycles in " + elapsed + "ms");
+            } else if (reached && elapsed >= spec.maxMillis()) {
+                logger.warn("warmup of " + activity.getAlias() + " did not stabilize within " + spec.maxMillis() +
+                    "ms, ending it anyway");
+                endWarmup("after " + count + " cycles in " + elapsed + "ms");
+            }
+            lastCount = count;
+            lastRate = rate;
+            lastCompileMillis = compileMillis;
+        }
+    }
+
+    /**
+     * Whether an interval is steady state: the JIT compiler was busy for no more than the
+     * tolerated fraction of it, and the op rate was within the tolerance of the interval
+     * before. A previous rate below zero means there was no interval before.
+     */
+    public static boolean isStable(double previousRate, double rate, long compileMillis, Spec spec) {
+        if (previousRate < 0.0d || rate <= 0.0d) {
+            return false;
+        }
+        if (compileMillis > spec.tolerance() * spec.intervalMillis()) {
+            return false;
+        }
+        return Math.abs(rate - previousRate) <= spec.tolerance() * previousRate;
+    }
+
+    private long compileMillis() {
+        if (compiler == null || !compiler.isCompilationTimeMonitoringSupported()) {
+            return 0L;
+        }
+        return compiler.getTotalCompilationTime();
+    }
+
+    private synchronized void endWarmup(String reason) {
+        if (!warming) {
+            return;
+        }
+        warming = false;
+        for (NBMetricTimer timer : timers) {
+            timer.setDiversion(null);
+            timer.getNextHdrDeltaHistogram();
+        }
+        for (NBMetricHistogram histogram : histograms) {
+            histogram.setDiversion(null);
+            histogram.getNextHdrDeltaHistogram();
+        }
+        logger.info(() -> "warmup of " + activity.getAlias() + " ended " + reason);
+    }
+
+    public boolean isWarming() {
+        return warming;
+    }
+
+    @Override
+    public void close() {
+        endWarmup("with the activity");
+        thread.interrupt();
+    }
+
+    @Override
+    public String toString() {
+        return "warmup of " + activity.getAlias() + (warming ? " (warming)" : " (done)");
+    }
+
+    /**
+     * The metrics which take the updates of the activity metrics during warmup
+     */
+    private static final class WarmupMetrics extends NBBaseComponent {
+        private WarmupMetrics(Activity activity) {
+            super(activity, NBLabels.forKV("phase", "warmup"));
+        }
+    }
+}
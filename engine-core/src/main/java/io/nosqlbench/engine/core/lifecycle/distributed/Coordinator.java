@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import io.nosqlbench.api.errors.BasicError;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one activity across a number of worker processes. The coordinator listens for workers,
+ * gives each of them its share of the activity once they have all connected, pushes changes to
+ * the activity parameters to all of them while they run, and merges the result latencies which
+ * they report into a single result for the whole session.
+ */
+public class Coordinator implements AutoCloseable {
+    private final static Logger logger = LogManager.getLogger(Coordinator.class);
+
+    private final ServerSocket server;
+    private final int workerCount;
+    private final Map<String, String> params;
+    private final List<Wire> wires = new ArrayList<>();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+    private final CountDownLatch done;
+
+    private final Histogram total = new Histogram(3);
+    private Histogram interval = new Histogram(3);
+
+    /**
+     * Listen for workers on the loopback address only, so that all workers must run on this host.
+     *
+     * @param port
+     *     The port to listen on, or 0 for any free port
+     * @param workerCount
+     *     The number of workers to wait for
+     * @param params
+     *     The parameters of the activity as a whole
+     */
+    public Coordinator(int port, int workerCount, Map<String, String> params) {
+        this(InetAddress.getLoopbackAddress(), port, workerCount, params);
+    }
+
+    /**
+     * @param bindAddress
+     *     The address to listen on. Workers on other hosts can connect only when this is an address
+     *     which they can reach, like 0.0.0.0 for all interfaces. There is no authentication of workers,
+     *     so this should be reachable only from trusted networks.
+     * @param port
+     *     The port to listen on, or 0 for any free port
+     * @param workerCount
+     *     The number of workers to wait for
+     * @param params
+     *     The parameters of the activity as a whole
+     */
+    public Coordinator(InetAddress bindAddress, int port, int workerCount, Map<String, String> params) {
+        if (workerCount < 1) {
+            throw new BasicError("A distributed activity needs at least one worker, not " + workerCount);
+        }
+        this.workerCount = workerCount;
+        this.params = new LinkedHashMap<>(params);
+        ShardPlan.shard(this.params, 0, workerCount);
+        this.done = new CountDownLatch(workerCount);
+        try {
+            this.server = new ServerSocket(port, workerCount, bindAddress);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to listen for workers on " + bindAddress.getHostAddress() + ":" + port + ": " + e, e);
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public InetAddress getAddress() {
+        return server.getInetAddress();
+    }
+
+    /**
+     * Wait for all workers to connect, and then start each of them on its share of the activity.
+     *
+     * @param timeoutMillis
+     *     How long to wait for all the workers
+     */
+    public void awaitWorkers(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            while (wires.size() < workerCount) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException();
+                }
+                server.setSoTimeout((int) Math.min(remaining, Integer.MAX_VALUE));
+                Socket socket = server.accept();
+                Wire wire = new Wire(socket);
+                String[] hello = wire.receive();
+                if (hello == null || !Wire.HELLO.equals(hello[0])) {
+                    logger.warn("Ignoring connection from " + wire.remote() + " which is not a worker");
+                    wire.close();
+                    continue;
+                }
+                logger.info("worker " + wires.size() + " '" + hello[1] + "' connected from " + wire.remote());
+                wires.add(wire);
+            }
+        } catch (SocketTimeoutException e) {
+            throw new BasicError("Only " + wires.size() + " of " + workerCount + " workers connected within " + timeoutMillis + "ms");
+        } catch (IOException e) {
+            throw new RuntimeException("Error while waiting for workers: " + e, e);
+        }
+
+        for (int index = 0; index < wires.size(); index++) {
+            Wire wire = wires.get(index);
+            ShardPlan.shard(params, index, workerCount).forEach((name, value) -> wire.send(Wire.SET, name + "=" + value));
+            Thread reader = new Thread(() -> read(wire), "coordinator-worker-" + index);
+            reader.setDaemon(true);
+            reader.start();
+        }
+        wires.forEach(wire -> wire.send(Wire.START, null));
+    }
+
+    private void read(Wire wire) {
+        boolean finished = false;
+        try {
+            String[] message;
+            while ((message = wire.receive()) != null) {
+                switch (message[0]) {
+                    case Wire.INTERVAL -> merge(Wire.decode(message[1]));
+                    case Wire.DONE -> {
+                        if (!message[1].isEmpty()) {
+                            errors.add(wire.remote() + ": " + message[1]);
+                        }
+                        finished = true;
+                        return;
+                    }
+                    default -> logger.warn("Ignoring unknown message '" + message[0] + "' from " + wire.remote());
+                }
+            }
+            errors.add(wire.remote() + ": disconnected before its activity was done");
+        } catch (IOException | RuntimeException e) {
+            errors.add(wire.remote() + ": " + e);
+        } finally {
+            if (!finished) {
+                logger.error("worker at " + wire.remote() + " failed before its activity was done");
+            }
+            done.countDown();
+        }
+    }
+
+    private synchronized void merge(Histogram histogram) {
+        total.add(histogram);
+        interval.add(histogram);
+    }
+
+    /**
+     * Change a parameter of the running activity on all workers. Rates are divided among them
+     * as they were at the start.
+     */
+    public void setParameter(String name, String value) {
+        params.put(name, value);
+        String share = ShardPlan.shareOf(name, value, workerCount);
+        wires.forEach(wire -> wire.send(Wire.SET, name + "=" + share));
+    }
+
+    /**
+     * @return The latencies which workers reported since the last call
+     */
+    public synchronized Histogram nextInterval() {
+        Histogram last = interval;
+        interval = new Histogram(3);
+        return last;
+    }
+
+    /**
+     * @return The latencies which workers reported for the whole session
+     */
+    public synchronized Histogram getTotal() {
+        return total.copy();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return true if all workers were done within the timeout
+     */
+    public boolean awaitCompletion(long timeoutMillis) {
+        try {
+            return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Ask all workers to stop their activities early.
+     */
+    public void stop() {
+        wires.forEach(wire -> wire.send(Wire.STOP, null));
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Wire wire : wires) {
+            wire.close();
+        }
+        server.close();
+    }
+}
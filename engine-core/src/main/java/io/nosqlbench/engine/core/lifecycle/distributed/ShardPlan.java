@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import io.nosqlbench.api.engine.activityimpl.CyclesSpec;
+import io.nosqlbench.api.errors.BasicError;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How the parameters of an activity are divided among the workers which run it together. Each
+ * worker runs its own contiguous range of the cycles, and its share of any rate. All other
+ * parameters, like threads, apply to each worker as given.
+ */
+public final class ShardPlan {
+
+    /**
+     * The parameters which are rates, and which are divided among workers
+     */
+    public final static List<String> RATE_PARAMS = List.of("rate", "cyclerate", "targetrate", "striderate");
+
+    private ShardPlan() {
+    }
+
+    /**
+     * @param params
+     *     The parameters of the whole activity, which must include cycles
+     * @param index
+     *     The index of the worker, from 0
+     * @param workers
+     *     The number of workers
+     * @return The parameters for the worker
+     */
+    public static Map<String, String> shard(Map<String, String> params, int index, int workers) {
+        String cycles = params.get("cycles");
+        if (cycles == null) {
+            throw new BasicError("A distributed activity needs cycles, so that they can be divided among workers");
+        }
+        Map<String, String> shard = new LinkedHashMap<>();
+        params.forEach((name, value) -> shard.put(name, shareOf(name, value, workers)));
+        shard.put("cycles", CyclesSpec.parse(cycles).split(workers).get(index).toString());
+        return shard;
+    }
+
+    /**
+     * @return the value of a parameter for one of the given number of workers
+     */
+    public static String shareOf(String name, String value, int workers) {
+        if (!RATE_PARAMS.contains(name)) {
+            return value;
+        }
+        String[] parts = value.split(",", 2);
+        double rate;
+        try {
+            rate = Double.parseDouble(parts[0].trim());
+        } catch (NumberFormatException e) {
+            throw new BasicError("Unable to divide " + name + "=" + value + " among " + workers + " workers");
+        }
+        String share = String.valueOf(rate / workers);
+        return (parts.length > 1) ? share + "," + parts[1] : share;
+    }
+}
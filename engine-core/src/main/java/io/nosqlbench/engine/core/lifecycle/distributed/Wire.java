@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+
+/**
+ * One end of the connection between a coordinator and a worker. Messages are single lines of
+ * text, each a verb followed by its argument:
+ * <UL>
+ * <LI>{@code HELLO name}, from a worker when it connects</LI>
+ * <LI>{@code SET name=value}, from the coordinator, for each parameter before {@code START}
+ * and for each change after it</LI>
+ * <LI>{@code START}, from the coordinator, when all parameters of the worker are sent</LI>
+ * <LI>{@code STOP}, from the coordinator, to stop the activity early</LI>
+ * <LI>{@code INTERVAL histogram}, from a worker, with the result latencies since the last
+ * one as a compressed, base64 encoded HDR histogram</LI>
+ * <LI>{@code DONE} or {@code DONE error}, from a worker, when its activity is over</LI>
+ * </UL>
+ */
+final class Wire implements AutoCloseable {
+    final static String HELLO = "HELLO";
+    final static String SET = "SET";
+    final static String START = "START";
+    final static String STOP = "STOP";
+    final static String INTERVAL = "INTERVAL";
+    final static String DONE = "DONE";
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final PrintWriter out;
+
+    Wire(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.UTF_8);
+    }
+
+    synchronized void send(String verb, String argument) {
+        out.print(verb);
+        if (argument != null && !argument.isEmpty()) {
+            out.print(' ');
+            out.print(argument);
+        }
+        out.print('\n');
+        out.flush();
+    }
+
+    /**
+     * @return the verb and argument of the next message, or null when the connection is closed
+     */
+    String[] receive() throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            return null;
+        }
+        int space = line.indexOf(' ');
+        return (space < 0) ? new String[]{line, ""} : new String[]{line.substring(0, space), line.substring(space + 1)};
+    }
+
+    String remote() {
+        return String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    static Histogram decode(String encoded) {
+        try {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(encoded)), 0L);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Unable to decode histogram: " + e, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
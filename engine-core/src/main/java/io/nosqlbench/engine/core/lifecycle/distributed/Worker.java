@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The connection from a worker process to its {@link Coordinator}. A worker receives its share of
+ * the activity parameters, runs the activity, and reports the result latencies back in intervals.
+ */
+public class Worker implements AutoCloseable {
+    private final Wire wire;
+
+    /**
+     * @param host
+     *     The host of the coordinator
+     * @param port
+     *     The port of the coordinator
+     * @param name
+     *     A name for this worker, as shown in the logs of the coordinator
+     */
+    public Worker(String host, int port, String name) {
+        try {
+            this.wire = new Wire(new Socket(host, port));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to connect to coordinator at " + host + ":" + port + ": " + e, e);
+        }
+        wire.send(Wire.HELLO, name);
+    }
+
+    /**
+     * @return The parameters of this worker's share of the activity, once the coordinator starts it
+     */
+    public Map<String, String> awaitAssignment() {
+        Map<String, String> assignment = new LinkedHashMap<>();
+        try {
+            String[] message;
+            while ((message = wire.receive()) != null) {
+                switch (message[0]) {
+                    case Wire.SET -> put(assignment::put, message[1]);
+                    case Wire.START -> {
+                        return assignment;
+                    }
+                    case Wire.STOP -> throw new RuntimeException("The coordinator stopped before starting this worker");
+                    default -> throw new RuntimeException("Unexpected message '" + message[0] + "' before start");
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error while waiting for an assignment: " + e, e);
+        }
+        throw new RuntimeException("The coordinator disconnected before starting this worker");
+    }
+
+    /**
+     * Handle changes from the coordinator on a daemon thread until it disconnects.
+     *
+     * @param onSet
+     *     Called with the name and value of each changed parameter
+     * @param onStop
+     *     Called when the coordinator asks to stop, or when it goes away
+     */
+    public void listen(BiConsumer<String, String> onSet, Runnable onStop) {
+        Thread listener = new Thread(() -> {
+            try {
+                String[] message;
+                while ((message = wire.receive()) != null) {
+                    switch (message[0]) {
+                        case Wire.SET -> put(onSet, message[1]);
+                        case Wire.STOP -> onStop.run();
+                        default -> {
+                        }
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+            onStop.run();
+        }, "worker-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    private static void put(BiConsumer<String, String> sink, String assignment) {
+        int equals = assignment.indexOf('=');
+        if (equals < 1) {
+            throw new RuntimeException("Malformed parameter from coordinator: '" + assignment + "'");
+        }
+        sink.accept(assignment.substring(0, equals), assignment.substring(equals + 1));
+    }
+
+    /**
+     * Report the result latencies since the last interval.
+     */
+    public void sendInterval(Histogram histogram) {
+        wire.send(Wire.INTERVAL, Wire.encode(histogram));
+    }
+
+    /**
+     * Report that the activity of this worker is over.
+     *
+     * @param error
+     *     The error which ended it, or null
+     */
+    public void sendDone(String error) {
+        wire.send(Wire.DONE, error == null ? null : error.replace('\n', ' '));
+    }
+
+    @Override
+    public void close() throws IOException {
+        wire.close();
+    }
+}
@@ -16,8 +16,10 @@
 
 package io.nosqlbench.engine.core;
 
+import com.codahale.metrics.Counting;
 import io.nosqlbench.api.config.standard.TestComponent;
 import io.nosqlbench.api.engine.activityimpl.ActivityDef;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
 import io.nosqlbench.engine.api.activityapi.core.*;
 import io.nosqlbench.engine.api.activityapi.input.Input;
 import io.nosqlbench.engine.api.activityapi.input.InputDispenser;
@@ -35,6 +37,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
 import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -167,6 +170,51 @@ class ActivityExecutorTest {
         }
     }
 
+    @Test
+    synchronized void testVirtualMotorsReportCarrierPinning() throws Exception {
+        ActivityDef activityDef = ActivityDef.parseActivityDef("alias=test-virtual;cycles=1000;threads=1;threadmodel=virtual");
+        SimpleActivity activity = new SimpleActivity(new TestComponent("test", "virtual"), activityDef);
+        Set<Boolean> virtual = ConcurrentHashMap.newKeySet();
+        ActionDispenser actionDispenser = slot -> new SyncAction() {
+            @Override
+            public int runCycle(long cycle) {
+                virtual.add(Thread.currentThread().isVirtual());
+                // sleeping inside a monitor pins the carrier of a virtual thread
+                synchronized (this) {
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+                return 0;
+            }
+        };
+        InputDispenser inputDispenser = new CoreInputDispenser(activity);
+        activity.setActionDispenserDelegate(actionDispenser);
+        activity.setInputDispenserDelegate(inputDispenser);
+        activity.setMotorDispenserDelegate(new CoreMotorDispenser<>(activity, inputDispenser, actionDispenser, null));
+
+        ActivityExecutor activityExecutor = new ActivityExecutor(activity);
+        ExecutorService testExecutor = Executors.newCachedThreadPool();
+        Future<ExecutionResult> future = testExecutor.submit(activityExecutor);
+
+        Counting pinned = null;
+        while (!future.isDone()) {
+            for (NBMetric metric : activity.find().metrics("name:virtual_thread_pinned")) {
+                if (metric instanceof Counting counting && counting.getCount() > 0) {
+                    pinned = counting;
+                }
+            }
+            Thread.sleep(100);
+        }
+        future.get(30, TimeUnit.SECONDS);
+        testExecutor.shutdownNow();
+
+        assertThat(virtual).containsExactly(true);
+        assertThat(pinned).isNotNull();
+        assertThat(pinned.getCount()).isGreaterThan(0L);
+    }
+
     private MotorDispenser<?> getActivityMotorFactory(final Action lc, Input ls) {
         return new MotorDispenser<>() {
             @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.core.lifecycle.activity.AdaptiveConcurrencyController.Spec;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AdaptiveConcurrencyControllerTest {
+
+    @Test
+    public void testParseSpec() {
+        Spec spec = Spec.parse("adaptive:p99<20ms");
+        assertThat(spec.percentile()).isEqualTo(99.0d);
+        assertThat(spec.targetNanos()).isEqualTo(20_000_000L);
+        assertThat(spec.min()).isEqualTo(1);
+        assertThat(spec.max()).isEqualTo(1000);
+        assertThat(spec.intervalMillis()).isEqualTo(2000L);
+
+        Spec options = Spec.parse("adaptive:p999<500us,min:4,max:64,interval:5s");
+        assertThat(options.percentile()).isEqualTo(99.9d);
+        assertThat(options.targetNanos()).isEqualTo(500_000L);
+        assertThat(options.min()).isEqualTo(4);
+        assertThat(options.max()).isEqualTo(64);
+        assertThat(options.intervalMillis()).isEqualTo(5000L);
+
+        assertThat(Spec.parse("adaptive:p99.9<5ms").percentile()).isEqualTo(99.9d);
+        assertThat(Spec.parse("adaptive:p9999<5ms").percentile()).isEqualTo(99.99d);
+        assertThat(Spec.parse("adaptive:p95<5ms").percentile()).isEqualTo(95.0d);
+    }
+
+    @Test
+    public void testInvalidSpecs() {
+        assertThatThrownBy(() -> Spec.parse("fixed:10")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p99>20ms")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p99<20ms,min:10,max:5")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p99<20ms,depth:5")).isInstanceOf(BasicError.class);
+        // shorthand which would be read as another percentile than the one typed
+        assertThatThrownBy(() -> Spec.parse("adaptive:p100<20ms")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p050<20ms")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p09<20ms")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("adaptive:p100.0<20ms")).isInstanceOf(BasicError.class);
+    }
+
+    @Test
+    public void testLimitGrowsWithinTarget() {
+        Spec spec = Spec.parse("adaptive:p99<20ms,max:110");
+        assertThat(AdaptiveConcurrencyController.nextLimit(1, 1_000_000L, spec)).isEqualTo(2);
+        assertThat(AdaptiveConcurrencyController.nextLimit(100, 20_000_000L, spec)).isEqualTo(110);
+    }
+
+    @Test
+    public void testLimitShrinksWithOvershoot() {
+        Spec spec = Spec.parse("adaptive:p99<20ms,min:2");
+        assertThat(AdaptiveConcurrencyController.nextLimit(100, 25_000_000L, spec)).isEqualTo(80);
+        assertThat(AdaptiveConcurrencyController.nextLimit(100, 20_100_000L, spec)).isEqualTo(99);
+        assertThat(AdaptiveConcurrencyController.nextLimit(100, 1_000_000_000L, spec)).isEqualTo(50);
+        assertThat(AdaptiveConcurrencyController.nextLimit(3, 1_000_000_000L, spec)).isEqualTo(2);
+    }
+}
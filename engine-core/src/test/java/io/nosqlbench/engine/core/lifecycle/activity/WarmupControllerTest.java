@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.activity;
+
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.engine.core.lifecycle.activity.WarmupController.Spec;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class WarmupControllerTest {
+
+    @Test
+    public void testParseLengths() {
+        Spec duration = Spec.parse("30s");
+        assertThat(duration.millis()).isEqualTo(30_000L);
+        assertThat(duration.cycles()).isEqualTo(0L);
+        assertThat(duration.tolerance()).isEqualTo(0.0d);
+        assertThat(duration.intervalMillis()).isEqualTo(1000L);
+
+        Spec cycles = Spec.parse("100K");
+        assertThat(cycles.cycles()).isEqualTo(100_000L);
+        assertThat(cycles.millis()).isEqualTo(0L);
+        assertThat(Spec.parse("5000").cycles()).isEqualTo(5000L);
+    }
+
+    @Test
+    public void testParseOptions() {
+        assertThat(Spec.parse("30s,stable").tolerance()).isEqualTo(0.05d);
+        Spec spec = Spec.parse("1500ms,stable:0.1,max:2M,interval:2s");
+        assertThat(spec.millis()).isEqualTo(1500L);
+        assertThat(spec.tolerance()).isEqualTo(0.1d);
+        assertThat(spec.maxMillis()).isEqualTo(120_000L);
+        assertThat(spec.intervalMillis()).isEqualTo(2000L);
+    }
+
+    @Test
+    public void testInvalidSpecs() {
+        assertThatThrownBy(() -> Spec.parse("0")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("30s,steady")).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> Spec.parse("30s,max")).isInstanceOf(BasicError.class);
+    }
+
+    @Test
+    public void testStability() {
+        Spec spec = Spec.parse("10s,stable:0.05");
+        assertThat(WarmupController.isStable(-1.0d, 1000.0d, 0L, spec)).isFalse();
+        assertThat(WarmupController.isStable(1000.0d, 1040.0d, 0L, spec)).isTrue();
+        assertThat(WarmupController.isStable(1000.0d, 1100.0d, 0L, spec)).isFalse();
+        assertThat(WarmupController.isStable(1000.0d, 1000.0d, 50L, spec)).isTrue();
+        assertThat(WarmupController.isStable(1000.0d, 1000.0d, 51L, spec)).isFalse();
+    }
+}
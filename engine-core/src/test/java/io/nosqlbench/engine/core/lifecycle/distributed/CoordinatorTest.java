@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import io.nosqlbench.api.errors.BasicError;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoordinatorTest {
+
+    @Test
+    public void testShardCyclesAndRate() {
+        Map<String, String> params = Map.of("cycles", "10..20", "rate", "300,1.1", "threads", "4");
+        assertThat(ShardPlan.shard(params, 0, 3))
+            .containsEntry("cycles", "10..14")
+            .containsEntry("rate", "100.0,1.1")
+            .containsEntry("threads", "4");
+        assertThat(ShardPlan.shard(params, 1, 3)).containsEntry("cycles", "14..17");
+        assertThat(ShardPlan.shard(params, 2, 3)).containsEntry("cycles", "17..20");
+        assertThatThrownBy(() -> ShardPlan.shard(Map.of("rate", "10"), 0, 2)).isInstanceOf(BasicError.class);
+        assertThatThrownBy(() -> ShardPlan.shareOf("rate", "fast", 2)).isInstanceOf(BasicError.class);
+    }
+
+    @Test
+    public void testLoopbackWorkers() throws Exception {
+        Map<String, String> params = new LinkedHashMap<>(Map.of("cycles", "1000", "rate", "100", "threads", "2"));
+        List<Map<String, String>> assignments = new ArrayList<>();
+        List<String> changes = new CopyOnWriteArrayList<>();
+        CountDownLatch changed = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (Coordinator coordinator = new Coordinator(0, 2, params)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                long latency = (i + 1) * 1_000_000L;
+                Thread thread = new Thread(() -> {
+                    try (Worker worker = new Worker("localhost", coordinator.getPort(), "test")) {
+                        Map<String, String> assignment = worker.awaitAssignment();
+                        synchronized (assignments) {
+                            assignments.add(assignment);
+                        }
+                        worker.listen((name, value) -> {
+                            changes.add(name + "=" + value);
+                            changed.countDown();
+                        }, () -> {
+                        });
+                        Histogram histogram = new Histogram(3);
+                        for (int v = 0; v < 100; v++) {
+                            histogram.recordValue(latency);
+                        }
+                        worker.sendInterval(histogram);
+                        release.await(10, TimeUnit.SECONDS);
+                        worker.sendDone(null);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            coordinator.awaitWorkers(10_000L);
+            coordinator.setParameter("rate", "500");
+            assertThat(changed.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(changes).containsExactly("rate=250.0", "rate=250.0");
+
+            release.countDown();
+            assertThat(coordinator.awaitCompletion(10_000L)).isTrue();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertThat(assignments).extracting(a -> a.get("cycles")).containsExactlyInAnyOrder("0..500", "500..1000");
+            assertThat(assignments).extracting(a -> a.get("rate")).containsOnly("50.0");
+            assertThat(coordinator.getErrors()).isEmpty();
+
+            Histogram total = coordinator.getTotal();
+            assertThat(total.getTotalCount()).isEqualTo(200L);
+            assertThat(total.getMaxValue()).isEqualTo(total.highestEquivalentValue(2_000_000L));
+            assertThat(coordinator.nextInterval().getTotalCount()).isEqualTo(200L);
+            assertThat(coordinator.nextInterval().getTotalCount()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    public void testForkedWorkers() throws Exception {
+        Map<String, String> params = Map.of("cycles", "1000", "threads", "2");
+        try (Coordinator coordinator = new Coordinator(0, 2, params)) {
+            assertThat(coordinator.getAddress().isLoopbackAddress()).isTrue();
+
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            List<Process> workers = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                workers.add(new ProcessBuilder(
+                    java, "-cp", System.getProperty("java.class.path"), ForkedWorker.class.getName(),
+                    coordinator.getAddress().getHostAddress(), String.valueOf(coordinator.getPort()), String.valueOf((i + 1) * 1_000_000L)
+                ).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start());
+            }
+
+            coordinator.awaitWorkers(60_000L);
+            assertThat(coordinator.awaitCompletion(60_000L)).isTrue();
+            for (Process worker : workers) {
+                assertThat(worker.waitFor(60, TimeUnit.SECONDS)).isTrue();
+                assertThat(worker.exitValue()).isEqualTo(0);
+            }
+            assertThat(coordinator.getErrors()).isEmpty();
+
+            Histogram total = coordinator.getTotal();
+            assertThat(total.getTotalCount()).isEqualTo(1000L);
+            assertThat(total.getMaxValue()).isEqualTo(total.highestEquivalentValue(2_000_000L));
+        }
+    }
+
+    @Test
+    public void testBindAddress() throws Exception {
+        InetAddress any = InetAddress.getByName("0.0.0.0");
+        try (Coordinator coordinator = new Coordinator(any, 0, 1, Map.of("cycles", "10"))) {
+            assertThat(coordinator.getAddress().isAnyLocalAddress()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.core.lifecycle.distributed;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * A worker which runs in its own JVM for {@link CoordinatorTest}. It reports a fixed latency for
+ * each cycle of its assignment, instead of running an activity.
+ */
+public class ForkedWorker {
+
+    public static void main(String[] args) throws Exception {
+        try (Worker worker = new Worker(args[0], Integer.parseInt(args[1]), "forked-" + ProcessHandle.current().pid())) {
+            Map<String, String> assignment = worker.awaitAssignment();
+            String[] cycles = assignment.get("cycles").split("\\.\\.");
+            long count = Long.parseLong(cycles[1]) - Long.parseLong(cycles[0]);
+            Histogram histogram = new Histogram(3);
+            histogram.recordValueWithCount(Long.parseLong(args[2]), count);
+            worker.sendInterval(histogram);
+            worker.sendDone(null);
+        }
+    }
+}
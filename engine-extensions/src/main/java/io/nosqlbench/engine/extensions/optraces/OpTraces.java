@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.engine.extensions.optraces;
+
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.components.NBComponentTraversal;
+import io.nosqlbench.engine.api.activityimpl.uniform.tracing.OpTrace;
+import io.nosqlbench.engine.api.activityimpl.uniform.tracing.OpTraceSampler;
+import io.nosqlbench.engine.api.activityimpl.uniform.tracing.OpTraceStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the op trace stores of the activities under the scenario, by activity alias.
+ */
+public class OpTraces {
+
+    private final NBComponent base;
+
+    public OpTraces(NBComponent base) {
+        this.base = base;
+    }
+
+    /**
+     * @return the op traces of the named activity
+     */
+    public OpTraceStore of(String activity) {
+        OpTraceStore store = stores().get(activity);
+        if (store == null) {
+            throw new RuntimeException("no op traces for activity '" + activity + "'. Op templates are traced with " +
+                "instrument: trace, and traced activities are " + stores().keySet());
+        }
+        return store;
+    }
+
+    /**
+     * @return the aliases of the activities which have op traces
+     */
+    public List<String> activities() {
+        return new ArrayList<>(stores().keySet());
+    }
+
+    /**
+     * @return the n slowest op traces of all activities, slowest first
+     */
+    public List<OpTrace> slowest(int n) {
+        List<OpTrace> traces = new ArrayList<>();
+        stores().values().forEach(store -> traces.addAll(store.slowest(n)));
+        traces.sort(Comparator.comparingLong(OpTrace::getDurationNanos).reversed());
+        return traces.subList(0, Math.min(n, traces.size()));
+    }
+
+    private Map<String, OpTraceStore> stores() {
+        Map<String, OpTraceStore> stores = new LinkedHashMap<>();
+        Iterator<NBComponent> tree = NBComponentTraversal.traverseBreadth(base);
+        while (tree.hasNext()) {
+            if (tree.next() instanceof OpTraceSampler sampler) {
+                stores.put(sampler.getLabels().asMap().get("activity"), sampler.getStore());
+            }
+        }
+        return stores;
+    }
+}
@@ -21,6 +21,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
 
 public record CyclesSpec(long first_inclusive, long last_exclusive, String firstSpec, String lastSpec) {
     private final static Logger logger = LogManager.getLogger(CyclesSpec.class);
@@ -77,4 +79,26 @@ public record CyclesSpec(long first_inclusive, long last_exclusive, String first
     public long cycle_count() {
         return last_exclusive -first_inclusive;
     }
+
+    /**
+     * Split this interval into contiguous intervals which differ in size by no more than one cycle,
+     * as when the cycles of an activity are divided among several processes.
+     * @param parts The number of intervals
+     * @return The intervals, in order
+     */
+    public List<CyclesSpec> split(int parts) {
+        if (parts < 1) {
+            throw new InvalidParameterException("cycles can only be split into one or more parts, not " + parts);
+        }
+        List<CyclesSpec> splits = new ArrayList<>(parts);
+        long size = cycle_count() / parts;
+        long remainder = cycle_count() % parts;
+        long first = first_inclusive;
+        for (int i = 0; i < parts; i++) {
+            long last = first + size + (i < remainder ? 1 : 0);
+            splits.add(new CyclesSpec(first, last, String.valueOf(first), String.valueOf(last)));
+            first = last;
+        }
+        return splits;
+    }
 }
@@ -22,10 +22,12 @@ import io.nosqlbench.api.labels.NBLabeledElement;
 import io.nosqlbench.api.labels.NBLabels;
 import org.HdrHistogram.Histogram;
 import org.HdrHistogram.HistogramLogWriter;
-import org.HdrHistogram.Recorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * A custom wrapping of snapshotting logic on the HdrHistogram. This histogram will always report the last histogram
  * since it was most recently asked for with the getDeltaSnapshot(...) method.
@@ -34,11 +36,19 @@ import org.apache.logging.log4j.Logger;
  *
  * <p>This implementation also supports attaching a single log writer. If a log writer is attached, each
  * time an interval is snapshotted internally, the data will also be written to an hdr log via the writer.</p>
+ *
+ * <p>Values are recorded by an {@link IntervalRecorder}, which is shared by all threads by default, or striped
+ * over threads, as selected with {@link HdrRecorderMode}.</p>
+ *
+ * <p>A reservoir may also have parts, created with {@link #newPart(NBLabels)}, which record their own values.
+ * The intervals of all parts are merged into each interval of this reservoir when it is taken.</p>
  */
 public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledElement {
     private static final Logger logger = LogManager.getLogger(DeltaHdrHistogramReservoir.class);
 
-    private final Recorder recorder;
+    private final HdrRecorderMode mode;
+    private final IntervalRecorder recorder;
+    private final List<Part> parts = new CopyOnWriteArrayList<>();
     private Histogram lastHistogram;
 
     private Histogram intervalHistogram;
@@ -53,8 +63,24 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
      * @param significantDigits how many significant digits to track in the reservoir
      */
     public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits) {
+        this(labels, significantDigits, HdrRecorderMode.shared);
+    }
+
+    /**
+     * Create a reservoir with the given kind of recorder.
+     *
+     * @param labels              the labels to give to the reservoir, for logging purposes
+     * @param significantDigits how many significant digits to track in the reservoir
+     * @param mode              how values are recorded
+     */
+    public DeltaHdrHistogramReservoir(NBLabels labels, int significantDigits, HdrRecorderMode mode) {
+        this(labels, mode, mode.newRecorder(significantDigits));
+    }
+
+    private DeltaHdrHistogramReservoir(NBLabels labels, HdrRecorderMode mode, IntervalRecorder recorder) {
         this.labels = labels;
-        this.recorder = new Recorder(significantDigits);
+        this.mode = mode;
+        this.recorder = recorder;
 
         /*
          * Start by flipping the recorder's interval histogram.
@@ -63,7 +89,7 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
          * - intervalHistogram can be nonnull.
          * - it lets us figure out the number of significant digits to use in runningTotals.
          */
-        intervalHistogram = recorder.getIntervalHistogram();
+        intervalHistogram = recorder.getIntervalHistogram(null);
         lastHistogram = new Histogram(intervalHistogram.getNumberOfSignificantValueDigits());
     }
 
@@ -104,6 +130,10 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
      */
     private synchronized Histogram getDataSinceLastSnapshotAndUpdate() {
         intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        for (Part part : parts) {
+            part.interval = part.reader.getIntervalHistogram(part.interval);
+            intervalHistogram.add(part.interval);
+        }
         long intervalHistogramStartTime = intervalHistogramEndTime;
         intervalHistogramEndTime = System.currentTimeMillis();
 
@@ -130,13 +160,33 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
     }
 
     public DeltaHdrHistogramReservoir copySettings() {
-        return new DeltaHdrHistogramReservoir(this.labels, intervalHistogram.getNumberOfSignificantValueDigits());
+        return new DeltaHdrHistogramReservoir(this.labels, intervalHistogram.getNumberOfSignificantValueDigits(), mode);
+    }
+
+    /**
+     * Create a reservoir for some of the values of this one, like those of the motors on one NUMA node.
+     * Values which are recorded into the part are recorded only once, and are in the intervals of both the part
+     * and this reservoir.
+     *
+     * @param partLabels the labels to give to the part
+     * @return a reservoir with the same settings, whose values are merged into this one
+     */
+    public DeltaHdrHistogramReservoir newPart(NBLabels partLabels) {
+        int significantDigits = intervalHistogram.getNumberOfSignificantValueDigits();
+        FanOutIntervalRecorder fanOut = new FanOutIntervalRecorder(mode.newRecorder(significantDigits), significantDigits);
+        DeltaHdrHistogramReservoir part = new DeltaHdrHistogramReservoir(partLabels, mode, fanOut.newReader());
+        parts.add(new Part(fanOut.newReader()));
+        return part;
     }
 
     public void attachLogWriter(HistogramLogWriter logWriter) {
         this.writer = logWriter;
     }
 
+    public HdrRecorderMode getRecorderMode() {
+        return mode;
+    }
+
     public Histogram getLastHistogram() {
         return lastHistogram;
     }
@@ -145,4 +195,13 @@ public final class DeltaHdrHistogramReservoir implements Reservoir, NBLabeledEle
     public NBLabels getLabels() {
         return this.labels;
     }
+
+    private final static class Part {
+        private final IntervalRecorder reader;
+        private Histogram interval;
+
+        private Part(IntervalRecorder reader) {
+            this.reader = reader;
+        }
+    }
 }
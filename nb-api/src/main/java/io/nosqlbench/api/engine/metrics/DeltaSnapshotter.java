@@ -16,7 +16,18 @@
 
 package io.nosqlbench.api.engine.metrics;
 
+import org.HdrHistogram.Histogram;
+
 public interface DeltaSnapshotter {
     DeltaSnapshotReader getDeltaReader();
     ConvenientSnapshot getDeltaSnapshot(long cacheTimeMillis);
+
+    /**
+     * Like {@link #getDeltaSnapshot(long)}, but return the interval histogram itself. Until the cache time
+     * elapses, other readers of the snapshot will see the same interval data.
+     *
+     * @param cacheTimeMillis how long other readers should see this interval instead of taking a new one
+     * @return a copy of the data accumulated since the last interval
+     */
+    Histogram getDeltaHdrHistogram(long cacheTimeMillis);
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records each value once, into one {@link IntervalRecorder}, and lets several readers take their own
+ * intervals of the same values. Whenever any reader takes an interval, what was recorded since is added
+ * to what every reader has pending, so that each value is in exactly one interval of each reader.
+ */
+final class FanOutIntervalRecorder {
+
+    private final IntervalRecorder recorder;
+    private final int significantDigits;
+    private final List<Reader> readers = new CopyOnWriteArrayList<>();
+    private Histogram latest;
+
+    FanOutIntervalRecorder(IntervalRecorder recorder, int significantDigits) {
+        this.recorder = recorder;
+        this.significantDigits = significantDigits;
+    }
+
+    /**
+     * @return a recorder which records into the shared recorder, and which takes its own intervals of it
+     */
+    IntervalRecorder newReader() {
+        Reader reader = new Reader(new Histogram(significantDigits));
+        readers.add(reader);
+        return reader;
+    }
+
+    private synchronized Histogram take(Reader reader, Histogram recycle) {
+        latest = recorder.getIntervalHistogram(latest);
+        if (latest.getTotalCount() > 0) {
+            for (Reader each : readers) {
+                each.pending.add(latest);
+            }
+        }
+        Histogram interval = (recycle != null) ? recycle : new Histogram(significantDigits);
+        interval.reset();
+        interval.add(reader.pending);
+        reader.pending.reset();
+        return interval;
+    }
+
+    private final class Reader implements IntervalRecorder {
+        private final Histogram pending;
+
+        private Reader(Histogram pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void recordValue(long value) {
+            recorder.recordValue(value);
+        }
+
+        @Override
+        public Histogram getIntervalHistogram(Histogram recycle) {
+            return take(this, recycle);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * How the values of a {@link DeltaHdrHistogramReservoir} are recorded, as selected for activities with
+ * the <em>hdr_recorder</em> parameter.
+ */
+public enum HdrRecorderMode {
+
+    /**
+     * All threads record into one {@link Recorder}. This uses the least memory, but threads which update
+     * the same timer at once contend for it.
+     */
+    shared,
+
+    /**
+     * Threads record into a bounded number of recorders by a hash of their ids, which are merged
+     * when the interval is taken, as described in {@link StripedIntervalRecorder}.
+     */
+    striped;
+
+    public IntervalRecorder newRecorder(int significantDigits) {
+        return switch (this) {
+            case shared -> new SharedIntervalRecorder(new Recorder(significantDigits));
+            case striped -> new StripedIntervalRecorder(significantDigits);
+        };
+    }
+
+    private record SharedIntervalRecorder(Recorder recorder) implements IntervalRecorder {
+        @Override
+        public void recordValue(long value) {
+            recorder.recordValue(value);
+        }
+
+        @Override
+        public Histogram getIntervalHistogram(Histogram recycle) {
+            return recorder.getIntervalHistogram(recycle);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Records values for a {@link DeltaHdrHistogramReservoir}, and provides what was recorded in each interval.
+ * See {@link HdrRecorderMode} for the implementations.
+ */
+public interface IntervalRecorder {
+
+    /**
+     * Record a value. This is called from any thread which updates the reservoir.
+     */
+    void recordValue(long value);
+
+    /**
+     * @param recycle
+     *     A histogram which was returned by this method before, and which is no longer used, or null
+     * @return the values recorded since this method was last called
+     */
+    Histogram getIntervalHistogram(Histogram recycle);
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.components.PeriodicTaskComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <p>Takes exactly one interval snapshot of each metric under its parent component per interval, and
+ * hands the resulting {@link MetricsView} to every attached {@link MetricsViewConsumer}.</p>
+ *
+ * <p>Delta metrics like timers and histograms start a new interval each time they are snapshotted, so
+ * when several reporters each took their own snapshots, each one saw only part of the data and the
+ * copying work was repeated for each. With this component in place, attached reporters all see the
+ * same data for the same interval. A consumer attached with a longer interval is given the views
+ * captured since its last report, combined into one.</p>
+ */
+public class MetricsSnapshotter extends PeriodicTaskComponent {
+    private static final Logger logger = LogManager.getLogger(MetricsSnapshotter.class);
+
+    private final long intervalMillis;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private long lastCaptureMillis = System.currentTimeMillis();
+
+    public MetricsSnapshotter(NBComponent parent, long intervalMillis) {
+        super(parent, NBLabels.forKV("snapshotter", "metrics"), intervalMillis, true);
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Attach a consumer which should be given a view every interval.
+     */
+    public void attach(MetricsViewConsumer consumer) {
+        attach(consumer, intervalMillis);
+    }
+
+    /**
+     * Attach a consumer which should be given a view about every reportMillis. This is rounded to
+     * a whole number of snapshot intervals, and never less than one.
+     */
+    public void attach(MetricsViewConsumer consumer, long reportMillis) {
+        int every = (int) Math.max(1L, Math.round((double) reportMillis / intervalMillis));
+        subscriptions.add(new Subscription(consumer, every));
+        logger.debug(() -> "attached " + consumer + " to metrics snapshotter, reporting every " + every + " intervals");
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    @Override
+    protected synchronized void task() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        MetricsView view = MetricsView.capture(getParent().find().metrics(), lastCaptureMillis, intervalMillis);
+        lastCaptureMillis = view.getEndMillis();
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(view);
+        }
+    }
+
+    @Override
+    public void teardown() {
+        super.teardown();
+        synchronized (this) {
+            for (Subscription subscription : subscriptions) {
+                subscription.flush();
+            }
+        }
+    }
+
+    private final static class Subscription {
+        private final MetricsViewConsumer consumer;
+        private final int every;
+        private MetricsView pending;
+        private int seen;
+
+        private Subscription(MetricsViewConsumer consumer, int every) {
+            this.consumer = consumer;
+            this.every = every;
+        }
+
+        private void offer(MetricsView view) {
+            pending = (pending == null) ? view : pending.combine(view);
+            if (++seen % every == 0) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending == null) {
+                return;
+            }
+            MetricsView view = pending;
+            pending = null;
+            try {
+                consumer.onMetricsView(view);
+            } catch (Exception e) {
+                logger.error("error while reporting metrics view to " + consumer + ": " + e, e);
+            }
+        }
+    }
+}
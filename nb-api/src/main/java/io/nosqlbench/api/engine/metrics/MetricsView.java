@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Sampling;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A view of a set of metrics, as seen by reporters. A captured view holds one interval histogram
+ * per timer or histogram, along with counts and gauge values read at the same time, so that every
+ * reporter given the view sees the same numbers without taking its own snapshots. The captured data
+ * is not changed after capture.</p>
+ *
+ * <p>A {@link #live(List)} view holds no data, and reads each metric as it is asked for, which is
+ * how reporters behave when they are not attached to a {@link MetricsSnapshotter}.</p>
+ */
+public final class MetricsView {
+
+    private final List<NBMetric> metrics;
+    private final Map<NBMetric, Histogram> intervals;
+    private final Map<NBMetric, Long> counts;
+    private final Map<NBMetric, Object> values;
+    private final long startMillis;
+    private final long endMillis;
+
+    private MetricsView(
+        List<NBMetric> metrics,
+        Map<NBMetric, Histogram> intervals,
+        Map<NBMetric, Long> counts,
+        Map<NBMetric, Object> values,
+        long startMillis,
+        long endMillis
+    ) {
+        this.metrics = Collections.unmodifiableList(metrics);
+        this.intervals = intervals;
+        this.counts = counts;
+        this.values = values;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+    }
+
+    /**
+     * @return a view which reads each metric directly when asked
+     */
+    public static MetricsView live(List<? extends NBMetric> metrics) {
+        long now = System.currentTimeMillis();
+        return new MetricsView(new ArrayList<>(metrics), null, null, null, now, now);
+    }
+
+    /**
+     * Take one interval from each delta metric, and read all counts and gauge values.
+     *
+     * @param metrics the metrics to capture
+     * @param startMillis when the interval started, normally the end of the previous capture
+     * @param cacheTimeMillis how long direct readers of the delta metrics should see this interval
+     * @return an immutable view of the metrics
+     */
+    public static MetricsView capture(List<? extends NBMetric> metrics, long startMillis, long cacheTimeMillis) {
+        Map<NBMetric, Histogram> intervals = new IdentityHashMap<>();
+        Map<NBMetric, Long> counts = new IdentityHashMap<>();
+        Map<NBMetric, Object> values = new IdentityHashMap<>();
+        for (NBMetric metric : metrics) {
+            if (metric instanceof DeltaSnapshotter snapshotter) {
+                intervals.put(metric, snapshotter.getDeltaHdrHistogram(cacheTimeMillis));
+            }
+            if (metric instanceof Counting counting) {
+                counts.put(metric, counting.getCount());
+            }
+            if (metric instanceof Gauge<?> gauge) {
+                values.put(metric, gauge.getValue());
+            }
+        }
+        return new MetricsView(new ArrayList<>(metrics), intervals, counts, values, startMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Combine this view with the one which follows it, as if they were captured as one longer interval.
+     * Interval histograms are added together, while counts and gauge values are taken from the later view.
+     *
+     * @param next the view captured after this one
+     * @return a new view covering both intervals
+     */
+    public MetricsView combine(MetricsView next) {
+        if (this.intervals == null || next.intervals == null) {
+            return next;
+        }
+        Map<NBMetric, Histogram> combined = new IdentityHashMap<>(next.intervals.size());
+        next.intervals.forEach((metric, histogram) -> {
+            Histogram earlier = this.intervals.get(metric);
+            if (earlier == null) {
+                combined.put(metric, histogram);
+            } else {
+                Histogram sum = earlier.copy();
+                sum.add(histogram);
+                sum.setStartTimeStamp(earlier.getStartTimeStamp());
+                sum.setEndTimeStamp(histogram.getEndTimeStamp());
+                combined.put(metric, sum);
+            }
+        });
+        return new MetricsView(next.metrics, combined, next.counts, next.values, this.startMillis, next.endMillis);
+    }
+
+    public List<NBMetric> metrics() {
+        return metrics;
+    }
+
+    public <T extends NBMetric> List<T> metrics(Class<T> type) {
+        List<T> found = new ArrayList<>();
+        for (NBMetric metric : metrics) {
+            if (type.isInstance(metric)) {
+                found.add(type.cast(metric));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return the captured interval of the metric, or its current snapshot for a live view
+     */
+    public ConvenientSnapshot snapshot(Sampling sampling) {
+        Histogram interval = (intervals != null) ? intervals.get(sampling) : null;
+        if (interval != null) {
+            return new ConvenientSnapshot(new DeltaHistogramSnapshot(interval));
+        }
+        return new ConvenientSnapshot(sampling.getSnapshot());
+    }
+
+    /**
+     * @return the captured interval histogram of the metric, or null if none was captured
+     */
+    public Histogram interval(NBMetric metric) {
+        return (intervals != null) ? intervals.get(metric) : null;
+    }
+
+    public long count(Counting counting) {
+        Long count = (counts != null) ? counts.get(counting) : null;
+        return (count != null) ? count : counting.getCount();
+    }
+
+    public Object value(Gauge<?> gauge) {
+        if (values != null && values.containsKey(gauge)) {
+            return values.get(gauge);
+        }
+        return gauge.getValue();
+    }
+
+    public boolean isCaptured() {
+        return intervals != null;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+}
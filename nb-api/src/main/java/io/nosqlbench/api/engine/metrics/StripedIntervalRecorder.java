@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records values into a fixed number of {@link Recorder}s, each of which is used by the threads whose
+ * ids hash to it, so that threads which update the same timer rarely contend with each other. Recording
+ * is wait-free, and costs a hash of the thread id more than recording into a shared recorder. The
+ * stripes are merged only when an interval histogram is taken.
+ * <p>
+ * The number of stripes is bounded, by default to twice the number of processors, so memory use does
+ * not grow with the number of threads, as it would with one recorder for each virtual thread motor.
+ */
+public class StripedIntervalRecorder implements IntervalRecorder {
+
+    private final int significantDigits;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public StripedIntervalRecorder(int significantDigits) {
+        this(significantDigits, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param stripes
+     *     How many recorders to spread threads over, which is rounded up to a power of two
+     */
+    public StripedIntervalRecorder(int significantDigits, int stripes) {
+        this.significantDigits = significantDigits;
+        int count = 1;
+        while (count < stripes) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(new Recorder(significantDigits));
+        }
+        this.mask = count - 1;
+    }
+
+    @Override
+    public void recordValue(long value) {
+        stripes[stripeOf(Thread.currentThread().threadId())].recorder.recordValue(value);
+    }
+
+    /**
+     * Spread thread ids, which are assigned in sequence, over the stripes, with the finalizer of murmur3.
+     */
+    private int stripeOf(long threadId) {
+        threadId ^= threadId >>> 33;
+        threadId *= 0xff51afd7ed558ccdL;
+        threadId ^= threadId >>> 33;
+        return (int) threadId & mask;
+    }
+
+    @Override
+    public synchronized Histogram getIntervalHistogram(Histogram recycle) {
+        Histogram merged = (recycle != null) ? recycle : new Histogram(significantDigits);
+        merged.reset();
+        for (Stripe stripe : stripes) {
+            stripe.interval = stripe.recorder.getIntervalHistogram(stripe.interval);
+            merged.add(stripe.interval);
+        }
+        return merged;
+    }
+
+    /**
+     * @return how many recorders threads are spread over
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    private final static class Stripe {
+        private final Recorder recorder;
+        private Histogram interval;
+
+        private Stripe(Recorder recorder) {
+            this.recorder = recorder;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public class NBMetricHistogram extends Histogram implements DeltaSnapshotter, Hd
     private long cacheExpiryMillis;
     private long cacheTimeMillis;
     private List<Histogram> mirrors;
+    private volatile Histogram diversion;
 
     public NBMetricHistogram(NBLabels labels, DeltaHdrHistogramReservoir hdrHistogramReservoir) {
         super(hdrHistogramReservoir);
@@ -70,6 +71,13 @@ public class NBMetricHistogram extends Histogram implements DeltaSnapshotter, Hd
         return convenientSnapshot;
     }
 
+    @Override
+    public org.HdrHistogram.Histogram getDeltaHdrHistogram(long cacheTimeMillis) {
+        this.cacheTimeMillis = cacheTimeMillis;
+        cacheExpiryMillis = System.currentTimeMillis() + this.cacheTimeMillis;
+        return hdrDeltaReservoir.getNextHdrHistogram();
+    }
+
     @Override
     public synchronized NBMetricHistogram attachHdrDeltaHistogram() {
         if (null == this.mirrors) {
@@ -90,8 +98,24 @@ public class NBMetricHistogram extends Histogram implements DeltaSnapshotter, Hd
         return histogram;
     }
 
+    /**
+     * While a diversion is set, updates go to it instead of to this histogram and its mirrors.
+     * This allows a phase of an activity, like warmup, to be measured separately.
+     *
+     * @param diversion
+     *     The histogram which should take all updates, or null to restore normal recording
+     */
+    public void setDiversion(Histogram diversion) {
+        this.diversion = diversion;
+    }
+
     @Override
     public void update(long value) {
+        Histogram diverted = this.diversion;
+        if (null != diverted) {
+            diverted.update(value);
+            return;
+        }
         super.update(value);
         if (null != this.mirrors) {
             for (Histogram mirror : mirrors) {
@@ -29,7 +29,10 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
     private final DeltaHdrHistogramReservoir deltaHdrHistogramReservoir;
     private long cacheExpiry;
     private List<Timer> mirrors;
+    private volatile Timer diversion;
     private final NBLabels labels;
+    private final List<NBMetricTimer> parts = new CopyOnWriteArrayList<>();
+    private NBMetricTimer whole;
 
     public NBMetricTimer(final NBLabels labels, final DeltaHdrHistogramReservoir deltaHdrHistogramReservoir) {
         super(deltaHdrHistogramReservoir);
@@ -55,6 +58,12 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
         return new ConvenientSnapshot(this.deltaHdrHistogramReservoir.getSnapshot());
     }
 
+    @Override
+    public Histogram getDeltaHdrHistogram(final long cacheTimeMillis) {
+        cacheExpiry = System.currentTimeMillis() + cacheTimeMillis;
+        return this.deltaHdrHistogramReservoir.getNextHdrHistogram();
+    }
+
     @Override
     public synchronized NBMetricTimer attachHdrDeltaHistogram() {
         if (null == mirrors) this.mirrors = new CopyOnWriteArrayList<>();
@@ -75,10 +84,79 @@ public class NBMetricTimer extends Timer implements DeltaSnapshotter, HdrDeltaHi
         return deltaHdrHistogramReservoir.getNextHdrHistogram();
     }
 
+    /**
+     * While a diversion is set, updates go to it instead of to this timer and its mirrors.
+     * This allows a phase of an activity, like warmup, to be measured separately.
+     *
+     * @param diversion
+     *     The timer which should take all updates, or null to restore normal recording
+     */
+    public void setDiversion(final Timer diversion) {
+        this.diversion = diversion;
+    }
+
+    /**
+     * Create a timer for some of the updates of this one, like those of the motors on one NUMA node.
+     * Each update of the part is recorded only once, into the part, and is included in the histograms,
+     * counts and rates of this timer when they are read. Mirrors and diversions of this timer also
+     * apply to the part.
+     *
+     * @param partLabels
+     *     The labels of the part
+     * @return a timer whose updates are also those of this timer
+     */
+    public NBMetricTimer newPart(final NBLabels partLabels) {
+        final NBMetricTimer part = new NBMetricTimer(partLabels, deltaHdrHistogramReservoir.newPart(partLabels));
+        part.whole = this;
+        this.parts.add(part);
+        return part;
+    }
+
     @Override
     public void update(final long duration, final TimeUnit unit) {
+        final Timer diverted = (null != whole && null != whole.diversion) ? whole.diversion : this.diversion;
+        if (null != diverted) {
+            diverted.update(duration, unit);
+            return;
+        }
         super.update(duration, unit);
         if (null != mirrors) for (final Timer mirror : this.mirrors) mirror.update(duration, unit);
+        if (null != whole && null != whole.mirrors) for (final Timer mirror : whole.mirrors) mirror.update(duration, unit);
+    }
+
+    @Override
+    public long getCount() {
+        long count = super.getCount();
+        for (final NBMetricTimer part : parts) count += part.getCount();
+        return count;
+    }
+
+    @Override
+    public double getMeanRate() {
+        double rate = super.getMeanRate();
+        for (final NBMetricTimer part : parts) rate += part.getMeanRate();
+        return rate;
+    }
+
+    @Override
+    public double getOneMinuteRate() {
+        double rate = super.getOneMinuteRate();
+        for (final NBMetricTimer part : parts) rate += part.getOneMinuteRate();
+        return rate;
+    }
+
+    @Override
+    public double getFiveMinuteRate() {
+        double rate = super.getFiveMinuteRate();
+        for (final NBMetricTimer part : parts) rate += part.getFiveMinuteRate();
+        return rate;
+    }
+
+    @Override
+    public double getFifteenMinuteRate() {
+        double rate = super.getFifteenMinuteRate();
+        for (final NBMetricTimer part : parts) rate += part.getFifteenMinuteRate();
+        return rate;
     }
 
     @Override
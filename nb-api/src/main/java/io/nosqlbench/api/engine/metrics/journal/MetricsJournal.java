@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import com.codahale.metrics.Gauge;
+import io.nosqlbench.api.engine.metrics.instruments.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>The layout of a metrics journal file. A journal starts with a header of the magic number, a format
+ * version and the start time in epoch millis. It is followed by frames, each of which is a frame type byte,
+ * a varint payload length, and the payload. A zero frame type, or the end of the file, ends the journal.</p>
+ *
+ * <ul>
+ *     <li>A string frame adds a string to the dictionary: a varint id, then a varint length and utf8 bytes.</li>
+ *     <li>A series frame defines a metric: a varint id, a {@link Kind} byte, a varint label count, and then
+ *     for each label, the dictionary ids of its name and value.</li>
+ *     <li>An interval frame holds the data for one interval in columns: the zigzag varint end time relative to
+ *     the previous interval, the varint duration, and the varint number of series. Then come the series ids as
+ *     varint deltas in ascending order, the counts as zigzag varint deltas from the same series in its previous
+ *     interval, the values as doubles, and the interval histograms as a varint length and compressed HDR data.
+ *     Each column only holds entries for the series whose kind has that column.</li>
+ * </ul>
+ */
+public final class MetricsJournal {
+
+    public static final int MAGIC = 0x4E424A31; // NBJ1
+    public static final byte VERSION = 1;
+
+    static final byte FRAME_END = 0;
+    static final byte FRAME_STRING = 1;
+    static final byte FRAME_SERIES = 2;
+    static final byte FRAME_INTERVAL = 3;
+
+    private MetricsJournal() {
+    }
+
+    public enum Kind {
+        counter(true, false, false),
+        gauge(false, true, false),
+        meter(true, true, false),
+        timer(true, false, true),
+        histogram(true, false, true);
+
+        public final boolean hasCount;
+        public final boolean hasValue;
+        public final boolean hasHistogram;
+
+        Kind(boolean hasCount, boolean hasValue, boolean hasHistogram) {
+            this.hasCount = hasCount;
+            this.hasValue = hasValue;
+            this.hasHistogram = hasHistogram;
+        }
+
+        /**
+         * @return the kind of the metric, or null if it can not be journaled
+         */
+        public static Kind of(NBMetric metric) {
+            if (metric instanceof NBMetricTimer) {
+                return timer;
+            } else if (metric instanceof NBMetricHistogram) {
+                return histogram;
+            } else if (metric instanceof NBMetricMeter) {
+                return meter;
+            } else if (metric instanceof NBMetricCounter) {
+                return counter;
+            } else if (metric instanceof Gauge<?>) {
+                return gauge;
+            }
+            return null;
+        }
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import io.nosqlbench.api.apps.BundledApp;
+import io.nosqlbench.api.engine.util.Unit;
+import io.nosqlbench.nb.annotations.Service;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+@Command(
+    name = "metrics-journal",
+    description = "List the series in a metrics journal, or export a slice of it",
+    helpCommand = true,
+    showDefaultValues = true
+)
+@Service(value = BundledApp.class, selector = "metrics-journal")
+public class MetricsJournalApp implements BundledApp, Callable<Integer> {
+
+    public enum Format {
+        csv,
+        hdr,
+        summary
+    }
+
+    @Parameters(index = "0", description = "The metrics journal file, as written by --report-journal-to")
+    Path journal;
+
+    @Option(names = {"--list"}, description = "List the series in the journal instead of exporting them")
+    boolean list;
+
+    @Option(names = {"--match"}, description = "A regex which the series labels must match, in name{label=\"value\",...} form")
+    String match = ".*";
+
+    @Option(names = {"--from"}, description = "The start of the slice, as an offset from the start of the journal, in millis or with a unit like 2h")
+    String from = "0";
+
+    @Option(names = {"--to"}, description = "The end of the slice, as an offset from the start of the journal")
+    String to;
+
+    @Option(names = {"--format"}, description = "csv for one line per series per interval, hdr for an HdrHistogram interval log, or summary for one line per series over the whole slice")
+    Format format = Format.csv;
+
+    @Option(names = {"--out"}, description = "The file to write to, or stdout")
+    String out = "stdout";
+
+    public static void main(String[] args) {
+        int result = new MetricsJournalApp().applyAsInt(args);
+        System.exit(result);
+    }
+
+    @Override
+    public int applyAsInt(String[] args) {
+        return new CommandLine(new MetricsJournalApp()).execute(args);
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        PrintStream output = "stdout".equals(out) ? System.out : new PrintStream(new FileOutputStream(out));
+        try (MetricsJournalReader reader = new MetricsJournalReader(journal)) {
+            if (list) {
+                for (JournalSeries series : reader.series()) {
+                    output.printf("%d,%s,%s%n", series.id(), series.kind(), quoted(series.labels().linearizeAsMetrics()));
+                }
+            } else {
+                long fromMillis = reader.getStartMillis() + msFor(from);
+                long toMillis = (to == null) ? Long.MAX_VALUE : reader.getStartMillis() + msFor(to);
+                Pattern pattern = Pattern.compile(match);
+                switch (format) {
+                    case csv -> exportCsv(reader, output, pattern, fromMillis, toMillis);
+                    case hdr -> exportHdr(reader, output, pattern, fromMillis, toMillis);
+                    case summary -> exportSummary(reader, output, pattern, fromMillis, toMillis);
+                }
+            }
+            output.flush();
+        } finally {
+            if (output != System.out) {
+                output.close();
+            }
+        }
+        return 0;
+    }
+
+    private void exportCsv(MetricsJournalReader reader, PrintStream output, Pattern pattern, long fromMillis, long toMillis) throws IOException {
+        output.println("start_ms,end_ms,series,kind,count,value,min,mean,p50,p90,p99,p999,max");
+        reader.read(new Slice(pattern, fromMillis, toMillis) {
+            @Override
+            public void onEntry(long startMillis, long endMillis, JournalSeries series, long count, double value, Histogram histogram) {
+                output.print(startMillis + "," + endMillis + "," + quoted(series.labels().linearizeAsMetrics()) + "," + series.kind());
+                output.print("," + (series.kind().hasCount ? String.valueOf(count) : ""));
+                output.print("," + (Double.isNaN(value) ? "" : String.valueOf(value)));
+                output.println(histogram == null ? ",,,,,,," : "," + stats(histogram));
+            }
+        });
+    }
+
+    private void exportHdr(MetricsJournalReader reader, PrintStream output, Pattern pattern, long fromMillis, long toMillis) throws IOException {
+        HistogramLogWriter writer = new HistogramLogWriter(output);
+        writer.outputComment("exported from metrics journal " + journal);
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(reader.getStartMillis());
+        writer.setBaseTime(reader.getStartMillis());
+        writer.outputLegend();
+        reader.read(new Slice(pattern, fromMillis, toMillis) {
+            @Override
+            public void onEntry(long startMillis, long endMillis, JournalSeries series, long count, double value, Histogram histogram) {
+                if (histogram != null) {
+                    histogram.setTag(series.labels().linearizeValues());
+                    writer.outputIntervalHistogram(histogram);
+                }
+            }
+        });
+    }
+
+    private void exportSummary(MetricsJournalReader reader, PrintStream output, Pattern pattern, long fromMillis, long toMillis) throws IOException {
+        Map<JournalSeries, Histogram> combined = new LinkedHashMap<>();
+        Map<JournalSeries, long[]> counts = new LinkedHashMap<>();
+        reader.read(new Slice(pattern, fromMillis, toMillis) {
+            @Override
+            public void onEntry(long startMillis, long endMillis, JournalSeries series, long count, double value, Histogram histogram) {
+                long[] firstAndLast = counts.computeIfAbsent(series, s -> new long[]{count, count});
+                firstAndLast[1] = count;
+                if (histogram != null) {
+                    Histogram sum = combined.get(series);
+                    if (sum == null) {
+                        combined.put(series, histogram);
+                    } else {
+                        sum.add(histogram);
+                    }
+                }
+            }
+        });
+        output.println("series,kind,count,min,mean,p50,p90,p99,p999,max");
+        counts.forEach((series, firstAndLast) -> {
+            Histogram histogram = combined.get(series);
+            output.print(quoted(series.labels().linearizeAsMetrics()) + "," + series.kind());
+            output.print("," + (series.kind().hasCount ? String.valueOf(firstAndLast[1]) : ""));
+            output.println(histogram == null ? ",,,,,,," : "," + stats(histogram));
+        });
+    }
+
+    private static String stats(Histogram histogram) {
+        return String.format(Locale.US, "%d,%.3f,%d,%d,%d,%d,%d",
+            histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue(),
+            histogram.getMean(),
+            histogram.getValueAtPercentile(50.0d),
+            histogram.getValueAtPercentile(90.0d),
+            histogram.getValueAtPercentile(99.0d),
+            histogram.getValueAtPercentile(99.9d),
+            histogram.getMaxValue()
+        );
+    }
+
+    private static String quoted(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static long msFor(String offset) {
+        return Unit.msFor(offset).orElseThrow(() -> new RuntimeException("Unable to parse time offset '" + offset + "'"));
+    }
+
+    private static abstract class Slice implements MetricsJournalReader.Visitor {
+        private final Pattern pattern;
+        private final long fromMillis;
+        private final long toMillis;
+        private final Map<JournalSeries, Boolean> matches = new LinkedHashMap<>();
+
+        private Slice(Pattern pattern, long fromMillis, long toMillis) {
+            this.pattern = pattern;
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+        }
+
+        @Override
+        public boolean wantsInterval(long startMillis, long endMillis) {
+            return endMillis > fromMillis && startMillis < toMillis;
+        }
+
+        @Override
+        public boolean wantsSeries(JournalSeries series) {
+            return matches.computeIfAbsent(series, s -> pattern.matcher(s.labels().linearizeAsMetrics()).matches());
+        }
+    }
+}
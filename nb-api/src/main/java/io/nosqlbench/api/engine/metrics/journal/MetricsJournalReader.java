@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import io.nosqlbench.api.labels.NBLabels;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import static io.nosqlbench.api.engine.metrics.journal.MetricsJournal.*;
+
+/**
+ * Reads a journal written by {@link MetricsJournalWriter}. The file is memory mapped a window at a time.
+ * Histograms are only decompressed for the intervals and series which a {@link Visitor} asks for, so
+ * reading a slice of a large journal mostly skips over bytes.
+ */
+public class MetricsJournalReader implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(MetricsJournalReader.class);
+    private static final int WINDOW = 64 << 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final long startMillis;
+    private ByteBuffer window;
+    private long windowBase;
+
+    public interface Visitor {
+        default void onSeries(JournalSeries series) {
+        }
+
+        default boolean wantsInterval(long startMillis, long endMillis) {
+            return true;
+        }
+
+        default boolean wantsSeries(JournalSeries series) {
+            return true;
+        }
+
+        /**
+         * Called for each wanted series in each wanted interval.
+         *
+         * @param count the total count of the series, for kinds which have counts
+         * @param value the value of a gauge, or the one-minute rate of a meter, otherwise NaN
+         * @param histogram the interval histogram, for kinds which have them, otherwise null
+         */
+        void onEntry(long startMillis, long endMillis, JournalSeries series, long count, double value, Histogram histogram);
+    }
+
+    public MetricsJournalReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        if (!require(13)) {
+            throw new IOException("'" + path + "' is too short to be a metrics journal");
+        }
+        int magic = window.getInt();
+        byte version = window.get();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("'" + path + "' is not a version " + VERSION + " metrics journal");
+        }
+        this.startMillis = window.getLong();
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    /**
+     * @return all series defined in the journal, in the order they were defined
+     */
+    public List<JournalSeries> series() throws IOException {
+        List<JournalSeries> found = new ArrayList<>();
+        read(new Visitor() {
+            @Override
+            public void onSeries(JournalSeries series) {
+                found.add(series);
+            }
+
+            @Override
+            public boolean wantsInterval(long startMillis, long endMillis) {
+                return false;
+            }
+
+            @Override
+            public void onEntry(long startMillis, long endMillis, JournalSeries series, long count, double value, Histogram histogram) {
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Read the whole journal from the start, calling the visitor for each series and each wanted entry.
+     */
+    public synchronized void read(Visitor visitor) throws IOException {
+        windowBase = 0L;
+        window = null;
+        require(13);
+        window.position(13);
+
+        Map<Integer, String> strings = new LinkedHashMap<>();
+        List<JournalSeries> series = new ArrayList<>();
+        List<long[]> counts = new ArrayList<>();
+        long lastEndMillis = startMillis;
+
+        while (require((int) Math.min(11L, size - position()))) {
+            byte type = window.get();
+            if (type == FRAME_END) {
+                return;
+            }
+            int length = (int) getVarLong(window);
+            if (!require(length)) {
+                logger.warn("metrics journal '" + path + "' ends with an incomplete frame, which was skipped");
+                return;
+            }
+            ByteBuffer frame = window.slice(window.position(), length);
+            window.position(window.position() + length);
+
+            switch (type) {
+                case FRAME_STRING -> {
+                    int id = (int) getVarLong(frame);
+                    byte[] bytes = new byte[(int) getVarLong(frame)];
+                    frame.get(bytes);
+                    strings.put(id, new String(bytes, StandardCharsets.UTF_8));
+                }
+                case FRAME_SERIES -> {
+                    int id = (int) getVarLong(frame);
+                    Kind kind = Kind.values()[frame.get()];
+                    int labelCount = (int) getVarLong(frame);
+                    Map<String, String> labels = new LinkedHashMap<>();
+                    for (int i = 0; i < labelCount; i++) {
+                        labels.put(strings.get((int) getVarLong(frame)), strings.get((int) getVarLong(frame)));
+                    }
+                    JournalSeries defined = new JournalSeries(id, kind, NBLabels.forMap(labels));
+                    while (series.size() < id) {
+                        series.add(null);
+                        counts.add(new long[1]);
+                    }
+                    series.set(id - 1, defined);
+                    visitor.onSeries(defined);
+                }
+                case FRAME_INTERVAL -> {
+                    long endMillis = lastEndMillis + unzigzag(getVarLong(frame));
+                    long intervalStart = endMillis - getVarLong(frame);
+                    lastEndMillis = endMillis;
+                    readInterval(frame, intervalStart, endMillis, series, counts, visitor);
+                }
+                default -> throw new IOException("unknown frame type " + type + " in metrics journal '" + path + "'");
+            }
+        }
+    }
+
+    private void readInterval(
+        ByteBuffer frame,
+        long intervalStart,
+        long intervalEnd,
+        List<JournalSeries> series,
+        List<long[]> counts,
+        Visitor visitor
+    ) throws IOException {
+        int n = (int) getVarLong(frame);
+        JournalSeries[] present = new JournalSeries[n];
+        int id = 0;
+        for (int i = 0; i < n; i++) {
+            id += (int) getVarLong(frame);
+            present[i] = series.get(id - 1);
+        }
+        // counts are deltas, so they are always decoded to keep the running totals right
+        long[] entryCounts = new long[n];
+        for (int i = 0; i < n; i++) {
+            if (present[i].kind().hasCount) {
+                long[] total = counts.get(present[i].id() - 1);
+                total[0] += unzigzag(getVarLong(frame));
+                entryCounts[i] = total[0];
+            }
+        }
+        if (!visitor.wantsInterval(intervalStart, intervalEnd)) {
+            return;
+        }
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = present[i].kind().hasValue ? frame.getDouble() : Double.NaN;
+        }
+        for (int i = 0; i < n; i++) {
+            JournalSeries entry = present[i];
+            Histogram histogram = null;
+            boolean wanted = visitor.wantsSeries(entry);
+            if (entry.kind().hasHistogram) {
+                int length = (int) getVarLong(frame);
+                if (wanted && length > 0) {
+                    try {
+                        histogram = Histogram.decodeFromCompressedByteBuffer(frame.slice(frame.position(), length), 0L);
+                    } catch (DataFormatException e) {
+                        throw new IOException("corrupt histogram for " + entry.labels().linearizeAsMetrics() + " in '" + path + "'", e);
+                    }
+                    histogram.setStartTimeStamp(intervalStart);
+                    histogram.setEndTimeStamp(intervalEnd);
+                }
+                frame.position(frame.position() + length);
+            }
+            if (wanted) {
+                visitor.onEntry(intervalStart, intervalEnd, entry, entryCounts[i], values[i], histogram);
+            }
+        }
+    }
+
+    private long position() {
+        return windowBase + (window == null ? 0 : window.position());
+    }
+
+    /**
+     * Make sure that the given number of bytes from the current position are in the mapped window.
+     *
+     * @return false if the file does not have that many bytes left
+     */
+    private boolean require(int bytes) throws IOException {
+        if (bytes <= 0) {
+            return false;
+        }
+        if (window != null && window.remaining() >= bytes) {
+            return true;
+        }
+        long position = position();
+        if (position + bytes > size) {
+            return false;
+        }
+        windowBase = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(Math.max(WINDOW, bytes), size - position));
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends every metrics view from a {@link MetricsSnapshotter} to a metrics journal file.
+ */
+public class MetricsJournalReporter extends NBBaseComponent implements MetricsViewConsumer {
+    private static final Logger logger = LogManager.getLogger(MetricsJournalReporter.class);
+
+    private final Path journalPath;
+    private final MetricsJournalWriter writer;
+
+    public MetricsJournalReporter(NBComponent parent, Path journalPath, MetricsSnapshotter snapshotter, long intervalMs) {
+        super(parent, NBLabels.forKV("reporter", "journal"));
+        this.journalPath = journalPath;
+        try {
+            Path dir = journalPath.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            this.writer = new MetricsJournalWriter(journalPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to open metrics journal '" + journalPath + "': " + e, e);
+        }
+        snapshotter.attach(this, intervalMs);
+        logger.info(() -> "journaling metrics to " + journalPath);
+    }
+
+    @Override
+    public void onMetricsView(MetricsView view) {
+        try {
+            writer.write(view);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write to metrics journal '" + journalPath + "': " + e, e);
+        }
+    }
+
+    @Override
+    protected void teardown() {
+        try {
+            writer.close();
+            logger.debug(() -> "closed metrics journal " + journalPath + " at " + writer.length() + " bytes");
+        } catch (IOException e) {
+            logger.error("Unable to close metrics journal '" + journalPath + "': " + e, e);
+        }
+        super.teardown();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metered;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.api.engine.metrics.journal.MetricsJournal.Kind;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.nosqlbench.api.engine.metrics.journal.MetricsJournal.*;
+
+/**
+ * Appends metrics views to a journal file, as described in {@link MetricsJournal}. The file is written
+ * through a memory mapping which is extended a chunk at a time, and is truncated to the written length
+ * when the writer is closed. Since unwritten space reads as an end frame, a journal which was not closed
+ * can still be read up to the last complete interval.
+ */
+public class MetricsJournalWriter implements AutoCloseable {
+
+    private static final int MAP_CHUNK = 16 << 20;
+
+    private final FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long mappedBase;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<String, Series> series = new HashMap<>();
+    private ByteBuffer scratch = ByteBuffer.allocate(64 << 10);
+    private ByteBuffer encoded = ByteBuffer.allocate(16 << 10);
+    private long lastEndMillis;
+    private boolean closed;
+
+    public MetricsJournalWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0L, MAP_CHUNK);
+        this.lastEndMillis = System.currentTimeMillis();
+        mapped.putInt(MAGIC);
+        mapped.put(VERSION);
+        mapped.putLong(lastEndMillis);
+    }
+
+    private final static class Series {
+        private final int id;
+        private final Kind kind;
+        private long lastCount;
+
+        private Series(int id, Kind kind) {
+            this.id = id;
+            this.kind = kind;
+        }
+    }
+
+    /**
+     * Append one interval frame for the metrics in the view, along with any dictionary and series frames
+     * needed for metrics which have not been seen before. Metrics are matched to series by kind and labels,
+     * so a metric which is created again with the same labels continues the same series.
+     */
+    public synchronized void write(MetricsView view) throws IOException {
+        if (closed) {
+            return;
+        }
+        List<Series> present = new ArrayList<>();
+        Map<Series, NBMetric> metrics = new HashMap<>();
+        for (NBMetric metric : view.metrics()) {
+            Kind kind = Kind.of(metric);
+            if (kind == null) {
+                continue;
+            }
+            String key = kind + metric.getLabels().linearizeAsMetrics();
+            Series s = series.get(key);
+            if (s == null) {
+                s = define(key, kind, metric);
+            }
+            if (metrics.put(s, metric) == null) {
+                present.add(s);
+            }
+        }
+        present.sort(Comparator.comparingInt(s -> s.id));
+
+        scratch.clear();
+        long endMillis = view.getEndMillis();
+        putVar(zigzag(endMillis - lastEndMillis));
+        putVar(Math.max(0L, endMillis - view.getStartMillis()));
+        putVar(present.size());
+        lastEndMillis = endMillis;
+
+        int lastId = 0;
+        for (Series s : present) {
+            putVar(s.id - lastId);
+            lastId = s.id;
+        }
+        for (Series s : present) {
+            if (s.kind.hasCount) {
+                long count = view.count((Counting) metrics.get(s));
+                putVar(zigzag(count - s.lastCount));
+                s.lastCount = count;
+            }
+        }
+        for (Series s : present) {
+            if (s.kind.hasValue) {
+                scratch = reserve(scratch, Double.BYTES);
+                scratch.putDouble(valueOf(view, metrics.get(s)));
+            }
+        }
+        for (Series s : present) {
+            if (s.kind.hasHistogram) {
+                putHistogram(view.interval(metrics.get(s)));
+            }
+        }
+        writeFrame(FRAME_INTERVAL);
+    }
+
+    private double valueOf(MetricsView view, NBMetric metric) {
+        if (metric instanceof Metered metered) {
+            return metered.getOneMinuteRate();
+        }
+        if (metric instanceof Gauge<?> gauge && view.value(gauge) instanceof Number number) {
+            return number.doubleValue();
+        }
+        return Double.NaN;
+    }
+
+    private void putHistogram(Histogram histogram) {
+        if (histogram == null) {
+            putVar(0L);
+            return;
+        }
+        encoded = reserve(encoded.clear(), histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(encoded);
+        putVar(length);
+        scratch = reserve(scratch, length);
+        scratch.put(encoded.flip());
+    }
+
+    private Series define(String key, Kind kind, NBMetric metric) throws IOException {
+        Map<String, String> labels = metric.getLabels().asMap();
+        int[] labelIds = new int[labels.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            labelIds[i++] = stringId(label.getKey());
+            labelIds[i++] = stringId(label.getValue());
+        }
+        Series s = new Series(series.size() + 1, kind);
+        series.put(key, s);
+
+        scratch.clear();
+        putVar(s.id);
+        scratch.put((byte) kind.ordinal());
+        putVar(labels.size());
+        for (int labelId : labelIds) {
+            putVar(labelId);
+        }
+        writeFrame(FRAME_SERIES);
+        return s;
+    }
+
+    private int stringId(String string) throws IOException {
+        Integer id = strings.get(string);
+        if (id != null) {
+            return id;
+        }
+        int newId = strings.size() + 1;
+        strings.put(string, newId);
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        scratch.clear();
+        putVar(newId);
+        putVar(bytes.length);
+        scratch = reserve(scratch, bytes.length);
+        scratch.put(bytes);
+        writeFrame(FRAME_STRING);
+        return newId;
+    }
+
+    private void putVar(long value) {
+        scratch = reserve(scratch, 10);
+        putVarLong(scratch, value);
+    }
+
+    private static ByteBuffer reserve(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes + 64) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes + 64));
+        return larger.put(buffer.flip());
+    }
+
+    private void writeFrame(byte type) throws IOException {
+        scratch.flip();
+        int length = scratch.remaining();
+        ensureMapped(length + 6);
+        mapped.put(type);
+        putVarLong(mapped, length);
+        mapped.put(scratch);
+        scratch.clear();
+    }
+
+    private void ensureMapped(int bytes) throws IOException {
+        if (mapped.remaining() >= bytes) {
+            return;
+        }
+        long position = mappedBase + mapped.position();
+        mapped.force();
+        mappedBase = position;
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, mappedBase, Math.max(MAP_CHUNK, bytes));
+    }
+
+    /**
+     * @return the number of bytes written so far
+     */
+    public synchronized long length() {
+        return mappedBase + mapped.position();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long length = mappedBase + mapped.position();
+        mapped.force();
+        channel.truncate(length);
+        channel.close();
+    }
+}
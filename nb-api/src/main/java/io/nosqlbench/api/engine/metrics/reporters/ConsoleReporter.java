@@ -19,6 +19,8 @@ package io.nosqlbench.api.engine.metrics.reporters;
 
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.*;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
 import io.nosqlbench.api.engine.metrics.instruments.*;
 import io.nosqlbench.api.labels.NBLabels;
 import io.nosqlbench.components.NBComponent;
@@ -30,7 +32,7 @@ import java.text.DateFormat;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
-public class ConsoleReporter extends PeriodicTaskComponent {
+public class ConsoleReporter extends PeriodicTaskComponent implements MetricsViewConsumer {
     private static final int CONSOLE_WIDTH = 80;
 
     private final PrintStream output;
@@ -70,12 +72,32 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         );
     }
 
+    @Override
+    public void onMetricsView(MetricsView view) {
+        report(view,
+            view.metrics(NBMetricGauge.class),
+            view.metrics(NBMetricCounter.class),
+            view.metrics(NBMetricHistogram.class),
+            view.metrics(NBMetricMeter.class),
+            view.metrics(NBMetricTimer.class)
+        );
+    }
+
     public void report(List<NBMetricGauge> gauges,
                        List<NBMetricCounter> counters,
                        List<NBMetricHistogram> histograms,
                        List<NBMetricMeter> meters,
                        List<NBMetricTimer> timers) {
-        final String dateTime = dateFormat.format(new Date(clock.getTime()));
+        report(MetricsView.live(List.of()), gauges, counters, histograms, meters, timers);
+    }
+
+    private void report(MetricsView view,
+                        List<NBMetricGauge> gauges,
+                        List<NBMetricCounter> counters,
+                        List<NBMetricHistogram> histograms,
+                        List<NBMetricMeter> meters,
+                        List<NBMetricTimer> timers) {
+        final String dateTime = dateFormat.format(new Date(view.isCaptured() ? view.getEndMillis() : clock.getTime()));
         printWithBanner(dateTime, '=');
         output.println();
 
@@ -83,7 +105,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
             printWithBanner("-- Gauges", '-');
             for (NBMetricGauge gauge : gauges) {
                 output.println(gauge.getLabels().linearizeAsMetrics());
-                printGauge(gauge);
+                printGauge(gauge, view);
             }
             output.println();
         }
@@ -92,7 +114,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
             printWithBanner("-- Counters", '-');
             for (NBMetricCounter counter : counters) {
                 output.println(counter.getLabels().linearizeAsMetrics());
-                printCounter(counter);
+                printCounter(counter, view);
             }
             output.println();
         }
@@ -101,7 +123,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
             printWithBanner("-- Histograms", '-');
             for (NBMetricHistogram histogram : histograms) {
                 output.println(histogram.getLabels().linearizeAsMetrics());
-                printHistogram(histogram);
+                printHistogram(histogram, view);
             }
             output.println();
         }
@@ -110,7 +132,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
             printWithBanner("-- Meters", '-');
             for (NBMetricMeter meter : meters) {
                 output.println(meter.getLabels().linearizeAsMetrics());
-                printMeter(meter);
+                printMeter(meter, view);
             }
             output.println();
         }
@@ -119,7 +141,7 @@ public class ConsoleReporter extends PeriodicTaskComponent {
             printWithBanner("-- Timers", '-');
             for (NBMetricTimer timer : timers) {
                 output.println(timer.getLabels().linearizeAsMetrics());
-                printTimer(timer);
+                printTimer(timer, view);
             }
             output.println();
         }
@@ -128,25 +150,25 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         output.flush();
     }
 
-    private void printMeter(Meter meter) {
-        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", meter.getCount()));
+    private void printMeter(Meter meter, MetricsView view) {
+        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", view.count(meter)));
         printIfEnabled(MetricAttribute.MEAN_RATE, String.format(locale, "         mean rate = %2.2f events/%s", convertRate(meter.getMeanRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M1_RATE, String.format(locale, "     1-minute rate = %2.2f events/%s", convertRate(meter.getOneMinuteRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M5_RATE, String.format(locale, "     5-minute rate = %2.2f events/%s", convertRate(meter.getFiveMinuteRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M15_RATE, String.format(locale, "    15-minute rate = %2.2f events/%s", convertRate(meter.getFifteenMinuteRate()), getRateUnit()));
     }
 
-    private void printCounter(Counter counter) {
-        output.printf(locale, "             count = %d%n", counter.getCount());
+    private void printCounter(Counter counter, MetricsView view) {
+        output.printf(locale, "             count = %d%n", view.count(counter));
     }
 
-    private void printGauge(Gauge<?> gauge) {
-        output.printf(locale, "             value = %s%n", gauge.getValue());
+    private void printGauge(Gauge<?> gauge, MetricsView view) {
+        output.printf(locale, "             value = %s%n", view.value(gauge));
     }
 
-    private void printHistogram(Histogram histogram) {
-        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", histogram.getCount()));
-        Snapshot snapshot = histogram.getSnapshot();
+    private void printHistogram(Histogram histogram, MetricsView view) {
+        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", view.count(histogram)));
+        Snapshot snapshot = view.snapshot(histogram);
         printIfEnabled(MetricAttribute.MIN, String.format(locale, "               min = %d", snapshot.getMin()));
         printIfEnabled(MetricAttribute.MAX, String.format(locale, "               max = %d", snapshot.getMax()));
         printIfEnabled(MetricAttribute.MEAN, String.format(locale, "              mean = %2.2f", snapshot.getMean()));
@@ -159,9 +181,9 @@ public class ConsoleReporter extends PeriodicTaskComponent {
         printIfEnabled(MetricAttribute.P999, String.format(locale, "            99.9%% <= %2.2f", snapshot.get999thPercentile()));
     }
 
-    private void printTimer(Timer timer) {
-        final Snapshot snapshot = timer.getSnapshot();
-        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", timer.getCount()));
+    private void printTimer(Timer timer, MetricsView view) {
+        final Snapshot snapshot = view.snapshot(timer);
+        printIfEnabled(MetricAttribute.COUNT, String.format(locale, "             count = %d", view.count(timer)));
         printIfEnabled(MetricAttribute.MEAN_RATE, String.format(locale, "         mean rate = %2.2f calls/%s", convertRate(timer.getMeanRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M1_RATE, String.format(locale, "     1-minute rate = %2.2f calls/%s", convertRate(timer.getOneMinuteRate()), getRateUnit()));
         printIfEnabled(MetricAttribute.M5_RATE, String.format(locale, "     5-minute rate = %2.2f calls/%s", convertRate(timer.getFiveMinuteRate()), getRateUnit()));
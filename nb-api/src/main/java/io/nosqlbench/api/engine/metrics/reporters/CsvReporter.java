@@ -18,6 +18,9 @@
 package io.nosqlbench.api.engine.metrics.reporters;
 
 import com.codahale.metrics.*;
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
 import io.nosqlbench.api.engine.metrics.instruments.*;
 import io.nosqlbench.api.labels.NBLabelUtils;
 import io.nosqlbench.api.labels.NBLabels;
@@ -39,13 +42,12 @@ import java.util.concurrent.TimeUnit;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-public class CsvReporter extends PeriodicTaskComponent {
+public class CsvReporter extends PeriodicTaskComponent implements MetricsViewConsumer {
     private static final Logger logger = LogManager.getLogger(CsvReporter.class);
     private final Path reportTo;
     private final String separator = ",";
     private final MetricInstanceFilter filter;
     private final Locale locale = Locale.US;
-    private final Clock clock = Clock.defaultClock();
     private final String histogramFormat;
     private final String meterFormat;
     private final String timerFormat;
@@ -93,10 +95,28 @@ public class CsvReporter extends PeriodicTaskComponent {
         this(node, reportTo, intervalMs, filter, null);
     }
 
+    /**
+     * Create a CSV reporter which is driven by the given snapshotter, so that it reports the same intervals as
+     * any other reporters attached to it.
+     */
+    public CsvReporter(NBComponent node, Path reportTo, MetricsSnapshotter snapshotter, long intervalMs, MetricInstanceFilter filter) {
+        this(node, reportTo, 0L, filter, null);
+        snapshotter.attach(this, intervalMs);
+    }
+
     @Override
     public void task() {
-        List<NBMetric> metrics = component.find().metrics();
-        final long timestamp = TimeUnit.MILLISECONDS.toSeconds(clock.getTime());
+        report(MetricsView.live(component.find().metrics()));
+    }
+
+    @Override
+    public void onMetricsView(MetricsView view) {
+        report(view);
+    }
+
+    private void report(MetricsView view) {
+        List<NBMetric> metrics = view.metrics();
+        final long timestamp = TimeUnit.MILLISECONDS.toSeconds(view.getEndMillis());
         NBLabels commonLabels = NBLabelUtils.commonLabels(metrics);
         logger.info("Factoring out common labels for CSV metrics logging: " + commonLabels.linearizeAsMetrics());
 
@@ -105,19 +125,19 @@ public class CsvReporter extends PeriodicTaskComponent {
 //            metric.getLabels().difference(commonLabels);
             switch (metric) {
                 case NBMetricGauge gauge:
-                    reportGauge(timestamp, name, gauge);
+                    reportGauge(timestamp, name, gauge, view);
                     break;
                 case NBMetricCounter counter:
-                    reportCounter(timestamp, name, counter);
+                    reportCounter(timestamp, name, counter, view);
                     break;
                 case NBMetricHistogram histogram:
-                    reportHistogram(timestamp, name, histogram);
+                    reportHistogram(timestamp, name, histogram, view);
                     break;
                 case NBMetricTimer timer:
-                    reportTimer(timestamp, name, timer);
+                    reportTimer(timestamp, name, timer, view);
                     break;
                 case NBMetricMeter meter:
-                    reportMeter(timestamp, name, meter);
+                    reportMeter(timestamp, name, meter, view);
                     break;
                 default:
                     throw new RuntimeException("Unrecognized metric type to report '" + metric.getClass().getSimpleName() + "'");
@@ -134,14 +154,14 @@ public class CsvReporter extends PeriodicTaskComponent {
         return rate * rateFactor;
     }
 
-    private void reportTimer(long timestamp, String name, Timer timer) {
-        final Snapshot snapshot = timer.getSnapshot();
+    private void reportTimer(long timestamp, String name, Timer timer, MetricsView view) {
+        final Snapshot snapshot = view.snapshot(timer);
 
         report(timestamp,
             name,
             timerHeader,
             timerFormat,
-            timer.getCount(),
+            view.count(timer),
             convertDuration(snapshot.getMax()),
             convertDuration(snapshot.getMean()),
             convertDuration(snapshot.getMin()),
@@ -160,12 +180,12 @@ public class CsvReporter extends PeriodicTaskComponent {
             this.durationUnit);
     }
 
-    private void reportMeter(long timestamp, String name, Meter meter) {
+    private void reportMeter(long timestamp, String name, Meter meter, MetricsView view) {
         report(timestamp,
             name,
             meterHeader,
             meterFormat,
-            meter.getCount(),
+            view.count(meter),
             convertRate(meter.getMeanRate()),
             convertRate(meter.getOneMinuteRate()),
             convertRate(meter.getFiveMinuteRate()),
@@ -173,14 +193,14 @@ public class CsvReporter extends PeriodicTaskComponent {
             this.rateUnit);
     }
 
-    private void reportHistogram(long timestamp, String name, Histogram histogram) {
-        final Snapshot snapshot = histogram.getSnapshot();
+    private void reportHistogram(long timestamp, String name, Histogram histogram, MetricsView view) {
+        final Snapshot snapshot = view.snapshot(histogram);
 
         report(timestamp,
             name,
             histogramHeader,
             histogramFormat,
-            histogram.getCount(),
+            view.count(histogram),
             snapshot.getMax(),
             snapshot.getMean(),
             snapshot.getMin(),
@@ -193,12 +213,12 @@ public class CsvReporter extends PeriodicTaskComponent {
             snapshot.get999thPercentile());
     }
 
-    private void reportCounter(long timestamp, String name, Counter counter) {
-        report(timestamp, name, "count", "%d", counter.getCount());
+    private void reportCounter(long timestamp, String name, Counter counter, MetricsView view) {
+        report(timestamp, name, "count", "%d", view.count(counter));
     }
 
-    private void reportGauge(long timestamp, String name, Gauge<?> gauge) {
-        report(timestamp, name, "value", "%s", gauge.getValue());
+    private void reportGauge(long timestamp, String name, Gauge<?> gauge, MetricsView view) {
+        report(timestamp, name, "value", "%s", view.value(gauge));
     }
 
     private void report(long timestamp, String name, String header, String line, Object... values) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.reporters;
+
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.regex.Pattern;
+
+/**
+ * Writes the interval histograms of every metrics view from a {@link MetricsSnapshotter} to an HDR histogram
+ * log, for the timers and histograms whose names match the pattern. Each histogram is tagged with the name
+ * of its metric.
+ */
+public class HistoLogReporter extends NBBaseComponent implements MetricsViewConsumer {
+    private static final Logger logger = LogManager.getLogger(HistoLogReporter.class);
+
+    private final File logfile;
+    private final Pattern pattern;
+    private final PrintStream logStream;
+    private final HistogramLogWriter writer;
+
+    public HistoLogReporter(NBComponent parent, String sessionName, File logfile, Pattern pattern, MetricsSnapshotter snapshotter, long intervalMs) {
+        super(parent, NBLabels.forKV("reporter", "histolog"));
+        this.logfile = logfile;
+        this.pattern = pattern;
+        try {
+            this.logStream = new PrintStream(logfile);
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException("Unable to open histogram log '" + logfile + "': " + e, e);
+        }
+        this.writer = new HistogramLogWriter(logStream);
+        writer.outputComment("logging histograms for session " + sessionName);
+        writer.outputLogFormatVersion();
+        long now = System.currentTimeMillis();
+        writer.outputStartTime(now);
+        writer.setBaseTime(now);
+        writer.outputLegend();
+        snapshotter.attach(this, intervalMs);
+        logger.info(() -> "logging histograms matching '" + pattern + "' to " + logfile);
+    }
+
+    @Override
+    public synchronized void onMetricsView(MetricsView view) {
+        for (NBMetric metric : view.metrics()) {
+            Histogram interval = view.interval(metric);
+            if (interval == null) {
+                continue;
+            }
+            String name = metric.getLabels().linearizeValues("name");
+            if (pattern.matcher(name).matches()) {
+                if (!name.equals(interval.getTag())) {
+                    // the view is shared with other reporters, so it is not changed here
+                    Histogram tagged = interval.copy();
+                    tagged.setStartTimeStamp(interval.getStartTimeStamp());
+                    tagged.setEndTimeStamp(interval.getEndTimeStamp());
+                    tagged.setTag(name);
+                    interval = tagged;
+                }
+                writer.outputIntervalHistogram(interval);
+            }
+        }
+    }
+
+    @Override
+    protected synchronized void teardown() {
+        logStream.close();
+        super.teardown();
+    }
+
+    @Override
+    public String toString() {
+        return "HistoLogReporter:" + pattern + ":" + logfile.getPath();
+    }
+}
@@ -17,6 +17,8 @@
 package io.nosqlbench.api.engine.metrics.reporters;
 
 import com.codahale.metrics.*;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
 import io.nosqlbench.api.engine.metrics.instruments.*;
 import io.nosqlbench.api.labels.NBLabels;
 import io.nosqlbench.components.NBCreators;
@@ -34,7 +36,7 @@ import java.util.concurrent.TimeUnit;
  * was built to allow for consolidating internal logging dependencies
  * to log4j only.
  */
-public class Log4JMetricsReporter extends PeriodicTaskComponent {
+public class Log4JMetricsReporter extends PeriodicTaskComponent implements MetricsViewConsumer {
 
     public enum LoggingLevel { TRACE, DEBUG, INFO, WARN, ERROR }
     private final NBCreators.LoggerProxy loggerProxy;
@@ -67,38 +69,58 @@ public class Log4JMetricsReporter extends PeriodicTaskComponent {
     }
 
 
+    @Override
+    public void onMetricsView(MetricsView view) {
+        report(view,
+            view.metrics(NBMetricGauge.class),
+            view.metrics(NBMetricCounter.class),
+            view.metrics(NBMetricHistogram.class),
+            view.metrics(NBMetricMeter.class),
+            view.metrics(NBMetricTimer.class)
+        );
+    }
+
     public void report( List<NBMetricGauge> gauges,
                         List<NBMetricCounter> counters,
                         List<NBMetricHistogram> histograms,
                         List<NBMetricMeter> meters,
                         List<NBMetricTimer> timers) {
+        report(MetricsView.live(List.of()), gauges, counters, histograms, meters, timers);
+    }
+
+    private void report(MetricsView view,
+                        List<NBMetricGauge> gauges,
+                        List<NBMetricCounter> counters,
+                        List<NBMetricHistogram> histograms,
+                        List<NBMetricMeter> meters,
+                        List<NBMetricTimer> timers) {
         if (this.loggerProxy.isEnabled(this.marker)) {
             for (NBMetricGauge gauge : gauges)
-                this.logGauge(gauge.getLabels().linearizeAsMetrics(), gauge);
+                this.logGauge(gauge.getLabels().linearizeAsMetrics(), gauge, view);
 
             for (NBMetricCounter counter : counters)
-                this.logCounter(counter.getLabels().linearizeAsMetrics(), counter);
+                this.logCounter(counter.getLabels().linearizeAsMetrics(), counter, view);
 
             for (NBMetricHistogram histogram : histograms)
-                this.logHistogram(histogram.getLabels().linearizeAsMetrics(), histogram);
+                this.logHistogram(histogram.getLabels().linearizeAsMetrics(), histogram, view);
 
             for (NBMetricMeter meter : meters)
-                this.logMeter(meter.getLabels().linearizeAsMetrics(), meter);
+                this.logMeter(meter.getLabels().linearizeAsMetrics(), meter, view);
 
             for (NBMetricTimer timer : timers)
-                this.logTimer(timer.getLabels().linearizeAsMetrics(), timer);
+                this.logTimer(timer.getLabels().linearizeAsMetrics(), timer, view);
         }
     }
 
-    private void logTimer(final String name, final Timer timer) {
-        Snapshot snapshot = timer.getSnapshot();
+    private void logTimer(final String name, final Timer timer, final MetricsView view) {
+        Snapshot snapshot = view.snapshot(timer);
         this.loggerProxy.log(this.marker,
                 "type={}, name={}, count={}, min={}, max={}, mean={}, stddev={}, median={}, " +
                         "p75={}, p95={}, p98={}, p99={}, p999={}, mean_rate={}, m1={}, m5={}, " +
                         "m15={}, rate_unit={}, duration_unit={}",
                 "TIMER",
             this.prefix(name),
-                timer.getCount(),
+                view.count(timer),
             this.convertDuration(snapshot.getMin()),
             this.convertDuration(snapshot.getMax()),
             this.convertDuration(snapshot.getMean()),
@@ -124,12 +146,12 @@ public class Log4JMetricsReporter extends PeriodicTaskComponent {
         return rate * rateFactor;
     }
 
-    private void logMeter(final String name, final Meter meter) {
+    private void logMeter(final String name, final Meter meter, final MetricsView view) {
         this.loggerProxy.log(this.marker,
                 "type={}, name={}, count={}, mean_rate={}, m1={}, m5={}, m15={}, rate_unit={}",
                 "METER",
             this.prefix(name),
-                meter.getCount(),
+                view.count(meter),
             this.convertRate(meter.getMeanRate()),
             this.convertRate(meter.getOneMinuteRate()),
             this.convertRate(meter.getFiveMinuteRate()),
@@ -137,14 +159,14 @@ public class Log4JMetricsReporter extends PeriodicTaskComponent {
             this.getRateUnit());
     }
 
-    private void logHistogram(final String name, final Histogram histogram) {
-        Snapshot snapshot = histogram.getSnapshot();
+    private void logHistogram(final String name, final Histogram histogram, final MetricsView view) {
+        Snapshot snapshot = view.snapshot(histogram);
         this.loggerProxy.log(this.marker,
                 "type={}, name={}, count={}, min={}, max={}, mean={}, stddev={}, " +
                         "median={}, p75={}, p95={}, p98={}, p99={}, p999={}",
                 "HISTOGRAM",
             this.prefix(name),
-                histogram.getCount(),
+                view.count(histogram),
                 snapshot.getMin(),
                 snapshot.getMax(),
                 snapshot.getMean(),
@@ -157,12 +179,12 @@ public class Log4JMetricsReporter extends PeriodicTaskComponent {
                 snapshot.get999thPercentile());
     }
 
-    private void logCounter(final String name, final Counter counter) {
-        this.loggerProxy.log(this.marker, "type={}, name={}, count={}", "COUNTER", this.prefix(name), counter.getCount());
+    private void logCounter(final String name, final Counter counter, final MetricsView view) {
+        this.loggerProxy.log(this.marker, "type={}, name={}, count={}", "COUNTER", this.prefix(name), view.count(counter));
     }
 
-    private void logGauge(final String name, final Gauge<?> gauge) {
-        this.loggerProxy.log(this.marker, "type={}, name={}, value={}", "GAUGE", this.prefix(name), gauge.getValue());
+    private void logGauge(final String name, final Gauge<?> gauge, final MetricsView view) {
+        this.loggerProxy.log(this.marker, "type={}, name={}, value={}", "GAUGE", this.prefix(name), view.value(gauge));
     }
 
     protected String getRateUnit() {
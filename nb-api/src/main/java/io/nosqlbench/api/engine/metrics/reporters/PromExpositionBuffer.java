@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.reporters;
+
+import com.codahale.metrics.Counting;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metered;
+import com.codahale.metrics.Sampling;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.api.labels.NBLabels;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <p>Renders metrics views in the prometheus text exposition format, into a byte buffer which is reused
+ * from one view to the next. The text for each series up to its value, with its name and labels, is
+ * computed once when a metric is first seen, so rendering a view only writes those bytes and the numbers.
+ * Series are grouped into families with one TYPE line each, as required when prometheus scrapes them.</p>
+ *
+ * <p>Readers copy the most recently rendered exposition with {@link #copyTo(ByteBuffer)}, which does not
+ * allocate once their buffer is large enough.</p>
+ */
+public final class PromExpositionBuffer {
+
+    private static final double[] QUANTILES = {0.5, 0.75, 0.90, 0.95, 0.98, 0.99, 0.999};
+
+    private enum Field {
+        count, quantile, max, min, mean, stdev, value, rate1m, rate5m, rate15m, ratemean
+    }
+
+    private record Sample(NBMetric metric, byte[] prefix, Field field, double quantile) {
+    }
+
+    private final static class Family {
+        private final byte[] header;
+        private final List<Sample> samples = new ArrayList<>();
+
+        private Family(String name, String type) {
+            this.header = ("# TYPE " + name + " " + type + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private final Map<NBMetric, List<Sample>> layout = new IdentityHashMap<>();
+    private List<Family> families = List.of();
+    private final byte[] digits = new byte[20];
+
+    private ByteBuffer back = ByteBuffer.allocate(64 << 10);
+    private ByteBuffer front = ByteBuffer.allocate(64 << 10);
+    private int frontLength;
+
+    /**
+     * Render the view, replacing the previously rendered exposition once it is complete.
+     */
+    public void render(MetricsView view) {
+        List<NBMetric> metrics = view.metrics();
+        boolean changed = metrics.size() != layout.size();
+        for (NBMetric metric : metrics) {
+            if (!layout.containsKey(metric)) {
+                layout.put(metric, samplesFor(metric));
+                changed = true;
+            }
+        }
+        if (changed) {
+            relayout(metrics);
+        }
+
+        ByteBuffer out = back;
+        out.clear();
+        for (Family family : families) {
+            out = reserve(out, family.header.length);
+            out.put(family.header);
+            for (Sample sample : family.samples) {
+                out = reserve(out, sample.prefix.length + 32);
+                out.put(sample.prefix);
+                putDouble(out, valueOf(view, sample));
+                out.put((byte) '\n');
+            }
+        }
+
+        synchronized (this) {
+            back = front;
+            front = out;
+            frontLength = out.position();
+        }
+    }
+
+    /**
+     * Copy the last rendered exposition into the target, which is replaced with a larger buffer if needed.
+     *
+     * @return the buffer holding the exposition, ready to be read
+     */
+    public synchronized ByteBuffer copyTo(ByteBuffer target) {
+        if (target.capacity() < frontLength) {
+            target = ByteBuffer.allocate(Math.max(frontLength, target.capacity() * 2));
+        }
+        target.clear();
+        target.put(front.array(), 0, frontLength);
+        return target.flip();
+    }
+
+    private void relayout(List<NBMetric> metrics) {
+        layout.keySet().retainAll(new ArrayList<>(metrics));
+        Map<String, Family> byName = new TreeMap<>();
+        for (NBMetric metric : metrics) {
+            for (Sample sample : layout.get(metric)) {
+                String name = familyOf(sample);
+                byName.computeIfAbsent(name, n -> new Family(n, typeOf(sample.field))).samples.add(sample);
+            }
+        }
+        families = new ArrayList<>(byName.values());
+    }
+
+    private static String familyOf(Sample sample) {
+        NBLabels labels = sample.metric.getLabels();
+        String name = labels.valueOf("name");
+        return switch (sample.field) {
+            case count -> name + "_total";
+            case quantile -> name;
+            case value -> name;
+            case max -> name + "_max";
+            case min -> name + "_min";
+            case mean -> name + "_mean";
+            case stdev -> name + "_stdev";
+            case rate1m -> name + "_1mRate";
+            case rate5m -> name + "_5mRate";
+            case rate15m -> name + "_15mRate";
+            case ratemean -> name + "_meanRate";
+        };
+    }
+
+    private static String typeOf(Field field) {
+        return switch (field) {
+            case count -> "counter";
+            case quantile -> "summary";
+            default -> "gauge";
+        };
+    }
+
+    private static List<Sample> samplesFor(NBMetric metric) {
+        NBLabels labels = metric.getLabels();
+        List<Sample> samples = new ArrayList<>();
+        if (metric instanceof Counting) {
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_total"), Field.count, 0.0d));
+        }
+        if (metric instanceof Sampling) {
+            for (double quantile : QUANTILES) {
+                samples.add(sample(metric, labels.and("quantile", String.valueOf(quantile)), Field.quantile, quantile));
+            }
+            // the count of values in this interval, which is not the running total above, as the summary count
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_count"), Field.value, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_max"), Field.max, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_min"), Field.min, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_mean"), Field.mean, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_stdev"), Field.stdev, 0.0d));
+        }
+        if (metric instanceof Gauge<?>) {
+            samples.add(sample(metric, labels, Field.value, 0.0d));
+        }
+        if (metric instanceof Metered) {
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_1mRate"), Field.rate1m, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_5mRate"), Field.rate5m, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_15mRate"), Field.rate15m, 0.0d));
+            samples.add(sample(metric, labels.modifyValue("name", n -> n + "_meanRate"), Field.ratemean, 0.0d));
+        }
+        return samples;
+    }
+
+    private static Sample sample(NBMetric metric, NBLabels labels, Field field, double quantile) {
+        byte[] prefix = (labels.linearize("name") + " ").getBytes(StandardCharsets.UTF_8);
+        return new Sample(metric, prefix, field, quantile);
+    }
+
+    private static double valueOf(MetricsView view, Sample sample) {
+        NBMetric metric = sample.metric;
+        Histogram interval = (metric instanceof Sampling) ? view.interval(metric) : null;
+        return switch (sample.field) {
+            case count -> view.count((Counting) metric);
+            case quantile -> interval == null ? Double.NaN : interval.getValueAtPercentile(sample.quantile * 100.0d);
+            case max -> interval == null ? Double.NaN : interval.getMaxValue();
+            case min -> interval == null ? Double.NaN : interval.getMinValue();
+            case mean -> interval == null ? Double.NaN : interval.getMean();
+            case stdev -> interval == null ? Double.NaN : interval.getStdDeviation();
+            case value -> {
+                if (metric instanceof Sampling) {
+                    yield interval == null ? Double.NaN : interval.getTotalCount();
+                }
+                yield (view.value((Gauge<?>) metric) instanceof Number number) ? number.doubleValue() : Double.NaN;
+            }
+            case rate1m -> ((Metered) metric).getOneMinuteRate();
+            case rate5m -> ((Metered) metric).getFiveMinuteRate();
+            case rate15m -> ((Metered) metric).getFifteenMinuteRate();
+            case ratemean -> ((Metered) metric).getMeanRate();
+        };
+    }
+
+    private static ByteBuffer reserve(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        return larger.put(buffer.flip());
+    }
+
+    /**
+     * Write a double in a form prometheus accepts, without creating strings. Whole numbers are written
+     * exactly, and others with nine significant digits.
+     */
+    void putDouble(ByteBuffer out, double value) {
+        if (Double.isNaN(value)) {
+            out.put((byte) 'N').put((byte) 'a').put((byte) 'N');
+            return;
+        }
+        if (Double.isInfinite(value)) {
+            out.put(value > 0 ? (byte) '+' : (byte) '-').put((byte) 'I').put((byte) 'n').put((byte) 'f');
+            return;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15d) {
+            putLong(out, (long) value);
+            return;
+        }
+        if (value < 0.0d) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        int exponent = (int) Math.floor(Math.log10(value));
+        long mantissa = Math.round(value / Math.pow(10.0d, exponent - 8));
+        if (mantissa >= 1_000_000_000L) {
+            mantissa /= 10;
+            exponent++;
+        }
+        while (mantissa % 10 == 0 && mantissa >= 10) {
+            mantissa /= 10;
+        }
+        int length = writeDigits(mantissa);
+        out.put(digits[digits.length - length]);
+        if (length > 1) {
+            out.put((byte) '.');
+            out.put(digits, digits.length - length + 1, length - 1);
+        }
+        if (exponent != 0) {
+            out.put((byte) 'e');
+            putLong(out, exponent);
+        }
+    }
+
+    void putLong(ByteBuffer out, long value) {
+        if (value < 0L) {
+            out.put((byte) '-');
+            if (value == Long.MIN_VALUE) {
+                out.put("9223372036854775808".getBytes(StandardCharsets.US_ASCII));
+                return;
+            }
+            value = -value;
+        }
+        int length = writeDigits(value);
+        out.put(digits, digits.length - length, length);
+    }
+
+    private int writeDigits(long value) {
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0L);
+        return digits.length - pos;
+    }
+}
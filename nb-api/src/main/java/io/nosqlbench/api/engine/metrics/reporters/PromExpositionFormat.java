@@ -17,6 +17,7 @@
 package io.nosqlbench.api.engine.metrics.reporters;
 
 import com.codahale.metrics.*;
+import io.nosqlbench.api.engine.metrics.MetricsView;
 import io.nosqlbench.api.labels.NBLabeledElement;
 import io.nosqlbench.api.labels.NBLabels;
 import org.apache.logging.log4j.LogManager;
@@ -26,6 +27,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -53,6 +55,25 @@ public class PromExpositionFormat {
      * @return A string representation of the metrics in prometheus exposition format
      */
     public static StringBuilder format(final Clock clock, final StringBuilder builder, final Object... metrics) {
+        return formatMetrics(clock, builder, MetricsView.live(List.of()), metrics);
+    }
+
+    /**
+     * Format the metrics in a view, using the values and interval snapshots which were captured with it.
+     *
+     * @param clock
+     *     The clock to use for assigning an observation time to each metric value.
+     * @param builder
+     *     A string builder to append to
+     * @param view
+     *     The view which holds the metrics and their captured values
+     * @return A string representation of the metrics in prometheus exposition format
+     */
+    public static StringBuilder format(final Clock clock, final StringBuilder builder, final MetricsView view) {
+        return formatMetrics(clock, builder, view, view.metrics().toArray());
+    }
+
+    private static StringBuilder formatMetrics(final Clock clock, final StringBuilder builder, final MetricsView view, final Object[] metrics) {
         final StringBuilder buffer = (null != builder) ? builder : new StringBuilder();
         final Instant instant = clock.instant();
 
@@ -69,7 +90,7 @@ public class PromExpositionFormat {
                 buffer.append("# TYPE ")
                     .append(labels.modifyValue("name", n -> n+"_total").valueOf("name")).append(" counter\n");
 
-                final long count = counting.getCount();
+                final long count = view.count(counting);
                 buffer
                     .append(labels.modifyValue("name", n -> n+"_total").linearize("name"))
                     .append(' ')
@@ -81,7 +102,7 @@ public class PromExpositionFormat {
             if (metric instanceof final Sampling sampling) {
                 // Use the summary form
                 buffer.append("# TYPE ").append(labels.valueOf("name")).append(" histogram\n");
-                final Snapshot snapshot = sampling.getSnapshot();
+                final Snapshot snapshot = view.snapshot(sampling);
                 for (final double quantile : new double[]{0.5, 0.75, 0.90, 0.95, 0.98, 0.99, 0.999}) {
                     final double value = snapshot.getValue(quantile);
                     buffer
@@ -128,7 +149,7 @@ public class PromExpositionFormat {
             }
             if (metric instanceof final Gauge gauge) {
                 buffer.append("# TYPE ").append(labels.valueOf("name")).append(" gauge\n");
-                final Object value = gauge.getValue();
+                final Object value = view.value(gauge);
                 if (value instanceof final Number number) {
                     final double doubleValue = number.doubleValue();
                     buffer.append(labels.linearize("name"))
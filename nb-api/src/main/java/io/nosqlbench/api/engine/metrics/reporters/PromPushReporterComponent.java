@@ -17,6 +17,9 @@
 package io.nosqlbench.api.engine.metrics.reporters;
 
 import io.nosqlbench.api.config.standard.*;
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
 import io.nosqlbench.api.labels.NBLabels;
 import io.nosqlbench.api.system.NBEnvironment;
 import io.nosqlbench.components.NBBaseComponent;
@@ -42,7 +45,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.*;
 
-public class PromPushReporterComponent extends PeriodicTaskComponent {
+public class PromPushReporterComponent extends PeriodicTaskComponent implements MetricsViewConsumer {
     private static final Logger logger = LogManager.getLogger(PromPushReporterComponent.class);
     private final Path keyfilePath;
     private HttpClient client;
@@ -66,16 +69,31 @@ public class PromPushReporterComponent extends PeriodicTaskComponent {
         }
     }
 
+    /**
+     * Create a push reporter which is driven by the given snapshotter, so that it reports the same intervals as
+     * any other reporters attached to it.
+     */
+    public PromPushReporterComponent(NBComponent parent, URI endpoint, MetricsSnapshotter snapshotter, long intervalMs, NBLabels nbLabels) {
+        this(parent, endpoint, 0L, nbLabels);
+        snapshotter.attach(this, intervalMs);
+    }
+
     public void task() {
+        push(MetricsView.live(getParent().find().metrics()));
+    }
+
+    @Override
+    public void onMetricsView(MetricsView view) {
+        push(view);
+    }
+
+    private void push(MetricsView view) {
         final Clock nowclock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
         StringBuilder sb = new StringBuilder(1024 * 1024); // 1M pre-allocated to reduce heap churn
 
-        int total = 0;
-        for (final Object metric : getParent().find().metrics()) {
-            sb = PromExpositionFormat.format(nowclock, sb, metric);
-            total++;
-        }
+        sb = PromExpositionFormat.format(nowclock, sb, view);
+        final int total = view.metrics().size();
         PromPushReporterComponent.logger.debug("formatted {} metrics in prom expo format", total);
         final String exposition = sb.toString();
         logger.trace(() -> "prom exposition format:\n" + exposition);
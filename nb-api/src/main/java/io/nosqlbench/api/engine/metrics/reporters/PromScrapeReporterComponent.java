@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.reporters;
+
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.MetricsViewConsumer;
+import io.nosqlbench.api.labels.NBLabels;
+import io.nosqlbench.components.NBBaseComponent;
+import io.nosqlbench.components.NBComponent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Serves the metrics from a {@link MetricsSnapshotter} for prometheus to scrape, at <pre>/metrics</pre>
+ * on the given address. The exposition is rendered once per interval into a {@link PromExpositionBuffer},
+ * so a scrape only copies its bytes to the connection, however often it happens.</p>
+ *
+ * <p>This is a minimal HTTP/1.1 server, which answers GET and HEAD requests, and keeps connections open
+ * between scrapes unless asked not to.</p>
+ */
+public class PromScrapeReporterComponent extends NBBaseComponent implements MetricsViewConsumer {
+    private static final Logger logger = LogManager.getLogger(PromScrapeReporterComponent.class);
+
+    private static final int MAX_REQUEST = 8192;
+    private static final byte[] OK = ascii("HTTP/1.1 200 OK\r\nContent-Type: text/plain; version=0.0.4; charset=utf-8\r\nContent-Length: ");
+    private static final byte[] NOT_FOUND = ascii("HTTP/1.1 404 Not Found\r\nContent-Type: text/plain; charset=utf-8\r\nContent-Length: ");
+    private static final byte[] TOO_LARGE = ascii("HTTP/1.1 431 Request Header Fields Too Large\r\nContent-Length: ");
+    private static final byte[] CLOSE = ascii("\r\nConnection: close");
+    private static final byte[] END = ascii("\r\n\r\n");
+
+    private final PromExpositionBuffer exposition = new PromExpositionBuffer();
+    private final ServerSocketChannel server;
+    private final InetSocketAddress address;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param hostAndPort
+     *     The address to listen on, as <pre>host:port</pre>, or <pre>:port</pre> for all interfaces
+     */
+    public PromScrapeReporterComponent(NBComponent parent, String hostAndPort, MetricsSnapshotter snapshotter, long intervalMs) {
+        super(parent, NBLabels.forKV("reporter", "promscrape"));
+        InetSocketAddress bindTo = parseAddress(hostAndPort);
+        try {
+            this.server = ServerSocketChannel.open();
+            this.server.bind(bindTo);
+            this.address = (InetSocketAddress) server.getLocalAddress();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to listen for prometheus scrapes on '" + hostAndPort + "': " + e, e);
+        }
+        Thread.ofVirtual().name("promscrape-" + address.getPort()).start(this::accept);
+        snapshotter.attach(this, intervalMs);
+        logger.info(() -> "serving metrics for prometheus scrapes at http://" + hostAndPort + "/metrics");
+    }
+
+    static InetSocketAddress parseAddress(String hostAndPort) {
+        int colon = hostAndPort.lastIndexOf(':');
+        String host = (colon > 0) ? hostAndPort.substring(0, colon) : "";
+        String port = (colon >= 0) ? hostAndPort.substring(colon + 1) : hostAndPort;
+        try {
+            int portnum = Integer.parseInt(port);
+            return host.isEmpty() ? new InetSocketAddress(portnum) : new InetSocketAddress(host, portnum);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Unable to parse prometheus scrape address '" + hostAndPort
+                + "', expected [host]:port");
+        }
+    }
+
+    /**
+     * @return the address which is being served, with the actual port when port 0 was requested
+     */
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    @Override
+    public void onMetricsView(MetricsView view) {
+        exposition.render(view);
+    }
+
+    private void accept() {
+        while (server.isOpen()) {
+            try {
+                SocketChannel channel = server.accept();
+                connections.add(channel);
+                Thread.ofVirtual().name("promscrape-client").start(() -> serve(channel));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                logger.warn("error while accepting prometheus scrape connection: " + e, e);
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        ByteBuffer request = ByteBuffer.allocate(MAX_REQUEST);
+        ByteBuffer header = ByteBuffer.allocate(256);
+        ByteBuffer body = ByteBuffer.allocate(64 << 10);
+        ByteBuffer empty = ByteBuffer.allocate(0);
+        ByteBuffer[] response = new ByteBuffer[2];
+        byte[] digits = new byte[20];
+        try (channel) {
+            int scanned = 0;
+            while (true) {
+                int end = endOfHeaders(request, scanned);
+                if (end < 0) {
+                    scanned = Math.max(0, request.position() - 3);
+                    if (!request.hasRemaining()) {
+                        writeResponse(channel, header, TOO_LARGE, 0, empty, true, digits, response);
+                        // read the rest of the request, so that closing does not reset the connection
+                        // before the client sees the response
+                        channel.shutdownOutput();
+                        do {
+                            request.clear();
+                        } while (channel.read(request) >= 0);
+                        return;
+                    }
+                    if (channel.read(request) < 0) {
+                        return;
+                    }
+                    continue;
+                }
+
+                boolean head = startsWith(request, "HEAD ");
+                boolean close = !startsWith(request, "GET ") && !head || closeRequested(request, end);
+                ByteBuffer payload = empty;
+                byte[] status = NOT_FOUND;
+                if (isMetricsPath(request, head ? 5 : 4, end)) {
+                    body = exposition.copyTo(body);
+                    status = OK;
+                    payload = body;
+                }
+                writeResponse(channel, header, status, payload.remaining(), head ? empty : payload, close, digits, response);
+                if (close) {
+                    return;
+                }
+
+                request.flip().position(end);
+                request.compact();
+                scanned = 0;
+            }
+        } catch (IOException e) {
+            logger.debug(() -> "prometheus scrape connection ended: " + e);
+        } finally {
+            connections.remove(channel);
+        }
+    }
+
+    private void writeResponse(SocketChannel channel, ByteBuffer header, byte[] status, int length, ByteBuffer payload,
+                               boolean close, byte[] digits, ByteBuffer[] response) throws IOException {
+        header.clear();
+        putLength(header.put(status), length, digits);
+        if (close) {
+            header.put(CLOSE);
+        }
+        header.put(END).flip();
+        response[0] = header;
+        response[1] = payload;
+        long total = header.remaining() + payload.remaining();
+        long written = 0;
+        while (written < total) {
+            written += channel.write(response);
+        }
+    }
+
+    private static void putLength(ByteBuffer header, int length, byte[] digits) {
+        int pos = digits.length;
+        do {
+            digits[--pos] = (byte) ('0' + (length % 10));
+            length /= 10;
+        } while (length != 0);
+        header.put(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * @return the position just past the blank line ending the first request in the buffer, or -1
+     */
+    private static int endOfHeaders(ByteBuffer request, int from) {
+        byte[] bytes = request.array();
+        for (int i = from; i + 3 < request.position(); i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n' && bytes[i + 2] == '\r' && bytes[i + 3] == '\n') {
+                return i + 4;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(ByteBuffer request, String prefix) {
+        byte[] bytes = request.array();
+        if (request.position() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (bytes[i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMetricsPath(ByteBuffer request, int from, int end) {
+        byte[] bytes = request.array();
+        int i = from;
+        while (i < end && bytes[i] != ' ' && bytes[i] != '?') {
+            i++;
+        }
+        int length = i - from;
+        return (length == 1 && bytes[from] == '/') || (length == 8 && regionMatches(bytes, from, end, "/metrics"));
+    }
+
+    /**
+     * HTTP/1.0 requests, and those with a <pre>Connection: close</pre> header, close after the response.
+     */
+    private static boolean closeRequested(ByteBuffer request, int end) {
+        byte[] bytes = request.array();
+        int lineEnd = 0;
+        while (lineEnd < end && bytes[lineEnd] != '\r') {
+            lineEnd++;
+        }
+        if (regionMatches(bytes, lineEnd - 8, end, "HTTP/1.0")) {
+            return true;
+        }
+        for (int i = lineEnd; i < end; i++) {
+            if (bytes[i] == '\n' && regionMatchesIgnoreCase(bytes, i + 1, end, "connection: close")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(byte[] bytes, int from, int end, String text) {
+        if (from < 0 || from + text.length() > end) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (bytes[from + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatchesIgnoreCase(byte[] bytes, int from, int end, String text) {
+        if (from < 0 || from + text.length() > end) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.toLowerCase(bytes[from + i]) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    protected void teardown() {
+        try {
+            server.close();
+            for (SocketChannel connection : connections) {
+                connection.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to close prometheus scrape server on " + address + ": " + e, e);
+        }
+        super.teardown();
+    }
+}
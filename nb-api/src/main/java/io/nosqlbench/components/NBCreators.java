@@ -20,6 +20,8 @@ import io.nosqlbench.api.csvoutput.CsvOutputPluginWriter;
 import com.codahale.metrics.Meter;
 import io.nosqlbench.api.engine.metrics.DeltaHdrHistogramReservoir;
 import io.nosqlbench.api.engine.metrics.DoubleSummaryGauge;
+import io.nosqlbench.api.engine.metrics.HdrRecorderMode;
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
 import io.nosqlbench.api.engine.metrics.instruments.NBFunctionGauge;
 import io.nosqlbench.api.engine.metrics.instruments.NBMetricCounter;
 import io.nosqlbench.api.engine.metrics.instruments.NBMetricHistogram;
@@ -28,6 +30,7 @@ import io.nosqlbench.api.engine.metrics.reporters.CsvReporter;
 import io.nosqlbench.api.engine.metrics.instruments.*;
 import io.nosqlbench.api.engine.metrics.reporters.MetricInstanceFilter;
 import io.nosqlbench.api.engine.metrics.reporters.PromPushReporterComponent;
+import io.nosqlbench.api.engine.metrics.reporters.PromScrapeReporterComponent;
 import io.nosqlbench.api.histo.HdrHistoLog;
 import io.nosqlbench.api.histo.HistoStats;
 import io.nosqlbench.api.http.HttpPlugin;
@@ -64,8 +67,27 @@ public class NBCreators {
         return timer(metricFamilyName,3);
     }
     public NBMetricTimer timer(String metricFamilyName, int hdrdigits) {
+        return timer(metricFamilyName, hdrdigits, HdrRecorderMode.shared);
+    }
+
+    /**
+     * @param recorderMode how values are recorded, where {@link HdrRecorderMode#striped} avoids contention
+     *                     between threads which update the timer at once
+     */
+    public NBMetricTimer timer(String metricFamilyName, int hdrdigits, HdrRecorderMode recorderMode) {
+        NBLabels labels = base.getLabels().and("name", metricFamilyName);
+        NBMetricTimer timer = new NBMetricTimer(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits, recorderMode));
+        base.addComponentMetric(timer);
+        return timer;
+    }
+
+    /**
+     * Create a timer for some of the updates of another timer, as described in {@link NBMetricTimer#newPart}.
+     * Each update is recorded once, and is merged into the whole when it is read.
+     */
+    public NBMetricTimer timerPart(String metricFamilyName, NBMetricTimer whole) {
         NBLabels labels = base.getLabels().and("name", metricFamilyName);
-        NBMetricTimer timer = new NBMetricTimer(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits));
+        NBMetricTimer timer = whole.newPart(labels);
         base.addComponentMetric(timer);
         return timer;
     }
@@ -114,8 +136,11 @@ public class NBCreators {
         return histogram(metricFamilyName,4);
     }
     public NBMetricHistogram histogram(String metricFamilyName, int hdrdigits) {
+        return histogram(metricFamilyName, hdrdigits, HdrRecorderMode.shared);
+    }
+    public NBMetricHistogram histogram(String metricFamilyName, int hdrdigits, HdrRecorderMode recorderMode) {
         NBLabels labels = base.getLabels().and("name", metricFamilyName);
-        NBMetricHistogram histogram = new NBMetricHistogram(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits));
+        NBMetricHistogram histogram = new NBMetricHistogram(labels, new DeltaHdrHistogramReservoir(labels, hdrdigits, recorderMode));
         base.addComponentMetric(histogram);
         return histogram;
     }
@@ -136,6 +161,26 @@ public class NBCreators {
         PromPushReporterComponent reporter = new PromPushReporterComponent(this.base, URI.create(endpoint), millis, extraLabels);
         return reporter;
     }
+    public PromPushReporterComponent pushReporter(String endpoint, MetricsSnapshotter snapshotter, long millis, NBLabels extraLabels) {
+        PromPushReporterComponent reporter = new PromPushReporterComponent(this.base, URI.create(endpoint), snapshotter, millis, extraLabels);
+        return reporter;
+    }
+
+    /**
+     * Create a reporter which serves the views from the snapshotter for prometheus to scrape at the given
+     * <pre>[host]:port</pre> address.
+     */
+    public PromScrapeReporterComponent scrapeReporter(String hostAndPort, MetricsSnapshotter snapshotter, long millis) {
+        return new PromScrapeReporterComponent(this.base, hostAndPort, snapshotter, millis);
+    }
+
+    /**
+     * Create a snapshotter which takes one interval snapshot of every metric under this component per interval.
+     * Reporters which are attached to it all see the same data, instead of each taking their own snapshots.
+     */
+    public MetricsSnapshotter metricsSnapshotter(long millis) {
+        return new MetricsSnapshotter(this.base, millis);
+    }
 
     public BobyqaOptimizerInstance bobyqaOptimizer() {
         return new BobyqaOptimizerInstance(base);
@@ -25,6 +25,10 @@ import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * A component which runs its task every interval on its own thread. A component created with an interval
+ * of zero or less has no thread of its own, and its task is expected to be driven by another component.
+ */
 public abstract class PeriodicTaskComponent extends NBBaseComponent implements Runnable {
 
     private static final Logger logger = LogManager.getLogger(PeriodicTaskComponent.class);
@@ -41,11 +45,37 @@ public abstract class PeriodicTaskComponent extends NBBaseComponent implements R
         NBLabels extraLabels,
         long millis,
         boolean oneLastTime
+    ) {
+        this(node, extraLabels, millis, oneLastTime, true);
+    }
+
+    /**
+     * @param startNow
+     *     Whether to start the thread now. A subclass with fields which its task uses should pass false
+     *     and call {@link #start()} once they are set, since the first task may otherwise run before then.
+     */
+    protected PeriodicTaskComponent(
+        NBComponent node,
+        NBLabels extraLabels,
+        long millis,
+        boolean oneLastTime,
+        boolean startNow
     ) {
         super(node, extraLabels);
         this.intervalmillis = millis;
-        thread = Thread.ofVirtual().start(this);
         this.oneLastTime = oneLastTime;
+        if (startNow) {
+            start();
+        }
+    }
+
+    /**
+     * Start the thread of this component, if it has an interval and was not already started.
+     */
+    protected synchronized void start() {
+        if (intervalmillis > 0 && thread == null) {
+            thread = Thread.ofVirtual().start(this);
+        }
     }
 
     protected abstract void task();
@@ -73,7 +103,7 @@ public abstract class PeriodicTaskComponent extends NBBaseComponent implements R
                 now = System.currentTimeMillis();
                 waitfor = reportAt - now;
             }
-            logger.info("summarizing metrics to console");
+            logger.trace(() -> "running periodic task of " + description());
             try {
                 task();
             } catch (Exception e) {
@@ -89,6 +119,9 @@ public abstract class PeriodicTaskComponent extends NBBaseComponent implements R
     }
 
     public void teardown() {
+        if (thread == null) {
+            return;
+        }
         logger.debug("shutting down " + this);
 
         lock.lock();
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.api.engine.metrics.reporters.HistoLogReporter;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsSnapshotterTest {
+
+    @Test
+    public void testConsumersShareOneSnapshotPerInterval() {
+        TestComponent root = new TestComponent("root", "snapshotter");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        // the interval is long enough that only explicit calls to task() take snapshots
+        MetricsSnapshotter snapshotter = new MetricsSnapshotter(root, 3_600_000L);
+
+        List<MetricsView> first = new ArrayList<>();
+        List<MetricsView> second = new ArrayList<>();
+        List<MetricsView> slower = new ArrayList<>();
+        snapshotter.attach(first::add);
+        snapshotter.attach(second::add);
+        snapshotter.attach(slower::add, 7_200_000L);
+
+        for (int i = 1; i <= 100; i++) {
+            timer.update(i, TimeUnit.NANOSECONDS);
+        }
+        snapshotter.task();
+        for (int i = 1; i <= 50; i++) {
+            timer.update(1000, TimeUnit.NANOSECONDS);
+        }
+        snapshotter.task();
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(first.get(0).snapshot(timer).size()).isEqualTo(100);
+        assertThat(first.get(1).snapshot(timer).size()).isEqualTo(50);
+        assertThat(first.get(1).count(timer)).isEqualTo(150);
+
+        // direct readers of the timer see the last interval rather than starting another
+        assertThat(timer.getSnapshot().size()).isEqualTo(50);
+
+        assertThat(slower).hasSize(1);
+        assertThat(slower.get(0).snapshot(timer).size()).isEqualTo(150);
+        assertThat(slower.get(0).snapshot(timer).getMax()).isEqualTo(1000);
+        assertThat(slower.get(0).getStartMillis()).isEqualTo(first.get(0).getStartMillis());
+        root.close();
+    }
+
+    @Test
+    public void testHistoLogReporterWritesEachInterval() throws IOException {
+        TestComponent root = new TestComponent("root", "histolog");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        NBMetricTimer other = root.create().timer("othertimer", 3);
+        MetricsSnapshotter snapshotter = new MetricsSnapshotter(root, 3_600_000L);
+        File logfile = File.createTempFile("snapshotter", ".hdr");
+        logfile.deleteOnExit();
+        new HistoLogReporter(root, "test", logfile, Pattern.compile(".*optimer.*"), snapshotter, 3_600_000L);
+
+        for (int i = 1; i <= 100; i++) {
+            timer.update(i, TimeUnit.NANOSECONDS);
+            other.update(i, TimeUnit.NANOSECONDS);
+        }
+        snapshotter.task();
+        for (int i = 1; i <= 50; i++) {
+            timer.update(1000, TimeUnit.NANOSECONDS);
+        }
+        snapshotter.task();
+        root.close();
+
+        List<EncodableHistogram> logged = new ArrayList<>();
+        HistogramLogReader reader = new HistogramLogReader(logfile);
+        while (reader.hasNext()) {
+            logged.add(reader.nextIntervalHistogram());
+        }
+        // closing the snapshotter takes one last snapshot, which is empty here
+        assertThat(logged).hasSize(3);
+        assertThat(logged).allMatch(histogram -> histogram.getTag().contains("optimer"));
+        assertThat(((Histogram) logged.get(0)).getTotalCount()).isEqualTo(100L);
+        assertThat(((Histogram) logged.get(1)).getTotalCount()).isEqualTo(50L);
+        assertThat(((Histogram) logged.get(2)).getTotalCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testLiveViewReadsMetricsDirectly() {
+        TestComponent root = new TestComponent("root", "live");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        timer.update(10, TimeUnit.NANOSECONDS);
+
+        MetricsView view = MetricsView.live(List.of(timer));
+        assertThat(view.isCaptured()).isFalse();
+        assertThat(view.count(timer)).isEqualTo(1);
+        timer.update(20, TimeUnit.NANOSECONDS);
+        assertThat(view.count(timer)).isEqualTo(2);
+        assertThat(view.snapshot(timer).getMax()).isEqualTo(20);
+    }
+
+    @Test
+    public void testTimerPartsAreMergedIntoTheWhole() {
+        TestComponent root = new TestComponent("root", "parts");
+        NBMetricTimer whole = root.create().timer("cycles_servicetime", 3);
+        NBMetricTimer node0 = new TestComponent(root, "node", "0").create().timerPart("cycles_servicetime", whole);
+        NBMetricTimer node1 = new TestComponent(root, "node", "1").create().timerPart("cycles_servicetime", whole);
+        NBMetricTimer mirror = whole.attachHdrDeltaHistogram();
+        MetricsSnapshotter snapshotter = new MetricsSnapshotter(root, 3_600_000L);
+        List<MetricsView> views = new ArrayList<>();
+        snapshotter.attach(views::add);
+
+        for (int i = 1; i <= 30; i++) {
+            node0.update(i, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 1; i <= 20; i++) {
+            node1.update(1000, TimeUnit.NANOSECONDS);
+        }
+        whole.update(5, TimeUnit.NANOSECONDS);
+        snapshotter.task();
+
+        MetricsView view = views.get(0);
+        assertThat(view.snapshot(node0).size()).isEqualTo(30);
+        assertThat(view.snapshot(node1).size()).isEqualTo(20);
+        assertThat(view.snapshot(whole).size()).isEqualTo(51);
+        assertThat(view.snapshot(whole).getMax()).isEqualTo(1000);
+        assertThat(view.count(whole)).isEqualTo(51);
+        assertThat(node0.getCount()).isEqualTo(30);
+        // each part update is recorded once, into its node, yet reaches the mirrors of the whole
+        assertThat(mirror.getCount()).isEqualTo(51);
+
+        node0.update(7, TimeUnit.NANOSECONDS);
+        snapshotter.task();
+        assertThat(views.get(1).snapshot(whole).size()).isEqualTo(1);
+        assertThat(views.get(1).snapshot(node0).size()).isEqualTo(1);
+        assertThat(views.get(1).snapshot(node1).size()).isEqualTo(0);
+        root.close();
+    }
+}
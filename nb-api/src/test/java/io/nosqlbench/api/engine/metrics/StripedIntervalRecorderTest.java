@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics;
+
+import io.nosqlbench.api.labels.NBLabels;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StripedIntervalRecorderTest {
+
+    @Test
+    public void testMergesThreadsInEachInterval() throws InterruptedException {
+        StripedIntervalRecorder recorder = new StripedIntervalRecorder(3);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 1; t <= 8; t++) {
+            long value = t * 1000L;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    recorder.recordValue(value);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Histogram first = recorder.getIntervalHistogram(null);
+        assertThat(first.getTotalCount()).isEqualTo(80_000L);
+        assertThat(first.getMinValue()).isEqualTo(1000L);
+        assertThat(first.getMaxValue()).isBetween(8000L, 8010L);
+
+        recorder.recordValue(5L);
+        Histogram second = recorder.getIntervalHistogram(first);
+        assertThat(second.getTotalCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testStripesAreBoundedForManyThreads() throws InterruptedException {
+        StripedIntervalRecorder recorder = new StripedIntervalRecorder(3, 6);
+        assertThat(recorder.getStripeCount()).isEqualTo(8);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 10_000; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10; i++) {
+                    recorder.recordValue(100L);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(recorder.getIntervalHistogram(null).getTotalCount()).isEqualTo(100_000L);
+        assertThat(recorder.getStripeCount()).isEqualTo(8);
+        assertThat(recorder.getIntervalHistogram(null).getTotalCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testStripedReservoir() {
+        DeltaHdrHistogramReservoir reservoir = new DeltaHdrHistogramReservoir(NBLabels.forKV("name", "striped"), 3, HdrRecorderMode.striped);
+        for (long value = 1; value <= 100; value++) {
+            reservoir.update(value);
+        }
+        assertThat(reservoir.getSnapshot().size()).isEqualTo(100);
+        assertThat(reservoir.getSnapshot().size()).isEqualTo(0);
+        assertThat(reservoir.copySettings().getRecorderMode()).isEqualTo(HdrRecorderMode.striped);
+    }
+}
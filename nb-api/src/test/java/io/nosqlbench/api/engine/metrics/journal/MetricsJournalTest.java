@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.journal;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetric;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricCounter;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsJournalTest {
+
+    private record Entry(long start, long end, JournalSeries series, long count, double value, Histogram histogram) {
+    }
+
+    private static List<Entry> readAll(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (MetricsJournalReader reader = new MetricsJournalReader(path)) {
+            reader.read((start, end, series, count, value, histogram) ->
+                entries.add(new Entry(start, end, series, count, value, histogram)));
+        }
+        return entries;
+    }
+
+    @Test
+    public void testIntervalsRoundTrip() throws IOException {
+        TestComponent root = new TestComponent("root", "journal");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        NBMetricCounter counter = root.create().counter("opcounter");
+        root.create().gauge("opgauge", () -> 42.0d);
+        List<NBMetric> metrics = root.find().metrics();
+
+        Path path = Files.createTempFile("metrics", ".journal");
+        try (MetricsJournalWriter writer = new MetricsJournalWriter(path)) {
+            for (int interval = 1; interval <= 3; interval++) {
+                for (int i = 0; i < 100 * interval; i++) {
+                    timer.update(10L * interval, TimeUnit.NANOSECONDS);
+                }
+                counter.inc(interval);
+                writer.write(MetricsView.capture(metrics, System.currentTimeMillis(), 1000L));
+            }
+        }
+
+        List<Entry> entries = readAll(path);
+        assertThat(entries).hasSize(9);
+
+        List<Entry> timerEntries = entries.stream().filter(e -> e.series().kind() == MetricsJournal.Kind.timer).toList();
+        assertThat(timerEntries).hasSize(3);
+        assertThat(timerEntries.get(0).series().labels().valueOf("name")).isEqualTo("optimer");
+        assertThat(timerEntries.get(2).count()).isEqualTo(600);
+        assertThat(timerEntries.get(2).histogram().getTotalCount()).isEqualTo(300);
+        assertThat(timerEntries.get(2).histogram().getMaxValue()).isEqualTo(30);
+
+        List<Entry> counterEntries = entries.stream().filter(e -> e.series().kind() == MetricsJournal.Kind.counter).toList();
+        assertThat(counterEntries.stream().map(Entry::count).toList()).containsExactly(1L, 3L, 6L);
+
+        Entry gauge = entries.stream().filter(e -> e.series().kind() == MetricsJournal.Kind.gauge).findFirst().orElseThrow();
+        assertThat(gauge.value()).isEqualTo(42.0d);
+        assertThat(gauge.histogram()).isNull();
+
+        Files.delete(path);
+    }
+
+    @Test
+    public void testUnclosedJournalIsReadable() throws IOException {
+        TestComponent root = new TestComponent("root", "unclosed");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        Path path = Files.createTempFile("metrics", ".journal");
+
+        MetricsJournalWriter writer = new MetricsJournalWriter(path);
+        timer.update(10L, TimeUnit.NANOSECONDS);
+        writer.write(MetricsView.capture(List.of(timer), System.currentTimeMillis(), 1000L));
+
+        List<Entry> entries = readAll(path);
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).histogram().getTotalCount()).isEqualTo(1);
+
+        writer.close();
+        assertThat(Files.size(path)).isEqualTo(writer.length());
+        Files.delete(path);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.api.engine.metrics.reporters;
+
+import io.nosqlbench.api.config.standard.TestComponent;
+import io.nosqlbench.api.engine.metrics.MetricsSnapshotter;
+import io.nosqlbench.api.engine.metrics.MetricsView;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricCounter;
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PromScrapeReporterTest {
+
+    @Test
+    public void testScrapeServesLastRenderedInterval() throws Exception {
+        TestComponent root = new TestComponent("root", "scrape");
+        NBMetricTimer timer = root.create().timer("optimer", 3);
+        NBMetricCounter counter = root.create().counter("errors");
+        MetricsSnapshotter snapshotter = new MetricsSnapshotter(root, 3_600_000L);
+        PromScrapeReporterComponent scrape = new PromScrapeReporterComponent(root, "localhost:0", snapshotter, 3_600_000L);
+        URI base = URI.create("http://localhost:" + scrape.getAddress().getPort());
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<String> before = client.send(HttpRequest.newBuilder(base.resolve("/metrics")).build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertThat(before.statusCode()).isEqualTo(200);
+        assertThat(before.body()).isEmpty();
+
+        timer.update(10, TimeUnit.NANOSECONDS);
+        timer.update(20, TimeUnit.NANOSECONDS);
+        timer.update(30, TimeUnit.NANOSECONDS);
+        counter.inc(5);
+        scrape.onMetricsView(MetricsView.capture(List.of(timer, counter), 0L, 1000L));
+
+        // the same connection is reused for both scrapes
+        for (int i = 0; i < 2; i++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(base.resolve("/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/plain; version=0.0.4"));
+            String body = response.body();
+            assertThat(body).containsOnlyOnce("# TYPE optimer summary\n");
+            assertThat(body).containsOnlyOnce("# TYPE optimer_total counter\n");
+            assertThat(body).containsOnlyOnce("# TYPE errors_total counter\n");
+            assertThat(body).containsPattern("optimer\\{.*quantile=\"0.5\".*} 20\n");
+            assertThat(body).containsPattern("optimer_count\\{.*} 3\n");
+            assertThat(body).containsPattern("optimer_max\\{.*} 30\n");
+            assertThat(body).containsPattern("optimer_mean\\{.*} 20\n");
+            assertThat(body).containsPattern("errors_total\\{.*} 5\n");
+        }
+
+        HttpResponse<String> missing = client.send(HttpRequest.newBuilder(base.resolve("/other")).build(),
+            HttpResponse.BodyHandlers.ofString());
+        assertThat(missing.statusCode()).isEqualTo(404);
+        root.close();
+    }
+
+    @Test
+    public void testNumbersAreWrittenWithoutStrings() {
+        PromExpositionBuffer buffer = new PromExpositionBuffer();
+        assertThat(format(buffer, 0.0d)).isEqualTo("0");
+        assertThat(format(buffer, -42.0d)).isEqualTo("-42");
+        assertThat(format(buffer, 123456789012L)).isEqualTo("123456789012");
+        assertThat(format(buffer, 0.25d)).isEqualTo("2.5e-1");
+        assertThat(format(buffer, 1234.5678d)).isEqualTo("1.2345678e3");
+        assertThat(format(buffer, 1.0d / 3.0d)).isEqualTo("3.33333333e-1");
+        assertThat(format(buffer, 1e20d)).isEqualTo("1e20");
+        assertThat(format(buffer, Double.NaN)).isEqualTo("NaN");
+        assertThat(format(buffer, Double.NEGATIVE_INFINITY)).isEqualTo("-Inf");
+        assertThat(Double.parseDouble(format(buffer, 98.7654321012d))).isEqualTo(98.7654321d);
+    }
+
+    private static String format(PromExpositionBuffer buffer, double value) {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        buffer.putDouble(out, value);
+        return new String(out.array(), 0, out.position(), StandardCharsets.US_ASCII);
+    }
+}
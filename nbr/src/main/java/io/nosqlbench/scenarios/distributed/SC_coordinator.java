@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.scenarios.distributed;
+
+import io.nosqlbench.api.errors.BasicError;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.core.lifecycle.distributed.Coordinator;
+import io.nosqlbench.engine.core.lifecycle.scenario.direct.SCBaseScenario;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <P>Runs one activity across a number of worker processes, each started as {@link SC_worker}.
+ * The cycles of the activity are divided into contiguous ranges, one per worker, and any rate is
+ * divided evenly among them. While the workers run, lines of the form {@code name=value} on stdin
+ * are pushed to all of them as parameter changes. The result latencies of all workers are merged
+ * and summarized for each interval and for the whole session.</P>
+ *
+ * <P>All parameters other than these are activity parameters:</P>
+ * <UL>
+ * <LI>workers - the number of workers to wait for, default 2</LI>
+ * <LI>bind - the address to listen on, default the loopback address, so that only workers on this host
+ * can connect. Use bind=0.0.0.0 for workers on other hosts, on trusted networks only, since workers
+ * are not authenticated.</LI>
+ * <LI>port - the port to listen on, default 9100</LI>
+ * <LI>interval - how often to summarize results, in milliseconds, default 10000</LI>
+ * <LI>connect_timeout - how long to wait for all workers to connect, in milliseconds, default 60000</LI>
+ * </UL>
+ *
+ * <P>This can be tested on one host as
+ * <PRE>{@code
+ * nb5 java io.nosqlbench.scenarios.distributed.SC_coordinator workers=2 driver=diag op='noop: ' cycles=10M rate=1000
+ * nb5 java io.nosqlbench.scenarios.distributed.SC_worker coordinator=localhost:9100
+ * nb5 java io.nosqlbench.scenarios.distributed.SC_worker coordinator=localhost:9100
+ * }</PRE></P>
+ */
+public class SC_coordinator extends SCBaseScenario {
+    private final static Logger logger = LogManager.getLogger(SC_coordinator.class);
+
+    public SC_coordinator(NBComponent parentComponent, String scenarioName) {
+        super(parentComponent, scenarioName);
+    }
+
+    @Override
+    public void invoke() {
+        Map<String, String> activityParams = new LinkedHashMap<>(params);
+        int workers = Integer.parseInt(params.getOrDefault("workers", "2"));
+        int port = Integer.parseInt(params.getOrDefault("port", "9100"));
+        InetAddress bind = bindAddress(params.get("bind"));
+        long interval = Long.parseLong(params.getOrDefault("interval", "10000"));
+        long connectTimeout = Long.parseLong(params.getOrDefault("connect_timeout", "60000"));
+        activityParams.remove("workers");
+        activityParams.remove("bind");
+        activityParams.remove("port");
+        activityParams.remove("interval");
+        activityParams.remove("connect_timeout");
+
+        try (Coordinator coordinator = new Coordinator(bind, port, workers, activityParams)) {
+            stdout.println("waiting for " + workers + " workers on " + coordinator.getAddress().getHostAddress() + ":" + coordinator.getPort());
+            coordinator.awaitWorkers(connectTimeout);
+            stdout.println("started " + workers + " workers");
+            long started = System.currentTimeMillis();
+
+            Thread changes = new Thread(() -> pushChanges(coordinator), "coordinator-stdin");
+            changes.setDaemon(true);
+            changes.start();
+
+            while (!coordinator.awaitCompletion(interval)) {
+                stdout.println("interval: " + summary(coordinator.nextInterval(), interval));
+            }
+            stdout.println("total: " + summary(coordinator.getTotal(), System.currentTimeMillis() - started));
+            if (!coordinator.getErrors().isEmpty()) {
+                throw new RuntimeException("workers failed: " + String.join(", ", coordinator.getErrors()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static InetAddress bindAddress(String bind) {
+        if (bind == null) {
+            return InetAddress.getLoopbackAddress();
+        }
+        try {
+            return InetAddress.getByName(bind);
+        } catch (UnknownHostException e) {
+            throw new BasicError("Unable to resolve bind address '" + bind + "'");
+        }
+    }
+
+    private void pushChanges(Coordinator coordinator) {
+        BufferedReader reader = new BufferedReader(stdin);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int equals = line.indexOf('=');
+                if (equals < 1) {
+                    if (!line.isEmpty()) {
+                        logger.warn("Ignoring '" + line + "', since changes must be given as name=value");
+                    }
+                    continue;
+                }
+                String name = line.substring(0, equals).trim();
+                String value = line.substring(equals + 1).trim();
+                logger.info("pushing " + name + "=" + value + " to all workers");
+                coordinator.setParameter(name, value);
+            }
+        } catch (IOException e) {
+            logger.warn("No longer reading changes from stdin: " + e);
+        }
+    }
+
+    private static String summary(Histogram histogram, long millis) {
+        double rate = (millis > 0L) ? histogram.getTotalCount() * 1000.0d / millis : 0.0d;
+        return String.format(
+            "count=%d rate=%.2f/s p50=%.3fms p99=%.3fms max=%.3fms",
+            histogram.getTotalCount(),
+            rate,
+            histogram.getValueAtPercentile(50.0d) / 1_000_000.0d,
+            histogram.getValueAtPercentile(99.0d) / 1_000_000.0d,
+            histogram.getMaxValue() / 1_000_000.0d
+        );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 nosqlbench
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nosqlbench.scenarios.distributed;
+
+import io.nosqlbench.api.engine.metrics.instruments.NBMetricTimer;
+import io.nosqlbench.components.NBComponent;
+import io.nosqlbench.engine.api.activityapi.core.Activity;
+import io.nosqlbench.engine.core.lifecycle.distributed.Worker;
+import io.nosqlbench.engine.core.lifecycle.scenario.direct.SCBaseScenario;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+
+/**
+ * <P>Runs a share of an activity for an {@link SC_coordinator}. The worker connects to the
+ * coordinator, runs the activity with the parameters it is given, applies any changes which the
+ * coordinator pushes while it runs, and reports its result latencies back each interval.</P>
+ * <UL>
+ * <LI>coordinator - the host:port of the coordinator, default localhost:9100</LI>
+ * <LI>interval - how often to report results, in milliseconds, default 1000</LI>
+ * </UL>
+ */
+public class SC_worker extends SCBaseScenario {
+    private final static Logger logger = LogManager.getLogger(SC_worker.class);
+
+    public SC_worker(NBComponent parentComponent, String scenarioName) {
+        super(parentComponent, scenarioName);
+    }
+
+    @Override
+    public void invoke() {
+        String address = params.getOrDefault("coordinator", "localhost:9100");
+        long interval = Long.parseLong(params.getOrDefault("interval", "1000"));
+        int colon = address.lastIndexOf(':');
+        String host = (colon < 0) ? address : address.substring(0, colon);
+        int port = (colon < 0) ? 9100 : Integer.parseInt(address.substring(colon + 1));
+
+        try (Worker worker = new Worker(host, port, hostname() + "/" + ProcessHandle.current().pid())) {
+            Map<String, String> assignment = worker.awaitAssignment();
+            logger.info("running assignment " + assignment);
+
+            Activity activity = controller.start(assignment);
+            NBMetricTimer results = activity.find().timer("name:result").attachHdrDeltaHistogram();
+            worker.listen(
+                (name, value) -> {
+                    logger.info("changing " + name + "=" + value);
+                    activity.getActivityDef().getParams().set(name, value);
+                },
+                () -> {
+                    if (controller.isRunningActivity(activity.getActivityDef())) {
+                        controller.stop(activity);
+                    }
+                }
+            );
+
+            String error = null;
+            try {
+                while (controller.isRunningActivity(activity.getActivityDef())) {
+                    controller.waitMillis(interval);
+                    worker.sendInterval(results.getNextHdrDeltaHistogram());
+                }
+            } catch (Exception e) {
+                error = e.toString();
+                throw e;
+            } finally {
+                worker.sendInterval(results.getNextHdrDeltaHistogram());
+                worker.sendDone(error);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
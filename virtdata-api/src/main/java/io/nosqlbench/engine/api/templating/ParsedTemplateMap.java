@@ -559,11 +559,12 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
                 );
             }
         } else if (isDynamic(name)) {
-            Object testValue = dynamics.get(name).apply(0L);
+            LongFunction<?> dynamic = dynamics.get(name);
+            Object testValue = dynamic.apply(0L);
             if (type.isAssignableFrom(testValue.getClass())) {
-                return Optional.of((LongFunction<V>) dynamics.get(name));
+                return Optional.of((LongFunction<V>) dynamic);
             } else if (NBTypeConverter.canConvert(testValue, type)) {
-                return Optional.of(l -> NBTypeConverter.convert(dynamics.get(name).apply(l), type));
+                return Optional.of(l -> NBTypeConverter.convert(dynamic.apply(l), type));
             } else {
                 throw new OpConfigError(
                     "function for '" + name + "' yielded a " + testValue.getClass().getCanonicalName()
@@ -587,6 +588,20 @@ public class ParsedTemplateMap implements LongFunction<Map<String, ?>>, StaticFi
         }
     }
 
+    /**
+     * Like {@link #getAsOptionalFunction(String, Class)}, except that the field is removed from the
+     * op fields, so that it is not seen by the op mapper as part of the op.
+     */
+    public <V> Optional<LongFunction<V>> takeAsOptionalFunction(String name, Class<? extends V> type) {
+        Optional<LongFunction<V>> function = getAsOptionalFunction(name, type);
+        if (function.isPresent() && (isStatic(name) || isDynamic(name))) {
+            statics.remove(name);
+            dynamics.remove(name);
+            protomap.remove(name);
+        }
+        return function;
+    }
+
     public <V> LongFunction<V> getAsRequiredFunction(String name, Class<? extends V> type) {
         Optional<? extends LongFunction<V>> sf = getAsOptionalFunction(name, type);
         return sf.orElseThrow(() -> new OpConfigError("The op field '" + name + "' is required, but it wasn't found in the op template."));